@@ -0,0 +1,558 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates, at compile time, the metadata classes of the types annotated with
+ * {@code Vocabulary.Type} and of the classes that directly implement {@code
+ * ActionRouter}, so Apio Architect doesn't need to scan them with reflection at
+ * runtime.
+ *
+ * <p>
+ * For every type, the processor generates a {@code TypeMetadata} with the
+ * type's field and identifier methods, and with direct accessors for the field
+ * methods without parameters. For every router, it generates an {@code
+ * ActionRouterMetadata} with the router's resource class, and its action and
+ * permission methods. Generic classes, and classes that can't be accessed from
+ * their own package, are ignored and scanned at runtime.
+ * </p>
+ *
+ * <p>
+ * The metadata classes are generated in the class's package, named after the
+ * class's binary name with {@code $} replaced by {@code __} and {@code _}
+ * replaced by {@code _U}, followed by {@code _ApioTypeMetadata} or {@code
+ * _ApioActionRouterMetadata}. Since the replacements can be reverted, two
+ * classes never get the same metadata class name, and a class that is both a
+ * type and a router gets both metadata classes.
+ * </p>
+ *
+ * <p>
+ * The processor references the Apio Architect annotations by name, so it
+ * doesn't depend on the API at compile time. It never claims the annotations
+ * it processes.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@SupportedAnnotationTypes("*")
+public class ApioMetadataProcessor extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(
+		Set<? extends TypeElement> annotations,
+		RoundEnvironment roundEnvironment) {
+
+		for (Element element : roundEnvironment.getRootElements()) {
+			_process(element);
+		}
+
+		return false;
+	}
+
+	private static String _getClassLiteral(TypeMirror typeMirror) {
+		return typeMirror.toString() + ".class";
+	}
+
+	private static boolean _isAccessible(Element element) {
+		while (element instanceof TypeElement) {
+			Set<Modifier> modifiers = element.getModifiers();
+
+			if (modifiers.contains(Modifier.PRIVATE)) {
+				return false;
+			}
+
+			element = element.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private void _appendGetMethod(StringBuilder sb, String className) {
+		sb.append("\tprivate static java.lang.reflect.Method _getMethod(\n");
+		sb.append("\t\tString name, Class<?>... parameterTypes) {\n\n");
+		sb.append("\t\ttry {\n");
+		sb.append("\t\t\treturn ");
+		sb.append(className);
+		sb.append(".class.getMethod(name, parameterTypes);\n");
+		sb.append("\t\t}\n");
+		sb.append("\t\tcatch (NoSuchMethodException nsme) {\n");
+		sb.append("\t\t\tthrow new IllegalStateException(nsme);\n");
+		sb.append("\t\t}\n");
+		sb.append("\t}\n\n");
+	}
+
+	private void _appendMethods(
+		StringBuilder sb, String fieldName, List<ExecutableElement> methods) {
+
+		sb.append("\tprivate static final java.util.List<");
+		sb.append("java.lang.reflect.Method> ");
+		sb.append(fieldName);
+		sb.append(" =\n\t\tjava.util.Collections.unmodifiableList(\n");
+		sb.append("\t\t\tjava.util.Arrays.asList(");
+
+		for (int i = 0; i < methods.size(); i++) {
+			if (i > 0) {
+				sb.append(",");
+			}
+
+			sb.append("\n\t\t\t\t");
+			sb.append(_getMethodExpression(methods.get(i)));
+		}
+
+		sb.append("));\n\n");
+	}
+
+	private Optional<TypeMirror> _getActionRouterResourceTypeOptional(
+		TypeElement typeElement) {
+
+		if (typeElement.getKind() != ElementKind.CLASS) {
+			return Optional.empty();
+		}
+
+		for (TypeMirror typeMirror : typeElement.getInterfaces()) {
+			if (typeMirror.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+
+			DeclaredType declaredType = (DeclaredType)typeMirror;
+
+			TypeElement interfaceElement =
+				(TypeElement)declaredType.asElement();
+
+			Name name = interfaceElement.getQualifiedName();
+
+			List<? extends TypeMirror> typeArguments =
+				declaredType.getTypeArguments();
+
+			if (name.contentEquals(_ACTION_ROUTER) &&
+				(typeArguments.size() == 1)) {
+
+				TypeMirror resourceTypeMirror = typeArguments.get(0);
+
+				if (resourceTypeMirror.getKind() != TypeKind.DECLARED) {
+					return Optional.empty();
+				}
+
+				Types types = processingEnv.getTypeUtils();
+
+				return Optional.of(types.erasure(resourceTypeMirror));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private String _getMetadataClassName(
+		TypeElement typeElement, String suffix) {
+		Elements elements = processingEnv.getElementUtils();
+
+		PackageElement packageElement = elements.getPackageOf(typeElement);
+
+		String binaryName = String.valueOf(
+			elements.getBinaryName(typeElement));
+
+		if (!packageElement.isUnnamed()) {
+			Name packageName = packageElement.getQualifiedName();
+
+			binaryName = binaryName.substring(packageName.length() + 1);
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		for (char c : binaryName.toCharArray()) {
+			if (c == '$') {
+				sb.append("__");
+			}
+			else if (c == '_') {
+				sb.append("_U");
+			}
+			else {
+				sb.append(c);
+			}
+		}
+
+		sb.append(suffix);
+
+		return sb.toString();
+	}
+
+	private String _getMethodExpression(ExecutableElement executableElement) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("_getMethod(\"");
+		sb.append(executableElement.getSimpleName());
+		sb.append("\"");
+
+		Types types = processingEnv.getTypeUtils();
+
+		for (VariableElement variableElement :
+				executableElement.getParameters()) {
+
+			sb.append(", ");
+
+			TypeMirror typeMirror = types.erasure(variableElement.asType());
+
+			sb.append(_getClassLiteral(typeMirror));
+		}
+
+		sb.append(")");
+
+		return sb.toString();
+	}
+
+	private List<ExecutableElement> _getMethods(
+		TypeElement typeElement, String annotationName, boolean meta) {
+
+		Elements elements = processingEnv.getElementUtils();
+
+		List<ExecutableElement> methods = new ArrayList<>();
+
+		for (ExecutableElement executableElement :
+				ElementFilter.methodsIn(elements.getAllMembers(typeElement))) {
+
+			Set<Modifier> modifiers = executableElement.getModifiers();
+
+			if (modifiers.contains(Modifier.PUBLIC) &&
+				!modifiers.contains(Modifier.STATIC) &&
+				_hasAnnotation(executableElement, annotationName, meta)) {
+
+				methods.add(executableElement);
+			}
+		}
+
+		return methods;
+	}
+
+	private String _getPackageDeclaration(TypeElement typeElement) {
+		Elements elements = processingEnv.getElementUtils();
+
+		PackageElement packageElement = elements.getPackageOf(typeElement);
+
+		if (packageElement.isUnnamed()) {
+			return "";
+		}
+
+		return "package " + packageElement.getQualifiedName() + ";\n\n";
+	}
+
+	private boolean _hasAnnotation(
+		Element element, String annotationName, boolean meta) {
+
+		for (AnnotationMirror annotationMirror :
+				element.getAnnotationMirrors()) {
+
+			DeclaredType declaredType = annotationMirror.getAnnotationType();
+
+			TypeElement annotationElement =
+				(TypeElement)declaredType.asElement();
+
+			Name name = annotationElement.getQualifiedName();
+
+			if (name.contentEquals(annotationName) ||
+				(meta && _hasAnnotation(
+					annotationElement, annotationName, false))) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void _process(Element element) {
+		ElementKind elementKind = element.getKind();
+
+		if (!elementKind.isClass() && !elementKind.isInterface()) {
+			return;
+		}
+
+		TypeElement typeElement = (TypeElement)element;
+
+		List<? extends Element> typeParameters =
+			typeElement.getTypeParameters();
+
+		if (_isAccessible(typeElement) && typeParameters.isEmpty()) {
+			if (_hasAnnotation(typeElement, _TYPE, false)) {
+				_writeTypeMetadata(typeElement);
+			}
+
+			Optional<TypeMirror> optional =
+				_getActionRouterResourceTypeOptional(typeElement);
+
+			optional.ifPresent(
+				resourceTypeMirror -> _writeActionRouterMetadata(
+					typeElement, resourceTypeMirror));
+		}
+
+		for (Element enclosedElement : typeElement.getEnclosedElements()) {
+			_process(enclosedElement);
+		}
+	}
+
+	private void _write(
+		TypeElement typeElement, String metadataClassName, String source) {
+
+		Elements elements = processingEnv.getElementUtils();
+
+		PackageElement packageElement = elements.getPackageOf(typeElement);
+
+		String qualifiedName = metadataClassName;
+
+		if (!packageElement.isUnnamed()) {
+			qualifiedName =
+				packageElement.getQualifiedName() + "." + metadataClassName;
+		}
+
+		Filer filer = processingEnv.getFiler();
+
+		try (Writer writer = filer.createSourceFile(
+				qualifiedName, typeElement).openWriter()) {
+
+			writer.write(source);
+		}
+		catch (IOException ioe) {
+			Messager messager = processingEnv.getMessager();
+
+			messager.printMessage(
+				Diagnostic.Kind.ERROR,
+				"Unable to write " + qualifiedName + ": " + ioe.getMessage(),
+				typeElement);
+		}
+	}
+
+	private void _writeActionRouterMetadata(
+		TypeElement typeElement, TypeMirror resourceTypeMirror) {
+
+		String className = String.valueOf(typeElement.getQualifiedName());
+		String metadataClassName = _getMetadataClassName(
+			typeElement, _ACTION_ROUTER_METADATA_CLASS_NAME_SUFFIX);
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(_getPackageDeclaration(typeElement));
+		sb.append("public final class ");
+		sb.append(metadataClassName);
+		sb.append("\n\timplements ");
+		sb.append(_ACTION_ROUTER_METADATA);
+		sb.append(" {\n\n");
+
+		sb.append("\t@Override\n");
+		sb.append("\tpublic java.util.List<java.lang.reflect.Method> ");
+		sb.append("getActionMethods() {\n");
+		sb.append("\t\treturn _actionMethods;\n");
+		sb.append("\t}\n\n");
+
+		sb.append("\t@Override\n");
+		sb.append("\tpublic java.util.List<java.lang.reflect.Method> ");
+		sb.append("getPermissionMethods() {\n");
+		sb.append("\t\treturn _permissionMethods;\n");
+		sb.append("\t}\n\n");
+
+		sb.append("\t@Override\n");
+		sb.append("\tpublic Class<?> getResourceClass() {\n");
+		sb.append("\t\treturn ");
+		sb.append(_getClassLiteral(resourceTypeMirror));
+		sb.append(";\n");
+		sb.append("\t}\n\n");
+
+		_appendGetMethod(sb, className);
+		_appendMethods(
+			sb, "_actionMethods", _getMethods(typeElement, _ACTION, true));
+		_appendMethods(
+			sb, "_permissionMethods",
+			_getMethods(typeElement, _HAS_PERMISSION, true));
+
+		sb.append("}");
+
+		_write(typeElement, metadataClassName, sb.toString());
+	}
+
+	private void _writeTypeMetadata(TypeElement typeElement) {
+		String className = String.valueOf(typeElement.getQualifiedName());
+		String metadataClassName = _getMetadataClassName(
+			typeElement, _TYPE_METADATA_CLASS_NAME_SUFFIX);
+
+		List<ExecutableElement> fieldMethods = _getMethods(
+			typeElement, _FIELD, false);
+		List<ExecutableElement> idMethods = _getMethods(
+			typeElement, _ID, false);
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(_getPackageDeclaration(typeElement));
+		sb.append("public final class ");
+		sb.append(metadataClassName);
+		sb.append("\n\timplements ");
+		sb.append(_TYPE_METADATA);
+		sb.append("<");
+		sb.append(className);
+		sb.append("> {\n\n");
+
+		sb.append("\t@Override\n");
+		sb.append("\tpublic java.util.Optional<java.util.function.Function<");
+		sb.append(className);
+		sb.append(", ?>>\n\t\tgetAccessorOptional(");
+		sb.append("java.lang.reflect.Method method) {\n\n");
+
+		Set<String> accessorNames = new LinkedHashSet<>();
+
+		for (ExecutableElement fieldMethod : fieldMethods) {
+			List<? extends VariableElement> parameters =
+				fieldMethod.getParameters();
+
+			if (parameters.isEmpty() &&
+				fieldMethod.getTypeParameters().isEmpty()) {
+
+				accessorNames.add(String.valueOf(fieldMethod.getSimpleName()));
+			}
+		}
+
+		if (!accessorNames.isEmpty()) {
+			sb.append("\t\tif ((method.getParameterCount() != 0) ||\n");
+			sb.append("\t\t\t!method.getDeclaringClass().isAssignableFrom(");
+			sb.append(className);
+			sb.append(".class)) {\n\n");
+			sb.append("\t\t\treturn java.util.Optional.empty();\n");
+			sb.append("\t\t}\n\n");
+			sb.append("\t\tjava.util.function.Function<");
+			sb.append(className);
+			sb.append(", ?> function;\n\n");
+			sb.append("\t\tswitch (method.getName()) {\n");
+
+			for (String accessorName : accessorNames) {
+				sb.append("\t\t\tcase \"");
+				sb.append(accessorName);
+				sb.append("\":\n");
+				sb.append("\t\t\t\tfunction = ");
+				sb.append(className);
+				sb.append("::");
+				sb.append(accessorName);
+				sb.append(";\n\n");
+				sb.append("\t\t\t\tbreak;\n");
+			}
+
+			sb.append("\t\t\tdefault:\n");
+			sb.append("\t\t\t\treturn java.util.Optional.empty();\n");
+			sb.append("\t\t}\n\n");
+			sb.append("\t\treturn java.util.Optional.of(function);\n");
+		}
+		else {
+			sb.append("\t\treturn java.util.Optional.empty();\n");
+		}
+
+		sb.append("\t}\n\n");
+
+		sb.append("\t@Override\n");
+		sb.append("\tpublic java.util.List<java.lang.reflect.Method> ");
+		sb.append("getFieldMethods() {\n");
+		sb.append("\t\treturn _fieldMethods;\n");
+		sb.append("\t}\n\n");
+
+		sb.append("\t@Override\n");
+		sb.append("\tpublic java.util.Optional<java.lang.reflect.Method> ");
+		sb.append("getIdMethodOptional() {\n");
+		sb.append("\t\treturn _idMethodOptional;\n");
+		sb.append("\t}\n\n");
+
+		_appendGetMethod(sb, className);
+		_appendMethods(sb, "_fieldMethods", fieldMethods);
+
+		sb.append("\tprivate static final java.util.Optional<");
+		sb.append("java.lang.reflect.Method> _idMethodOptional =\n\t\t");
+
+		if (idMethods.isEmpty()) {
+			sb.append("java.util.Optional.empty();\n\n");
+		}
+		else {
+			sb.append("java.util.Optional.of(");
+			sb.append(_getMethodExpression(idMethods.get(0)));
+			sb.append(");\n\n");
+		}
+
+		sb.append("}");
+
+		_write(typeElement, metadataClassName, sb.toString());
+	}
+
+	private static final String _ACTION =
+		"com.liferay.apio.architect.annotation.Actions.Action";
+
+	private static final String _ACTION_ROUTER =
+		"com.liferay.apio.architect.router.ActionRouter";
+
+	private static final String _ACTION_ROUTER_METADATA =
+		"com.liferay.apio.architect.metadata.ActionRouterMetadata";
+
+	private static final String _ACTION_ROUTER_METADATA_CLASS_NAME_SUFFIX =
+		"_ApioActionRouterMetadata";
+
+	private static final String _FIELD =
+		"com.liferay.apio.architect.annotation.Vocabulary.Field";
+
+	private static final String _HAS_PERMISSION =
+		"com.liferay.apio.architect.annotation.Permissions.HasPermission";
+
+	private static final String _ID =
+		"com.liferay.apio.architect.annotation.Id";
+
+	private static final String _TYPE =
+		"com.liferay.apio.architect.annotation.Vocabulary.Type";
+
+	private static final String _TYPE_METADATA =
+		"com.liferay.apio.architect.metadata.TypeMetadata";
+
+	private static final String _TYPE_METADATA_CLASS_NAME_SUFFIX =
+		"_ApioTypeMetadata";
+
+}
\ No newline at end of file
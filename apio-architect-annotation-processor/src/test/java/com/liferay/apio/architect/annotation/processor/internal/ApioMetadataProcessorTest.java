@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor.internal;
+
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+
+import com.liferay.apio.architect.metadata.ActionRouterMetadata;
+import com.liferay.apio.architect.metadata.TypeMetadata;
+
+import java.io.File;
+
+import java.lang.reflect.Method;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ApioMetadataProcessorTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Before
+	public void setUp() throws Exception {
+		File outputDirectory = temporaryFolder.newFolder();
+
+		JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+		List<String> options = Arrays.asList(
+			"-classpath", System.getProperty("java.class.path"), "-d",
+			outputDirectory.getPath());
+
+		List<JavaFileObject> javaFileObjects = Arrays.asList(
+			new SourceJavaFileObject("test.Person", _PERSON_SOURCE),
+			new SourceJavaFileObject(
+				"test.Person_Address", _PERSON_ADDRESS_SOURCE),
+			new SourceJavaFileObject(
+				"test.PersonActionRouter", _PERSON_ACTION_ROUTER_SOURCE));
+
+		JavaCompiler.CompilationTask compilationTask = javaCompiler.getTask(
+			null, null, null, options, null, javaFileObjects);
+
+		compilationTask.setProcessors(
+			Collections.singletonList(new ApioMetadataProcessor()));
+
+		assertThat(compilationTask.call(), is(true));
+
+		URI uri = outputDirectory.toURI();
+
+		_classLoader = new URLClassLoader(
+			new URL[] {uri.toURL()}, getClass().getClassLoader());
+	}
+
+	@Test
+	public void testActionRouterMetadataIsGenerated() throws Exception {
+		Class<?> personClass = _classLoader.loadClass("test.Person");
+		Class<?> routerClass = _classLoader.loadClass(
+			"test.PersonActionRouter");
+
+		ActionRouterMetadata actionRouterMetadata =
+			(ActionRouterMetadata)_newMetadata(
+				"test.PersonActionRouter_ApioActionRouterMetadata");
+
+		Method retrieveMethod = routerClass.getMethod(
+			"retrieve", Long.class, String[].class);
+		Method permissionMethod = routerClass.getMethod(
+			"canRetrieve", Long.class);
+
+		assertThat(
+			actionRouterMetadata.getActionMethods(),
+			is(Collections.singletonList(retrieveMethod)));
+		assertThat(
+			actionRouterMetadata.getPermissionMethods(),
+			is(Collections.singletonList(permissionMethod)));
+		assertThat(
+			actionRouterMetadata.getResourceClass(), is((Object)personClass));
+	}
+
+	@Test
+	public void testNestedAndUnderscoredTypeMetadataNamesDoNotCollide()
+		throws Exception {
+
+		Class<?> personAddressClass = _classLoader.loadClass(
+			"test.Person_Address");
+
+		TypeMetadata<?> typeMetadata = (TypeMetadata<?>)_newMetadata(
+			"test.Person_UAddress_ApioTypeMetadata");
+
+		assertThat(
+			typeMetadata.getFieldMethods(),
+			is(
+				Collections.singletonList(
+					personAddressClass.getMethod("getStreet"))));
+	}
+
+	@Test
+	public void testNestedTypeMetadataIsGenerated() throws Exception {
+		Class<?> addressClass = _classLoader.loadClass("test.Person$Address");
+
+		TypeMetadata<?> typeMetadata = (TypeMetadata<?>)_newMetadata(
+			"test.Person__Address_ApioTypeMetadata");
+
+		assertThat(
+			typeMetadata.getFieldMethods(),
+			is(Collections.singletonList(addressClass.getMethod("getCity"))));
+		assertThat(
+			typeMetadata.getIdMethodOptional(), is(Optional.empty()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testTypeMetadataIsGenerated() throws Exception {
+		Class<?> personClass = _classLoader.loadClass("test.Person");
+
+		TypeMetadata<Object> typeMetadata =
+			(TypeMetadata<Object>)_newMetadata("test.Person_ApioTypeMetadata");
+
+		Method ageMethod = personClass.getMethod("getAge");
+		Method idMethod = personClass.getMethod("getId");
+		Method nameMethod = personClass.getMethod("getName", String.class);
+
+		assertThat(
+			typeMetadata.getFieldMethods(),
+			is(Arrays.asList(ageMethod, nameMethod)));
+		assertThat(
+			typeMetadata.getIdMethodOptional(), is(Optional.of(idMethod)));
+
+		Optional<Function<Object, ?>> optional =
+			typeMetadata.getAccessorOptional(ageMethod);
+
+		Function<Object, ?> function = optional.get();
+
+		Object person = personClass.newInstance();
+
+		assertThat((Integer)function.apply(person), is(42));
+
+		optional = typeMetadata.getAccessorOptional(nameMethod);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	private Object _newMetadata(String className) throws Exception {
+		Class<?> clazz = _classLoader.loadClass(className);
+
+		return clazz.newInstance();
+	}
+
+	private static final String _PERSON_ACTION_ROUTER_SOURCE = String.join(
+		"\n", "package test;",
+		"import com.liferay.apio.architect.annotation.Actions.Retrieve;",
+		"import com.liferay.apio.architect.annotation.Permissions" +
+			".CanRetrieve;",
+		"import com.liferay.apio.architect.router.ActionRouter;",
+		"public class PersonActionRouter implements ActionRouter<Person> {",
+		"  @Retrieve",
+		"  public Person retrieve(Long id, String[] fields) {",
+		"    return new Person();", "  }",
+		"  @CanRetrieve", "  public Boolean canRetrieve(Long id) {",
+		"    return true;", "  }",
+		"  public void notAnAction() {", "  }", "}");
+
+	private static final String _PERSON_ADDRESS_SOURCE = String.join(
+		"\n", "package test;",
+		"import com.liferay.apio.architect.annotation.Vocabulary.Field;",
+		"import com.liferay.apio.architect.annotation.Vocabulary.Type;",
+		"@Type(\"PersonAddress\")", "public interface Person_Address {",
+		"  @Field(\"street\")", "  public String getStreet();", "}");
+
+	private static final String _PERSON_SOURCE = String.join(
+		"\n", "package test;",
+		"import com.liferay.apio.architect.annotation.Id;",
+		"import com.liferay.apio.architect.annotation.Vocabulary.Field;",
+		"import com.liferay.apio.architect.annotation.Vocabulary.Type;",
+		"import com.liferay.apio.architect.identifier.Identifier;",
+		"@Type(\"Person\")",
+		"public class Person implements Identifier<Long> {",
+		"  @Field(\"age\")", "  public int getAge() {", "    return 42;", "  }",
+		"  @Id", "  public Long getId() {", "    return 1L;", "  }",
+		"  @Field(\"name\")", "  public String getName(String language) {",
+		"    return \"Name\";", "  }", "  @Type(\"Address\")",
+		"  public interface Address {", "    @Field(\"city\")",
+		"    public String getCity();", "  }", "}");
+
+	private ClassLoader _classLoader;
+
+	private static class SourceJavaFileObject extends SimpleJavaFileObject {
+
+		private SourceJavaFileObject(String className, String source) {
+			super(
+				URI.create(
+					"string:///" + className.replace('.', '/') +
+						Kind.SOURCE.extension),
+				Kind.SOURCE);
+
+			_source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return _source;
+		}
+
+		private final String _source;
+
+	}
+
+}
\ No newline at end of file
@@ -89,6 +89,36 @@ public @interface Actions {
 
 	}
 
+	/**
+	 * Defines an annotation that lets the models returned by a retrieve method
+	 * be cached across requests, keyed by the resource's name and identifier.
+	 * The annotation must be placed on a method annotated with {@link Retrieve}
+	 * that retrieves a single element, inside a class that implements {@link
+	 * com.liferay.apio.architect.router.ActionRouter}.
+	 *
+	 * <p>
+	 * A cached model is evicted every time the {@link Update}, {@link Replace},
+	 * or {@link Remove} action of its element is executed. Since every request
+	 * shares the cached models, the method's result mustn't depend on the
+	 * request (e.g., on the credentials or the accepted languages).
+	 * </p>
+	 *
+	 * @review
+	 */
+	@Retention(RUNTIME)
+	@Target(METHOD)
+	public @interface CachedModel {
+
+		/**
+		 * Returns the number of seconds a model is cached. The server can cap
+		 * this value.
+		 *
+		 * @return the number of seconds a model is cached
+		 */
+		public long timeToLive() default 60;
+
+	}
+
 	/**
 	 * Defines an annotation that indicates a method creates elements. That
 	 * method must live inside a class that implements {@link
@@ -30,6 +30,43 @@ import java.lang.annotation.Target;
  */
 public @interface Permissions {
 
+	/**
+	 * Defines an annotation that lets the decisions of an action's permission
+	 * method be cached across requests. The annotation can be placed on the
+	 * action method or on its permission method, which must live inside a
+	 * class that implements {@link
+	 * com.liferay.apio.architect.router.ActionRouter}.
+	 *
+	 * <p>
+	 * Decisions are cached for the same credentials, action, and resource.
+	 * Routers can invalidate them after a permission change with {@link
+	 * com.liferay.apio.architect.permission.PermissionDecisionCache}.
+	 * </p>
+	 *
+	 * @review
+	 */
+	@Retention(RUNTIME)
+	@Target(METHOD)
+	public @interface CachedDecisions {
+
+		/**
+		 * Returns {@code true} if the decisions that deny the action must be
+		 * cached too.
+		 *
+		 * @return {@code true} if denials are cached; {@code false} otherwise
+		 */
+		public boolean negative() default true;
+
+		/**
+		 * Returns the number of seconds a decision is cached. The server can
+		 * cap this value.
+		 *
+		 * @return the number of seconds a decision is cached
+		 */
+		public long timeToLive() default 60;
+
+	}
+
 	/**
 	 * Defines a permission to check a method that creates elements. That method
 	 * must live inside a class that implements {@link
@@ -21,6 +21,7 @@ import com.liferay.apio.architect.file.BinaryFile;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Represents the current HTTP request body.
@@ -119,6 +120,22 @@ public interface Body {
 		return Optional.empty();
 	}
 
+	/**
+	 * Returns a stream of nested bodies from the body, if present; returns
+	 * {@code Optional#empty()} otherwise. Bodies read from streaming formats
+	 * return their members as they're read, so the stream can only be
+	 * consumed once. By default, the stream contains the members returned by
+	 * {@link #getBodyMembersOptional()}.
+	 *
+	 * @return the stream, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<Stream<Body>> getBodyMembersStreamOptional() {
+		Optional<List<Body>> optional = getBodyMembersOptional();
+
+		return optional.map(List::stream);
+	}
+
 	/**
 	 * Returns a list of files from the body, if present; returns {@code
 	 * Optional#empty()} otherwise.
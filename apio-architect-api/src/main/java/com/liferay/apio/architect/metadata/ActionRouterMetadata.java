@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metadata;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.lang.reflect.Method;
+
+import java.util.List;
+
+/**
+ * Holds the metadata of an {@link
+ * com.liferay.apio.architect.router.ActionRouter} class, computed at compile
+ * time, so the router doesn't need to be scanned at runtime.
+ *
+ * <p>
+ * Instances of this interface are generated by the Apio Architect annotation
+ * processor for the classes that directly implement {@code ActionRouter}, with
+ * the same naming rules as {@link TypeMetadata}, but followed by {@code
+ * _ApioActionRouterMetadata}. Routers without that class are scanned at
+ * runtime.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+public interface ActionRouterMetadata {
+
+	/**
+	 * Returns the router's methods annotated with an {@link
+	 * com.liferay.apio.architect.annotation.Actions.Action} annotation, or with
+	 * an annotation annotated with it.
+	 *
+	 * @return the action methods
+	 * @review
+	 */
+	public List<Method> getActionMethods();
+
+	/**
+	 * Returns the router's methods annotated with a {@link
+	 * com.liferay.apio.architect.annotation.Permissions.HasPermission}
+	 * annotation, or with an annotation annotated with it.
+	 *
+	 * @return the permission methods
+	 * @review
+	 */
+	public List<Method> getPermissionMethods();
+
+	/**
+	 * Returns the class of the resource type handled by the router (the type
+	 * argument of {@code ActionRouter}).
+	 *
+	 * @return the class of the router's resource type
+	 * @review
+	 */
+	public Class<?> getResourceClass();
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metadata;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.lang.reflect.Method;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Holds the metadata of a type annotated with {@link
+ * com.liferay.apio.architect.annotation.Vocabulary.Type}, computed at compile
+ * time, so the type doesn't need to be scanned at runtime.
+ *
+ * <p>
+ * Instances of this interface are generated by the Apio Architect annotation
+ * processor, in the type's package, in a class named after the type's binary
+ * name (with {@code $} replaced by {@code __} and {@code _} replaced by {@code
+ * _U}, so two types never get the same name) followed by {@code
+ * _ApioTypeMetadata}. Types without that class are scanned at runtime.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type's class
+ * @review
+ */
+@ConsumerType
+public interface TypeMetadata<T> {
+
+	/**
+	 * Returns the function that calls a field method directly, without
+	 * reflection, if the method doesn't have parameters.
+	 *
+	 * @param  method the field method
+	 * @return the function that calls the method, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Function<T, ?>> getAccessorOptional(Method method);
+
+	/**
+	 * Returns the methods annotated with {@link
+	 * com.liferay.apio.architect.annotation.Vocabulary.Field}, in the order
+	 * they're declared.
+	 *
+	 * @return the field methods
+	 * @review
+	 */
+	public List<Method> getFieldMethods();
+
+	/**
+	 * Returns the method annotated with {@link
+	 * com.liferay.apio.architect.annotation.Id}, if present.
+	 *
+	 * @return the identifier method, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<Method> getIdMethodOptional();
+
+}
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.liferay.apio.architect.uri.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -36,6 +37,20 @@ import java.util.Optional;
 @ProviderType
 public interface Page<T> {
 
+	/**
+	 * Returns the number of items in the page, if it's known before reading
+	 * them; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the number of items in the page, if known; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<Integer> getItemCountOptional() {
+		Collection<T> items = getItems();
+
+		return Optional.of(items.size());
+	}
+
 	/**
 	 * Returns the page's items.
 	 *
@@ -50,6 +65,20 @@ public interface Page<T> {
 	 */
 	public int getItemsPerPage();
 
+	/**
+	 * Returns a stream of the page's items. If the page's items are lazily
+	 * read, the returned stream can only be consumed once and must be closed
+	 * afterwards.
+	 *
+	 * @return the stream of the page's items
+	 * @review
+	 */
+	public default Stream<T> getItemsStream() {
+		Collection<T> items = getItems();
+
+		return items.stream();
+	}
+
 	/**
 	 * Returns the number of the collection's last page.
 	 *
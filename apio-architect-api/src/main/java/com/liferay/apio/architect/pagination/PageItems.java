@@ -16,12 +16,30 @@ package com.liferay.apio.architect.pagination;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides the information needed by Apio Architect to construct a valid {@link
  * Page}.
  *
+ * <p>
+ * The page's items can be provided as a {@code Collection}, or lazily as a
+ * {@code Stream} or an {@code Iterator}. Lazy items are read one at a time
+ * while the page is written, so they don't have to be loaded in memory before
+ * writing the page. The stream is closed once the page has been written, even
+ * if writing it fails. If the iterator implements {@code AutoCloseable}, it's
+ * closed in the same way.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @param  <T> the model's type
  */
@@ -34,7 +52,82 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the page's items.
+	 * Creates a {@code PageItems} whose items are lazily read from an {@code
+	 * Iterator}, whose number is known.
+	 *
+	 * @param  items the iterator of the page's items
+	 * @param  itemCount the number of items in the page
+	 * @param  totalCount the total number of elements in the collection
+	 * @review
+	 */
+	public PageItems(Iterator<T> items, int itemCount, int totalCount) {
+		this(_toStream(items), itemCount, totalCount);
+	}
+
+	/**
+	 * Creates a {@code PageItems} whose items are lazily read from an {@code
+	 * Iterator}. The number of items in the page is unknown until they're
+	 * read.
+	 *
+	 * @param  items the iterator of the page's items
+	 * @param  totalCount the total number of elements in the collection
+	 * @review
+	 */
+	public PageItems(Iterator<T> items, int totalCount) {
+		this(_toStream(items), totalCount);
+	}
+
+	/**
+	 * Creates a {@code PageItems} whose items are lazily read from a {@code
+	 * Stream}, whose number is known.
+	 *
+	 * @param  items the stream of the page's items
+	 * @param  itemCount the number of items in the page
+	 * @param  totalCount the total number of elements in the collection
+	 * @review
+	 */
+	public PageItems(Stream<T> items, int itemCount, int totalCount) {
+		_items = new StreamCollection<>(items, Optional.of(itemCount));
+		_totalCount = totalCount;
+	}
+
+	/**
+	 * Creates a {@code PageItems} whose items are lazily read from a {@code
+	 * Stream}. The number of items in the page is unknown until they're read.
+	 *
+	 * @param  items the stream of the page's items
+	 * @param  totalCount the total number of elements in the collection
+	 * @review
+	 */
+	public PageItems(Stream<T> items, int totalCount) {
+		_items = new StreamCollection<>(items, Optional.empty());
+		_totalCount = totalCount;
+	}
+
+	/**
+	 * Returns the number of items in the page, if it's known before reading
+	 * them; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the number of items in the page, if known; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getItemCountOptional() {
+		if (_items instanceof StreamCollection) {
+			StreamCollection<T> streamCollection =
+				(StreamCollection<T>)_items;
+
+			return streamCollection._itemCountOptional;
+		}
+
+		return Optional.of(_items.size());
+	}
+
+	/**
+	 * Returns the page's items. If the items are lazily read, all of them are
+	 * read into memory, and their source is closed, the first time the
+	 * returned collection is used. Use {@link #getItemsStream()} to read them
+	 * one at a time.
 	 *
 	 * @return the page's items
 	 */
@@ -42,6 +135,18 @@ public class PageItems<T> {
 		return _items;
 	}
 
+	/**
+	 * Returns a stream of the page's items. If the items are lazily read, the
+	 * returned stream can only be consumed once and must be closed afterwards,
+	 * so its source is also closed.
+	 *
+	 * @return the stream of the page's items
+	 * @review
+	 */
+	public Stream<T> getItemsStream() {
+		return _items.stream();
+	}
+
 	/**
 	 * Returns the total number of elements in the collection.
 	 *
@@ -51,7 +156,83 @@ public class PageItems<T> {
 		return _totalCount;
 	}
 
+	private static <T> Stream<T> _toStream(Iterator<T> iterator) {
+		Stream<T> stream = StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+			false);
+
+		if (!(iterator instanceof AutoCloseable)) {
+			return stream;
+		}
+
+		AutoCloseable autoCloseable = (AutoCloseable)iterator;
+
+		return stream.onClose(
+			() -> {
+				try {
+					autoCloseable.close();
+				}
+				catch (Exception e) {
+					throw new IllegalStateException(
+						"Unable to close the page items", e);
+				}
+			});
+	}
+
 	private final Collection<T> _items;
 	private final int _totalCount;
 
+	/**
+	 * Holds lazily read items. The items are only read into memory if they're
+	 * accessed as a collection; otherwise, {@link #stream()} returns their
+	 * source.
+	 */
+	private static class StreamCollection<T> extends AbstractCollection<T> {
+
+		@Override
+		public Iterator<T> iterator() {
+			List<T> items = _getItems();
+
+			return items.iterator();
+		}
+
+		@Override
+		public int size() {
+			List<T> items = _getItems();
+
+			return items.size();
+		}
+
+		@Override
+		public Stream<T> stream() {
+			if (_items != null) {
+				return _items.stream();
+			}
+
+			return _stream;
+		}
+
+		private StreamCollection(
+			Stream<T> stream, Optional<Integer> itemCountOptional) {
+
+			_stream = stream;
+			_itemCountOptional = itemCountOptional;
+		}
+
+		private List<T> _getItems() {
+			if (_items == null) {
+				try (Stream<T> stream = _stream) {
+					_items = stream.collect(Collectors.toList());
+				}
+			}
+
+			return _items;
+		}
+
+		private final Optional<Integer> _itemCountOptional;
+		private List<T> _items;
+		private final Stream<T> _stream;
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.permission;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.apio.architect.credentials.Credentials;
+
+/**
+ * Caches the decisions of the permission methods of actions annotated with
+ * {@link com.liferay.apio.architect.annotation.Permissions.CachedDecisions}
+ * across requests. Routers can get this service and invalidate the decisions
+ * affected by a permission change, so the change is visible before the
+ * decisions expire.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ProviderType
+public interface PermissionDecisionCache {
+
+	/**
+	 * Invalidates every cached decision.
+	 *
+	 * @review
+	 */
+	public void invalidate();
+
+	/**
+	 * Invalidates the cached decisions of the provided credentials.
+	 *
+	 * @param  credentials the credentials
+	 * @review
+	 */
+	public void invalidate(Credentials credentials);
+
+	/**
+	 * Invalidates the cached decisions of every resource with the provided
+	 * name.
+	 *
+	 * @param  resourceName the resource's name
+	 * @review
+	 */
+	public void invalidate(String resourceName);
+
+	/**
+	 * Invalidates the cached decisions of a resource. The identifier is the
+	 * item's ID for item resources, and the parent's ID for nested
+	 * resources.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  id the resource's identifier
+	 * @review
+	 */
+	public void invalidate(String resourceName, Object id);
+
+}
\ No newline at end of file
@@ -17,7 +17,9 @@ package com.liferay.apio.architect.representor;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.BinaryFunction;
+import com.liferay.apio.architect.alias.representor.DoubleFieldFunction;
 import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.alias.representor.LongFieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedFieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.file.BinaryFile;
@@ -32,6 +34,9 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -94,6 +99,25 @@ public interface BaseRepresentor<T> {
 	 */
 	public List<FieldFunction<T, List<Boolean>>> getBooleanListFunctions();
 
+	/**
+	 * Returns the list containing the primitive {@code double} field names and
+	 * the functions to get those fields.
+	 *
+	 * @return the list containing the {@code double} field names and functions
+	 * @review
+	 */
+	public List<DoubleFieldFunction<T>> getDoubleFunctions();
+
+	/**
+	 * Returns the list containing the {@code double} array field names and the
+	 * functions to get those fields.
+	 *
+	 * @return the list containing the {@code double} array field names and
+	 *         functions
+	 * @review
+	 */
+	public List<FieldFunction<T, double[]>> getDoubleListFunctions();
+
 	/**
 	 * Returns the list containing the links field names and the functions to
 	 * get those links.
@@ -112,6 +136,26 @@ public interface BaseRepresentor<T> {
 	public List<FieldFunction<T, Function<AcceptLanguage, String>>>
 		getLocalizedStringFunctions();
 
+	/**
+	 * Returns the list containing the primitive {@code long} field names and
+	 * the functions to get those fields. Fields added with {@code
+	 * BaseFirstStep#addInt(String, ToIntFunction)} are also included.
+	 *
+	 * @return the list containing the {@code long} field names and functions
+	 * @review
+	 */
+	public List<LongFieldFunction<T>> getLongFunctions();
+
+	/**
+	 * Returns the list containing the {@code long} array field names and the
+	 * functions to get those fields.
+	 *
+	 * @return the list containing the {@code long} array field names and
+	 *         functions
+	 * @review
+	 */
+	public List<FieldFunction<T, long[]>> getLongListFunctions();
+
 	/**
 	 * Returns the list of nested field functions.
 	 *
@@ -261,6 +305,41 @@ public interface BaseRepresentor<T> {
 		 */
 		public U addDate(String key, Function<T, Date> function);
 
+		/**
+		 * Adds information about a resource's primitive {@code double} field.
+		 * Unlike {@link #addNumber(String, Function)}, the value is written
+		 * without being boxed.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the field's value
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addDouble(String key, ToDoubleFunction<T> function);
+
+		/**
+		 * Adds information about a resource's {@code double} array field. The
+		 * field is represented as a number list.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the array
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addDoubleList(String key, Function<T, double[]> function);
+
+		/**
+		 * Adds information about a resource's primitive {@code int} field.
+		 * Unlike {@link #addNumber(String, Function)}, the value is written
+		 * without being boxed.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the field's value
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addInt(String key, ToIntFunction<T> function);
+
 		/**
 		 * Adds information about a resource link.
 		 *
@@ -303,6 +382,29 @@ public interface BaseRepresentor<T> {
 		public U addLocalizedStringByLocale(
 			String key, BiFunction<T, Locale, String> stringFunction);
 
+		/**
+		 * Adds information about a resource's primitive {@code long} field.
+		 * Unlike {@link #addNumber(String, Function)}, the value is written
+		 * without being boxed.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the field's value
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addLong(String key, ToLongFunction<T> function);
+
+		/**
+		 * Adds information about a resource's {@code long} array field. The
+		 * field is represented as a number list.
+		 *
+		 * @param  key the field's name
+		 * @param  function the function used to get the array
+		 * @return the builder's step
+		 * @review
+		 */
+		public U addLongList(String key, Function<T, long[]> function);
+
 		/**
 		 * Provides information about a nested field.
 		 *
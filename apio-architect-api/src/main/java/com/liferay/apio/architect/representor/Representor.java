@@ -18,6 +18,7 @@ import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.identifier.Identifier;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -43,6 +44,18 @@ public interface Representor<T> extends BaseRepresentor<T> {
 	 */
 	public Object getIdentifier(T model);
 
+	/**
+	 * Returns the model's version, if the representor has a version function.
+	 * The version must change every time the model's representation changes,
+	 * so it can be used to reuse representations written before.
+	 *
+	 * @param  model the model instance
+	 * @return the model's version, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<Object> getVersionOptional(T model);
+
 	/**
 	 * Creates generic representations of your domain models that Apio
 	 * hypermedia writers can understand.
@@ -97,6 +110,18 @@ public interface Representor<T> extends BaseRepresentor<T> {
 		public <S extends Identifier> FirstStep<T> addRelatedCollection(
 			String key, Class<S> itemIdentifierClass);
 
+		/**
+		 * Provides a lambda function that can be used to obtain a model's
+		 * version (e.g., its modified date or a revision counter). The version
+		 * must change every time any of the model's fields change.
+		 *
+		 * @param  modelToVersionFunction lambda function used to obtain a
+		 *         model's version
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> version(Function<T, ?> modelToVersionFunction);
+
 	}
 
 	@ProviderType
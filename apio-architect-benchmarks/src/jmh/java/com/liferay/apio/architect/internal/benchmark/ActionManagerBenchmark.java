@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.benchmark.util.ComponentUtil.setReference;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.BLOG_POSTING_NAME;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.COMMENT_NAME;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.annotation.ActionManagerImpl;
+import com.liferay.apio.architect.internal.annotation.ActionRouterManager;
+import com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil;
+import com.liferay.apio.architect.internal.wiring.osgi.error.ApioDeveloperError.MustHavePathIdentifierMapper;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.CollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ItemRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.uri.Path;
+
+import io.vavr.control.Either;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how fast {@link ActionManagerImpl#getAction(String, List)} resolves
+ * the action for paths with one to four segments:
+ *
+ * <ul>
+ * <li>
+ * {@code GET /blog-posting-annotated}
+ * </li>
+ * <li>
+ * {@code GET /blog-posting-annotated/42}
+ * </li>
+ * <li>
+ * {@code GET /blog-posting-annotated/42/comment-annotated}
+ * </li>
+ * <li>
+ * {@code POST /blog-posting-annotated/42/comment-annotated/subscribe}
+ * </li>
+ * </ul>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ActionManagerBenchmark {
+
+	@Benchmark
+	public Either<Action.Error, Action> getAction() {
+		return _actionManagerImpl.getAction(_method, _params);
+	}
+
+	@Setup
+	public void setUp() {
+		_actionManagerImpl = new ActionManagerImpl();
+
+		setReference(
+			_actionManagerImpl, "_actionRouterManager",
+			new ActionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					List<ActionSemantics> actionSemantics =
+						SampleModelUtil.getActionSemanticsList();
+
+					return actionSemantics.stream();
+				}
+
+			});
+		setReference(
+			_actionManagerImpl, "_collectionRouterManager",
+			new CollectionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return Stream.empty();
+				}
+
+			});
+		setReference(
+			_actionManagerImpl, "_itemRouterManager",
+			new ItemRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return Stream.empty();
+				}
+
+			});
+		setReference(
+			_actionManagerImpl, "_nestedCollectionRouterManager",
+			new NestedCollectionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return Stream.empty();
+				}
+
+			});
+		setReference(
+			_actionManagerImpl, "_representableManager",
+			SampleModelUtil.getRepresentableManager());
+		setReference(
+			_actionManagerImpl, "_reusableNestedCollectionRouterManager",
+			new ReusableNestedCollectionRouterManager() {
+
+				@Override
+				public Stream<ActionSemantics> getActionSemantics() {
+					return Stream.empty();
+				}
+
+			});
+		setReference(
+			_actionManagerImpl, "pathIdentifierMapperManager",
+			new PathIdentifierMapperManager() {
+
+				@Override
+				public <T> T mapToIdentifierOrFail(Path path) {
+					if (!BLOG_POSTING_NAME.equals(path.getName())) {
+						throw new MustHavePathIdentifierMapper(path);
+					}
+
+					return unsafeCast(Long.valueOf(path.getId()));
+				}
+
+			});
+
+		if (segments == 1) {
+			_method = "GET";
+			_params = Arrays.asList(BLOG_POSTING_NAME);
+		}
+		else if (segments == 2) {
+			_method = "GET";
+			_params = Arrays.asList(BLOG_POSTING_NAME, "42");
+		}
+		else if (segments == 3) {
+			_method = "GET";
+			_params = Arrays.asList(BLOG_POSTING_NAME, "42", COMMENT_NAME);
+		}
+		else {
+			_method = "POST";
+			_params = Arrays.asList(
+				BLOG_POSTING_NAME, "42", COMMENT_NAME, "subscribe");
+		}
+	}
+
+	@Param({"1", "2", "3", "4"})
+	public int segments;
+
+	private ActionManagerImpl _actionManagerImpl;
+	private String _method;
+	private List<String> _params;
+
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.benchmark.util.SampleBodyUtil.MULTIPART_CONTENT_TYPE;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleBodyUtil.createJSONBody;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleBodyUtil.createJSONListBody;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleBodyUtil.createMultipartBody;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.benchmark.util.InMemoryHttpServletRequest;
+import com.liferay.apio.architect.internal.benchmark.util.PayloadSize;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter;
+import com.liferay.apio.architect.internal.body.MultipartToBodyConverter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how fast {@link JSONToBodyConverter} and {@link
+ * MultipartToBodyConverter} read a {@code BlogPosting} creation request into a
+ * {@link Body}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BodyConverterBenchmark {
+
+	@Benchmark
+	public Body jsonListToBody() {
+		return JSONToBodyConverter.jsonToBody(_jsonListRequest);
+	}
+
+	@Benchmark
+	public Body jsonToBody() {
+		return JSONToBodyConverter.jsonToBody(_jsonRequest);
+	}
+
+	@Benchmark
+	public Body multipartToBody() {
+		return MultipartToBodyConverter.multipartToBody(_multipartRequest);
+	}
+
+	@Setup
+	public void setUp() {
+		_jsonListRequest = new InMemoryHttpServletRequest(
+			"POST", "application/json", createJSONListBody(payloadSize));
+		_jsonRequest = new InMemoryHttpServletRequest(
+			"POST", "application/json", createJSONBody(payloadSize));
+		_multipartRequest = new InMemoryHttpServletRequest(
+			"POST", MULTIPART_CONTENT_TYPE, createMultipartBody(payloadSize));
+	}
+
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public PayloadSize payloadSize;
+
+	private InMemoryHttpServletRequest _jsonListRequest;
+	private InMemoryHttpServletRequest _jsonRequest;
+	private InMemoryHttpServletRequest _multipartRequest;
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.date.DateTransformer;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares how fast {@link DateTransformer} formats and parses dates with how
+ * fast the previous implementation, which created a {@code SimpleDateFormat}
+ * on every call, did it.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DateTransformerBenchmark {
+
+	@Benchmark
+	public Try<Date> asDate() {
+		return DateTransformer.asDate(_DATE_STRING);
+	}
+
+	@Benchmark
+	public String asString() {
+		return DateTransformer.asString(_date);
+	}
+
+	@Benchmark
+	public Try<Date> simpleDateFormatAsDate() {
+		DateFormat dateFormat = _createSimpleDateFormat();
+
+		return Try.fromFallible(() -> dateFormat.parse(_DATE_STRING));
+	}
+
+	@Benchmark
+	public String simpleDateFormatAsString() {
+		DateFormat dateFormat = _createSimpleDateFormat();
+
+		return dateFormat.format(_date);
+	}
+
+	private static DateFormat _createSimpleDateFormat() {
+		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+
+		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
+
+		dateFormat.setTimeZone(timeZone);
+
+		return dateFormat;
+	}
+
+	private static final String _DATE_STRING = "2016-06-15T09:00Z";
+
+	private final Date _date = new Date(1465981200000L);
+
+}
\ No newline at end of file
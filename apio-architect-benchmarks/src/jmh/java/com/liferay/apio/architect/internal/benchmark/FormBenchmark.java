@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.annotation.form.FormTransformer.toForm;
+import static com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor.processType;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleBodyUtil.createJSONBody;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleBodyUtil.createJSONListBody;
+import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.internal.benchmark.util.InMemoryHttpServletRequest;
+import com.liferay.apio.architect.internal.benchmark.util.PayloadSize;
+import com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil;
+import com.liferay.apio.architect.internal.form.FormImpl;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how fast {@link FormImpl#get(Body)} and {@link
+ * FormImpl#getList(Body)} bind an already parsed body to the {@code
+ * BlogPosting} form created from the sample's annotated type.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FormBenchmark {
+
+	@Benchmark
+	public BlogPosting get() {
+		return _form.get(_body);
+	}
+
+	@Benchmark
+	public List<BlogPosting> getList() {
+		return _form.getList(_listBody);
+	}
+
+	@Setup
+	public void setUp() {
+		_body = jsonToBody(
+			new InMemoryHttpServletRequest(
+				"POST", "application/json", createJSONBody(payloadSize)));
+		_form = toForm(
+			processType(BlogPosting.class),
+			path -> Long.valueOf(path.getId()),
+			SampleModelUtil::getResourceNameOptional);
+		_listBody = jsonToBody(
+			new InMemoryHttpServletRequest(
+				"POST", "application/json", createJSONListBody(payloadSize)));
+	}
+
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public PayloadSize payloadSize;
+
+	private Body _body;
+	private Form<BlogPosting> _form;
+	private Body _listBody;
+
+}
\ No newline at end of file
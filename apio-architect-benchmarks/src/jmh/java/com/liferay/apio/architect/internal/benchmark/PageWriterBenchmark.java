@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.BLOG_POSTING_NAME;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createBlogPostings;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createRequestInfo;
+
+import com.liferay.apio.architect.internal.benchmark.util.InMemoryHttpServletRequest;
+import com.liferay.apio.architect.internal.benchmark.util.MediaFormat;
+import com.liferay.apio.architect.internal.benchmark.util.PayloadSize;
+import com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how fast {@link PageWriter#write()} renders a page of {@code
+ * BlogPosting} with every message mapper, with and without the creator of each
+ * item embedded.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PageWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		List<BlogPosting> blogPostings = createBlogPostings(payloadSize);
+
+		PageItems<BlogPosting> pageItems = new PageItems<>(
+			blogPostings, blogPostings.size() * 10);
+
+		_page = new PageImpl<>(
+			Paged.of(BLOG_POSTING_NAME), pageItems,
+			new PaginationImpl(blogPostings.size(), 2));
+
+		_pageMessageMapper = mediaFormat.createPageMessageMapper();
+
+		InMemoryHttpServletRequest inMemoryHttpServletRequest =
+			new InMemoryHttpServletRequest("GET");
+
+		if (!"none".equals(embedded)) {
+			inMemoryHttpServletRequest.setParameter("embedded", embedded);
+		}
+
+		_requestInfo = createRequestInfo(inMemoryHttpServletRequest);
+	}
+
+	@Benchmark
+	public String write() {
+		PageWriter<BlogPosting> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				SampleModelUtil::getPathOptional
+			).resourceNameFunction(
+				SampleModelUtil::getResourceNameOptional
+			).representorFunction(
+				SampleModelUtil::getRepresentorOptional
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				SampleModelUtil.getSingleModelFunction(payloadSize)
+			).actionSemanticsFunction(
+				SampleModelUtil::getActionSemantics
+			).build());
+
+		return pageWriter.write();
+	}
+
+	@Param({"none", "creator"})
+	public String embedded;
+
+	@Param({"HAL", "JSON_LD", "PLAIN_JSON"})
+	public MediaFormat mediaFormat;
+
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public PayloadSize payloadSize;
+
+	private Page<BlogPosting> _page;
+	private PageMessageMapper<BlogPosting> _pageMessageMapper;
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
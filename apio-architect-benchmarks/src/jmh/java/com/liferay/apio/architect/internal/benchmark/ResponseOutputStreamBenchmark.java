@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.BLOG_POSTING_NAME;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createBlogPostings;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createRequestInfo;
+
+import com.liferay.apio.architect.internal.benchmark.util.InMemoryHttpServletRequest;
+import com.liferay.apio.architect.internal.benchmark.util.MediaFormat;
+import com.liferay.apio.architect.internal.benchmark.util.PayloadSize;
+import com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.ResponseOutputStream;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares how a rendered page of {@code BlogPosting} reaches the container's
+ * output stream through {@link ResponseOutputStream} and through the
+ * autoflushing {@code PrintWriter} the message body writers used before it.
+ * The writes and flushes that reach the container's output stream, which end
+ * up as socket writes, are reported as the {@code writes} and {@code flushes}
+ * secondary results, so dividing them by the score gives the number per
+ * response. Run it with the {@code gc} profiler to get the bytes allocated
+ * per response.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ResponseOutputStreamBenchmark {
+
+	@Benchmark
+	public void printWriter(ContainerOutputStream containerOutputStream) {
+		PrintWriter printWriter = new PrintWriter(
+			new OutputStreamWriter(
+				containerOutputStream, StandardCharsets.UTF_8),
+			true);
+
+		printWriter.println(_json);
+
+		printWriter.close();
+	}
+
+	@Benchmark
+	public void responseOutputStream(
+			ContainerOutputStream containerOutputStream)
+		throws IOException {
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(
+					containerOutputStream, containerOutputStream.httpHeaders)) {
+
+			responseOutputStream.writeUTF8(_json);
+
+			responseOutputStream.commit();
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		List<BlogPosting> blogPostings = createBlogPostings(payloadSize);
+
+		PageItems<BlogPosting> pageItems = new PageItems<>(
+			blogPostings, blogPostings.size() * 10);
+
+		PageWriter<BlogPosting> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				new PageImpl<>(
+					Paged.of(BLOG_POSTING_NAME), pageItems,
+					new PaginationImpl(blogPostings.size(), 2))
+			).pageMessageMapper(
+				MediaFormat.JSON_LD.createPageMessageMapper()
+			).pathFunction(
+				SampleModelUtil::getPathOptional
+			).resourceNameFunction(
+				SampleModelUtil::getResourceNameOptional
+			).representorFunction(
+				SampleModelUtil::getRepresentorOptional
+			).requestInfo(
+				createRequestInfo(new InMemoryHttpServletRequest("GET"))
+			).singleModelFunction(
+				SampleModelUtil.getSingleModelFunction(payloadSize)
+			).actionSemanticsFunction(
+				SampleModelUtil::getActionSemantics
+			).build());
+
+		_json = pageWriter.write();
+	}
+
+	/**
+	 * Stands for the container's output stream, discarding the bytes and
+	 * counting the writes and flushes it receives.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class ContainerOutputStream extends OutputStream {
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			flushes = 0;
+			writes = 0;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			writes++;
+		}
+
+		@Override
+		public void write(int b) {
+			writes++;
+		}
+
+		public long flushes;
+		public long writes;
+
+		final MultivaluedMap<String, Object> httpHeaders =
+			new MultivaluedHashMap<>();
+
+	}
+
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public PayloadSize payloadSize;
+
+	private String _json;
+
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.BLOG_POSTING_NAME;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createBlogPosting;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createRequestInfo;
+
+import com.liferay.apio.architect.internal.benchmark.util.InMemoryHttpServletRequest;
+import com.liferay.apio.architect.internal.benchmark.util.MediaFormat;
+import com.liferay.apio.architect.internal.benchmark.util.PayloadSize;
+import com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how fast {@link SingleModelWriter#write()} renders a {@code
+ * BlogPosting} with every message mapper, with and without its creator
+ * embedded.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SingleModelWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		_singleModel = new SingleModelImpl<>(
+			createBlogPosting(42, payloadSize), BLOG_POSTING_NAME);
+		_singleModelMessageMapper =
+			mediaFormat.createSingleModelMessageMapper();
+
+		InMemoryHttpServletRequest inMemoryHttpServletRequest =
+			new InMemoryHttpServletRequest("GET");
+
+		if (!"none".equals(embedded)) {
+			inMemoryHttpServletRequest.setParameter("embedded", embedded);
+		}
+
+		_requestInfo = createRequestInfo(inMemoryHttpServletRequest);
+	}
+
+	@Benchmark
+	public Optional<String> write() {
+		SingleModelWriter<BlogPosting> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					SampleModelUtil::getPathOptional
+				).resourceNameFunction(
+					SampleModelUtil::getResourceNameOptional
+				).representorFunction(
+					SampleModelUtil::getRepresentorOptional
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					SampleModelUtil.getSingleModelFunction(payloadSize)
+				).actionSemanticsFunction(
+					SampleModelUtil::getActionSemantics
+				).build());
+
+		return singleModelWriter.write();
+	}
+
+	@Param({"none", "creator"})
+	public String embedded;
+
+	@Param({"HAL", "JSON_LD", "PLAIN_JSON"})
+	public MediaFormat mediaFormat;
+
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	public PayloadSize payloadSize;
+
+	private RequestInfo _requestInfo;
+	private SingleModel<BlogPosting> _singleModel;
+	private SingleModelMessageMapper<BlogPosting> _singleModelMessageMapper;
+
+}
\ No newline at end of file
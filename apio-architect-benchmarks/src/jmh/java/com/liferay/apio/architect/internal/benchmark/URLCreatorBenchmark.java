@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark;
+
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.BLOG_POSTING_NAME;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.COMMENT_NAME;
+
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PageType;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.URLCreator;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how fast {@link URLCreator} builds the URLs every representation
+ * contains.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class URLCreatorBenchmark {
+
+	@Benchmark
+	public Optional<String> createActionURL() {
+		return URLCreator.createActionURL(
+			_applicationURL, _nested, "subscribe");
+	}
+
+	@Benchmark
+	public String createBinaryURL() {
+		return URLCreator.createBinaryURL(_applicationURL, "binary", _path);
+	}
+
+	@Benchmark
+	public String createCollectionPageURL() {
+		return URLCreator.createCollectionPageURL(
+			_COLLECTION_URL, _page, PageType.NEXT);
+	}
+
+	@Benchmark
+	public Optional<String> createItemResourceURL() {
+		return URLCreator.createItemResourceURL(_applicationURL, _item);
+	}
+
+	@Benchmark
+	public Optional<String> createNestedResourceURL() {
+		return URLCreator.createNestedResourceURL(_applicationURL, _nested);
+	}
+
+	@Benchmark
+	public String createPagedResourceURL() {
+		return URLCreator.createPagedResourceURL(_applicationURL, _paged);
+	}
+
+	private static final String _COLLECTION_URL =
+		"http://localhost:8080/" + BLOG_POSTING_NAME;
+
+	private final ApplicationURL _applicationURL =
+		() -> "http://localhost:8080";
+	private final Item _item = Item.of(BLOG_POSTING_NAME, Id.of(42L, "42"));
+	private final Nested _nested = Nested.of(_item, COMMENT_NAME);
+	private final Page<Object> _page = new PageImpl<>(
+		Paged.of(BLOG_POSTING_NAME),
+		new PageItems<>(Collections.emptyList(), 300),
+		new PaginationImpl(30, 2));
+	private final Paged _paged = Paged.of(BLOG_POSTING_NAME);
+	private final Path _path = new Path(BLOG_POSTING_NAME, "42");
+
+}
\ No newline at end of file
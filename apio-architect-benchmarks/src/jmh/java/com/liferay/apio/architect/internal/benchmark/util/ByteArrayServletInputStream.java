@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+import javax.servlet.ServletInputStream;
+
+/**
+ * A {@link ServletInputStream} that reads from an in-memory byte array, so
+ * benchmarks can replay the same request body without touching the network.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ByteArrayServletInputStream extends ServletInputStream {
+
+	public ByteArrayServletInputStream(byte[] bytes) {
+		_bytes = bytes;
+	}
+
+	@Override
+	public int available() {
+		return _bytes.length - _position;
+	}
+
+	@Override
+	public int read() {
+		if (_position >= _bytes.length) {
+			return -1;
+		}
+
+		return _bytes[_position++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) {
+		if (_position >= _bytes.length) {
+			return -1;
+		}
+
+		int count = Math.min(length, _bytes.length - _position);
+
+		System.arraycopy(_bytes, _position, bytes, offset, count);
+
+		_position += count;
+
+		return count;
+	}
+
+	private final byte[] _bytes;
+	private int _position;
+
+}
\ No newline at end of file
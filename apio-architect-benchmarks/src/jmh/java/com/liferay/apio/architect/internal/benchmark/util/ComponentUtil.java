@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+import java.lang.reflect.Field;
+
+/**
+ * Wires OSGi components outside of an OSGi container by setting their
+ * references the same way Declarative Services does.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ComponentUtil {
+
+	/**
+	 * Sets the value of a component's reference field. The field can be
+	 * declared in the component's class or in any of its superclasses.
+	 *
+	 * @param  component the component
+	 * @param  fieldName the reference field's name
+	 * @param  value the reference
+	 * @return the component
+	 */
+	public static <T> T setReference(
+		T component, String fieldName, Object value) {
+
+		Class<?> clazz = component.getClass();
+
+		while (clazz != null) {
+			try {
+				Field field = clazz.getDeclaredField(fieldName);
+
+				field.setAccessible(true);
+
+				field.set(component, value);
+
+				return component;
+			}
+			catch (NoSuchFieldException nsfe) {
+				clazz = clazz.getSuperclass();
+			}
+			catch (IllegalAccessException iae) {
+				throw new IllegalStateException(iae);
+			}
+		}
+
+		throw new IllegalArgumentException(
+			"Unable to find field " + fieldName + " in " +
+				component.getClass());
+	}
+
+	private ComponentUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,463 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+
+import java.security.Principal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.DispatcherType;
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.Part;
+
+/**
+ * An in-memory {@link HttpServletRequest} used as a stand-in for the servlet
+ * container's request in benchmarks. Only the methods read by Apio Architect
+ * return meaningful values; the rest return empty defaults.
+ *
+ * <p>
+ * Instances don't record invocations, so they don't add noise to the
+ * allocation rates reported by the benchmarks.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class InMemoryHttpServletRequest implements HttpServletRequest {
+
+	public InMemoryHttpServletRequest(String method) {
+		this(method, null, new byte[0]);
+	}
+
+	public InMemoryHttpServletRequest(
+		String method, String contentType, byte[] body) {
+
+		_method = method;
+		_contentType = contentType;
+		_body = body;
+	}
+
+	@Override
+	public boolean authenticate(HttpServletResponse httpServletResponse) {
+		return false;
+	}
+
+	@Override
+	public AsyncContext getAsyncContext() {
+		return null;
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return _attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(_attributes.keySet());
+	}
+
+	@Override
+	public String getAuthType() {
+		return null;
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return UTF_8.name();
+	}
+
+	@Override
+	public int getContentLength() {
+		return _body.length;
+	}
+
+	@Override
+	public String getContentType() {
+		return _contentType;
+	}
+
+	@Override
+	public String getContextPath() {
+		return "";
+	}
+
+	@Override
+	public Cookie[] getCookies() {
+		return new Cookie[0];
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		return -1;
+	}
+
+	@Override
+	public DispatcherType getDispatcherType() {
+		return DispatcherType.REQUEST;
+	}
+
+	@Override
+	public String getHeader(String name) {
+		return _headers.get(name.toLowerCase(Locale.ENGLISH));
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return Collections.enumeration(_headers.keySet());
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		String header = getHeader(name);
+
+		if (header == null) {
+			return Collections.emptyEnumeration();
+		}
+
+		return Collections.enumeration(Collections.singletonList(header));
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		return new ByteArrayServletInputStream(_body);
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		String header = getHeader(name);
+
+		if (header == null) {
+			return -1;
+		}
+
+		return Integer.parseInt(header);
+	}
+
+	@Override
+	public String getLocalAddr() {
+		return "127.0.0.1";
+	}
+
+	@Override
+	public Locale getLocale() {
+		return Locale.getDefault();
+	}
+
+	@Override
+	public Enumeration<Locale> getLocales() {
+		return Collections.enumeration(
+			Collections.singletonList(Locale.getDefault()));
+	}
+
+	@Override
+	public String getLocalName() {
+		return "localhost";
+	}
+
+	@Override
+	public int getLocalPort() {
+		return 8080;
+	}
+
+	@Override
+	public String getMethod() {
+		return _method;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = _parameters.get(name);
+
+		if ((values == null) || (values.length == 0)) {
+			return null;
+		}
+
+		return values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return Collections.unmodifiableMap(_parameters);
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.enumeration(_parameters.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return _parameters.get(name);
+	}
+
+	@Override
+	public Part getPart(String name) {
+		return null;
+	}
+
+	@Override
+	public Collection<Part> getParts() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getPathInfo() {
+		return null;
+	}
+
+	@Override
+	public String getPathTranslated() {
+		return null;
+	}
+
+	@Override
+	public String getProtocol() {
+		return "HTTP/1.1";
+	}
+
+	@Override
+	public String getQueryString() {
+		return null;
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		return new BufferedReader(
+			new InputStreamReader(getInputStream(), UTF_8));
+	}
+
+	/**
+	 * @deprecated As of Servlet 2.1
+	 */
+	@Deprecated
+	@Override
+	public String getRealPath(String path) {
+		return null;
+	}
+
+	@Override
+	public String getRemoteAddr() {
+		return "127.0.0.1";
+	}
+
+	@Override
+	public String getRemoteHost() {
+		return "localhost";
+	}
+
+	@Override
+	public int getRemotePort() {
+		return 0;
+	}
+
+	@Override
+	public String getRemoteUser() {
+		return null;
+	}
+
+	@Override
+	public RequestDispatcher getRequestDispatcher(String path) {
+		return null;
+	}
+
+	@Override
+	public String getRequestedSessionId() {
+		return null;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return "/";
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		return new StringBuffer("http://localhost:8080/");
+	}
+
+	@Override
+	public String getScheme() {
+		return "http";
+	}
+
+	@Override
+	public String getServerName() {
+		return "localhost";
+	}
+
+	@Override
+	public int getServerPort() {
+		return 8080;
+	}
+
+	@Override
+	public ServletContext getServletContext() {
+		return null;
+	}
+
+	@Override
+	public String getServletPath() {
+		return "";
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return null;
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		return null;
+	}
+
+	@Override
+	public Principal getUserPrincipal() {
+		return null;
+	}
+
+	@Override
+	public boolean isAsyncStarted() {
+		return false;
+	}
+
+	@Override
+	public boolean isAsyncSupported() {
+		return false;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromCookie() {
+		return false;
+	}
+
+	/**
+	 * @deprecated As of Servlet 2.1
+	 */
+	@Deprecated
+	@Override
+	public boolean isRequestedSessionIdFromUrl() {
+		return false;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromURL() {
+		return false;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdValid() {
+		return false;
+	}
+
+	@Override
+	public boolean isSecure() {
+		return false;
+	}
+
+	@Override
+	public boolean isUserInRole(String role) {
+		return false;
+	}
+
+	@Override
+	public void login(String username, String password) {
+	}
+
+	@Override
+	public void logout() {
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		_attributes.remove(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object object) {
+		_attributes.put(name, object);
+	}
+
+	@Override
+	public void setCharacterEncoding(String encoding) {
+	}
+
+	/**
+	 * Sets a request header. Header names are case insensitive.
+	 *
+	 * @param  name the header's name
+	 * @param  value the header's value
+	 * @return this request
+	 */
+	public InMemoryHttpServletRequest setHeader(String name, String value) {
+		_headers.put(name.toLowerCase(Locale.ENGLISH), value);
+
+		return this;
+	}
+
+	/**
+	 * Sets a query parameter.
+	 *
+	 * @param  name the parameter's name
+	 * @param  values the parameter's values
+	 * @return this request
+	 */
+	public InMemoryHttpServletRequest setParameter(
+		String name, String... values) {
+
+		_parameters.put(name, values);
+
+		return this;
+	}
+
+	@Override
+	public AsyncContext startAsync() {
+		throw new IllegalStateException();
+	}
+
+	@Override
+	public AsyncContext startAsync(
+		ServletRequest servletRequest, ServletResponse servletResponse) {
+
+		throw new IllegalStateException();
+	}
+
+	private final Map<String, Object> _attributes = new HashMap<>();
+	private final byte[] _body;
+	private final String _contentType;
+	private final Map<String, String> _headers = new HashMap<>();
+	private final String _method;
+	private final Map<String, String[]> _parameters = new HashMap<>();
+
+}
\ No newline at end of file
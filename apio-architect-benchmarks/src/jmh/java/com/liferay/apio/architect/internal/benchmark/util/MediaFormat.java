@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+import static com.liferay.apio.architect.internal.benchmark.util.ComponentUtil.setReference;
+
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.cbor.CBORPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.cbor.CBORSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.smile.SmilePageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.smile.SmileSingleModelMessageMapper;
+
+/**
+ * Represents the media formats the writer benchmarks render.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public enum MediaFormat {
+
+	CBOR, HAL, JSON_LD, PLAIN_JSON, SMILE;
+
+	/**
+	 * Returns a new {@link PageMessageMapper} for this format, with its
+	 * references already set.
+	 *
+	 * @return the page message mapper
+	 */
+	public <T> PageMessageMapper<T> createPageMessageMapper() {
+		if (this == CBOR) {
+			return new CBORPageMessageMapper<>();
+		}
+
+		if (this == HAL) {
+			return setReference(
+				new HALPageMessageMapper<>(), "representableManager",
+				SampleModelUtil.getRepresentableManager());
+		}
+
+		if (this == JSON_LD) {
+			return new JSONLDPageMessageMapper<>();
+		}
+
+		if (this == SMILE) {
+			return new SmilePageMessageMapper<>();
+		}
+
+		return new PlainJSONPageMessageMapper<>();
+	}
+
+	/**
+	 * Returns a new {@link SingleModelMessageMapper} for this format.
+	 *
+	 * @return the single model message mapper
+	 */
+	public <T> SingleModelMessageMapper<T> createSingleModelMessageMapper() {
+		if (this == CBOR) {
+			return new CBORSingleModelMessageMapper<>();
+		}
+
+		if (this == HAL) {
+			return new HALSingleModelMessageMapper<>();
+		}
+
+		if (this == JSON_LD) {
+			return new JSONLDSingleModelMessageMapper<>();
+		}
+
+		if (this == SMILE) {
+			return new SmileSingleModelMessageMapper<>();
+		}
+
+		return new PlainJSONSingleModelMessageMapper<>();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+/**
+ * Represents the different payload sizes used by the benchmarks.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public enum PayloadSize {
+
+	LARGE(16384, 50, 20, 100), MEDIUM(1024, 5, 5, 30), SMALL(64, 0, 1, 5);
+
+	/**
+	 * Returns the length, in characters, of text fields like a blog posting's
+	 * body.
+	 *
+	 * @return the length of text fields
+	 */
+	public int getBodyLength() {
+		return _bodyLength;
+	}
+
+	/**
+	 * Returns the number of items in a page.
+	 *
+	 * @return the number of items in a page
+	 */
+	public int getItemsPerPage() {
+		return _itemsPerPage;
+	}
+
+	/**
+	 * Returns the number of entries in string list fields, like a person's job
+	 * titles.
+	 *
+	 * @return the number of entries in string list fields
+	 */
+	public int getListSize() {
+		return _listSize;
+	}
+
+	/**
+	 * Returns the number of nested models, like a blog posting's reviews.
+	 *
+	 * @return the number of nested models
+	 */
+	public int getNestedModelCount() {
+		return _nestedModelCount;
+	}
+
+	private PayloadSize(
+		int bodyLength, int nestedModelCount, int listSize, int itemsPerPage) {
+
+		_bodyLength = bodyLength;
+		_nestedModelCount = nestedModelCount;
+		_listSize = listSize;
+		_itemsPerPage = itemsPerPage;
+	}
+
+	private final int _bodyLength;
+	private final int _itemsPerPage;
+	private final int _listSize;
+	private final int _nestedModelCount;
+
+}
\ No newline at end of file
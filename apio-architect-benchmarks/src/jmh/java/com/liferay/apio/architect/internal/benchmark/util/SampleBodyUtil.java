@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.PERSON_NAME;
+import static com.liferay.apio.architect.internal.benchmark.util.SampleModelUtil.createText;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.vavr.control.Try;
+
+/**
+ * Provides the request bodies of a {@code BlogPosting} creation, in every
+ * format supported by the body converters.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class SampleBodyUtil {
+
+	public static final String MULTIPART_BOUNDARY = "ApioArchitectBoundary";
+
+	public static final String MULTIPART_CONTENT_TYPE =
+		"multipart/form-data; boundary=" + MULTIPART_BOUNDARY;
+
+	/**
+	 * Returns the JSON body of a {@code BlogPosting} creation.
+	 *
+	 * @param  payloadSize the payload size
+	 * @return the JSON body
+	 */
+	public static byte[] createJSONBody(PayloadSize payloadSize) {
+		return _toBytes(_createBlogPostingObjectNode(1, payloadSize));
+	}
+
+	/**
+	 * Returns the JSON body of a batch {@code BlogPosting} creation, with as
+	 * many members as items fit in a page of the provided payload size.
+	 *
+	 * @param  payloadSize the payload size
+	 * @return the JSON body
+	 */
+	public static byte[] createJSONListBody(PayloadSize payloadSize) {
+		ArrayNode arrayNode = _objectMapper.createArrayNode();
+
+		for (int i = 1; i <= payloadSize.getItemsPerPage(); i++) {
+			arrayNode.add(_createBlogPostingObjectNode(i, payloadSize));
+		}
+
+		return _toBytes(arrayNode);
+	}
+
+	/**
+	 * Returns the {@code multipart/form-data} body of a {@code BlogPosting}
+	 * creation, with an attached file of the payload's body length.
+	 *
+	 * @param  payloadSize the payload size
+	 * @return the multipart body
+	 */
+	public static byte[] createMultipartBody(PayloadSize payloadSize) {
+		StringBuilder sb = new StringBuilder();
+
+		_appendPart(sb, "alternativeHeadline", createText(32));
+		_appendPart(sb, "articleBody", createText(payloadSize.getBodyLength()));
+		_appendPart(sb, "creator", _getPersonURL(1));
+		_appendPart(sb, "dateCreated", _DATE);
+		_appendPart(sb, "dateModified", _DATE);
+		_appendPart(sb, "fileFormat", "text/html");
+		_appendPart(sb, "headline", createText(48));
+
+		for (int i = 0; i < payloadSize.getListSize(); i++) {
+			_appendPart(sb, "keywords[" + i + "]", createText(16));
+		}
+
+		sb.append("--");
+		sb.append(MULTIPART_BOUNDARY);
+		sb.append("\r\nContent-Disposition: form-data; name=\"file\"; ");
+		sb.append("filename=\"file.txt\"\r\nContent-Type: text/plain\r\n\r\n");
+		sb.append(createText(payloadSize.getBodyLength()));
+		sb.append("\r\n--");
+		sb.append(MULTIPART_BOUNDARY);
+		sb.append("--\r\n");
+
+		String string = sb.toString();
+
+		return string.getBytes(UTF_8);
+	}
+
+	private static void _appendPart(
+		StringBuilder sb, String name, String value) {
+
+		sb.append("--");
+		sb.append(MULTIPART_BOUNDARY);
+		sb.append("\r\nContent-Disposition: form-data; name=\"");
+		sb.append(name);
+		sb.append("\"\r\n\r\n");
+		sb.append(value);
+		sb.append("\r\n");
+	}
+
+	private static ObjectNode _createBlogPostingObjectNode(
+		long id, PayloadSize payloadSize) {
+
+		ObjectNode objectNode = _objectMapper.createObjectNode();
+
+		objectNode.put("alternativeHeadline", createText(32));
+		objectNode.put("articleBody", createText(payloadSize.getBodyLength()));
+		objectNode.put("creator", _getPersonURL(id));
+		objectNode.put("dateCreated", _DATE);
+		objectNode.put("dateModified", _DATE);
+		objectNode.put("fileFormat", "text/html");
+		objectNode.put("headline", createText(48));
+
+		ArrayNode arrayNode = objectNode.putArray("review");
+
+		for (int i = 0; i < payloadSize.getNestedModelCount(); i++) {
+			ObjectNode reviewObjectNode = arrayNode.addObject();
+
+			reviewObjectNode.put(
+				"reviewBody", createText(payloadSize.getBodyLength() / 8));
+
+			ObjectNode ratingObjectNode = reviewObjectNode.putObject("rating");
+
+			ratingObjectNode.put("creator", _getPersonURL(i));
+			ratingObjectNode.put("ratingValue", i % 5);
+		}
+
+		return objectNode;
+	}
+
+	private static String _getPersonURL(long id) {
+		return "http://localhost:8080/" + PERSON_NAME + "/" + id;
+	}
+
+	private static byte[] _toBytes(JsonNode jsonNode) {
+		return Try.of(
+			() -> _objectMapper.writeValueAsBytes(jsonNode)
+		).get();
+	}
+
+	private SampleBodyUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final String _DATE = "2018-09-03T18:40Z";
+
+	private static final ObjectMapper _objectMapper = new ObjectMapper();
+
+}
\ No newline at end of file
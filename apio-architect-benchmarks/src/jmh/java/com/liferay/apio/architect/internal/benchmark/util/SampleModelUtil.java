@@ -0,0 +1,413 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.benchmark.util;
+
+import static com.liferay.apio.architect.internal.action.Predicates.isActionFor;
+import static com.liferay.apio.architect.internal.annotation.representor.RepresentorTransformer.toRepresentor;
+import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
+import static com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor.processType;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
+import static com.liferay.apio.architect.operation.HTTPMethod.GET;
+import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
+
+import com.liferay.apio.architect.annotation.EntryPoint;
+import com.liferay.apio.architect.annotation.Vocabulary.Type;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.internal.provider.AcceptLanguageProvider;
+import com.liferay.apio.architect.internal.provider.ApplicationURLProvider;
+import com.liferay.apio.architect.internal.provider.EmbeddedProvider;
+import com.liferay.apio.architect.internal.provider.FieldsProvider;
+import com.liferay.apio.architect.internal.provider.ServerURLProvider;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.operation.HTTPMethod;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.sample.internal.converter.BlogPostingConverter;
+import com.liferay.apio.architect.sample.internal.converter.PersonConverter;
+import com.liferay.apio.architect.sample.internal.dto.BlogPostingModel;
+import com.liferay.apio.architect.sample.internal.dto.PersonModel;
+import com.liferay.apio.architect.sample.internal.dto.PostalAddressModel;
+import com.liferay.apio.architect.sample.internal.dto.RatingModel;
+import com.liferay.apio.architect.sample.internal.dto.ReviewModel;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+import com.liferay.apio.architect.sample.internal.type.Comment;
+import com.liferay.apio.architect.sample.internal.type.Person;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.lang.annotation.Annotation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides the sample module's {@code BlogPosting} and {@code Person} types,
+ * together with the functions the writers and the action manager need, without
+ * an OSGi container.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class SampleModelUtil {
+
+	public static final String BLOG_POSTING_NAME = "blog-posting-annotated";
+
+	public static final String COMMENT_NAME = "comment-annotated";
+
+	public static final String PERSON_NAME = "person-annotated";
+
+	/**
+	 * Returns a {@link BlogPosting} whose text fields and nested reviews match
+	 * the provided payload size.
+	 *
+	 * @param  id the blog posting's ID
+	 * @param  payloadSize the payload size
+	 * @return the blog posting
+	 */
+	public static BlogPosting createBlogPosting(
+		long id, PayloadSize payloadSize) {
+
+		List<ReviewModel> reviewModels = new ArrayList<>();
+
+		for (int i = 0; i < payloadSize.getNestedModelCount(); i++) {
+			reviewModels.add(
+				new ReviewModel(
+					createText(payloadSize.getBodyLength() / 8),
+					new RatingModel((long)i, (long)(i % 5))));
+		}
+
+		BlogPostingModel blogPostingModel = new BlogPostingModel(
+			id, createText(payloadSize.getBodyLength()), _date, id,
+			_date, reviewModels, createText(32), createText(48));
+
+		return BlogPostingConverter.toBlogPosting(blogPostingModel);
+	}
+
+	/**
+	 * Returns as many {@link BlogPosting} as items fit in a page of the
+	 * provided payload size.
+	 *
+	 * @param  payloadSize the payload size
+	 * @return the blog postings
+	 */
+	public static List<BlogPosting> createBlogPostings(
+		PayloadSize payloadSize) {
+
+		List<BlogPosting> blogPostings = new ArrayList<>();
+
+		for (int i = 1; i <= payloadSize.getItemsPerPage(); i++) {
+			blogPostings.add(createBlogPosting(i, payloadSize));
+		}
+
+		return blogPostings;
+	}
+
+	/**
+	 * Returns a {@link Person} whose job titles match the provided payload
+	 * size.
+	 *
+	 * @param  id the person's ID
+	 * @param  payloadSize the payload size
+	 * @return the person
+	 */
+	public static Person createPerson(long id, PayloadSize payloadSize) {
+		List<String> jobTitles = new ArrayList<>();
+
+		for (int i = 0; i < payloadSize.getListSize(); i++) {
+			jobTitles.add(createText(24));
+		}
+
+		PostalAddressModel postalAddressModel = new PostalAddressModel(
+			"es", "Madrid", "Madrid", "28047", createText(40));
+
+		PersonModel personModel = new PersonModel(
+			"http://localhost/avatar.png", _date, "apio@liferay.com",
+			"Apio", jobTitles, "Architect", postalAddressModel, id);
+
+		return PersonConverter.toPerson(personModel);
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} created by the real providers from the
+	 * request.
+	 *
+	 * @param  httpServletRequest the request
+	 * @return the request info
+	 */
+	public static RequestInfo createRequestInfo(
+		HttpServletRequest httpServletRequest) {
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				httpServletRequest
+			).serverURL(
+				_serverURLProvider.createContext(httpServletRequest)
+			).applicationURL(
+				_applicationURLProvider.createContext(httpServletRequest)
+			).embedded(
+				_embeddedProvider.createContext(httpServletRequest)
+			).fields(
+				_fieldsProvider.createContext(httpServletRequest)
+			).language(
+				_acceptLanguageProvider.createContext(httpServletRequest)
+			).build());
+	}
+
+	/**
+	 * Returns a deterministic text of the provided length. The text contains
+	 * characters that must be escaped in JSON and non-ASCII characters.
+	 *
+	 * @param  length the text's length
+	 * @return the text
+	 */
+	public static String createText(int length) {
+		StringBuilder sb = new StringBuilder(length);
+
+		while (sb.length() < length) {
+			sb.append(_TEXT);
+		}
+
+		sb.setLength(length);
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the {@link ActionSemantics} of a resource, bound to that
+	 * resource, as the action manager does.
+	 *
+	 * @param  resource the resource
+	 * @return the resource's action semantics
+	 */
+	public static Stream<ActionSemantics> getActionSemantics(
+		Resource resource) {
+
+		Stream<ActionSemantics> stream = _actionSemantics.stream();
+
+		return stream.filter(
+			isActionFor(resource)
+		).map(
+			actionSemantics -> actionSemantics.withResource(resource)
+		);
+	}
+
+	/**
+	 * Returns every {@link ActionSemantics} of the sample resources.
+	 *
+	 * @return the action semantics
+	 */
+	public static List<ActionSemantics> getActionSemanticsList() {
+		return _actionSemantics;
+	}
+
+	/**
+	 * Returns the path of a resource's identifier.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifier the identifier
+	 * @return the path
+	 */
+	public static Optional<Path> getPathOptional(
+		String name, Object identifier) {
+
+		return Optional.of(new Path(name, String.valueOf(identifier)));
+	}
+
+	/**
+	 * Returns a {@link RepresentableManager} that serves the sample
+	 * representors.
+	 *
+	 * @return the representable manager
+	 */
+	public static RepresentableManager getRepresentableManager() {
+		return new RepresentableManager() {
+
+			@Override
+			public <T> Optional<Representor<T>> getRepresentorOptional(
+				String name) {
+
+				return unsafeCast(SampleModelUtil.getRepresentorOptional(name));
+			}
+
+			@Override
+			public Map<String, Representor> getRepresentors() {
+				return Collections.unmodifiableMap(_representors);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a sample resource's {@link Representor}.
+	 *
+	 * @param  name the resource's name
+	 * @return the representor, if present; {@code Optional#empty()} otherwise
+	 */
+	public static Optional<Representor<?>> getRepresentorOptional(
+		String name) {
+
+		return Optional.ofNullable(_representors.get(name));
+	}
+
+	/**
+	 * Returns the resource name of an identifier class name.
+	 *
+	 * @param  className the identifier class name
+	 * @return the resource name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<String> getResourceNameOptional(String className) {
+		return Optional.ofNullable(_resourceNames.get(className));
+	}
+
+	/**
+	 * Returns a {@link SingleModelFunction} that resolves related persons to
+	 * models of the provided payload size.
+	 *
+	 * @param  payloadSize the payload size
+	 * @return the single model function
+	 */
+	public static SingleModelFunction getSingleModelFunction(
+		PayloadSize payloadSize) {
+
+		return (identifier, identifierClass) -> {
+			if (!Person.class.equals(identifierClass) ||
+				!(identifier instanceof Long)) {
+
+				return Optional.<SingleModel>empty();
+			}
+
+			return Optional.of(
+				new SingleModelImpl<>(
+					createPerson((Long)identifier, payloadSize), PERSON_NAME));
+		};
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, HTTPMethod httpMethod,
+		Class<?> returnClass, Annotation... annotations) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			httpMethod
+		).returns(
+			returnClass
+		).permissionFunction(
+		).executeFunction(
+			__ -> null
+		).annotatedWith(
+			annotations
+		).build();
+	}
+
+	private static String _getName(Class<?> typeClass) {
+		Type type = typeClass.getAnnotation(Type.class);
+
+		return toLowercaseSlug(type.value());
+	}
+
+	private SampleModelUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final String _TEXT =
+		"Lorem ipsum \"dolor\" sit amet, consectetur <adipiscing> elit, ñú€ ";
+
+	private static final List<ActionSemantics> _actionSemantics;
+	private static final AcceptLanguageProvider _acceptLanguageProvider =
+		new AcceptLanguageProvider();
+	private static final ApplicationURLProvider _applicationURLProvider =
+		new ApplicationURLProvider();
+	private static final Date _date = new Date(1536000000000L);
+	private static final EmbeddedProvider _embeddedProvider =
+		new EmbeddedProvider();
+	private static final FieldsProvider _fieldsProvider = new FieldsProvider();
+	private static final Map<String, Representor> _representors =
+		new HashMap<>();
+	private static final Map<String, String> _resourceNames = new HashMap<>();
+	private static final ServerURLProvider _serverURLProvider =
+		new ServerURLProvider();
+
+	static {
+		Map<String, List<RelatedCollection<?, ?>>> relatedCollections =
+			new HashMap<>();
+
+		List<Class<? extends Identifier>> typeClasses = Arrays.asList(
+			BlogPosting.class, Comment.class, Person.class);
+
+		for (Class<? extends Identifier> typeClass : typeClasses) {
+			String name = _getName(typeClass);
+
+			_representors.put(
+				name,
+				toRepresentor(
+					processType(typeClass), SampleModelUtil::_getName,
+					relatedCollections));
+			_resourceNames.put(typeClass.getName(), name);
+		}
+
+		EntryPoint entryPoint = new EntryPoint() {
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return EntryPoint.class;
+			}
+
+		};
+
+		Paged paged = Paged.of(BLOG_POSTING_NAME);
+		Item item = Item.of(BLOG_POSTING_NAME);
+
+		Nested nested = Nested.of(item, COMMENT_NAME);
+
+		_actionSemantics = Arrays.asList(
+			_createActionSemantics(
+				paged, "retrieve", GET, Page.class, entryPoint),
+			_createActionSemantics(paged, "create", POST, BlogPosting.class),
+			_createActionSemantics(item, "retrieve", GET, BlogPosting.class),
+			_createActionSemantics(item, "replace", PUT, BlogPosting.class),
+			_createActionSemantics(item, "remove", DELETE, Void.class),
+			_createActionSemantics(nested, "retrieve", GET, Page.class),
+			_createActionSemantics(nested, "subscribe", POST, Void.class));
+	}
+
+}
\ No newline at end of file
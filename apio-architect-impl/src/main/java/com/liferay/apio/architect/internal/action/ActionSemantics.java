@@ -22,6 +22,7 @@ import static java.util.Collections.unmodifiableList;
 import com.liferay.apio.architect.annotation.Id;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.internal.alias.PermissionDecisionFunction;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.operation.HTTPMethod;
@@ -208,12 +209,34 @@ public final class ActionSemantics {
 	 *         params
 	 * @review
 	 */
-	@SuppressWarnings({"Convert2MethodRef", "unchecked"})
 	public Action toAction(ProvideFunction provideFunction) {
+		return toAction(
+			provideFunction,
+			(request, permissionCheckedFunction0) ->
+				permissionCheckedFunction0.apply());
+	}
+
+	/**
+	 * Transforms this {@link ActionSemantics} instance into its {@link Action}.
+	 * The permissions of the action are checked through the provided
+	 * permission decision function, that can reuse a previous decision.
+	 *
+	 * @param  provideFunction the function used to provide instances of action
+	 *         params
+	 * @param  permissionDecisionFunction the function used to decide if the
+	 *         action can be executed
+	 * @review
+	 */
+	@SuppressWarnings({"Convert2MethodRef", "unchecked"})
+	public Action toAction(
+		ProvideFunction provideFunction,
+		PermissionDecisionFunction permissionDecisionFunction) {
+
 		Action action = request -> Try.of(
-			() -> getPermissionParams(provideFunction.apply(this, request))
-		).mapTry(
-			this::checkPermissions
+			() -> permissionDecisionFunction.apply(
+				request,
+				() -> checkPermissions(
+					getPermissionParams(provideFunction.apply(this, request))))
 		).filter(
 			aBoolean -> aBoolean
 		).mapFailure(
@@ -266,6 +289,36 @@ public final class ActionSemantics {
 		return actionSemantics;
 	}
 
+	/**
+	 * Copies the current {@link ActionSemantics} by setting the function that
+	 * executes the action. The new function usually decorates {@link
+	 * #execute(List)} of the current instance.
+	 *
+	 * @param  executeCheckedFunction1 the new execute function
+	 * @return A modified copy of {@code this} object
+	 * @review
+	 */
+	public ActionSemantics withExecuteFunction(
+		CheckedFunction1<List<?>, ?> executeCheckedFunction1) {
+
+		ActionSemantics actionSemantics = new ActionSemantics();
+
+		actionSemantics._annotations = _annotations;
+		actionSemantics._bodyFunction = _bodyFunction;
+		actionSemantics._executeCheckedFunction1 = executeCheckedFunction1;
+		actionSemantics._form = _form;
+		actionSemantics._method = _method;
+		actionSemantics._name = _name;
+		actionSemantics._paramClasses = _paramClasses;
+		actionSemantics._permissionCheckedFunction1 =
+			_permissionCheckedFunction1;
+		actionSemantics._permissionProvidedClasses = _permissionProvidedClasses;
+		actionSemantics._resource = _resource;
+		actionSemantics._returnClass = _returnClass;
+
+		return actionSemantics;
+	}
+
 	/**
 	 * Copies the current {@link ActionSemantics} by setting a value for the
 	 * {@link ActionSemantics#getHTTPMethod()} method} attribute. A shallow
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.alias;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.CheckedFunction2;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Defines a type alias for a function that receives the HTTP request and the
+ * function that checks an action's permissions, and returns the decision. The
+ * function can return a previously taken decision instead of checking the
+ * permissions again.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public interface PermissionDecisionFunction
+	extends CheckedFunction2
+		<HttpServletRequest, CheckedFunction0<Boolean>, Boolean> {
+}
\ No newline at end of file
@@ -23,8 +23,6 @@ import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAc
 import static com.liferay.apio.architect.internal.action.Predicates.isRootCollectionAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isUpdateAction;
 import static com.liferay.apio.architect.internal.action.converter.EntryPointConverter.getEntryPointFrom;
-import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
-import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
 
 import static io.vavr.Predicates.instanceOf;
 import static io.vavr.control.Either.left;
@@ -32,9 +30,6 @@ import static io.vavr.control.Either.right;
 
 import static java.util.function.Function.identity;
 
-import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
-import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE;
-
 import com.liferay.apio.architect.annotation.GenericParentId;
 import com.liferay.apio.architect.annotation.Id;
 import com.liferay.apio.architect.annotation.ParentId;
@@ -45,9 +40,12 @@ import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotFound;
+import com.liferay.apio.architect.internal.cache.ModelCache;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.permission.PermissionDecisionCacheImpl;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.body.BodyConverterManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -64,6 +62,7 @@ import com.liferay.apio.architect.resource.Resource.Paged;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import io.vavr.CheckedFunction0;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
@@ -76,10 +75,7 @@ import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
-import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotFoundException;
-import javax.ws.rs.NotSupportedException;
-import javax.ws.rs.core.MediaType;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -209,20 +205,11 @@ public class ActionManagerImpl implements ActionManager {
 
 		return stream.filter(
 			isActionFor(resource)
+		).filter(
+			actionSemantics -> _hasPermission(
+				actionSemantics, resource, httpServletRequest)
 		).map(
 			actionSemantics -> actionSemantics.withResource(resource)
-		).filter(
-			actionSemantics -> Try.of(
-				() -> {
-					List<Object> params = actionSemantics.getPermissionParams(
-						clazz -> _provide(
-							actionSemantics, httpServletRequest, clazz));
-
-					return actionSemantics.checkPermissions(params);
-				}
-			).getOrElse(
-				false
-			)
 		);
 	}
 
@@ -297,6 +284,23 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	protected ProviderManager providerManager;
 
+	private Boolean _decide(
+			ActionSemantics actionSemantics, Resource resource,
+			HttpServletRequest httpServletRequest,
+			CheckedFunction0<Boolean> permissionCheckedFunction0)
+		throws Throwable {
+
+		if (httpServletRequest == null) {
+			return permissionCheckedFunction0.apply();
+		}
+
+		return _permissionDecisionCache.decide(
+			actionSemantics, resource,
+			() -> providerManager.provideMandatory(
+				httpServletRequest, Credentials.class),
+			permissionCheckedFunction0);
+	}
+
 	private Either<Action.Error, Action> _getAction(
 		Resource resource, Predicate<ActionSemantics> predicate) {
 
@@ -314,10 +318,15 @@ public class ActionManagerImpl implements ActionManager {
 
 		ActionSemantics actionSemantics = optionalActionSemantics.get();
 
-		ActionSemantics updatedActionSemantics = actionSemantics.withResource(
-			resource);
+		ActionSemantics updatedActionSemantics = _modelCache.withModelCache(
+			actionSemantics.withResource(resource));
 
-		return right(updatedActionSemantics.toAction(this::_provide));
+		return right(
+			updatedActionSemantics.toAction(
+				this::_provide,
+				(request, permissionCheckedFunction0) -> _decide(
+					updatedActionSemantics, resource, request,
+					permissionCheckedFunction0)));
 	}
 
 	private Either<Action.Error, Action> _getBinaryFileAction(
@@ -343,24 +352,6 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
-	private Body _getBody(HttpServletRequest request) {
-		MediaType mediaType = Try.of(
-			() -> MediaType.valueOf(request.getContentType())
-		).getOrElseThrow(
-			t -> new BadRequestException("Invalid Content-Type header", t)
-		);
-
-		if (APPLICATION_JSON_TYPE.isCompatible(mediaType)) {
-			return jsonToBody(request);
-		}
-
-		if (MULTIPART_FORM_DATA_TYPE.isCompatible(mediaType)) {
-			return multipartToBody(request);
-		}
-
-		throw new NotSupportedException();
-	}
-
 	private GenericParent _getGenericParent(
 		String name, String genericParentName, String genericParentStringId) {
 
@@ -393,21 +384,50 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
+	private boolean _hasPermission(
+		ActionSemantics actionSemantics, Resource resource,
+		HttpServletRequest httpServletRequest) {
+
+		return Try.of(
+			() -> _decide(
+				actionSemantics, resource, httpServletRequest,
+				() -> {
+					List<Object> params = actionSemantics.getPermissionParams(
+						clazz -> _provide(
+							actionSemantics, resource, httpServletRequest,
+							clazz));
+
+					return actionSemantics.checkPermissions(params);
+				})
+		).getOrElse(
+			false
+		);
+	}
+
 	private Object _provide(
 		ActionSemantics actionSemantics, HttpServletRequest request,
 		Class<?> clazz) {
 
+		return _provide(
+			actionSemantics, actionSemantics.getResource(), request, clazz);
+	}
+
+	private Object _provide(
+		ActionSemantics actionSemantics, Resource resource,
+		HttpServletRequest request, Class<?> clazz) {
+
 		if (Void.class.equals(clazz)) {
 			return null;
 		}
 
 		if (Body.class.equals(clazz)) {
-			return actionSemantics.getBodyValue(_getBody(request));
+			return actionSemantics.getBodyValue(
+				_bodyConverterManager.getBody(request));
 		}
 
 		if (Id.class.equals(clazz)) {
 			return Optional.of(
-				actionSemantics.getResource()
+				resource
 			).filter(
 				instanceOf(Item.class)
 			).map(
@@ -421,7 +441,7 @@ public class ActionManagerImpl implements ActionManager {
 
 		if (ParentId.class.equals(clazz)) {
 			return Optional.of(
-				actionSemantics.getResource()
+				resource
 			).filter(
 				instanceOf(Nested.class)
 			).map(
@@ -437,7 +457,7 @@ public class ActionManagerImpl implements ActionManager {
 
 		if (GenericParentId.class.equals(clazz)) {
 			return Optional.of(
-				actionSemantics.getResource()
+				resource
 			).filter(
 				instanceOf(GenericParent.class)
 			).map(
@@ -458,6 +478,9 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	private ActionRouterManager _actionRouterManager;
 
+	@Reference
+	private BodyConverterManager _bodyConverterManager;
+
 	@Reference
 	private CollectionRouterManager _collectionRouterManager;
 
@@ -467,9 +490,15 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
+	@Reference
+	private ModelCache _modelCache;
+
 	@Reference
 	private NestedCollectionRouterManager _nestedCollectionRouterManager;
 
+	@Reference
+	private PermissionDecisionCacheImpl _permissionDecisionCache;
+
 	@Reference
 	private RepresentableManager _representableManager;
 
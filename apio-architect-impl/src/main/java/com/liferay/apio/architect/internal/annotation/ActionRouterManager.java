@@ -24,6 +24,7 @@ import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUt
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.isListBody;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.needsParameterFromBody;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInMethodOrInItsAnnotations;
+import static com.liferay.apio.architect.internal.annotation.util.MetadataUtil.getActionRouterMetadataOptional;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.annotate;
@@ -40,6 +41,7 @@ import static org.osgi.service.component.annotations.ReferencePolicyOption.GREED
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.annotation.Actions.Action;
+import com.liferay.apio.architect.annotation.Permissions.CachedDecisions;
 import com.liferay.apio.architect.annotation.Vocabulary;
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.form.Form;
@@ -48,6 +50,7 @@ import com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.metadata.ActionRouterMetadata;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.router.ActionRouter;
@@ -55,6 +58,7 @@ import com.liferay.apio.architect.router.ActionRouter;
 import io.vavr.CheckedFunction1;
 import io.vavr.control.Option;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -109,6 +113,9 @@ public class ActionRouterManager {
 		for (ActionRouter<?> actionRouter : _actionRouters) {
 			Class<? extends ActionRouter> clazz = actionRouter.getClass();
 
+			Optional<ActionRouterMetadata> actionRouterMetadataOptional =
+				getActionRouterMetadataOptional(clazz);
+
 			Class<?>[] interfaceClasses = clazz.getInterfaces();
 
 			if (!interfaceClasses[0].equals(ActionRouter.class)) {
@@ -118,7 +125,7 @@ public class ActionRouterManager {
 			}
 
 			Option<String> optionName = Option.of(
-				getTypeParameter(clazz, _actionRouterTypeParameter)
+				_getResourceType(clazz, actionRouterMetadataOptional)
 			).map(
 				type -> annotate(type)
 			).flatMap(
@@ -137,8 +144,8 @@ public class ActionRouterManager {
 
 			String name = optionName.get();
 
-			Stream.of(
-				clazz.getMethods()
+			_getActionMethodsStream(
+				clazz, actionRouterMetadataOptional
 			).map(
 				method -> _getActionSemanticsOption(actionRouter, method, name)
 			).filter(
@@ -151,6 +158,21 @@ public class ActionRouterManager {
 		}
 	}
 
+	private Stream<Method> _getActionMethodsStream(
+		Class<?> clazz,
+		Optional<ActionRouterMetadata> actionRouterMetadataOptional) {
+
+		return actionRouterMetadataOptional.map(
+			actionRouterMetadata -> {
+				List<Method> methods = actionRouterMetadata.getActionMethods();
+
+				return methods.stream();
+			}
+		).orElseGet(
+			() -> Stream.of(clazz.getMethods())
+		);
+	}
+
 	private Option<ActionSemantics> _getActionSemanticsOption(
 		ActionRouter actionRouter, Method method, String name) {
 
@@ -208,12 +230,38 @@ public class ActionRouterManager {
 		).receivesParams(
 			getParamClasses(method)
 		).annotatedWith(
-			method.getDeclaredAnnotations()
+			_getAnnotations(method, permissionMethodOptional)
 		).build();
 
 		return some(actionSemantics);
 	}
 
+	private Annotation[] _getAnnotations(
+		Method method, Optional<Method> permissionMethodOptional) {
+
+		Annotation[] annotations = method.getDeclaredAnnotations();
+
+		if (method.isAnnotationPresent(CachedDecisions.class)) {
+			return annotations;
+		}
+
+		return permissionMethodOptional.map(
+			permissionMethod -> permissionMethod.getAnnotation(
+				CachedDecisions.class)
+		).map(
+			cachedDecisions -> {
+				Annotation[] newAnnotations = Arrays.copyOf(
+					annotations, annotations.length + 1);
+
+				newAnnotations[annotations.length] = cachedDecisions;
+
+				return newAnnotations;
+			}
+		).orElse(
+			annotations
+		);
+	}
+
 	private CheckedFunction1<List<?>, Boolean> _getPermissionCheckedFunction1(
 		Method permissionMethod, ActionRouter actionRouter) {
 
@@ -221,6 +269,17 @@ public class ActionRouterManager {
 			actionRouter, arguments.toArray(new Object[0]));
 	}
 
+	private Type _getResourceType(
+		Class<?> clazz,
+		Optional<ActionRouterMetadata> actionRouterMetadataOptional) {
+
+		return actionRouterMetadataOptional.<Type>map(
+			ActionRouterMetadata::getResourceClass
+		).orElseGet(
+			() -> getTypeParameter(clazz, _actionRouterTypeParameter)
+		);
+	}
+
 	private static final TypeVariable<Class<ActionRouter>>
 		_actionRouterTypeParameter = ActionRouter.class.getTypeParameters()[0];
 	private static final List<String> _mandatoryClassNames = Arrays.asList(
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.annotation.representor;
 import static com.liferay.apio.architect.annotation.FieldMode.READ_WRITE;
 import static com.liferay.apio.architect.annotation.FieldMode.WRITE_ONLY;
 import static com.liferay.apio.architect.annotation.Vocabulary.LinkTo.ResourceType.SINGLE;
+import static com.liferay.apio.architect.internal.annotation.util.MetadataUtil.getAccessorOptional;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.alias.BinaryFunction;
@@ -31,7 +32,11 @@ import com.liferay.apio.architect.internal.annotation.representor.processor.Pars
 import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 
 import java.util.Date;
 import java.util.List;
@@ -41,6 +46,8 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -172,6 +179,18 @@ public class RepresentorTransformerUtil {
 	}
 
 	public static <T, S> Function<T, S> getMethodFunction(Method method) {
+		Optional<Function<T, ?>> optional = getAccessorOptional(method);
+
+		if (optional.isPresent()) {
+			Function<T, ?> function = optional.get();
+
+			return t -> Try.fromFallible(
+				() -> (S)_unwrapOptionalIfNeeded(function.apply(t))
+			).orElse(
+				null
+			);
+		}
+
 		return t -> Try.fromFallible(
 			() -> (S)_unwrapOptionalIfNeeded(method.invoke(t))
 		).orElse(
@@ -204,6 +223,24 @@ public class RepresentorTransformerUtil {
 		else if (Number.class.isAssignableFrom(returnTypeClass)) {
 			firstStep.addNumber(key, getMethodFunction(method));
 		}
+		else if ((returnTypeClass == long.class) ||
+				 (returnTypeClass == int.class) ||
+				 (returnTypeClass == short.class) ||
+				 (returnTypeClass == byte.class)) {
+
+			firstStep.addLong(key, _getLongFunction(method));
+		}
+		else if ((returnTypeClass == double.class) ||
+				 (returnTypeClass == float.class)) {
+
+			firstStep.addDouble(key, _getDoubleFunction(method));
+		}
+		else if (returnTypeClass == long[].class) {
+			firstStep.addLongList(key, getMethodFunction(method));
+		}
+		else if (returnTypeClass == double[].class) {
+			firstStep.addDoubleList(key, getMethodFunction(method));
+		}
 	}
 
 	private static void _addListFields(
@@ -248,6 +285,55 @@ public class RepresentorTransformerUtil {
 		}
 	}
 
+	private static <T> ToDoubleFunction<T> _getDoubleFunction(Method method) {
+		MethodHandle methodHandle = _getMethodHandle(method, double.class);
+
+		return t -> {
+			try {
+				return (double)methodHandle.invokeExact((Object)t);
+			}
+			catch (Throwable throwable) {
+				throw new UndeclaredThrowableException(throwable);
+			}
+		};
+	}
+
+	private static <T> ToLongFunction<T> _getLongFunction(Method method) {
+		MethodHandle methodHandle = _getMethodHandle(method, long.class);
+
+		return t -> {
+			try {
+				return (long)methodHandle.invokeExact((Object)t);
+			}
+			catch (Throwable throwable) {
+				throw new UndeclaredThrowableException(throwable);
+			}
+		};
+	}
+
+	private static MethodHandle _getMethodHandle(
+		Method method, Class<?> returnType) {
+
+		MethodType methodType = MethodType.methodType(returnType, Object.class);
+
+		try {
+			MethodHandle methodHandle = _lookup.unreflect(method);
+
+			return methodHandle.asType(methodType);
+		}
+		catch (IllegalAccessException iae) {
+
+			// Fail on every invocation, so the field is skipped when it's
+			// written, like the fields whose reflective invocation fails
+
+			MethodHandle methodHandle = MethodHandles.throwException(
+				returnType, IllegalAccessException.class);
+
+			return MethodHandles.dropArguments(
+				methodHandle.bindTo(iae), 0, Object.class);
+		}
+	}
+
 	private static <T> T _unwrapOptionalIfNeeded(Object object) {
 		if (object.getClass() == Optional.class) {
 			Optional<T> optional = (Optional<T>)object;
@@ -270,4 +356,7 @@ public class RepresentorTransformerUtil {
 		return false;
 	};
 
+	private static final MethodHandles.Lookup _lookup =
+		MethodHandles.publicLookup();
+
 }
\ No newline at end of file
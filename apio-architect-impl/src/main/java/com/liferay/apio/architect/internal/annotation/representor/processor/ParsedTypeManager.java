@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.annotation.representor.processor;
 
+import static com.liferay.apio.architect.internal.annotation.util.MetadataUtil.getActionRouterMetadataOptional;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.annotate;
@@ -25,6 +26,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.annotation.Vocabulary.Type;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.metadata.ActionRouterMetadata;
 import com.liferay.apio.architect.router.ActionRouter;
 
 import io.leangen.geantyref.GenericTypeReflector;
@@ -85,9 +87,19 @@ public class ParsedTypeManager {
 	}
 
 	private void _compute(ActionRouter actionRouter) {
-		AnnotatedType annotatedType = GenericTypeReflector.getTypeParameter(
-			annotate(actionRouter.getClass()),
-			ActionRouter.class.getTypeParameters()[0]);
+		Class<?> actionRouterClass = actionRouter.getClass();
+
+		AnnotatedType annotatedType = getActionRouterMetadataOptional(
+			actionRouterClass
+		).map(
+			ActionRouterMetadata::getResourceClass
+		).map(
+			resourceClass -> annotate(resourceClass)
+		).orElseGet(
+			() -> GenericTypeReflector.getTypeParameter(
+				annotate(actionRouterClass),
+				ActionRouter.class.getTypeParameters()[0])
+		);
 
 		if (annotatedType == null) {
 			_logger.warn(
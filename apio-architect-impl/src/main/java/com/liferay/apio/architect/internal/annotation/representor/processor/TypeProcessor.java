@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.annotation.representor.processor;
 
+import static com.liferay.apio.architect.internal.annotation.util.MetadataUtil.getTypeMetadataOptional;
+
 import static org.apache.commons.lang3.reflect.MethodUtils.getMethodsListWithAnnotation;
 
 import com.liferay.apio.architect.annotation.Id;
@@ -25,6 +27,7 @@ import com.liferay.apio.architect.annotation.Vocabulary.Type;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType.Builder;
+import com.liferay.apio.architect.metadata.TypeMetadata;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -162,13 +165,20 @@ public class TypeProcessor {
 
 		Builder builder = new Builder(type, typeClass);
 
+		Optional<? extends TypeMetadata<?>> typeMetadataOptional =
+			getTypeMetadataOptional(typeClass);
+
 		if (!nested) {
-			Method idMethod = Try.fromFallible(
-				() -> getMethodsListWithAnnotation(typeClass, Id.class)
-			).filter(
-				methods -> !methods.isEmpty()
-			).map(
-				methods -> methods.get(0)
+			Method idMethod = typeMetadataOptional.map(
+				TypeMetadata::getIdMethodOptional
+			).orElseGet(
+				() -> Try.fromFallible(
+					() -> getMethodsListWithAnnotation(typeClass, Id.class)
+				).filter(
+					methods -> !methods.isEmpty()
+				).map(
+					methods -> methods.get(0)
+				).toOptional()
 			).orElse(
 				null
 			);
@@ -176,8 +186,11 @@ public class TypeProcessor {
 			builder.idMethod(idMethod);
 		}
 
-		List<Method> methods = getMethodsListWithAnnotation(
-			typeClass, Field.class);
+		List<Method> methods = typeMetadataOptional.<List<Method>>map(
+			TypeMetadata::getFieldMethods
+		).orElseGet(
+			() -> getMethodsListWithAnnotation(typeClass, Field.class)
+		);
 
 		methods.forEach(method -> _processMethod(builder, method));
 
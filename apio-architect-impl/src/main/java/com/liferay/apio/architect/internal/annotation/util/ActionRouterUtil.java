@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.annotation.util;
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInAnyParameter;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInMethodOrInItsAnnotations;
+import static com.liferay.apio.architect.internal.annotation.util.MetadataUtil.getActionRouterMetadataOptional;
 
 import static io.leangen.geantyref.GenericTypeReflector.getTypeParameter;
 
@@ -32,6 +33,7 @@ import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
 import com.liferay.apio.architect.internal.pagination.PaginationImpl;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.metadata.ActionRouterMetadata;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
@@ -179,8 +181,18 @@ public final class ActionRouterUtil {
 		Class actionRouterClass, Class<? extends Resource> resourceClass,
 		String actionName, String httpMethod) {
 
-		return Stream.of(
-			actionRouterClass.getMethods()
+		Optional<ActionRouterMetadata> optional =
+			getActionRouterMetadataOptional(actionRouterClass);
+
+		return optional.map(
+			actionRouterMetadata -> {
+				List<Method> methods =
+					actionRouterMetadata.getPermissionMethods();
+
+				return methods.stream();
+			}
+		).orElseGet(
+			() -> Stream.of(actionRouterClass.getMethods())
 		).filter(
 			method -> {
 				HasPermission hasPermission =
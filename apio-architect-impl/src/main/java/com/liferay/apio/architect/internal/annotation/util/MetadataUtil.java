@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.util;
+
+import com.liferay.apio.architect.metadata.ActionRouterMetadata;
+import com.liferay.apio.architect.metadata.TypeMetadata;
+
+import java.lang.reflect.Method;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Provides utility functions for loading the metadata classes generated at
+ * compile time for types and action routers.
+ *
+ * <p>
+ * The metadata classes of every class are looked up once, with the class's
+ * own class loader, and cached. Their names are computed with the same rules
+ * as the annotation processor, which are described in {@link TypeMetadata}.
+ * If the class doesn't have a metadata class (because it wasn't compiled with
+ * the annotation processor, for example), the functions return {@code
+ * Optional#empty()} and callers should fall back to reflection.
+ * </p>
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class MetadataUtil {
+
+	/**
+	 * Returns the function that calls a type's field method directly, if the
+	 * type's metadata provides one.
+	 *
+	 * @param  method the field method
+	 * @return the function that calls the method, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Optional<Function<T, ?>> getAccessorOptional(
+		Method method) {
+
+		Optional<TypeMetadata<T>> optional = getTypeMetadataOptional(
+			(Class<T>)method.getDeclaringClass());
+
+		return optional.flatMap(
+			typeMetadata -> typeMetadata.getAccessorOptional(method));
+	}
+
+	/**
+	 * Returns the metadata generated for an action router class, if present.
+	 *
+	 * @param  clazz the action router class
+	 * @return the router's metadata, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public static Optional<ActionRouterMetadata>
+		getActionRouterMetadataOptional(Class<?> clazz) {
+
+		Object metadata = _actionRouterMetadataClassValue.get(clazz);
+
+		if (metadata instanceof ActionRouterMetadata) {
+			return Optional.of((ActionRouterMetadata)metadata);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the metadata generated for a type class, if present.
+	 *
+	 * @param  clazz the type class
+	 * @return the type's metadata, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Optional<TypeMetadata<T>> getTypeMetadataOptional(
+		Class<T> clazz) {
+
+		Object metadata = _typeMetadataClassValue.get(clazz);
+
+		if (metadata instanceof TypeMetadata) {
+			return Optional.of((TypeMetadata<T>)metadata);
+		}
+
+		return Optional.empty();
+	}
+
+	private static String _getMetadataClassName(
+		Class<?> clazz, String suffix) {
+
+		String className = clazz.getName();
+
+		StringBuilder sb = new StringBuilder();
+
+		for (char c : className.toCharArray()) {
+			if (c == '$') {
+				sb.append("__");
+			}
+			else if (c == '_') {
+				sb.append("_U");
+			}
+			else {
+				sb.append(c);
+			}
+		}
+
+		sb.append(suffix);
+
+		return sb.toString();
+	}
+
+	private static Object _loadMetadata(Class<?> clazz, String suffix) {
+		ClassLoader classLoader = clazz.getClassLoader();
+
+		if (classLoader == null) {
+			return _NO_METADATA;
+		}
+
+		String metadataClassName = _getMetadataClassName(clazz, suffix);
+
+		try {
+			Class<?> metadataClass = Class.forName(
+				metadataClassName, true, classLoader);
+
+			return metadataClass.newInstance();
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return _NO_METADATA;
+		}
+		catch (ReflectiveOperationException roe) {
+			throw new IllegalStateException(
+				"Unable to instantiate " + metadataClassName, roe);
+		}
+	}
+
+	private MetadataUtil() {
+	}
+
+	private static final String _ACTION_ROUTER_METADATA_CLASS_NAME_SUFFIX =
+		"_ApioActionRouterMetadata";
+
+	private static final Object _NO_METADATA = new Object();
+
+	private static final String _TYPE_METADATA_CLASS_NAME_SUFFIX =
+		"_ApioTypeMetadata";
+
+	private static final ClassValue<Object> _actionRouterMetadataClassValue =
+		new ClassValue<Object>() {
+
+			@Override
+			protected Object computeValue(Class<?> clazz) {
+				return _loadMetadata(
+					clazz, _ACTION_ROUTER_METADATA_CLASS_NAME_SUFFIX);
+			}
+
+		};
+
+	private static final ClassValue<Object> _typeMetadataClassValue =
+		new ClassValue<Object>() {
+
+			@Override
+			protected Object computeValue(Class<?> clazz) {
+				return _loadMetadata(
+					clazz, _TYPE_METADATA_CLASS_NAME_SUFFIX);
+			}
+
+		};
+
+}
\ No newline at end of file
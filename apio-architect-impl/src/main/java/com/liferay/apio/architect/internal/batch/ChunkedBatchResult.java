@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.batch;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.util.Collections.emptyList;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Represents the result of a batch operation whose items are created in
+ * chunks, while the result is being written.
+ *
+ * <p>
+ * The items are read from the members of the request body, and each one is
+ * only extracted with the form when its chunk is created. Every chunk is
+ * created with a single call to the batch function, which can commit each
+ * chunk separately. {@link #forEachChunk(int, Consumer)} passes the result of
+ * every item to the consumer as soon as its chunk has been created, and {@link
+ * #getIdentifiers()} creates every item in a single chunk, like any other
+ * {@link BatchResult}. {@link #toBatchResult()} does the same, but returns a
+ * regular {@code BatchResult} that no longer depends on the request body.
+ * </p>
+ *
+ * <p>
+ * The items can only be created once, with one of those methods, and the
+ * stream must be closed with {@link #close()} once the result has been
+ * written.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type of the model's identifier (e.g., {@code Long}, {@code
+ *         String}, etc.)
+ * @review
+ */
+public class ChunkedBatchResult<T>
+	extends BatchResult<T> implements AutoCloseable {
+
+	public <R> ChunkedBatchResult(
+		Body body, Form<R> form,
+		ThrowableFunction<List<R>, List<T>> batchFunction,
+		String resourceName) {
+
+		super(emptyList(), resourceName);
+
+		Optional<Stream<Body>> optional = body.getBodyMembersStreamOptional();
+
+		_stream = optional.orElseThrow(
+			() -> new BadRequestException("Body does not contain members"));
+
+		_batchFunction = unsafeCast(batchFunction);
+		_form = unsafeCast(form);
+	}
+
+	@Override
+	public void close() {
+		_stream.close();
+	}
+
+	/**
+	 * Creates the items in chunks of the provided size, and passes the results
+	 * of every chunk to the consumer, in the same order as the items. The
+	 * result of an item is its identifier, or the exception thrown while
+	 * extracting the item from the body or creating its chunk.
+	 *
+	 * @param  chunkSize the maximum number of items of each chunk
+	 * @param  consumer the consumer of the results of every chunk
+	 * @review
+	 */
+	public void forEachChunk(int chunkSize, Consumer<List<Try<T>>> consumer) {
+		Iterator<Body> iterator = _getIterator();
+
+		while (iterator.hasNext()) {
+			List<Try<Object>> itemTries = new ArrayList<>();
+
+			while (iterator.hasNext() && (itemTries.size() < chunkSize)) {
+				Body body = iterator.next();
+
+				itemTries.add(Try.of(() -> _form.get(body)));
+			}
+
+			consumer.accept(_createChunk(itemTries));
+		}
+	}
+
+	/**
+	 * Creates every item with a single call to the batch function, and
+	 * returns the list of identifiers. If an item can't be extracted from the
+	 * body, or the batch function fails, this method throws its exception.
+	 *
+	 * @return the list of identifiers
+	 * @review
+	 */
+	@Override
+	public List<T> getIdentifiers() {
+		if (_identifiers == null) {
+			Iterator<Body> iterator = _getIterator();
+
+			List<Object> items = new ArrayList<>();
+
+			iterator.forEachRemaining(body -> items.add(_form.get(body)));
+
+			_identifiers = Try.of(
+				() -> _batchFunction.apply(items)
+			).get();
+		}
+
+		return _identifiers;
+	}
+
+	/**
+	 * Creates every item with a single call to the batch function, closes the
+	 * stream, and returns a regular {@code BatchResult} with the list of
+	 * identifiers. If an item can't be extracted from the body, or the batch
+	 * function fails, this method throws its exception.
+	 *
+	 * @return the batch result with the list of identifiers
+	 * @review
+	 */
+	public BatchResult<T> toBatchResult() {
+		try {
+			return new BatchResult<>(getIdentifiers(), resourceName);
+		}
+		finally {
+			close();
+		}
+	}
+
+	private List<Try<T>> _createChunk(List<Try<Object>> itemTries) {
+		List<Object> items = new ArrayList<>();
+
+		for (Try<Object> itemTry : itemTries) {
+			itemTry.forEach(items::add);
+		}
+
+		Try<List<T>> identifiersTry = Try.success(emptyList());
+
+		if (!items.isEmpty()) {
+			identifiersTry = Try.of(
+				() -> _batchFunction.apply(items)
+			).filter(
+				identifiers -> identifiers.size() == items.size(),
+				() -> new IllegalStateException(
+					"The batch function must return an identifier for each " +
+						"item")
+			);
+		}
+
+		List<Try<T>> chunk = new ArrayList<>();
+
+		int index = 0;
+
+		for (Try<Object> itemTry : itemTries) {
+			if (itemTry.isFailure()) {
+				chunk.add(Try.failure(itemTry.getCause()));
+
+				continue;
+			}
+
+			int identifierIndex = index++;
+
+			chunk.add(
+				identifiersTry.map(
+					identifiers -> identifiers.get(identifierIndex)));
+		}
+
+		return chunk;
+	}
+
+	private Iterator<Body> _getIterator() {
+		if (_read) {
+			throw new IllegalStateException(
+				"The items of the batch result have already been created");
+		}
+
+		_read = true;
+
+		return _stream.iterator();
+	}
+
+	private final ThrowableFunction<List<Object>, List<T>> _batchFunction;
+	private final Form<Object> _form;
+	private List<T> _identifiers;
+	private boolean _read;
+	private final Stream<Body> _stream;
+
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import com.liferay.apio.architect.form.Body;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Reads the body of the requests with a media type into a {@link Body}.
+ *
+ * <p>
+ * Body converters are registered as OSGi services and selected by the media
+ * type of the request's {@code Content-Type} header.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public interface BodyConverter {
+
+	/**
+	 * Reads the request's body into a {@link Body} or fails with a {@link
+	 * BadRequestException} if the body isn't valid.
+	 *
+	 * @param  request the current request
+	 * @return the body
+	 * @review
+	 */
+	public Body convert(HttpServletRequest request);
+
+	/**
+	 * Returns the media type of the request bodies this converter reads.
+	 *
+	 * @return the media type
+	 * @review
+	 */
+	public String getMediaType();
+
+}
\ No newline at end of file
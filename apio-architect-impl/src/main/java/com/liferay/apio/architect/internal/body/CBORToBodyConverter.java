@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
+
+import com.liferay.apio.architect.form.Body;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Reads <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> objects as a
+ * {@link Body}, so clients can send binary payloads that are read faster than
+ * JSON text.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = BodyConverter.class)
+public class CBORToBodyConverter implements BodyConverter {
+
+	@Override
+	public Body convert(HttpServletRequest request) {
+		return jsonToBody(request, _OBJECT_MAPPER);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/cbor";
+	}
+
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper(
+		new CBORFactory());
+
+}
\ No newline at end of file
@@ -37,13 +37,16 @@ import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.BadRequestException;
 
+import org.osgi.service.component.annotations.Component;
+
 /**
  * Reads JSON objects as a {@link Body}.
  *
  * @author Alejandro Hernández
  * @review
  */
-public class JSONToBodyConverter {
+@Component(service = BodyConverter.class)
+public class JSONToBodyConverter implements BodyConverter {
 
 	/**
 	 * Reads a {@code "application/json"} HTTP request body into a {@link Body}
@@ -56,7 +59,7 @@ public class JSONToBodyConverter {
 		return Try.withResources(
 			() -> new InputStreamReader(request.getInputStream(), UTF_8)
 		).of(
-			new ObjectMapper()::readTree
+			_OBJECT_MAPPER::readTree
 		).filter(
 			node -> node.isObject() || node.isArray()
 		).map(
@@ -66,6 +69,43 @@ public class JSONToBodyConverter {
 		);
 	}
 
+	/**
+	 * Reads an HTTP request body encoded in the binary JSON format of the
+	 * provided object mapper, like CBOR or Smile, into a {@link Body}
+	 * instance. Fails with a {@link BadRequestException} if the input is not
+	 * valid.
+	 *
+	 * @param  request the current request
+	 * @param  objectMapper the object mapper of the binary format
+	 * @return the body
+	 * @review
+	 */
+	public static Body jsonToBody(
+		HttpServletRequest request, ObjectMapper objectMapper) {
+
+		return Try.withResources(
+			request::getInputStream
+		).of(
+			objectMapper::readTree
+		).filter(
+			node -> node.isObject() || node.isArray()
+		).map(
+			JSONBodyImpl::new
+		).getOrElseThrow(
+			() -> new BadRequestException("Body is not valid")
+		);
+	}
+
+	@Override
+	public Body convert(HttpServletRequest request) {
+		return jsonToBody(request);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/json";
+	}
+
 	/**
 	 * {@link Body} implementation for {@code "application/json"}.
 	 *
@@ -192,4 +232,6 @@ public class JSONToBodyConverter {
 
 	}
 
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper();
+
 }
\ No newline at end of file
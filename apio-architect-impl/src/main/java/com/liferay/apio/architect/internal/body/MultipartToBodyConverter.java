@@ -47,13 +47,16 @@ import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.apache.commons.fileupload.util.Streams;
 
+import org.osgi.service.component.annotations.Component;
+
 /**
  * Reads {@code "multipart/form-data"} as a {@link Body}.
  *
  * @author Alejandro Hernández
  * @review
  */
-public class MultipartToBodyConverter {
+@Component(service = BodyConverter.class)
+public class MultipartToBodyConverter implements BodyConverter {
 
 	/**
 	 * Reads a {@code "multipart/form"} HTTP request body into a {@link Body}
@@ -141,6 +144,16 @@ public class MultipartToBodyConverter {
 		}
 	}
 
+	@Override
+	public Body convert(HttpServletRequest request) {
+		return multipartToBody(request);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "multipart/form-data";
+	}
+
 	private static <T> Map<String, List<T>> _flattenMap(
 		Map<String, Map<Integer, T>> indexedValueLists) {
 
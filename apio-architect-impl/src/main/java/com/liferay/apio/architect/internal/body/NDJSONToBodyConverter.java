@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONBodyImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.vavr.control.Try;
+
+import java.io.IOException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Reads <a href="http://ndjson.org">newline delimited JSON</a> as a {@link
+ * Body} whose members are the JSON objects of each line.
+ *
+ * <p>
+ * The members are read from the request as the stream returned by {@link
+ * Body#getBodyMembersStreamOptional()} is consumed, so forms can read them one
+ * by one without parsing the whole body first. The request's body can only be
+ * read once: calling {@link Body#getBodyMembersOptional()} reads every member
+ * into a list that is reused afterwards.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = BodyConverter.class)
+public class NDJSONToBodyConverter implements BodyConverter {
+
+	@Override
+	public Body convert(HttpServletRequest request) {
+		MappingIterator<JsonNode> mappingIterator = Try.of(
+			() -> _OBJECT_READER.<JsonNode>readValues(request.getInputStream())
+		).getOrElseThrow(
+			t -> new BadRequestException("Body is not a valid NDJSON", t)
+		);
+
+		return new NDJSONBodyImpl(mappingIterator);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/x-ndjson";
+	}
+
+	private static final ObjectReader _OBJECT_READER =
+		new ObjectMapper().readerFor(JsonNode.class);
+
+	private static class NDJSONBodyImpl implements Body {
+
+		@Override
+		public Optional<List<Body>> getBodyMembersOptional() {
+			if (_bodies == null) {
+				try (Stream<Body> stream = _stream()) {
+					_bodies = stream.collect(Collectors.toList());
+				}
+			}
+
+			return Optional.of(_bodies);
+		}
+
+		@Override
+		public Optional<Stream<Body>> getBodyMembersStreamOptional() {
+			if (_bodies != null) {
+				return Optional.of(_bodies.stream());
+			}
+
+			return Optional.of(_stream());
+		}
+
+		@Override
+		public Optional<String> getValueOptional(String key) {
+			return Optional.empty();
+		}
+
+		private NDJSONBodyImpl(MappingIterator<JsonNode> mappingIterator) {
+			_mappingIterator = mappingIterator;
+		}
+
+		private Stream<Body> _stream() {
+			if (_read) {
+				throw new IllegalStateException(
+					"The body's members have already been read");
+			}
+
+			_read = true;
+
+			Iterator<Body> iterator = new Iterator<Body>() {
+
+				@Override
+				public boolean hasNext() {
+					try {
+						return _mappingIterator.hasNextValue();
+					}
+					catch (IOException ioe) {
+						throw new BadRequestException(
+							"Body is not a valid NDJSON", ioe);
+					}
+				}
+
+				@Override
+				public Body next() {
+					JsonNode jsonNode;
+
+					try {
+						jsonNode = _mappingIterator.nextValue();
+					}
+					catch (IOException ioe) {
+						throw new BadRequestException(
+							"Body is not a valid NDJSON", ioe);
+					}
+
+					if (!jsonNode.isObject()) {
+						throw new BadRequestException(
+							"Every line of the body must be a JSON object");
+					}
+
+					return new JSONBodyImpl(jsonNode);
+				}
+
+			};
+
+			Stream<Body> stream = StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(
+					iterator, Spliterator.NONNULL | Spliterator.ORDERED),
+				false);
+
+			return stream.onClose(
+				() -> Try.run(_mappingIterator::close));
+		}
+
+		private List<Body> _bodies;
+		private final MappingIterator<JsonNode> _mappingIterator;
+		private boolean _read;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Stores values that expire after a time to live, bounded by a maximum number
+ * of values and a maximum weight.
+ *
+ * <p>
+ * When a value is put in a full cache, the expired values are removed and, if
+ * it's still full, the cache is cleared. A value heavier than the maximum
+ * weight is never cached.
+ * </p>
+ *
+ * <p>
+ * Every invalidation increases the cache's version. The version must be read
+ * before the value is computed and passed to {@link #put(Object, Object, long,
+ * long)}, which only caches the value if the version hasn't changed, so a
+ * value computed before a concurrent invalidation is never cached after it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <K> the type of the keys
+ * @param  <V> the type of the values
+ * @review
+ */
+public class ExpiringCache<K, V> {
+
+	/**
+	 * Creates a cache whose values have no weight, so it's only bounded by
+	 * the maximum number of values.
+	 *
+	 * @review
+	 */
+	public ExpiringCache() {
+		this(value -> 0);
+	}
+
+	/**
+	 * Creates a cache whose weight is the sum of the weights of its values.
+	 *
+	 * @param  weightFunction the function that returns the weight of a value
+	 * @review
+	 */
+	public ExpiringCache(ToLongFunction<V> weightFunction) {
+		_weightFunction = weightFunction;
+	}
+
+	/**
+	 * Returns the cached value of the key, if present and not expired; {@code
+	 * null} otherwise.
+	 *
+	 * @param  key the key
+	 * @return the cached value, if present and not expired; {@code null}
+	 *         otherwise
+	 * @review
+	 */
+	public V get(K key) {
+		CachedValue<V> cachedValue = _cachedValues.get(key);
+
+		if ((cachedValue == null) ||
+			((cachedValue._expirationTime - System.nanoTime()) <= 0)) {
+
+			return null;
+		}
+
+		return cachedValue._value;
+	}
+
+	/**
+	 * Returns the cache's version, which increases with every invalidation.
+	 *
+	 * @return the cache's version
+	 * @review
+	 */
+	public long getVersion() {
+		return _version.get();
+	}
+
+	/**
+	 * Returns the sum of the weights of the cached values.
+	 *
+	 * @return the cache's weight
+	 * @review
+	 */
+	public long getWeight() {
+		return _weight.get();
+	}
+
+	/**
+	 * Removes every cached value.
+	 *
+	 * @review
+	 */
+	public void invalidate() {
+		invalidate(key -> true);
+	}
+
+	/**
+	 * Removes the cached value of the key.
+	 *
+	 * @param  key the key
+	 * @review
+	 */
+	public void invalidate(K key) {
+		_version.incrementAndGet();
+
+		CachedValue<V> cachedValue = _cachedValues.remove(key);
+
+		if (cachedValue != null) {
+			_weight.addAndGet(-cachedValue._weight);
+		}
+	}
+
+	/**
+	 * Removes the cached values whose key matches the predicate.
+	 *
+	 * @param  predicate the predicate of the keys to remove
+	 * @review
+	 */
+	public void invalidate(Predicate<K> predicate) {
+		_version.incrementAndGet();
+
+		_remove((key, cachedValue) -> predicate.test(key));
+	}
+
+	/**
+	 * Caches the value of the key, unless the cache has been invalidated since
+	 * the version was read, or the cache's limits don't allow it.
+	 *
+	 * @param  key the key
+	 * @param  value the value
+	 * @param  timeToLive the number of seconds the value is cached
+	 * @param  version the cache's version before the value was computed
+	 * @review
+	 */
+	public void put(K key, V value, long timeToLive, long version) {
+		if ((_maxSize <= 0) || (timeToLive <= 0)) {
+			return;
+		}
+
+		long now = System.nanoTime();
+
+		CachedValue<V> cachedValue = new CachedValue<>(
+			value, now + TimeUnit.SECONDS.toNanos(timeToLive),
+			_weightFunction.applyAsLong(value));
+
+		if (cachedValue._weight > _maxWeight) {
+			return;
+		}
+
+		if (_isFull(cachedValue._weight)) {
+			_purge(now, cachedValue._weight);
+		}
+
+		_cachedValues.compute(
+			key,
+			(__, previousCachedValue) -> {
+				if (_version.get() != version) {
+					return previousCachedValue;
+				}
+
+				long weight = cachedValue._weight;
+
+				if (previousCachedValue != null) {
+					weight -= previousCachedValue._weight;
+				}
+
+				_weight.addAndGet(weight);
+
+				return cachedValue;
+			});
+	}
+
+	/**
+	 * Sets the maximum number of cached values. If it's not positive, no value
+	 * is cached.
+	 *
+	 * @param  maxSize the maximum number of cached values
+	 * @review
+	 */
+	public void setMaxSize(int maxSize) {
+		_maxSize = maxSize;
+	}
+
+	/**
+	 * Sets the maximum sum of the weights of the cached values.
+	 *
+	 * @param  maxWeight the maximum weight
+	 * @review
+	 */
+	public void setMaxWeight(long maxWeight) {
+		_maxWeight = maxWeight;
+	}
+
+	/**
+	 * Returns the number of cached values, including the expired ones that
+	 * haven't been removed yet.
+	 *
+	 * @return the number of cached values
+	 * @review
+	 */
+	public int size() {
+		return _cachedValues.size();
+	}
+
+	private boolean _isFull(long weight) {
+		if ((_cachedValues.size() >= _maxSize) ||
+			((_weight.get() + weight) > _maxWeight)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private void _purge(long now, long weight) {
+		_remove(
+			(key, cachedValue) -> (cachedValue._expirationTime - now) <= 0);
+
+		if (_isFull(weight)) {
+			_remove((key, cachedValue) -> true);
+		}
+	}
+
+	private void _remove(BiPredicate<K, CachedValue<V>> biPredicate) {
+		for (Map.Entry<K, CachedValue<V>> entry : _cachedValues.entrySet()) {
+			K key = entry.getKey();
+			CachedValue<V> cachedValue = entry.getValue();
+
+			if (biPredicate.test(key, cachedValue) &&
+				_cachedValues.remove(key, cachedValue)) {
+
+				_weight.addAndGet(-cachedValue._weight);
+			}
+		}
+	}
+
+	private final Map<K, CachedValue<V>> _cachedValues =
+		new ConcurrentHashMap<>();
+	private volatile int _maxSize = 10000;
+	private volatile long _maxWeight = Long.MAX_VALUE;
+	private final AtomicLong _version = new AtomicLong();
+	private final AtomicLong _weight = new AtomicLong();
+	private final ToLongFunction<V> _weightFunction;
+
+	private static class CachedValue<V> {
+
+		private CachedValue(V value, long expirationTime, long weight) {
+			_value = value;
+			_expirationTime = expirationTime;
+			_weight = weight;
+		}
+
+		private final long _expirationTime;
+		private final V _value;
+		private final long _weight;
+
+	}
+
+}
\ No newline at end of file
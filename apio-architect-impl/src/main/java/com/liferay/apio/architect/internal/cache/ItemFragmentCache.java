@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import com.liferay.apio.architect.internal.alias.RepresentorFunction;
+import com.liferay.apio.architect.internal.message.json.JSONFragment;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.control.QueryControls;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Caches the serialized JSON objects of the items written in pages, so an item
+ * that hasn't changed is spliced into the next page that contains it instead
+ * of being written again.
+ *
+ * <p>
+ * Only the items whose representor has a version function are cached. Every
+ * item is keyed by its resource's name, identifier, and version, and by the
+ * media type, application URL, selected fields, and {@code Accept-Language}
+ * header of the request, so a fragment is only reused in responses that would
+ * write the same JSON object. Items of requests that embed related resources
+ * aren't cached, since the version of the embedded resources isn't known.
+ * </p>
+ *
+ * <p>
+ * Fragments are stored in an {@link ExpiringCache}. The {@code max.size}
+ * property bounds the number of cached items, the {@code max.weight} property
+ * bounds the approximate number of characters of the cached fragments, and the
+ * {@code max.time.to.live} property, in seconds, bounds how long a fragment is
+ * cached. The number of hits and misses is kept since the component was
+ * activated, so it can be read by monitoring tools.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"enabled:Boolean=true", "max.size:Integer=10000",
+		"max.time.to.live:Long=3600", "max.weight:Long=33554432"
+	},
+	service = ItemFragmentCache.class
+)
+public class ItemFragmentCache {
+
+	/**
+	 * Returns the JSON object of an item, reusing its cached fragment if the
+	 * item can be cached and hasn't changed. Otherwise, the JSON object is
+	 * written with the provided supplier and cached, if possible.
+	 *
+	 * @param  singleModel the item's single model
+	 * @param  representorFunction the function that gets the representor of
+	 *         the item's resource
+	 * @param  mediaType the media type of the response
+	 * @param  requestInfo the request's information
+	 * @param  supplier the supplier that writes the item's JSON object
+	 * @return the item's JSON object, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public <T> Optional<JSONObjectBuilder> get(
+		SingleModel<T> singleModel, RepresentorFunction representorFunction,
+		String mediaType, RequestInfo requestInfo,
+		Supplier<Optional<JSONObjectBuilder>> supplier) {
+
+		if (!_enabled || (_maxSize <= 0) || (_maxTimeToLive <= 0) ||
+			(_maxWeight <= 0)) {
+
+			return supplier.get();
+		}
+
+		Optional<List<Object>> keyOptional = _getKeyOptional(
+			singleModel, representorFunction, mediaType, requestInfo);
+
+		if (!keyOptional.isPresent()) {
+			return supplier.get();
+		}
+
+		List<Object> key = keyOptional.get();
+
+		JSONFragment cachedJSONFragment = _jsonFragments.get(key);
+
+		if (cachedJSONFragment != null) {
+			_hitCount.increment();
+
+			JSONObjectBuilder jsonObjectBuilder = JSONObjectBuilder.of(
+				cachedJSONFragment);
+
+			return Optional.of(jsonObjectBuilder);
+		}
+
+		_missCount.increment();
+
+		long version = _jsonFragments.getVersion();
+
+		Optional<JSONObjectBuilder> optional = supplier.get();
+
+		if (!optional.isPresent()) {
+			return optional;
+		}
+
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
+
+		JSONFragment jsonFragment = jsonObjectBuilder.toJSONFragment();
+
+		_jsonFragments.put(key, jsonFragment, _maxTimeToLive, version);
+
+		return Optional.of(JSONObjectBuilder.of(jsonFragment));
+	}
+
+	/**
+	 * Returns the number of items whose cached fragment was reused.
+	 *
+	 * @return the number of hits
+	 * @review
+	 */
+	public long getHitCount() {
+		return _hitCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of cacheable items whose cached fragment was reused,
+	 * from {@code 0} to {@code 1}.
+	 *
+	 * @return the ratio of hits
+	 * @review
+	 */
+	public double getHitRatio() {
+		long hitCount = getHitCount();
+
+		long count = hitCount + getMissCount();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return (double)hitCount / count;
+	}
+
+	/**
+	 * Returns the number of cacheable items that had to be written because
+	 * their fragment wasn't cached, had expired, or was outdated.
+	 *
+	 * @return the number of misses
+	 * @review
+	 */
+	public long getMissCount() {
+		return _missCount.sum();
+	}
+
+	/**
+	 * Returns the approximate number of characters of the cached fragments.
+	 *
+	 * @return the approximate weight of the cache
+	 * @review
+	 */
+	public long getWeight() {
+		return _jsonFragments.getWeight();
+	}
+
+	/**
+	 * Removes every cached fragment.
+	 *
+	 * @review
+	 */
+	public void invalidate() {
+		_jsonFragments.invalidate();
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", true);
+		_maxSize = getInt(properties, "max.size", 10000);
+		_maxTimeToLive = getLong(properties, "max.time.to.live", 3600);
+		_maxWeight = getLong(properties, "max.weight", 33554432);
+
+		_jsonFragments.setMaxSize(_maxSize);
+		_jsonFragments.setMaxWeight(_maxWeight);
+
+		invalidate();
+
+		_hitCount.reset();
+		_missCount.reset();
+	}
+
+	private static <T> Optional<List<Object>> _getKeyOptional(
+		SingleModel<T> singleModel, RepresentorFunction representorFunction,
+		String mediaType, RequestInfo requestInfo) {
+
+		HttpServletRequest httpServletRequest =
+			requestInfo.getHttpServletRequest();
+
+		if (httpServletRequest == null) {
+			return Optional.empty();
+		}
+
+		QueryControls queryControls = QueryControls.of(httpServletRequest);
+
+		if (queryControls.hasEmbedded()) {
+			return Optional.empty();
+		}
+
+		String resourceName = singleModel.getResourceName();
+
+		Optional<Representor<?>> optional = representorFunction.apply(
+			resourceName);
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Representor<T> representor = unsafeCast(optional.get());
+
+		T model = singleModel.getModel();
+
+		ApplicationURL applicationURL = requestInfo.getApplicationURL();
+
+		return representor.getVersionOptional(
+			model
+		).map(
+			version -> Arrays.asList(
+				resourceName, representor.getIdentifier(model), version,
+				mediaType, applicationURL.get(), queryControls.getFieldsMap(),
+				httpServletRequest.getHeader("Accept-Language"))
+		);
+	}
+
+	private volatile boolean _enabled = true;
+	private final LongAdder _hitCount = new LongAdder();
+	private final ExpiringCache<List<Object>, JSONFragment> _jsonFragments =
+		new ExpiringCache<>(
+			jsonFragment -> {
+				String json = jsonFragment.toString();
+
+				return json.length();
+			});
+	private volatile int _maxSize = 10000;
+	private volatile long _maxTimeToLive = 3600;
+	private volatile long _maxWeight = 33554432;
+	private final LongAdder _missCount = new LongAdder();
+
+}
\ No newline at end of file
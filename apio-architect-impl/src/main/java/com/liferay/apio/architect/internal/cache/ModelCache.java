@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.internal.action.Predicates.isRemoveAction;
+import static com.liferay.apio.architect.internal.action.Predicates.isReplaceAction;
+import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAction;
+import static com.liferay.apio.architect.internal.action.Predicates.isUpdateAction;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import com.liferay.apio.architect.annotation.Actions.CachedModel;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import io.vavr.CheckedFunction0;
+
+import java.lang.annotation.Annotation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Caches the models returned by the retrieve actions annotated with {@link
+ * CachedModel} across requests.
+ *
+ * <p>
+ * Models are keyed by the resource's name and identifier, and they're evicted
+ * every time the update, replace, or remove action of the same element is
+ * executed. They're stored in an {@link ExpiringCache}, whose size is bounded
+ * by the {@code max.size} property. The {@code max.time.to.live} property, in
+ * seconds, caps the time to live of every retrieve action.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {"max.size:Integer=10000", "max.time.to.live:Long=300"},
+	service = ModelCache.class
+)
+public class ModelCache {
+
+	/**
+	 * Returns the cached model of the element, if present and not expired;
+	 * otherwise, retrieves the model and caches it.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  id the element's identifier
+	 * @param  timeToLive the number of seconds the model is cached
+	 * @param  modelCheckedFunction0 the function that retrieves the model
+	 * @return the element's model
+	 * @review
+	 */
+	public Object get(
+			String resourceName, Object id, long timeToLive,
+			CheckedFunction0<?> modelCheckedFunction0)
+		throws Throwable {
+
+		long finalTimeToLive = Math.min(timeToLive, _maxTimeToLive);
+
+		if ((_maxSize <= 0) || (finalTimeToLive <= 0)) {
+			return modelCheckedFunction0.apply();
+		}
+
+		ModelKey modelKey = new ModelKey(resourceName, id);
+
+		Object cachedModel = _models.get(modelKey);
+
+		if (cachedModel != null) {
+			return cachedModel;
+		}
+
+		long version = _models.getVersion();
+
+		Object model = modelCheckedFunction0.apply();
+
+		if (model == null) {
+			return null;
+		}
+
+		_models.put(modelKey, model, finalTimeToLive, version);
+
+		return model;
+	}
+
+	/**
+	 * Evicts every cached model.
+	 *
+	 * @review
+	 */
+	public void invalidate() {
+		_models.invalidate();
+	}
+
+	/**
+	 * Evicts the cached model of an element.
+	 *
+	 * @param  resourceName the resource's name
+	 * @param  id the element's identifier
+	 * @review
+	 */
+	public void invalidate(String resourceName, Object id) {
+		_models.invalidate(new ModelKey(resourceName, id));
+	}
+
+	/**
+	 * Returns the action semantics that caches or evicts the model of the
+	 * action's element, if the action is a retrieve action annotated with
+	 * {@link CachedModel}, or an update, replace, or remove action. Otherwise,
+	 * the provided action semantics is returned.
+	 *
+	 * @param  actionSemantics the action semantics, with its resource
+	 * @return the action semantics that uses the cache
+	 * @review
+	 */
+	public ActionSemantics withModelCache(ActionSemantics actionSemantics) {
+		Resource resource = actionSemantics.getResource();
+
+		if (!(resource instanceof Item)) {
+			return actionSemantics;
+		}
+
+		Item item = (Item)resource;
+
+		Optional<Id> optional = item.getIdOptional();
+
+		if (!optional.isPresent()) {
+			return actionSemantics;
+		}
+
+		String name = item.getName();
+
+		Id id = optional.get();
+
+		Object idObject = id.asObject();
+
+		if (isRetrieveAction.test(actionSemantics)) {
+			CachedModel cachedModel = _getCachedModel(actionSemantics);
+
+			if (cachedModel == null) {
+				return actionSemantics;
+			}
+
+			return actionSemantics.withExecuteFunction(
+				params -> get(
+					name, idObject, cachedModel.timeToLive(),
+					() -> actionSemantics.execute(params)));
+		}
+
+		if (isRemoveAction.test(actionSemantics) ||
+			isReplaceAction.test(actionSemantics) ||
+			isUpdateAction.test(actionSemantics)) {
+
+			return actionSemantics.withExecuteFunction(
+				params -> {
+					try {
+						return actionSemantics.execute(params);
+					}
+					finally {
+						invalidate(name, idObject);
+					}
+				});
+		}
+
+		return actionSemantics;
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_maxSize = getInt(properties, "max.size", 10000);
+		_maxTimeToLive = getLong(properties, "max.time.to.live", 300);
+
+		_models.setMaxSize(_maxSize);
+
+		invalidate();
+	}
+
+	private static CachedModel _getCachedModel(
+		ActionSemantics actionSemantics) {
+
+		for (Annotation annotation : actionSemantics.getAnnotations()) {
+			if (annotation instanceof CachedModel) {
+				return (CachedModel)annotation;
+			}
+		}
+
+		return null;
+	}
+
+	private volatile int _maxSize = 10000;
+	private volatile long _maxTimeToLive = 300;
+	private final ExpiringCache<ModelKey, Object> _models =
+		new ExpiringCache<>();
+
+	private static class ModelKey {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof ModelKey)) {
+				return false;
+			}
+
+			ModelKey modelKey = (ModelKey)object;
+
+			if (Objects.equals(_id, modelKey._id) &&
+				Objects.equals(_resourceName, modelKey._resourceName)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return _hashCode;
+		}
+
+		private ModelKey(String resourceName, Object id) {
+			_resourceName = resourceName;
+			_id = id;
+
+			_hashCode = Objects.hash(id, resourceName);
+		}
+
+		private final int _hashCode;
+		private final Object _id;
+		private final String _resourceName;
+
+	}
+
+}
\ No newline at end of file
@@ -14,18 +14,39 @@
 
 package com.liferay.apio.architect.internal.date;
 
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+
 import com.liferay.apio.architect.functional.Try;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
 
 import java.util.Date;
-import java.util.TimeZone;
+import java.util.Locale;
 
 /**
  * Provides functions for transforming dates to/from ISO-8061 date strings.
  *
  * <p>
+ * Dates are written in UTC with minute precision (e.g., {@code
+ * 2016-06-15T09:00Z}). Date strings can be read in any <a
+ * href="https://tools.ietf.org/html/rfc3339">RFC 3339</a> format, with
+ * optional seconds and fraction of a second, and either {@code Z} or a
+ * numeric offset.
+ * </p>
+ *
+ * <p>
+ * The formatters are created once and are thread-safe, so the functions of
+ * this class don't create any formatter when they're called.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -42,13 +63,13 @@ public class DateTransformer {
 	 *         object otherwise
 	 */
 	public static Try<Date> asDate(String string) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		return Try.fromFallible(
+			() -> {
+				OffsetDateTime offsetDateTime = OffsetDateTime.parse(
+					string, _PARSE_DATE_TIME_FORMATTER);
 
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
-
-		dateFormat.setTimeZone(timeZone);
-
-		return Try.fromFallible(() -> dateFormat.parse(string));
+				return Date.from(offsetDateTime.toInstant());
+			});
 	}
 
 	/**
@@ -58,17 +79,92 @@ public class DateTransformer {
 	 * @return the ISO-8061 date string
 	 */
 	public static String asString(Date date) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		return asString(date.getTime());
+	}
+
+	/**
+	 * Converts a number of milliseconds from the epoch to an ISO-8061 date
+	 * string.
+	 *
+	 * <p>
+	 * Dates with a four-digit year are written directly into a character
+	 * array; other dates fall back to a {@code DateTimeFormatter}.
+	 * </p>
+	 *
+	 * @param  epochMilli the milliseconds from 1970-01-01T00:00Z
+	 * @return the ISO-8061 date string
+	 * @review
+	 */
+	public static String asString(long epochMilli) {
+		long epochDay = Math.floorDiv(epochMilli, _MILLIS_PER_DAY);
+
+		LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+
+		int year = localDate.getYear();
+
+		if ((year < 0) || (year > 9999)) {
+			return _FORMAT_DATE_TIME_FORMATTER.format(
+				Instant.ofEpochMilli(epochMilli));
+		}
+
+		int minuteOfDay = (int)(
+			Math.floorMod(epochMilli, _MILLIS_PER_DAY) / _MILLIS_PER_MINUTE);
+
+		char[] chars = new char[17];
 
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
+		_writeDigits(chars, 0, year, 4);
+		chars[4] = '-';
+		_writeDigits(chars, 5, localDate.getMonthValue(), 2);
+		chars[7] = '-';
+		_writeDigits(chars, 8, localDate.getDayOfMonth(), 2);
+		chars[10] = 'T';
+		_writeDigits(chars, 11, minuteOfDay / 60, 2);
+		chars[13] = ':';
+		_writeDigits(chars, 14, minuteOfDay % 60, 2);
+		chars[16] = 'Z';
 
-		dateFormat.setTimeZone(timeZone);
+		return new String(chars);
+	}
+
+	private static void _writeDigits(
+		char[] chars, int offset, int value, int length) {
 
-		return dateFormat.format(date);
+		for (int i = offset + length - 1; i >= offset; i--) {
+			chars[i] = (char)('0' + (value % 10));
+
+			value /= 10;
+		}
 	}
 
 	private DateTransformer() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final DateTimeFormatter _FORMAT_DATE_TIME_FORMATTER =
+		DateTimeFormatter.ofPattern(
+			"yyyy-MM-dd'T'HH:mm'Z'", Locale.ROOT
+		).withZone(
+			ZoneOffset.UTC
+		);
+
+	private static final long _MILLIS_PER_DAY = 86400000L;
+
+	private static final long _MILLIS_PER_MINUTE = 60000L;
+
+	private static final DateTimeFormatter _PARSE_DATE_TIME_FORMATTER =
+		new DateTimeFormatterBuilder().parseCaseInsensitive(
+		).append(
+			ISO_LOCAL_DATE
+		).appendLiteral(
+			'T'
+		).append(
+			ISO_LOCAL_TIME
+		).appendOffset(
+			"+HH:MM", "Z"
+		).toFormatter(
+			Locale.ROOT
+		).withResolverStyle(
+			ResolverStyle.STRICT
+		);
+
 }
\ No newline at end of file
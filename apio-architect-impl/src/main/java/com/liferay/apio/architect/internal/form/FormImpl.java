@@ -117,18 +117,18 @@ public class FormImpl<T> implements Form<T> {
 
 	@Override
 	public List<T> getList(Body body) {
-		Optional<List<Body>> optional = body.getBodyMembersOptional();
+		Optional<Stream<Body>> optional = body.getBodyMembersStreamOptional();
 
-		List<Body> bodyMembers = optional.orElseThrow(
-			() -> new BadRequestException("Body does not contain members"));
+		try (Stream<Body> stream = optional.orElseThrow(
+				() -> new BadRequestException(
+					"Body does not contain members"))) {
 
-		Stream<Body> stream = bodyMembers.stream();
-
-		return stream.map(
-			this::get
-		).collect(
-			Collectors.toList()
-		);
+			return stream.map(
+				this::get
+			).collect(
+				Collectors.toList()
+			);
+		}
 	}
 
 	@Override
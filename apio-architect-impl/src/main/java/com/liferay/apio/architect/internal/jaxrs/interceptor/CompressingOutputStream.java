@@ -0,0 +1,310 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import com.liferay.apio.architect.internal.jaxrs.writer.base.ByteArrayPool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Compresses a response's entity with the {@code gzip} or {@code deflate}
+ * encoding, using a {@code Deflater} obtained from a {@link DeflaterPool}.
+ *
+ * <p>
+ * The first bytes of the entity are buffered until they reach the minimum
+ * size. Entities that are smaller than the minimum size, or whose media type
+ * has a compression level of zero, are written uncompressed, with their
+ * original headers. Otherwise, the {@code Content-Encoding} header is added
+ * and the {@code Content-Length} header is removed. Flushing the stream before
+ * the minimum size is reached doesn't write the buffered bytes.
+ * </p>
+ *
+ * <p>
+ * Closing the stream finishes the compressed data, flushes the response's
+ * output stream without closing it, and returns the deflater and buffers to
+ * their pools.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class CompressingOutputStream extends OutputStream {
+
+	/**
+	 * The {@code deflate} content coding.
+	 *
+	 * @review
+	 */
+	public static final String DEFLATE = "deflate";
+
+	/**
+	 * The {@code gzip} content coding.
+	 *
+	 * @review
+	 */
+	public static final String GZIP = "gzip";
+
+	/**
+	 * Creates a new stream that compresses the entity written to the provided
+	 * output stream.
+	 *
+	 * @param outputStream the response's output stream
+	 * @param httpHeaders the response's headers
+	 * @param encoding the content coding, {@link #GZIP} or {@link #DEFLATE}
+	 * @param minSize the minimum size of the compressed entities
+	 * @param levelFunction the function that returns the compression level
+	 *        of the entity's media type
+	 * @param deflaterPool the pool of deflaters
+	 * @review
+	 */
+	public CompressingOutputStream(
+		OutputStream outputStream, MultivaluedMap<String, Object> httpHeaders,
+		String encoding, int minSize, ToIntFunction<String> levelFunction,
+		DeflaterPool deflaterPool) {
+
+		_outputStream = outputStream;
+		_httpHeaders = httpHeaders;
+		_encoding = encoding;
+		_minSize = Math.min(Math.max(minSize, 1), ByteArrayPool.MAX_SIZE);
+		_levelFunction = levelFunction;
+		_deflaterPool = deflaterPool;
+
+		_gzip = GZIP.equals(encoding);
+		_bytes = ByteArrayPool.acquire(_minSize);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		try {
+			_finish();
+		}
+		finally {
+			_release();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (_bytes != null) {
+			return;
+		}
+
+		if (_deflater != null) {
+			_deflate(Deflater.SYNC_FLUSH);
+		}
+
+		_outputStream.flush();
+	}
+
+	/**
+	 * Returns {@code true} if the entity is being compressed.
+	 *
+	 * @return {@code true} if the entity is being compressed; {@code false}
+	 *         if it's being buffered or written uncompressed
+	 * @review
+	 */
+	public boolean isCompressing() {
+		if (_deflater != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (_bytes != null) {
+			if ((_count + length) < _minSize) {
+				System.arraycopy(bytes, offset, _bytes, _count, length);
+
+				_count += length;
+
+				return;
+			}
+
+			_start();
+		}
+
+		_write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		_singleByte[0] = (byte)b;
+
+		write(_singleByte, 0, 1);
+	}
+
+	private static void _writeInt(byte[] bytes, int offset, long value) {
+		bytes[offset] = (byte)value;
+		bytes[offset + 1] = (byte)(value >> 8);
+		bytes[offset + 2] = (byte)(value >> 16);
+		bytes[offset + 3] = (byte)(value >> 24);
+	}
+
+	private void _deflate(int flush) throws IOException {
+		int count;
+
+		do {
+			count = _deflater.deflate(_buffer, 0, _buffer.length, flush);
+
+			if (count > 0) {
+				_outputStream.write(_buffer, 0, count);
+			}
+		}
+		while (count == _buffer.length);
+	}
+
+	private void _finish() throws IOException {
+		if (_bytes != null) {
+			_outputStream.write(_bytes, 0, _count);
+		}
+		else if (_deflater != null) {
+			_deflater.finish();
+
+			while (!_deflater.finished()) {
+				int count = _deflater.deflate(_buffer, 0, _buffer.length);
+
+				_outputStream.write(_buffer, 0, count);
+			}
+
+			if (_gzip) {
+				byte[] trailer = new byte[8];
+
+				_writeInt(trailer, 0, _crc32.getValue());
+				_writeInt(trailer, 4, _deflater.getBytesRead());
+
+				_outputStream.write(trailer);
+			}
+		}
+
+		_outputStream.flush();
+	}
+
+	private void _release() {
+		if (_bytes != null) {
+			ByteArrayPool.release(_bytes);
+
+			_bytes = null;
+		}
+
+		if (_buffer != null) {
+			ByteArrayPool.release(_buffer);
+
+			_buffer = null;
+		}
+
+		if (_deflater != null) {
+			_deflaterPool.release(_deflater, _gzip);
+
+			_deflater = null;
+		}
+	}
+
+	private void _start() throws IOException {
+		byte[] bytes = _bytes;
+		int count = _count;
+
+		_bytes = null;
+
+		Object contentType = _httpHeaders.getFirst(CONTENT_TYPE);
+
+		int level = _levelFunction.applyAsInt(
+			(contentType == null) ? null : String.valueOf(contentType));
+
+		if (level > 0) {
+			_httpHeaders.remove(CONTENT_LENGTH);
+			_httpHeaders.putSingle(CONTENT_ENCODING, _encoding);
+
+			_buffer = ByteArrayPool.acquire(ByteArrayPool.MIN_SIZE);
+			_deflater = _deflaterPool.acquire(Math.min(level, 9), _gzip);
+
+			if (_gzip) {
+				_crc32 = new CRC32();
+
+				_outputStream.write(_GZIP_HEADER);
+			}
+		}
+
+		try {
+			_write(bytes, 0, count);
+		}
+		finally {
+			ByteArrayPool.release(bytes);
+		}
+	}
+
+	private void _write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (length == 0) {
+			return;
+		}
+
+		if (_deflater == null) {
+			_outputStream.write(bytes, offset, length);
+
+			return;
+		}
+
+		if (_gzip) {
+			_crc32.update(bytes, offset, length);
+		}
+
+		_deflater.setInput(bytes, offset, length);
+
+		while (!_deflater.needsInput()) {
+			_deflate(Deflater.NO_FLUSH);
+		}
+	}
+
+	private static final byte[] _GZIP_HEADER =
+		{0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+	private byte[] _buffer;
+	private byte[] _bytes;
+	private boolean _closed;
+	private int _count;
+	private CRC32 _crc32;
+	private Deflater _deflater;
+	private final DeflaterPool _deflaterPool;
+	private final String _encoding;
+	private final boolean _gzip;
+	private final MultivaluedMap<String, Object> _httpHeaders;
+	private final ToIntFunction<String> _levelFunction;
+	private final int _minSize;
+	private final OutputStream _outputStream;
+	private final byte[] _singleByte = new byte[1];
+
+}
\ No newline at end of file
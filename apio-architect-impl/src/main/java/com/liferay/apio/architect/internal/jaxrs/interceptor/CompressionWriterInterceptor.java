@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.CompressingOutputStream.DEFLATE;
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.CompressingOutputStream.GZIP;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Compresses the responses' entities with the {@code gzip} or {@code deflate}
+ * encoding, negotiated from the request's {@code Accept-Encoding} header.
+ *
+ * <p>
+ * Entities smaller than the {@code min.size} property, in bytes, and binary
+ * files, which are usually compressed already, are written uncompressed. The
+ * {@code compression.level} property sets the default compression level, and
+ * the {@code media.type.compression.levels} property overrides it for
+ * specific media types, with entries like {@code application/hal+json=9}. A
+ * level of zero disables the compression of a media type. The deflaters are
+ * reused from a pool whose size is set by the {@code deflater.pool.size}
+ * property.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"compression.level:Integer=6", "deflater.pool.size:Integer=32",
+		"min.size:Integer=1024",
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Interceptor.Compression"
+	},
+	service = WriterInterceptor.class
+)
+public class CompressionWriterInterceptor implements WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		Class<?> type = writerInterceptorContext.getType();
+
+		if (BinaryFile.class.isAssignableFrom(type) ||
+			headers.containsKey(CONTENT_ENCODING)) {
+
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		headers.add(VARY, ACCEPT_ENCODING);
+
+		String encoding = getEncoding(
+			_httpServletRequest.getHeader(ACCEPT_ENCODING));
+
+		if (encoding == null) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		OutputStream outputStream = writerInterceptorContext.getOutputStream();
+
+		try (CompressingOutputStream compressingOutputStream =
+				new CompressingOutputStream(
+					outputStream, headers, encoding, _minSize, this::_getLevel,
+					_deflaterPool)) {
+
+			writerInterceptorContext.setOutputStream(compressingOutputStream);
+
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			writerInterceptorContext.setOutputStream(outputStream);
+		}
+	}
+
+	/**
+	 * Returns the content coding preferred by the client, {@code gzip} or
+	 * {@code deflate}, according to the provided {@code Accept-Encoding}
+	 * header. If both have the same quality, {@code gzip} is preferred.
+	 *
+	 * @param  acceptEncoding the {@code Accept-Encoding} header
+	 * @return the content coding, if the client accepts one; {@code null}
+	 *         otherwise
+	 * @review
+	 */
+	protected static String getEncoding(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return null;
+		}
+
+		float deflateQuality = -1;
+		float gzipQuality = -1;
+		float wildcardQuality = -1;
+
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+
+			String coding = parts[0].trim();
+
+			float quality = _getQuality(parts);
+
+			if (coding.equalsIgnoreCase(GZIP) ||
+				coding.equalsIgnoreCase("x-gzip")) {
+
+				gzipQuality = quality;
+			}
+			else if (coding.equalsIgnoreCase(DEFLATE)) {
+				deflateQuality = quality;
+			}
+			else if (coding.equals("*")) {
+				wildcardQuality = quality;
+			}
+		}
+
+		if (gzipQuality < 0) {
+			gzipQuality = wildcardQuality;
+		}
+
+		if (deflateQuality < 0) {
+			deflateQuality = wildcardQuality;
+		}
+
+		if ((gzipQuality <= 0) && (deflateQuality <= 0)) {
+			return null;
+		}
+
+		if (gzipQuality >= deflateQuality) {
+			return GZIP;
+		}
+
+		return DEFLATE;
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		deactivate();
+
+		_compressionLevel = getInt(properties, "compression.level", 6);
+		_minSize = getInt(properties, "min.size", 1024);
+
+		Map<String, Integer> mediaTypeCompressionLevels = new HashMap<>();
+
+		Object levels = properties.get("media.type.compression.levels");
+
+		if (levels instanceof String) {
+			levels = new String[] {(String)levels};
+		}
+
+		if (levels instanceof String[]) {
+			for (String level : (String[])levels) {
+				int index = level.lastIndexOf('=');
+
+				if (index == -1) {
+					continue;
+				}
+
+				mediaTypeCompressionLevels.put(
+					_normalize(level.substring(0, index)),
+					Integer.parseInt(level.substring(index + 1).trim()));
+			}
+		}
+
+		_mediaTypeCompressionLevels = mediaTypeCompressionLevels;
+
+		_deflaterPool = new DeflaterPool(
+			getInt(properties, "deflater.pool.size", 32));
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_deflaterPool != null) {
+			_deflaterPool.close();
+
+			_deflaterPool = null;
+		}
+	}
+
+	private static float _getQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+
+			if (parameter.startsWith("q=")) {
+				try {
+					return Float.parseFloat(parameter.substring(2));
+				}
+				catch (NumberFormatException nfe) {
+					return 0;
+				}
+			}
+		}
+
+		return 1;
+	}
+
+	private static String _normalize(String mediaType) {
+		int index = mediaType.indexOf(';');
+
+		if (index != -1) {
+			mediaType = mediaType.substring(0, index);
+		}
+
+		mediaType = mediaType.trim();
+
+		return mediaType.toLowerCase(Locale.ENGLISH);
+	}
+
+	private int _getLevel(String mediaType) {
+		if (mediaType == null) {
+			return _compressionLevel;
+		}
+
+		return _mediaTypeCompressionLevels.getOrDefault(
+			_normalize(mediaType), _compressionLevel);
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	private volatile int _compressionLevel = 6;
+	private volatile DeflaterPool _deflaterPool;
+	private volatile Map<String, Integer> _mediaTypeCompressionLevels =
+		new HashMap<>();
+	private volatile int _minSize = 1024;
+
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Pools {@code Deflater} instances, so they aren't allocated, and their native
+ * memory isn't reserved, for every compressed response.
+ *
+ * <p>
+ * Deflaters producing raw deflate data, used by the {@code gzip} encoding, and
+ * deflaters producing ZLIB data, used by the {@code deflate} encoding, are kept
+ * in separate bounded queues. Deflaters released to a full queue, or to a
+ * closed pool, are ended.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class DeflaterPool {
+
+	public DeflaterPool(int maxSize) {
+		_nowrapDeflaters = new ArrayBlockingQueue<>(Math.max(1, maxSize));
+		_zlibDeflaters = new ArrayBlockingQueue<>(Math.max(1, maxSize));
+	}
+
+	/**
+	 * Returns a deflater with the provided compression level, reusing a pooled
+	 * one if possible.
+	 *
+	 * @param  level the compression level
+	 * @param  nowrap {@code true} if the deflater must produce raw deflate
+	 *         data; {@code false} if it must produce ZLIB data
+	 * @return the deflater
+	 * @review
+	 */
+	public Deflater acquire(int level, boolean nowrap) {
+		BlockingQueue<Deflater> deflaters = _getDeflaters(nowrap);
+
+		Deflater deflater = deflaters.poll();
+
+		if (deflater == null) {
+			return new Deflater(level, nowrap);
+		}
+
+		deflater.setLevel(level);
+
+		return deflater;
+	}
+
+	/**
+	 * Ends every pooled deflater. Deflaters released afterwards are ended
+	 * instead of pooled.
+	 *
+	 * @review
+	 */
+	public void close() {
+		_closed = true;
+
+		_end(_nowrapDeflaters);
+		_end(_zlibDeflaters);
+	}
+
+	/**
+	 * Resets the deflater and returns it to the pool. The deflater must not be
+	 * used after calling this method.
+	 *
+	 * @param deflater the deflater
+	 * @param nowrap {@code true} if the deflater produces raw deflate data;
+	 *        {@code false} if it produces ZLIB data
+	 * @review
+	 */
+	public void release(Deflater deflater, boolean nowrap) {
+		BlockingQueue<Deflater> deflaters = _getDeflaters(nowrap);
+
+		deflater.reset();
+
+		if (_closed || !deflaters.offer(deflater)) {
+			deflater.end();
+
+			return;
+		}
+
+		if (_closed) {
+			_end(deflaters);
+		}
+	}
+
+	private static void _end(BlockingQueue<Deflater> deflaters) {
+		Deflater deflater = deflaters.poll();
+
+		while (deflater != null) {
+			deflater.end();
+
+			deflater = deflaters.poll();
+		}
+	}
+
+	private BlockingQueue<Deflater> _getDeflaters(boolean nowrap) {
+		if (nowrap) {
+			return _nowrapDeflaters;
+		}
+
+		return _zlibDeflaters;
+	}
+
+	private volatile boolean _closed;
+	private final BlockingQueue<Deflater> _nowrapDeflaters;
+	private final BlockingQueue<Deflater> _zlibDeflaters;
+
+}
\ No newline at end of file
@@ -14,46 +14,191 @@
 
 package com.liferay.apio.architect.internal.jaxrs.resource;
 
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+
 import static io.vavr.API.$;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.RETRY_AFTER;
 import static javax.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
 import com.liferay.apio.architect.internal.annotation.Action.NoContent;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.batch.ChunkedBatchResult;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.request.OperationHttpServletRequest;
+import com.liferay.apio.architect.internal.request.ProviderContext;
+import com.liferay.apio.architect.internal.request.RequestCoalescer;
+import com.liferay.apio.architect.internal.response.MultiStatus;
+import com.liferay.apio.architect.internal.response.MultiStatus.Operation;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCacheWarmer;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.PageMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
+import java.lang.annotation.Annotation;
+
+import java.net.URI;
+import java.net.URLDecoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.GET;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * Declares the resource from which all of the APIs originate.
  *
+ * <p>
+ * The {@code /batch} endpoint executes several operations in a single request.
+ * Its body is a JSON array of operations, each one with a {@code method}
+ * ({@code GET} by default), a {@code path} relative to the application,
+ * optionally with a query string, and an optional JSON {@code body}. The
+ * actions of every operation are obtained before any of them is executed, and
+ * consecutive {@code GET} operations are executed concurrently if the {@code
+ * batch.parallelism} property is greater than zero. The response is a {@link
+ * MultiStatus} with the result of every operation, in the order they were
+ * sent. Batch creations are completed when their operation is executed,
+ * instead of while the response is written, so their status reflects whether
+ * the items were created. Batch requests with more operations than the {@code
+ * batch.max.operations} property are rejected.
+ * </p>
+ *
+ * <p>
+ * Outside of batch requests, the items of a batch creation are only created
+ * while its result is written if the {@link BatchResultMessageMapper}
+ * negotiated for the request streams them. Otherwise, they're created before
+ * the response is returned, so the response filters see whether they were
+ * created.
+ * </p>
+ *
+ * <p>
+ * If the {@link RequestCoalescer} is enabled, concurrent {@code GET} requests
+ * for the same URL, query string, negotiated media types, {@code
+ * Accept-Language} header, and credentials share a single execution of their
+ * action. The media types are the ones the message mapper managers negotiate,
+ * so requests whose {@code Accept} headers differ but select the same mappers
+ * are coalesced too. The first request executes the action and writes its
+ * result, and the rest reuse the written entity.
+ * </p>
+ *
+ * <p>
+ * The {@code /ready} endpoint returns the {@code 200} status code once the
+ * {@link ManagerCacheWarmer} has built the registry, and the {@code 503}
+ * status code while it's being built, so load balancers can wait for it before
+ * sending traffic.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
-@Component(service = RootResource.class)
+@Component(
+	property = {
+		"batch.max.operations:Integer=50", "batch.parallelism:Integer=4"
+	},
+	service = RootResource.class
+)
 public class RootResource {
 
+	/**
+	 * Returns the multi-status result of executing the operations of a batch
+	 * request.
+	 *
+	 * @review
+	 */
+	@POST
+	@Path("/batch")
+	public Response batch() {
+		ProviderContext.getProviderContext(_request);
+
+		List<PendingOperation> pendingOperations = _createPendingOperations();
+
+		List<Operation> operations = new ArrayList<>();
+
+		List<PendingOperation> getOperations = new ArrayList<>();
+
+		for (PendingOperation pendingOperation : pendingOperations) {
+			if (pendingOperation.isGet()) {
+				getOperations.add(pendingOperation);
+
+				continue;
+			}
+
+			_execute(getOperations, operations);
+
+			operations.add(pendingOperation.execute());
+		}
+
+		_execute(getOperations, operations);
+
+		return Response.status(
+			_MULTI_STATUS
+		).entity(
+			new MultiStatus(operations)
+		).build();
+	}
+
 	/**
 	 * Returns the application schema.
 	 *
@@ -93,6 +238,288 @@ public class RootResource {
 		).build();
 	}
 
+	/**
+	 * Returns an empty response with the {@code 200} status code if the
+	 * registry has been built, or with the {@code 503} status code otherwise.
+	 *
+	 * @review
+	 */
+	@GET
+	@Path("/ready")
+	public Response ready() {
+		if (_managerCacheWarmer.isReady()) {
+			return Response.ok(
+			).build();
+		}
+
+		return Response.status(
+			SERVICE_UNAVAILABLE
+		).header(
+			RETRY_AFTER, 1
+		).build();
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		deactivate();
+
+		_batchMaxOperations = getInt(properties, "batch.max.operations", 50);
+
+		int parallelism = getInt(properties, "batch.parallelism", 4);
+
+		if (parallelism > 0) {
+			_forkJoinPool = new ForkJoinPool(parallelism);
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_forkJoinPool != null) {
+			_forkJoinPool.shutdown();
+
+			_forkJoinPool = null;
+		}
+	}
+
+	private static Object _createItems(
+		Object result, BooleanSupplier itemStreamingBooleanSupplier) {
+
+		if (result instanceof Try) {
+			Try<?> resultTry = (Try<?>)result;
+
+			return resultTry.mapTry(
+				value -> _createItems(value, itemStreamingBooleanSupplier));
+		}
+
+		if ((result instanceof ChunkedBatchResult) &&
+			!itemStreamingBooleanSupplier.getAsBoolean()) {
+
+			ChunkedBatchResult<?> chunkedBatchResult =
+				(ChunkedBatchResult<?>)result;
+
+			return chunkedBatchResult.toBatchResult();
+		}
+
+		return result;
+	}
+
+	private static String _decode(String value) {
+		return Try.of(
+			() -> URLDecoder.decode(value, "UTF-8")
+		).getOrElseThrow(
+			() -> new BadRequestException("Invalid query string: " + value)
+		);
+	}
+
+	private static String _getMediaType(
+		Optional<? extends MessageMapper> optional) {
+
+		return optional.map(
+			MessageMapper::getMediaType
+		).orElse(
+			null
+		);
+	}
+
+	private static Map<String, String[]> _getParameterMap(String queryString) {
+		Map<String, List<String>> map = new LinkedHashMap<>();
+
+		for (String parameter : queryString.split("&")) {
+			if (parameter.isEmpty()) {
+				continue;
+			}
+
+			int index = parameter.indexOf('=');
+
+			String name = parameter;
+			String value = "";
+
+			if (index != -1) {
+				name = parameter.substring(0, index);
+				value = parameter.substring(index + 1);
+			}
+
+			List<String> values = map.computeIfAbsent(
+				_decode(name), __ -> new ArrayList<>());
+
+			values.add(_decode(value));
+		}
+
+		Map<String, String[]> parameterMap = new LinkedHashMap<>();
+
+		map.forEach(
+			(name, values) -> parameterMap.put(
+				name, values.toArray(new String[0])));
+
+		return parameterMap;
+	}
+
+	private static List<String> _getParams(URI uri) {
+		List<String> params = new ArrayList<>();
+
+		for (String segment : uri.getPath().split("/")) {
+			if (!segment.isEmpty()) {
+				params.add(segment);
+			}
+		}
+
+		return params;
+	}
+
+	private PendingOperation _createPendingOperation(JsonNode jsonNode) {
+		JsonNode methodJsonNode = jsonNode.path("method");
+
+		String method = methodJsonNode.asText("GET");
+
+		method = method.toUpperCase(Locale.ENGLISH);
+
+		JsonNode pathJsonNode = jsonNode.path("path");
+
+		String path = pathJsonNode.asText("");
+
+		Try<URI> uriTry = Try.of(
+			() -> new URI(path)
+		).filter(
+			uri -> !uri.isAbsolute() && (uri.getRawAuthority() == null)
+		);
+
+		if (uriTry.isFailure()) {
+			return new PendingOperation(
+				method, path, _request,
+				Either.left(
+					new BadRequestException(
+						"Invalid operation path: " + path)));
+		}
+
+		URI uri = uriTry.get();
+
+		String queryString = uri.getRawQuery();
+
+		Map<String, String[]> parameterMap = null;
+
+		if (queryString != null) {
+			try {
+				parameterMap = _getParameterMap(queryString);
+			}
+			catch (BadRequestException bre) {
+				return new PendingOperation(
+					method, path, _request, Either.left(bre));
+			}
+		}
+
+		JsonNode bodyJsonNode = jsonNode.path("body");
+
+		byte[] body = new byte[0];
+		String contentType = null;
+
+		if (!bodyJsonNode.isMissingNode() && !bodyJsonNode.isNull()) {
+			body = Try.of(
+				() -> _OBJECT_MAPPER.writeValueAsBytes(bodyJsonNode)
+			).get();
+			contentType = "application/json";
+		}
+
+		HttpServletRequest httpServletRequest = new OperationHttpServletRequest(
+			_request, method, queryString, parameterMap, body, contentType);
+
+		Either<Error, Action> either = _actionManager.getAction(
+			method, _getParams(uri));
+
+		return new PendingOperation(
+			method, path, httpServletRequest,
+			either.mapLeft(this::_toException));
+	}
+
+	private List<PendingOperation> _createPendingOperations() {
+		JsonFactory jsonFactory = _OBJECT_MAPPER.getFactory();
+
+		try (JsonParser jsonParser = jsonFactory.createParser(
+				_request.getInputStream())) {
+
+			if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+				throw new BadRequestException(
+					"The body of a batch request must be a JSON array");
+			}
+
+			List<PendingOperation> pendingOperations = new ArrayList<>();
+
+			while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+				if (pendingOperations.size() == _batchMaxOperations) {
+					throw new BadRequestException(
+						"A batch request can't have more than " +
+							_batchMaxOperations + " operations");
+				}
+
+				JsonNode jsonNode = jsonParser.readValueAsTree();
+
+				pendingOperations.add(_createPendingOperation(jsonNode));
+			}
+
+			return pendingOperations;
+		}
+		catch (IOException ioe) {
+			throw new BadRequestException(
+				"The body of a batch request must be a JSON array", ioe);
+		}
+	}
+
+	private void _execute(
+		List<PendingOperation> pendingOperations, List<Operation> operations) {
+
+		ForkJoinPool forkJoinPool = _forkJoinPool;
+
+		if ((forkJoinPool == null) || (pendingOperations.size() < 2)) {
+			for (PendingOperation pendingOperation : pendingOperations) {
+				operations.add(pendingOperation.execute());
+			}
+		}
+		else {
+			ForkJoinTask<List<Operation>> forkJoinTask = forkJoinPool.submit(
+				() -> pendingOperations.parallelStream(
+				).map(
+					PendingOperation::execute
+				).collect(
+					toList()
+				));
+
+			operations.addAll(forkJoinTask.join());
+		}
+
+		pendingOperations.clear();
+	}
+
+	private Response _getCoalescedResponse(Action action, List<String> params) {
+		ApplicationURL applicationURL = _providerManager.provideMandatory(
+			_request, ApplicationURL.class);
+		Credentials credentials = _providerManager.provideMandatory(
+			_request, Credentials.class);
+
+		List<Object> key = Arrays.asList(
+			applicationURL.get(), params, _request.getQueryString(),
+			_getMediaType(
+				_pageMessageMapperManager.getPageMessageMapperOptional(
+					_jaxrsRequest)),
+			_getMediaType(
+				_singleModelMessageMapperManager.
+					getSingleModelMessageMapperOptional(_jaxrsRequest)),
+			_request.getHeader(ACCEPT_LANGUAGE), credentials.get());
+
+		Try<WrittenEntity> writtenEntityTry = Try.of(
+			() -> _requestCoalescer.coalesce(
+				key, () -> _write(action.execute(_request))));
+
+		if (writtenEntityTry.isFailure()) {
+			return Response.ok(
+				writtenEntityTry
+			).build();
+		}
+
+		WrittenEntity writtenEntity = writtenEntityTry.get();
+
+		return writtenEntity.toResponse();
+	}
+
 	private Response _getResponse(String method, List<String> params) {
 		Either<Error, Action> either = _actionManager.getAction(method, params);
 
@@ -109,6 +536,12 @@ public class RootResource {
 				return _notFoundResponse;
 			},
 			action -> {
+				if ("GET".equals(method) && !(action instanceof NoContent) &&
+					_requestCoalescer.isEnabled()) {
+
+					return _getCoalescedResponse(action, params);
+				}
+
 				Object result = action.execute(_request);
 
 				if (action instanceof Action.NoContent) {
@@ -116,11 +549,76 @@ public class RootResource {
 				}
 
 				return Response.ok(
-					result
+					_createItems(result, this::_isItemStreaming)
 				).build();
 			});
 	}
 
+	private boolean _isItemStreaming() {
+		Optional<BatchResultMessageMapper<Object>> optional =
+			_batchResultMessageMapperManager.
+				getBatchResultMessageMapperOptional(_jaxrsRequest);
+
+		return optional.map(
+			BatchResultMessageMapper::isItemStreaming
+		).orElse(
+			false
+		);
+	}
+
+	private Exception _toException(Error error) {
+		if (error instanceof NotAllowed) {
+			return new NotAllowedException(
+				Response.status(
+					METHOD_NOT_ALLOWED
+				).allow(
+					((NotAllowed)error).getAllowedMethods()
+				).build());
+		}
+
+		return new NotFoundException();
+	}
+
+	private WrittenEntity _write(Object result) throws IOException {
+		Object entity = result;
+
+		if (result instanceof Try) {
+			Try<?> resultTry = (Try<?>)result;
+
+			entity = resultTry.get();
+		}
+
+		Class<?> clazz = entity.getClass();
+
+		MessageBodyWriter<Object> messageBodyWriter = unsafeCast(
+			_providers.getMessageBodyWriter(
+				clazz, clazz, _ANNOTATIONS, MediaType.WILDCARD_TYPE));
+
+		if (messageBodyWriter == null) {
+			throw new InternalServerErrorException(
+				"No message body writer found for " + clazz.getName());
+		}
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		messageBodyWriter.writeTo(
+			entity, clazz, clazz, _ANNOTATIONS, MediaType.WILDCARD_TYPE,
+			headers, byteArrayOutputStream);
+
+		headers.remove(CONTENT_LENGTH);
+
+		return new WrittenEntity(byteArrayOutputStream.toByteArray(), headers);
+	}
+
+	private static final Annotation[] _ANNOTATIONS = new Annotation[0];
+
+	private static final int _MULTI_STATUS = 207;
+
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper();
+
 	private static final Response _noContentResponse = Response.noContent(
 	).build();
 	private static final Response _notFoundResponse = Response.status(
@@ -130,7 +628,114 @@ public class RootResource {
 	@Reference
 	private ActionManager _actionManager;
 
+	private volatile int _batchMaxOperations = 50;
+
+	@Reference
+	private BatchResultMessageMapperManager _batchResultMessageMapperManager;
+
+	private volatile ForkJoinPool _forkJoinPool;
+
+	@Context
+	private Request _jaxrsRequest;
+
+	@Reference
+	private ManagerCacheWarmer _managerCacheWarmer;
+
+	@Reference
+	private PageMessageMapperManager _pageMessageMapperManager;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Context
+	private Providers _providers;
+
 	@Context
 	private HttpServletRequest _request;
 
+	@Reference
+	private RequestCoalescer _requestCoalescer;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+	private static class PendingOperation {
+
+		public Operation execute() {
+			if (_either.isLeft()) {
+				return Operation.failure(
+					_method, _path, _httpServletRequest, _either.getLeft());
+			}
+
+			Action action = _either.get();
+
+			try {
+				Object result = _createItems(
+					action.execute(_httpServletRequest), () -> false);
+
+				if (result instanceof Try) {
+					Try<?> resultTry = (Try<?>)result;
+
+					result = resultTry.get();
+				}
+
+				if (action instanceof NoContent) {
+					return Operation.success(
+						_method, _path, _httpServletRequest, 204, null);
+				}
+
+				return Operation.success(
+					_method, _path, _httpServletRequest, 200, result);
+			}
+			catch (Exception e) {
+				return Operation.failure(
+					_method, _path, _httpServletRequest, e);
+			}
+		}
+
+		public boolean isGet() {
+			return "GET".equals(_method);
+		}
+
+		private PendingOperation(
+			String method, String path, HttpServletRequest httpServletRequest,
+			Either<Exception, Action> either) {
+
+			_method = method;
+			_path = path;
+			_httpServletRequest = httpServletRequest;
+			_either = either;
+		}
+
+		private final Either<Exception, Action> _either;
+		private final HttpServletRequest _httpServletRequest;
+		private final String _method;
+		private final String _path;
+
+	}
+
+	private static class WrittenEntity {
+
+		public Response toResponse() {
+			ResponseBuilder responseBuilder = Response.ok(_bytes);
+
+			_headers.forEach(
+				(name, values) -> values.forEach(
+					value -> responseBuilder.header(name, value)));
+
+			return responseBuilder.build();
+		}
+
+		private WrittenEntity(
+			byte[] bytes, MultivaluedMap<String, Object> headers) {
+
+			_bytes = bytes;
+			_headers = headers;
+		}
+
+		private final byte[] _bytes;
+		private final MultivaluedMap<String, Object> _headers;
+
+	}
+
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.jaxrs.util;
 
 import static com.liferay.apio.architect.internal.writer.ErrorWriter.writeError;
+import static com.liferay.apio.architect.internal.writer.ErrorWriter.writeErrorJSONObject;
 
 import static java.lang.String.join;
 
@@ -22,9 +23,12 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
 
+import com.fasterxml.jackson.core.JsonFactory;
+
 import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
@@ -93,7 +97,7 @@ public class ErrorUtil {
 			).type(
 				errorMessageMapper.getMediaType()
 			).entity(
-				writeError(errorMessageMapper, apiError)
+				_getEntity(errorMessageMapper, apiError)
 			).build()
 		).orElseGet(
 			() -> Response.status(
@@ -102,6 +106,22 @@ public class ErrorUtil {
 		);
 	}
 
+	private Object _getEntity(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+		Optional<JsonFactory> jsonFactoryOptional =
+			errorMessageMapper.getBinaryJsonFactoryOptional();
+
+		if (jsonFactoryOptional.isPresent()) {
+			JSONObjectBuilder jsonObjectBuilder = writeErrorJSONObject(
+				errorMessageMapper, apiError);
+
+			return jsonObjectBuilder.build(jsonFactoryOptional.get());
+		}
+
+		return writeError(errorMessageMapper, apiError);
+	}
+
 	private <E extends Throwable> void _logException(E e, String message) {
 		if (_logger.isDebugEnabled()) {
 			_logger.debug(message, e);
@@ -14,34 +14,83 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.batch.ChunkedBatchResult;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.LineWriter;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
 import com.liferay.apio.architect.internal.writer.BatchResultWriter;
 import com.liferay.apio.architect.internal.writer.BatchResultWriter.Builder;
 
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.Map;
 import java.util.Optional;
 
+import javax.servlet.http.HttpServletRequest;
+
 import javax.ws.rs.NotFoundException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import javax.ws.rs.core.Response.StatusType;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
+import org.slf4j.Logger;
+
 /**
  * Writes batch results by using the {@link BatchResultMessageMapper} that
  * corresponds to the media type.
  *
+ * <p>
+ * Batch results whose {@code BatchResultMessageMapper} streams its items are
+ * written one line per item, followed by the batch result's trailer. If the
+ * batch result is a {@link ChunkedBatchResult}, its items are created in chunks
+ * of {@code batch.create.chunk.size} items while it's written, and the output
+ * stream is flushed once every chunk has been written, so clients receive the
+ * identifiers of every chunk as soon as it has been created. The items that
+ * can't be created are written with the {@link APIError} of their exception.
+ * </p>
+ *
+ * <p>
+ * The items of a {@code ChunkedBatchResult} are always released once the batch
+ * result has been written, even if writing it fails before its items are read.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(
 	property = {
+		"batch.create.chunk.size:Integer=50",
 		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
 		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Writer.BatchResult"
 	},
@@ -64,13 +113,129 @@ public class BatchResultMessageBodyWriter<T>
 			getBatchResultMessageMapperOptional(request);
 	}
 
+	@Override
+	public Optional<JSONObjectBuilder> writeJSONObjectOptional(
+		BatchResult<T> batchResult, HttpServletRequest httpServletRequest) {
+
+		try {
+			return super.writeJSONObjectOptional(
+				batchResult, httpServletRequest);
+		}
+		finally {
+			_close(batchResult);
+		}
+	}
+
+	@Override
+	public void writeTo(
+			BatchResult<T> batchResult, Class<?> aClass, Type type,
+			Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException, WebApplicationException {
+
+		try {
+			super.writeTo(
+				batchResult, aClass, type, annotations, mediaType, httpHeaders,
+				outputStream);
+		}
+		finally {
+			_close(batchResult);
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_chunkSize = Math.max(
+			1, getInt(properties, "batch.create.chunk.size", 50));
+	}
+
 	@Override
 	protected String write(
 		BatchResult<T> batchResult,
 		BatchResultMessageMapper<T> batchResultMessageMapper,
 		RequestInfo requestInfo) {
 
-		BatchResultWriter<T> batchResultWriter = Builder.batchResult(
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObject(
+			batchResult, batchResultMessageMapper, requestInfo);
+
+		return jsonObjectBuilder.build();
+	}
+
+	@Override
+	protected JSONObjectBuilder writeJSONObject(
+		BatchResult<T> batchResult,
+		BatchResultMessageMapper<T> batchResultMessageMapper,
+		RequestInfo requestInfo) {
+
+		BatchResultWriter<T> batchResultWriter = _createBatchResultWriter(
+			batchResult, batchResultMessageMapper, requestInfo);
+
+		Optional<JSONObjectBuilder> optional =
+			batchResultWriter.writeJSONObject();
+
+		return optional.orElseThrow(NotFoundException::new);
+	}
+
+	@Override
+	protected void writeTo(
+			BatchResult<T> batchResult,
+			BatchResultMessageMapper<T> batchResultMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		if (!batchResultMessageMapper.isItemStreaming()) {
+			super.writeTo(
+				batchResult, batchResultMessageMapper, requestInfo,
+				outputStream);
+
+			return;
+		}
+
+		BatchResultWriter<T> batchResultWriter = _createBatchResultWriter(
+			batchResult, batchResultMessageMapper, requestInfo);
+
+		Optional<JsonFactory> optional =
+			batchResultMessageMapper.getBinaryJsonFactoryOptional();
+
+		int chunkSize = _chunkSize;
+
+		LineWriter lineWriter = new LineWriter(
+			outputStream, optional.orElse(_JSON_FACTORY), chunkSize);
+
+		boolean written;
+
+		try {
+			written = batchResultWriter.stream(
+				chunkSize, this::_toAPIError, lineWriter);
+		}
+		catch (UncheckedIOException uioe) {
+			throw uioe.getCause();
+		}
+
+		if (!written) {
+			throw new NotFoundException();
+		}
+
+		outputStream.flush();
+	}
+
+	private void _close(BatchResult<T> batchResult) {
+		if (batchResult instanceof ChunkedBatchResult) {
+			ChunkedBatchResult<T> chunkedBatchResult =
+				(ChunkedBatchResult<T>)batchResult;
+
+			chunkedBatchResult.close();
+		}
+	}
+
+	private BatchResultWriter<T> _createBatchResultWriter(
+		BatchResult<T> batchResult,
+		BatchResultMessageMapper<T> batchResultMessageMapper,
+		RequestInfo requestInfo) {
+
+		return Builder.batchResult(
 			batchResult
 		).batchResultMessageMapper(
 			batchResultMessageMapper
@@ -81,15 +246,57 @@ public class BatchResultMessageBodyWriter<T>
 		).requestInfo(
 			requestInfo
 		).build();
+	}
 
-		Optional<String> optional = batchResultWriter.write();
+	private APIError _toAPIError(Throwable throwable) {
+		Exception exception =
+			(throwable instanceof Exception) ? (Exception)throwable :
+				new RuntimeException(throwable);
 
-		return optional.orElseThrow(NotFoundException::new);
+		Optional<APIError> optional = _exceptionMapperManager.map(exception);
+
+		if (optional.isPresent()) {
+			return optional.get();
+		}
+
+		if (!(exception instanceof WebApplicationException)) {
+			_logger.error("Unable to create batch item", exception);
+
+			return new APIError(
+				exception, INTERNAL_SERVER_ERROR.getReasonPhrase(),
+				"server-error", INTERNAL_SERVER_ERROR.getStatusCode());
+		}
+
+		WebApplicationException webApplicationException =
+			(WebApplicationException)exception;
+
+		Response response = webApplicationException.getResponse();
+
+		StatusType statusType = response.getStatusInfo();
+
+		String type = "client-error";
+
+		if (statusType.getFamily() == Family.SERVER_ERROR) {
+			type = "server-error";
+		}
+
+		return new APIError(
+			exception, statusType.getReasonPhrase(), type,
+			statusType.getStatusCode());
 	}
 
+	private static final JsonFactory _JSON_FACTORY = new JsonFactory();
+
 	@Reference
 	private BatchResultMessageMapperManager _batchResultMessageMapperManager;
 
+	private volatile int _chunkSize = 50;
+
+	@Reference
+	private ExceptionMapperManager _exceptionMapperManager;
+
+	private final Logger _logger = getLogger(getClass());
+
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
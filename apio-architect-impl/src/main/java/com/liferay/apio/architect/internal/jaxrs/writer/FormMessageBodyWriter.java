@@ -21,19 +21,17 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.form.FormField;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.ResponseOutputStream;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.language.AcceptLanguage;
 
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
-
 import java.util.List;
 import java.util.Optional;
 
@@ -83,15 +81,10 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Form<?>> {
 			Annotation[] annotations, MediaType mediaType,
 			MultivaluedMap<String, Object> httpHeaders,
 			OutputStream outputStream)
-		throws WebApplicationException {
+		throws IOException, WebApplicationException {
 
 		httpHeaders.put(CONTENT_TYPE, singletonList("application/ld+json"));
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
-
 		AcceptLanguage acceptLanguage = _providerManager.provideMandatory(
 			_request, AcceptLanguage.class);
 
@@ -101,9 +94,13 @@ public class FormMessageBodyWriter implements MessageBodyWriter<Form<?>> {
 		JSONObject jsonObject = toJSONObject(
 			form, acceptLanguage, applicationURL, true);
 
-		jsonObject.write(printWriter);
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(outputStream, httpHeaders)) {
+
+			responseOutputStream.writeUTF8(jsonObject.toString());
 
-		printWriter.close();
+			responseOutputStream.commit();
+		}
 	}
 
 	/**
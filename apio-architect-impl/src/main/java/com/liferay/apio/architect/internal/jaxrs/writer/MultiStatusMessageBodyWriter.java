@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.writer.ErrorWriter.writeErrorJSONObject;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.MultiStatusMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.MultiStatus;
+import com.liferay.apio.architect.internal.response.MultiStatus.Operation;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.MultiStatusMessageMapperManager;
+
+import java.lang.annotation.Annotation;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Writes the multi-status responses of batch requests.
+ *
+ * <p>
+ * The response contains the method, path, and status of every operation, in
+ * the order they were sent, and is written with the {@link
+ * MultiStatusMessageMapper} that corresponds to the current request. The
+ * entity of every successful operation is written by the {@code
+ * MessageBodyWriter} of its class, and the error of every failed operation is
+ * written with the {@link ErrorMessageMapper} that corresponds to the current
+ * request, if present.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Writer.MultiStatus"
+	},
+	service = MessageBodyWriter.class
+)
+@Provider
+public class MultiStatusMessageBodyWriter
+	extends BaseMessageBodyWriter<MultiStatus, MultiStatusMessageMapper> {
+
+	@Override
+	public boolean canWrite(Class<?> clazz) {
+		return MultiStatus.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public Optional<MultiStatusMessageMapper> getMessageMapperOptional(
+		Request request) {
+
+		return _multiStatusMessageMapperManager.
+			getMultiStatusMessageMapperOptional(request);
+	}
+
+	@Override
+	protected String write(
+		MultiStatus multiStatus,
+		MultiStatusMessageMapper multiStatusMessageMapper,
+		RequestInfo requestInfo) {
+
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObject(
+			multiStatus, multiStatusMessageMapper, requestInfo);
+
+		return jsonObjectBuilder.build();
+	}
+
+	@Override
+	protected JSONObjectBuilder writeJSONObject(
+		MultiStatus multiStatus,
+		MultiStatusMessageMapper multiStatusMessageMapper,
+		RequestInfo requestInfo) {
+
+		MediaType mediaType = MediaType.valueOf(
+			multiStatusMessageMapper.getMediaType());
+
+		Optional<ErrorMessageMapper> errorMessageMapperOptional =
+			_errorMessageMapperManager.getErrorMessageMapperOptional(_request);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		for (Operation operation : multiStatus.getOperations()) {
+			JSONObjectBuilder operationJSONObjectBuilder = _writeOperation(
+				operation, multiStatusMessageMapper, errorMessageMapperOptional,
+				mediaType);
+
+			multiStatusMessageMapper.onFinishOperation(
+				jsonObjectBuilder, operationJSONObjectBuilder);
+		}
+
+		multiStatusMessageMapper.onFinish(jsonObjectBuilder, multiStatus);
+
+		return jsonObjectBuilder;
+	}
+
+	private JSONObjectBuilder _writeEntity(
+		Object entity, HttpServletRequest httpServletRequest,
+		MediaType mediaType) {
+
+		Class<?> clazz = entity.getClass();
+
+		MessageBodyWriter<?> messageBodyWriter =
+			_providers.getMessageBodyWriter(
+				clazz, clazz, _ANNOTATIONS, mediaType);
+
+		if (!(messageBodyWriter instanceof BaseMessageBodyWriter)) {
+			throw new NotAcceptableException();
+		}
+
+		BaseMessageBodyWriter<Object, ?> baseMessageBodyWriter = unsafeCast(
+			messageBodyWriter);
+
+		Optional<JSONObjectBuilder> optional =
+			baseMessageBodyWriter.writeJSONObjectOptional(
+				entity, httpServletRequest);
+
+		return optional.orElseThrow(NotAcceptableException::new);
+	}
+
+	private void _writeError(
+		JSONObjectBuilder jsonObjectBuilder, Exception exception,
+		MultiStatusMessageMapper multiStatusMessageMapper,
+		Optional<ErrorMessageMapper> errorMessageMapperOptional) {
+
+		Optional<APIError> apiErrorOptional = _exceptionMapperManager.map(
+			exception);
+
+		if (apiErrorOptional.isPresent()) {
+			APIError apiError = apiErrorOptional.get();
+
+			multiStatusMessageMapper.mapOperationStatus(
+				jsonObjectBuilder, apiError.getStatusCode());
+
+			errorMessageMapperOptional.map(
+				errorMessageMapper -> writeErrorJSONObject(
+					errorMessageMapper, apiError)
+			).ifPresent(
+				body -> multiStatusMessageMapper.mapOperationBody(
+					jsonObjectBuilder, body)
+			);
+
+			return;
+		}
+
+		int status = 500;
+
+		if (exception instanceof WebApplicationException) {
+			WebApplicationException webApplicationException =
+				(WebApplicationException)exception;
+
+			Response response = webApplicationException.getResponse();
+
+			status = response.getStatus();
+		}
+		else {
+			_logger.error("Unable to execute batch operation", exception);
+		}
+
+		multiStatusMessageMapper.mapOperationStatus(jsonObjectBuilder, status);
+	}
+
+	private JSONObjectBuilder _writeOperation(
+		Operation operation, MultiStatusMessageMapper multiStatusMessageMapper,
+		Optional<ErrorMessageMapper> errorMessageMapperOptional,
+		MediaType mediaType) {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		multiStatusMessageMapper.mapOperationMethod(
+			jsonObjectBuilder, operation.getMethod());
+
+		multiStatusMessageMapper.mapOperationPath(
+			jsonObjectBuilder, operation.getPath());
+
+		Optional<Exception> exceptionOptional =
+			operation.getExceptionOptional();
+
+		if (exceptionOptional.isPresent()) {
+			_writeError(
+				jsonObjectBuilder, exceptionOptional.get(),
+				multiStatusMessageMapper, errorMessageMapperOptional);
+
+			return jsonObjectBuilder;
+		}
+
+		Optional<Object> entityOptional = operation.getEntityOptional();
+
+		Optional<JSONObjectBuilder> bodyOptional;
+
+		try {
+			bodyOptional = entityOptional.map(
+				entity -> _writeEntity(
+					entity, operation.getHttpServletRequest(), mediaType));
+		}
+		catch (Exception e) {
+			_writeError(
+				jsonObjectBuilder, e, multiStatusMessageMapper,
+				errorMessageMapperOptional);
+
+			return jsonObjectBuilder;
+		}
+
+		multiStatusMessageMapper.mapOperationStatus(
+			jsonObjectBuilder, operation.getStatus());
+
+		bodyOptional.ifPresent(
+			body -> multiStatusMessageMapper.mapOperationBody(
+				jsonObjectBuilder, body));
+
+		return jsonObjectBuilder;
+	}
+
+	private static final Annotation[] _ANNOTATIONS = new Annotation[0];
+
+	@Reference
+	private ErrorMessageMapperManager _errorMessageMapperManager;
+
+	@Reference
+	private ExceptionMapperManager _exceptionMapperManager;
+
+	private final Logger _logger = getLogger(getClass());
+
+	@Reference
+	private MultiStatusMessageMapperManager _multiStatusMessageMapperManager;
+
+	@Context
+	private Providers _providers;
+
+	@Context
+	private Request _request;
+
+}
\ No newline at end of file
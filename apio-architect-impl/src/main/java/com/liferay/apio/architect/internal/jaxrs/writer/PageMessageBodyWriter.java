@@ -15,10 +15,15 @@
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.cache.ItemFragmentCache;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.LineWriter;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.request.DetachedHttpServletRequest;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.PageMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
@@ -26,27 +31,76 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
 
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * Writes collection pages by using the {@link PageMessageMapper} that
  * corresponds to the media type.
  *
+ * <p>
+ * If the {@code parallel.item.rendering.threshold} property is greater than
+ * zero, the items of pages with at least that number of items are written
+ * concurrently in a dedicated {@code ForkJoinPool}. Those pages are written
+ * with a {@link DetachedHttpServletRequest}, so their embedded models can be
+ * retrieved outside the request's thread.
+ * </p>
+ *
+ * <p>
+ * The items of every page are written with the {@link ItemFragmentCache}, so
+ * the items whose representor has a version function are only written again
+ * when their version changes.
+ * </p>
+ *
+ * <p>
+ * Pages whose {@code PageMessageMapper} streams its items are written one line
+ * per item, followed by the page's trailer. The output stream is flushed every
+ * {@code item.streaming.flush.interval} items, so clients can process the items
+ * while the rest of the page is being written.
+ * </p>
+ *
+ * <p>
+ * The stream of the page's items is always closed once the page has been
+ * written, even if writing it fails before its items are read, so lazily read
+ * items release their source.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
 @Component(
 	property = {
+		"item.streaming.flush.interval:Integer=1",
 		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
-		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Writer.Page"
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Writer.Page",
+		"parallel.item.rendering.threshold:Integer=0"
 	},
 	service = MessageBodyWriter.class
 )
@@ -66,14 +120,145 @@ public class PageMessageBodyWriter<T>
 		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
 	}
 
+	@Override
+	public Optional<JSONObjectBuilder> writeJSONObjectOptional(
+		Page<T> page, HttpServletRequest httpServletRequest) {
+
+		try {
+			return super.writeJSONObjectOptional(page, httpServletRequest);
+		}
+		finally {
+			Stream<T> stream = page.getItemsStream();
+
+			stream.close();
+		}
+	}
+
+	@Override
+	public void writeTo(
+			Page<T> page, Class<?> aClass, Type type, Annotation[] annotations,
+			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException, WebApplicationException {
+
+		try {
+			super.writeTo(
+				page, aClass, type, annotations, mediaType, httpHeaders,
+				outputStream);
+		}
+		finally {
+			Stream<T> stream = page.getItemsStream();
+
+			stream.close();
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		deactivate();
+
+		_itemStreamingFlushInterval = Math.max(
+			1, getInt(properties, "item.streaming.flush.interval", 1));
+		_parallelItemRenderingThreshold = getInt(
+			properties, "parallel.item.rendering.threshold", 0);
+
+		if (_parallelItemRenderingThreshold > 0) {
+			_forkJoinPool = new ForkJoinPool();
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_forkJoinPool != null) {
+			_forkJoinPool.shutdown();
+
+			_forkJoinPool = null;
+		}
+	}
+
 	@Override
 	protected String write(
 		Page<T> page, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObject(
+			page, pageMessageMapper, requestInfo);
+
+		return jsonObjectBuilder.build();
+	}
+
+	@Override
+	protected JSONObjectBuilder writeJSONObject(
+		Page<T> page, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo) {
+
+		PageWriter<T> pageWriter = _createPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		return pageWriter.writeJSONObject();
+	}
+
+	@Override
+	protected void writeTo(
+			Page<T> page, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		if (!pageMessageMapper.isItemStreaming()) {
+			super.writeTo(page, pageMessageMapper, requestInfo, outputStream);
+
+			return;
+		}
+
+		PageWriter<T> pageWriter = _createPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		Optional<JsonFactory> optional =
+			pageMessageMapper.getBinaryJsonFactoryOptional();
+
+		LineWriter lineWriter = new LineWriter(
+			outputStream, optional.orElse(_JSON_FACTORY),
+			_itemStreamingFlushInterval);
+
+		try {
+			pageWriter.stream(lineWriter);
+		}
+		catch (UncheckedIOException uioe) {
+			throw uioe.getCause();
+		}
+
+		outputStream.flush();
+	}
+
+	private PageWriter<T> _createPageWriter(
+		Page<T> page, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
+		ForkJoinPool forkJoinPool = _forkJoinPool;
+		int threshold = _parallelItemRenderingThreshold;
+
+		Optional<Integer> itemCountOptional = page.getItemCountOptional();
+
+		boolean parallel =
+			(forkJoinPool != null) && !pageMessageMapper.isItemStreaming() &&
+			itemCountOptional.map(
+				itemCount -> itemCount >= threshold
+			).orElse(
+				false
+			);
+
+		HttpServletRequest httpServletRequest =
+			parallel ? new DetachedHttpServletRequest(request) : request;
+
+		RequestInfo pageRequestInfo =
+			parallel ? createRequestInfo(httpServletRequest) : requestInfo;
+
+		ForkJoinPool pageForkJoinPool = parallel ? forkJoinPool : null;
+
 		PageWriter<T> pageWriter = PageWriter.create(
 			builder -> builder.page(
 				page
@@ -87,17 +272,27 @@ public class PageMessageBodyWriter<T>
 				name -> unsafeCast(
 					_representableManager.getRepresentorOptional(name))
 			).requestInfo(
-				requestInfo
+				pageRequestInfo
 			).singleModelFunction(
-				this::getSingleModelOptional
+				(identifier, identifierClass) -> getSingleModelOptional(
+					identifier, identifierClass, httpServletRequest)
 			).actionSemanticsFunction(
 				resource -> actionManager.getActionSemantics(
 					resource, credentials, requestInfo.getHttpServletRequest())
+			).itemFragmentCache(
+				_itemFragmentCache
+			).parallelItemRendering(
+				pageForkJoinPool, threshold
 			).build());
 
-		return pageWriter.write();
+		return pageWriter;
 	}
 
+	private static final JsonFactory _JSON_FACTORY = new JsonFactory();
+
+	@Reference
+	private ItemFragmentCache _itemFragmentCache;
+
 	@Reference
 	private PageMessageMapperManager _pageMessageMapperManager;
 
@@ -107,4 +302,8 @@ public class PageMessageBodyWriter<T>
 	@Reference
 	private RepresentableManager _representableManager;
 
+	private volatile ForkJoinPool _forkJoinPool;
+	private volatile int _itemStreamingFlushInterval = 1;
+	private volatile int _parallelItemRenderingThreshold;
+
 }
\ No newline at end of file
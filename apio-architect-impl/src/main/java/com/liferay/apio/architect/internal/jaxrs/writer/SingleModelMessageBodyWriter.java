@@ -18,6 +18,7 @@ import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
@@ -74,6 +75,18 @@ public class SingleModelMessageBodyWriter<T>
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
 
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObject(
+			singleModel, singleModelMessageMapper, requestInfo);
+
+		return jsonObjectBuilder.build();
+	}
+
+	@Override
+	protected JSONObjectBuilder writeJSONObject(
+		SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
@@ -98,7 +111,8 @@ public class SingleModelMessageBodyWriter<T>
 					resource, credentials, requestInfo.getHttpServletRequest())
 			).build());
 
-		Optional<String> optional = singleModelWriter.write();
+		Optional<JSONObjectBuilder> optional =
+			singleModelWriter.writeJSONObject();
 
 		return optional.orElseThrow(NotFoundException::new);
 	}
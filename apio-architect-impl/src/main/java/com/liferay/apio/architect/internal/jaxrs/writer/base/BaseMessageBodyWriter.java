@@ -20,6 +20,7 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Embedded;
@@ -35,9 +36,12 @@ import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import com.fasterxml.jackson.core.JsonFactory;
+
+import io.vavr.Lazy;
+
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -46,6 +50,7 @@ import java.nio.charset.StandardCharsets;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -102,56 +107,127 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 		return canWrite(clazz);
 	}
 
+	/**
+	 * Writes the element to a {@link JSONObjectBuilder} by using the message
+	 * mapper that corresponds to the current request, and the {@link
+	 * RequestInfo} of the provided request. This lets other writers include
+	 * the element's representation in the documents they write.
+	 *
+	 * @param  t the element being written
+	 * @param  httpServletRequest the request used to create the request info
+	 * @return the JSON object builder containing the element's representation,
+	 *         if a message mapper corresponds to the current request; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<JSONObjectBuilder> writeJSONObjectOptional(
+		T t, HttpServletRequest httpServletRequest) {
+
+		Optional<S> optional = getMessageMapperOptional(_request);
+
+		return optional.map(
+			s -> writeJSONObject(t, s, createRequestInfo(httpServletRequest)));
+	}
+
 	@Override
 	public void writeTo(
 			T t, Class<?> aClass, Type type, Annotation[] annotations,
 			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
 			OutputStream outputStream)
-		throws WebApplicationException {
-
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		throws IOException, WebApplicationException {
 
 		Optional<S> optional = getMessageMapperOptional(_request);
 
 		S s = optional.orElseThrow(NotSupportedException::new);
 
-		RequestInfo requestInfo = RequestInfo.create(
+		RequestInfo requestInfo = createRequestInfo(request);
+
+		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(outputStream, httpHeaders)) {
+
+			writeTo(t, s, requestInfo, responseOutputStream);
+
+			responseOutputStream.commit();
+		}
+	}
+
+	/**
+	 * Creates the {@link RequestInfo} of the provided request. The embedded,
+	 * fields, and language information are only provided the first time
+	 * they're used, since many resources don't need them.
+	 *
+	 * @param  httpServletRequest the request
+	 * @return the request info
+	 * @review
+	 */
+	protected RequestInfo createRequestInfo(
+		HttpServletRequest httpServletRequest) {
+
+		Lazy<Embedded> embeddedLazy = Lazy.of(
+			() -> providerManager.provideOptional(
+				httpServletRequest, Embedded.class
+			).orElse(
+				__ -> false
+			));
+
+		Lazy<Fields> fieldsLazy = Lazy.of(
+			() -> providerManager.provideOptional(
+				httpServletRequest, Fields.class
+			).orElse(
+				__ -> string -> true
+			));
+
+		Lazy<AcceptLanguage> acceptLanguageLazy = Lazy.of(
+			() -> providerManager.provideOptional(
+				httpServletRequest, AcceptLanguage.class
+			).orElse(
+				Locale::getDefault
+			));
+
+		return RequestInfo.create(
 			builder -> builder.httpServletRequest(
-				request
+				httpServletRequest
 			).serverURL(
-				providerManager.provideMandatory(request, ServerURL.class)
+				providerManager.provideMandatory(
+					httpServletRequest, ServerURL.class)
 			).applicationURL(
-				providerManager.provideMandatory(request, ApplicationURL.class)
+				providerManager.provideMandatory(
+					httpServletRequest, ApplicationURL.class)
 			).embedded(
-				providerManager.provideOptional(
-					request, Embedded.class
-				).orElse(
-					__ -> false
-				)
+				path -> {
+					Embedded embedded = embeddedLazy.get();
+
+					return embedded.test(path);
+				}
 			).fields(
-				providerManager.provideOptional(
-					request, Fields.class
-				).orElse(
-					__ -> string -> true
-				)
+				fieldNames -> {
+					Fields fields = fieldsLazy.get();
+
+					return fields.apply(fieldNames);
+				}
 			).language(
-				providerManager.provideOptional(
-					request, AcceptLanguage.class
-				).orElse(
-					Locale::getDefault
-				)
-			).build());
+				new AcceptLanguage() {
 
-		String result = write(t, s, requestInfo);
+					@Override
+					public Stream<Locale> getLocales() {
+						AcceptLanguage acceptLanguage =
+							acceptLanguageLazy.get();
 
-		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+						return acceptLanguage.getLocales();
+					}
 
-		printWriter.println(result);
+					@Override
+					public Locale getPreferredLocale() {
+						AcceptLanguage acceptLanguage =
+							acceptLanguageLazy.get();
 
-		printWriter.close();
+						return acceptLanguage.getPreferredLocale();
+					}
+
+				}
+			).build());
 	}
 
 	/**
@@ -166,13 +242,32 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	protected Optional<SingleModel> getSingleModelOptional(
 		Object identifier, Class<? extends Identifier> identifierClass) {
 
+		return getSingleModelOptional(identifier, identifierClass, request);
+	}
+
+	/**
+	 * Returns a {@link SingleModel} identified by the supplied identifier,
+	 * retrieved with the provided request, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  identifier the single model identifier
+	 * @param  identifierClass the resource identifier class
+	 * @param  httpServletRequest the request used to retrieve the model
+	 * @return the {@code SingleModel}, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	protected Optional<SingleModel> getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass,
+		HttpServletRequest httpServletRequest) {
+
 		Optional<String> nameOptional = nameManager.getNameOptional(
 			identifierClass.getName());
 
 		return nameOptional.flatMap(
 			name -> _getItem(name, identifier)
 		).flatMap(
-			item -> actionManager.getItemSingleModel(item, request)
+			item -> actionManager.getItemSingleModel(item, httpServletRequest)
 		);
 	}
 
@@ -187,6 +282,75 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 */
 	protected abstract String write(T t, S s, RequestInfo requestInfo);
 
+	/**
+	 * Writes the element to a {@link JSONObjectBuilder} by using the supplied
+	 * message mapper and the current {@link RequestInfo}. This method is used
+	 * instead of {@link #write(Object, MessageMapper, RequestInfo)} when the
+	 * message mapper encodes its JSON objects in a binary format. Writers
+	 * supporting those message mappers must override it.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @return the JSON object builder containing the element's representation
+	 * @review
+	 */
+	protected JSONObjectBuilder writeJSONObject(
+		T t, S s, RequestInfo requestInfo) {
+
+		throw new NotSupportedException();
+	}
+
+	/**
+	 * Writes the element to the output stream by using the supplied message
+	 * mapper and the current {@link RequestInfo}. If the message mapper
+	 * encodes its JSON objects in a binary format, the element is written
+	 * with {@link #writeJSONObject(Object, MessageMapper, RequestInfo)};
+	 * otherwise, it's written with {@link #write(Object, MessageMapper,
+	 * RequestInfo)}.
+	 *
+	 * <p>
+	 * The output stream provided by {@link #writeTo(Object, Class, Type,
+	 * Annotation[], MediaType, MultivaluedMap, OutputStream)} is a {@link
+	 * ResponseOutputStream}, so the response is buffered and written with its
+	 * {@code Content-Length} unless it's too large or the stream is flushed.
+	 * </p>
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @param  outputStream the response's output stream
+	 * @review
+	 */
+	protected void writeTo(
+			T t, S s, RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		Optional<JsonFactory> jsonFactoryOptional =
+			s.getBinaryJsonFactoryOptional();
+
+		if (jsonFactoryOptional.isPresent()) {
+			JSONObjectBuilder jsonObjectBuilder = writeJSONObject(
+				t, s, requestInfo);
+
+			jsonObjectBuilder.writeTo(outputStream, jsonFactoryOptional.get());
+
+			return;
+		}
+
+		String result = write(t, s, requestInfo);
+
+		if (outputStream instanceof ResponseOutputStream) {
+			ResponseOutputStream responseOutputStream =
+				(ResponseOutputStream)outputStream;
+
+			responseOutputStream.writeUTF8(result);
+		}
+		else {
+			outputStream.write(result.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
 	@Reference
 	protected ActionManager actionManager;
 
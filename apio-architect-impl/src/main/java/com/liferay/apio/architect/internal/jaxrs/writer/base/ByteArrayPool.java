@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer.base;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pools the byte arrays used to buffer responses, so they aren't allocated for
+ * every response.
+ *
+ * <p>
+ * Arrays are grouped in size classes, powers of two between {@link #MIN_SIZE}
+ * and {@link #MAX_SIZE}. Each size class keeps, at most, one megabyte of free
+ * arrays in a lock-free queue, so arrays can be acquired and released from any
+ * thread.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class ByteArrayPool {
+
+	/**
+	 * The length of the largest pooled arrays.
+	 *
+	 * @review
+	 */
+	public static final int MAX_SIZE = 256 * 1024;
+
+	/**
+	 * The length of the smallest pooled arrays.
+	 *
+	 * @review
+	 */
+	public static final int MIN_SIZE = 4 * 1024;
+
+	/**
+	 * Returns a byte array whose length is the smallest size class that fits
+	 * the provided length. The array's content is undefined.
+	 *
+	 * @param  length the minimum length of the array
+	 * @return the byte array
+	 * @throws IllegalArgumentException if the length is greater than {@link
+	 *         #MAX_SIZE}
+	 * @review
+	 */
+	public static byte[] acquire(int length) {
+		if (length > MAX_SIZE) {
+			throw new IllegalArgumentException(
+				"Length " + length + " exceeds " + MAX_SIZE);
+		}
+
+		int sizeClass = _getSizeClass(length);
+
+		byte[] bytes = _queues[sizeClass].poll();
+
+		if (bytes == null) {
+			return new byte[MIN_SIZE << sizeClass];
+		}
+
+		_counts[sizeClass].decrementAndGet();
+
+		return bytes;
+	}
+
+	/**
+	 * Returns a byte array obtained with {@link #acquire(int)} to the pool.
+	 * The array must not be used after calling this method. Arrays whose
+	 * length isn't a size class, or whose size class is full, are discarded.
+	 *
+	 * @param bytes the byte array
+	 * @review
+	 */
+	public static void release(byte[] bytes) {
+		if ((bytes == null) || (bytes.length < MIN_SIZE) ||
+			(bytes.length > MAX_SIZE) ||
+			(Integer.bitCount(bytes.length) != 1)) {
+
+			return;
+		}
+
+		int sizeClass = _getSizeClass(bytes.length);
+
+		AtomicInteger count = _counts[sizeClass];
+
+		int maxCount = _MAX_POOLED_BYTES_PER_SIZE_CLASS / bytes.length;
+
+		if (count.incrementAndGet() > maxCount) {
+			count.decrementAndGet();
+
+			return;
+		}
+
+		_queues[sizeClass].offer(bytes);
+	}
+
+	private static int _getSizeClass(int length) {
+		if (length <= MIN_SIZE) {
+			return 0;
+		}
+
+		int size = Integer.highestOneBit(length - 1) << 1;
+
+		return Integer.numberOfTrailingZeros(size / MIN_SIZE);
+	}
+
+	private ByteArrayPool() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _MAX_POOLED_BYTES_PER_SIZE_CLASS = 1024 * 1024;
+
+	private static final int _SIZE_CLASSES =
+		Integer.numberOfTrailingZeros(MAX_SIZE / MIN_SIZE) + 1;
+
+	private static final AtomicInteger[] _counts =
+		new AtomicInteger[_SIZE_CLASSES];
+
+	@SuppressWarnings("unchecked")
+	private static final Queue<byte[]>[] _queues =
+		new Queue[_SIZE_CLASSES];
+
+	static {
+		for (int i = 0; i < _SIZE_CLASSES; i++) {
+			_counts[i] = new AtomicInteger();
+			_queues[i] = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer.base;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import java.util.function.Consumer;
+
+/**
+ * Writes every JSON object it receives to its own line of an output stream,
+ * flushing the stream every time the provided number of lines have been
+ * written. Any {@code IOException} is thrown wrapped in an {@code
+ * UncheckedIOException}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class LineWriter implements Consumer<JSONObjectBuilder> {
+
+	public LineWriter(
+		OutputStream outputStream, JsonFactory jsonFactory, int flushInterval) {
+
+		_outputStream = outputStream;
+		_jsonFactory = jsonFactory;
+		_flushInterval = flushInterval;
+	}
+
+	@Override
+	public void accept(JSONObjectBuilder jsonObjectBuilder) {
+		try {
+			jsonObjectBuilder.writeTo(_outputStream, _jsonFactory);
+
+			_outputStream.write('\n');
+
+			if ((++_count % _flushInterval) == 0) {
+				_outputStream.flush();
+			}
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	private int _count;
+	private final int _flushInterval;
+	private final JsonFactory _jsonFactory;
+	private final OutputStream _outputStream;
+
+}
\ No newline at end of file
@@ -0,0 +1,327 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer.base;
+
+import static java.util.Collections.singletonList;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Buffers a response's entity in byte arrays obtained from the {@link
+ * ByteArrayPool}, so it can be written with a single write and an exact {@code
+ * Content-Length} header.
+ *
+ * <p>
+ * If the entity grows beyond {@link ByteArrayPool#MAX_SIZE} bytes, or the
+ * stream is flushed before it's committed, the buffered bytes are written to
+ * the response's output stream and the rest of the entity is streamed without
+ * a {@code Content-Length} header.
+ * </p>
+ *
+ * <p>
+ * The entity is only written to the response when {@link #commit()} is
+ * called. Closing the stream returns the buffer to the pool without closing
+ * the response's output stream, so an entity whose writing fails before being
+ * committed is discarded.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ResponseOutputStream extends OutputStream {
+
+	public ResponseOutputStream(
+		OutputStream outputStream, MultivaluedMap<String, Object> httpHeaders) {
+
+		_outputStream = outputStream;
+		_httpHeaders = httpHeaders;
+
+		_bytes = ByteArrayPool.acquire(ByteArrayPool.MIN_SIZE);
+	}
+
+	/**
+	 * Returns the buffer to the pool. The response's output stream isn't
+	 * closed.
+	 *
+	 * @review
+	 */
+	@Override
+	public void close() {
+		_release();
+	}
+
+	/**
+	 * Writes the buffered entity to the response's output stream, with its
+	 * {@code Content-Length} header if the entity hasn't been streamed, and
+	 * flushes it.
+	 *
+	 * @review
+	 */
+	public void commit() throws IOException {
+		if (_bytes != null) {
+			_httpHeaders.put(CONTENT_LENGTH, singletonList(_count));
+
+			_outputStream.write(_bytes, 0, _count);
+
+			_release();
+		}
+
+		_outputStream.flush();
+	}
+
+	/**
+	 * Writes the buffered bytes to the response's output stream and flushes
+	 * it. From then on, the entity is streamed.
+	 *
+	 * @review
+	 */
+	@Override
+	public void flush() throws IOException {
+		_stream();
+
+		_outputStream.flush();
+	}
+
+	/**
+	 * Returns {@code true} if the entity is still being buffered.
+	 *
+	 * @return {@code true} if the entity is being buffered; {@code false} if
+	 *         it has been streamed or committed
+	 * @review
+	 */
+	public boolean isBuffering() {
+		if (_bytes != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (_ensureCapacity(length)) {
+			System.arraycopy(bytes, offset, _bytes, _count, length);
+
+			_count += length;
+		}
+		else {
+			_outputStream.write(bytes, offset, length);
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (_ensureCapacity(1)) {
+			_bytes[_count++] = (byte)b;
+		}
+		else {
+			_outputStream.write(b);
+		}
+	}
+
+	/**
+	 * Writes the string encoded in UTF-8. The string is encoded directly in
+	 * the buffer, or in chunks of up to 32 KB if the entity is being streamed,
+	 * so a large entity reaches the response's output stream in a few large
+	 * writes. Unpaired surrogates are replaced with {@code ?}, as {@link
+	 * String#getBytes(java.nio.charset.Charset)} does.
+	 *
+	 * @param  string the string
+	 * @review
+	 */
+	public void writeUTF8(String string) throws IOException {
+		int length = string.length();
+
+		if ((_bytes != null) && _ensureCapacity(_getUTF8Length(string))) {
+			_count = _encodeUTF8(string, 0, length, _bytes, _count);
+
+			return;
+		}
+
+		byte[] bytes = ByteArrayPool.acquire(_CHUNK_SIZE);
+
+		try {
+			int count = 0;
+			int start = 0;
+
+			while (start < length) {
+				int end = Math.min(
+					start + ((bytes.length - count) / 3), length);
+
+				if ((end < length) &&
+					Character.isHighSurrogate(string.charAt(end - 1))) {
+
+					end--;
+				}
+
+				if (end == start) {
+					_outputStream.write(bytes, 0, count);
+
+					count = 0;
+
+					continue;
+				}
+
+				count = _encodeUTF8(string, start, end, bytes, count);
+
+				start = end;
+			}
+
+			if (count > 0) {
+				_outputStream.write(bytes, 0, count);
+			}
+		}
+		finally {
+			ByteArrayPool.release(bytes);
+		}
+	}
+
+	private static int _encodeUTF8(
+		String string, int start, int end, byte[] bytes, int offset) {
+
+		for (int i = start; i < end; i++) {
+			char c = string.charAt(i);
+
+			if (c < 0x80) {
+				bytes[offset++] = (byte)c;
+			}
+			else if (c < 0x800) {
+				bytes[offset++] = (byte)(0xC0 | (c >> 6));
+				bytes[offset++] = (byte)(0x80 | (c & 0x3F));
+			}
+			else if (_isSurrogatePair(string, i, end)) {
+				int codePoint = Character.toCodePoint(
+					c, string.charAt(++i));
+
+				bytes[offset++] = (byte)(0xF0 | (codePoint >> 18));
+				bytes[offset++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+				bytes[offset++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+				bytes[offset++] = (byte)(0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) {
+				bytes[offset++] = (byte)'?';
+			}
+			else {
+				bytes[offset++] = (byte)(0xE0 | (c >> 12));
+				bytes[offset++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				bytes[offset++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+
+		return offset;
+	}
+
+	private static int _getUTF8Length(String string) {
+		int length = string.length();
+
+		int utf8Length = 0;
+
+		for (int i = 0; i < length; i++) {
+			char c = string.charAt(i);
+
+			if (c < 0x80) {
+				utf8Length++;
+			}
+			else if (c < 0x800) {
+				utf8Length += 2;
+			}
+			else if (_isSurrogatePair(string, i, length)) {
+				utf8Length += 4;
+
+				i++;
+			}
+			else if (Character.isSurrogate(c)) {
+				utf8Length++;
+			}
+			else {
+				utf8Length += 3;
+			}
+		}
+
+		return utf8Length;
+	}
+
+	private static boolean _isSurrogatePair(String string, int index, int end) {
+		if (Character.isHighSurrogate(string.charAt(index)) &&
+			((index + 1) < end) &&
+			Character.isLowSurrogate(string.charAt(index + 1))) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean _ensureCapacity(int length) throws IOException {
+		if (_bytes == null) {
+			return false;
+		}
+
+		long required = (long)_count + length;
+
+		if (required <= _bytes.length) {
+			return true;
+		}
+
+		if (required > ByteArrayPool.MAX_SIZE) {
+			_stream();
+
+			return false;
+		}
+
+		byte[] bytes = ByteArrayPool.acquire((int)required);
+
+		System.arraycopy(_bytes, 0, bytes, 0, _count);
+
+		ByteArrayPool.release(_bytes);
+
+		_bytes = bytes;
+
+		return true;
+	}
+
+	private void _release() {
+		if (_bytes != null) {
+			ByteArrayPool.release(_bytes);
+
+			_bytes = null;
+		}
+	}
+
+	private void _stream() throws IOException {
+		if (_bytes != null) {
+			if (_count > 0) {
+				_outputStream.write(_bytes, 0, _count);
+			}
+
+			_release();
+		}
+	}
+
+	private static final int _CHUNK_SIZE = 32 * 1024;
+
+	private byte[] _bytes;
+	private int _count;
+	private final MultivaluedMap<String, Object> _httpHeaders;
+	private final OutputStream _outputStream;
+
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.list;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Represents the path of field names that leads to an embedded model, from the
+ * root model's field to the embedded model's own field.
+ *
+ * <p>
+ * Instances of this class are immutable and linked to their parent path. Every
+ * path computes its depth and the arrays with its segments once, when it's
+ * created, so the message mappers can use them for every field of the embedded
+ * model they write without any extra cost.
+ * </p>
+ *
+ * <p>
+ * The arrays returned by this class are shared between calls and must not be
+ * modified.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class EmbeddedPath {
+
+	public EmbeddedPath(EmbeddedPath parent, String last) {
+		_parent = parent;
+
+		if (parent == null) {
+			_depth = 1;
+			_head = last;
+			_lastOptional = Optional.empty();
+			_segments = new String[] {last};
+			_tail = _EMPTY_ARRAY;
+		}
+		else {
+			_depth = parent._depth + 1;
+			_head = parent._head;
+			_lastOptional = Optional.of(last);
+			_segments = _append(parent._segments, last);
+			_tail = _append(parent._tail, last);
+		}
+	}
+
+	/**
+	 * Returns the number of segments in this path.
+	 *
+	 * @return the number of segments in this path
+	 * @review
+	 */
+	public int getDepth() {
+		return _depth;
+	}
+
+	/**
+	 * Returns the path this path was created from, if it exists.
+	 *
+	 * @return the parent path, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<EmbeddedPath> getParentOptional() {
+		return Optional.ofNullable(_parent);
+	}
+
+	/**
+	 * Returns the first segment of the path.
+	 *
+	 * @return the first segment of the path
+	 * @review
+	 */
+	public String head() {
+		return _head;
+	}
+
+	/**
+	 * Returns the last segment of the path, if the path has more than one
+	 * segment.
+	 *
+	 * @return the last segment of the path, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> lastOptional() {
+		return _lastOptional;
+	}
+
+	/**
+	 * Returns all segments of the path except the first and the last.
+	 *
+	 * @return the segments of the path except the first and the last
+	 * @review
+	 */
+	public String[] middle() {
+		if (_parent == null) {
+			return _EMPTY_ARRAY;
+		}
+
+		return _parent._tail;
+	}
+
+	/**
+	 * Returns all segments of the path except the first.
+	 *
+	 * @return the segments of the path except the first
+	 * @review
+	 */
+	public String[] tail() {
+		return _tail;
+	}
+
+	/**
+	 * Returns all segments of the path.
+	 *
+	 * @return the segments of the path
+	 * @review
+	 */
+	public String[] toArray() {
+		return _segments;
+	}
+
+	@Override
+	public String toString() {
+		if (_string == null) {
+			_string = String.join(".", _segments);
+		}
+
+		return _string;
+	}
+
+	private static String[] _append(String[] array, String last) {
+		String[] newArray = Arrays.copyOf(array, array.length + 1);
+
+		newArray[array.length] = last;
+
+		return newArray;
+	}
+
+	private static final String[] _EMPTY_ARRAY = new String[0];
+
+	private final int _depth;
+	private final String _head;
+	private final Optional<String> _lastOptional;
+	private final EmbeddedPath _parent;
+	private final String[] _segments;
+	private String _string;
+	private final String[] _tail;
+
+}
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.message.json;
 
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
 
 import java.util.List;
 import java.util.Optional;
@@ -57,6 +58,51 @@ public interface BatchResultMessageMapper<T>
 		return Optional.empty();
 	}
 
+	/**
+	 * Returns {@code true} if batch results must be written as a stream of
+	 * JSON objects, one for each item followed by one with the rest of the
+	 * batch result, instead of a single JSON object. In that case, the items
+	 * are created in chunks while they're written, the writer doesn't call
+	 * {@link #onFinishItem}, and the items that can't be created are written
+	 * with {@link #mapItemError}.
+	 *
+	 * @return {@code true} if batch results must be written as a stream of
+	 *         JSON objects; {@code false} otherwise
+	 * @review
+	 */
+	public default boolean isItemStreaming() {
+		return false;
+	}
+
+	/**
+	 * Maps the error of an item that couldn't be created to its JSON object
+	 * representation. This method is only called if {@link #isItemStreaming()}
+	 * returns {@code true}.
+	 *
+	 * @param batchResultJSONObjectBuilder the JSON object builder for the batch
+	 *        result
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param apiError the item's error
+	 * @review
+	 */
+	public default void mapItemError(
+		JSONObjectBuilder batchResultJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, APIError apiError) {
+	}
+
+	/**
+	 * Maps the number of items that couldn't be created to its JSON object
+	 * representation. This method is only called if {@link #isItemStreaming()}
+	 * returns {@code true}.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the batch result
+	 * @param failedCount the number of items that couldn't be created
+	 * @review
+	 */
+	public default void mapItemFailedCount(
+		JSONObjectBuilder jsonObjectBuilder, int failedCount) {
+	}
+
 	/**
 	 * Maps a resource URL to its JSON object representation.
 	 *
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BaseJsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import java.io.IOException;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Represents a constant JSON value that's serialized once, when it's created,
+ * and written as is every time it's added to a {@link JSONObjectBuilder}.
+ *
+ * <p>
+ * Message mappers should create fragments for the values they repeat in every
+ * response (e.g., a JSON-LD context or the types of a resource) and add them
+ * with {@link JSONObjectBuilder.FieldStep#fragmentValue(JSONFragment)}. Text
+ * JSON outputs copy the fragment's UTF-8 bytes, while binary formats (e.g.,
+ * CBOR or Smile) encode its JSON tree.
+ * </p>
+ *
+ * <p>
+ * Fragments are immutable, so they can be shared between threads and
+ * responses.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class JSONFragment implements JsonSerializable {
+
+	/**
+	 * Creates a JSON array fragment populated by the provided consumer.
+	 *
+	 * @param  consumer the consumer that populates the JSON array
+	 * @return the JSON array fragment
+	 * @review
+	 */
+	public static JSONFragment arrayFragment(
+		Consumer<JSONObjectBuilder.ArrayValueStep> consumer) {
+
+		ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
+
+		consumer.accept(new JSONObjectBuilder.ArrayValueStep(arrayNode));
+
+		return new JSONFragment(arrayNode);
+	}
+
+	/**
+	 * Creates a JSON array fragment with the elements of a string collection.
+	 *
+	 * @param  collection the string collection
+	 * @return the JSON array fragment
+	 * @review
+	 */
+	public static JSONFragment stringsFragment(Collection<String> collection) {
+		return arrayFragment(
+			arrayValueStep -> arrayValueStep.addAllStrings(collection));
+	}
+
+	@Override
+	public void serialize(
+			JsonGenerator jsonGenerator, SerializerProvider serializerProvider)
+		throws IOException {
+
+		if (jsonGenerator.canWriteBinaryNatively()) {
+			_jsonNode.serialize(jsonGenerator, serializerProvider);
+		}
+		else {
+			jsonGenerator.writeRawValue(_serializedString);
+		}
+	}
+
+	@Override
+	public void serializeWithType(
+			JsonGenerator jsonGenerator, SerializerProvider serializerProvider,
+			TypeSerializer typeSerializer)
+		throws IOException {
+
+		serialize(jsonGenerator, serializerProvider);
+	}
+
+	@Override
+	public String toString() {
+		return _serializedString.getValue();
+	}
+
+	/**
+	 * Returns the JSON tree of the fragment. The returned node is shared, so
+	 * it must not be modified.
+	 *
+	 * @return the JSON tree of the fragment
+	 */
+	JsonNode getJsonNode() {
+		return _jsonNode;
+	}
+
+	JSONFragment(BaseJsonNode jsonNode) {
+		_jsonNode = jsonNode;
+
+		String json;
+
+		try {
+			json = _OBJECT_MAPPER.writeValueAsString(jsonNode);
+		}
+		catch (JsonProcessingException jpe) {
+			json = jsonNode.toString();
+		}
+
+		_serializedString = new SerializedString(json);
+
+		_serializedString.asUnquotedUTF8();
+	}
+
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper();
+
+	private final BaseJsonNode _jsonNode;
+	private final SerializedString _serializedString;
+
+}
\ No newline at end of file
@@ -17,11 +17,20 @@ package com.liferay.apio.architect.internal.message.json;
 import static com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -84,8 +93,37 @@ import java.util.function.Function;
  */
 public class JSONObjectBuilder {
 
+	/**
+	 * Creates a JSON object builder whose JSON object is the provided
+	 * fragment. The fragment is written as it was serialized, unless the
+	 * builder is modified, in which case a copy of the fragment's JSON object
+	 * is modified instead.
+	 *
+	 * @param  jsonFragment the JSON object fragment
+	 * @return the JSON object builder
+	 * @review
+	 */
+	public static JSONObjectBuilder of(JSONFragment jsonFragment) {
+		JsonNode jsonNode = jsonFragment.getJsonNode();
+
+		if (!jsonNode.isObject()) {
+			throw new IllegalArgumentException(
+				"The JSON fragment is not a JSON object");
+		}
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder(null);
+
+		jsonObjectBuilder._jsonFragment = jsonFragment;
+
+		return jsonObjectBuilder;
+	}
+
 	public JSONObjectBuilder() {
-		_objectNode = _OBJECT_MAPPER.createObjectNode();
+		this(_OBJECT_MAPPER.createObjectNode());
+	}
+
+	private JSONObjectBuilder(ObjectNode objectNode) {
+		_objectNode = objectNode;
 	}
 
 	/**
@@ -95,6 +133,10 @@ public class JSONObjectBuilder {
 	 * @return the JSON object
 	 */
 	public String build() {
+		if (_jsonFragment != null) {
+			return _jsonFragment.toString();
+		}
+
 		try {
 			return _OBJECT_MAPPER.writeValueAsString(_objectNode);
 		}
@@ -103,6 +145,28 @@ public class JSONObjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns the JSON object constructed by the JSON object builder, encoded
+	 * in the binary format of the provided factory (e.g., CBOR or Smile).
+	 *
+	 * @param  jsonFactory the factory of the binary format
+	 * @return the encoded JSON object
+	 * @review
+	 */
+	public byte[] build(JsonFactory jsonFactory) {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			writeTo(byteArrayOutputStream, jsonFactory);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
 	/**
 	 * Begins creating a field inside the JSON object.
 	 *
@@ -110,7 +174,7 @@ public class JSONObjectBuilder {
 	 * @return the builder's next step
 	 */
 	public FieldStep field(String name) {
-		return new FieldStep(name, _objectNode);
+		return new FieldStep(name, _getObjectNode());
 	}
 
 	/**
@@ -243,6 +307,92 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Returns an immutable fragment with a copy of the JSON object constructed
+	 * by the JSON object builder, so it can be written again in other
+	 * responses without building it.
+	 *
+	 * @return the JSON object fragment
+	 * @review
+	 */
+	public JSONFragment toJSONFragment() {
+		if (_jsonFragment != null) {
+			return _jsonFragment;
+		}
+
+		return new JSONFragment(_objectNode.deepCopy());
+	}
+
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * output stream, encoded with the provided factory. The output stream
+	 * isn't closed or flushed.
+	 *
+	 * @param  outputStream the output stream
+	 * @param  jsonFactory the factory of the format
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(OutputStream outputStream, JsonFactory jsonFactory)
+		throws IOException {
+
+		try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(
+				outputStream)) {
+
+			jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			jsonGenerator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+			if (_jsonFragment != null) {
+				_OBJECT_MAPPER.writeValue(jsonGenerator, _jsonFragment);
+			}
+			else {
+				_OBJECT_MAPPER.writeTree(jsonGenerator, _objectNode);
+			}
+		}
+	}
+
+	private static JsonNode _toNumberNode(Number value) {
+		JsonNodeFactory jsonNodeFactory = _OBJECT_MAPPER.getNodeFactory();
+
+		if (value instanceof Integer) {
+			return jsonNodeFactory.numberNode((Integer)value);
+		}
+
+		if (value instanceof Long) {
+			return jsonNodeFactory.numberNode((Long)value);
+		}
+
+		if (value instanceof Double) {
+			return jsonNodeFactory.numberNode((Double)value);
+		}
+
+		if (value instanceof Float) {
+			return jsonNodeFactory.numberNode((Float)value);
+		}
+
+		if (value instanceof Short) {
+			return jsonNodeFactory.numberNode((Short)value);
+		}
+
+		if (value instanceof Byte) {
+			return jsonNodeFactory.numberNode((Byte)value);
+		}
+
+		return jsonNodeFactory.pojoNode(value);
+	}
+
+	private ObjectNode _getObjectNode() {
+		if (_jsonFragment != null) {
+			JsonNode jsonNode = _jsonFragment.getJsonNode();
+
+			_objectNode = (ObjectNode)jsonNode.deepCopy();
+
+			_jsonFragment = null;
+		}
+
+		return _objectNode;
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(ArrayNode arrayNode) {
@@ -292,7 +442,12 @@ public class JSONObjectBuilder {
 		 *        object to add to the JSON array
 		 */
 		public void add(JSONObjectBuilder jsonObjectBuilder) {
-			_arrayNode.add(jsonObjectBuilder._objectNode);
+			if (jsonObjectBuilder._jsonFragment != null) {
+				_arrayNode.addPOJO(jsonObjectBuilder._jsonFragment);
+			}
+			else {
+				_arrayNode.add(jsonObjectBuilder._objectNode);
+			}
 		}
 
 		/**
@@ -305,6 +460,32 @@ public class JSONObjectBuilder {
 			collection.forEach(this::addBoolean);
 		}
 
+		/**
+		 * Adds all elements of a {@code double} array as elements of the JSON
+		 * array.
+		 *
+		 * @param values the {@code double} array to add to the JSON array
+		 * @review
+		 */
+		public void addAllDoubles(double[] values) {
+			for (double value : values) {
+				_arrayNode.add(value);
+			}
+		}
+
+		/**
+		 * Adds all elements of a {@code long} array as elements of the JSON
+		 * array.
+		 *
+		 * @param values the {@code long} array to add to the JSON array
+		 * @review
+		 */
+		public void addAllLongs(long[] values) {
+			for (long value : values) {
+				_arrayNode.add(value);
+			}
+		}
+
 		/**
 		 * Adds all elements of a number collection as elements of the JSON
 		 * array.
@@ -334,13 +515,33 @@ public class JSONObjectBuilder {
 			_arrayNode.add(value);
 		}
 
+		/**
+		 * Adds a new primitive {@code double} to the JSON array.
+		 *
+		 * @param value the {@code double} to add to the JSON array
+		 * @review
+		 */
+		public void addDouble(double value) {
+			_arrayNode.add(value);
+		}
+
+		/**
+		 * Adds a new primitive {@code long} to the JSON array.
+		 *
+		 * @param value the {@code long} to add to the JSON array
+		 * @review
+		 */
+		public void addLong(long value) {
+			_arrayNode.add(value);
+		}
+
 		/**
 		 * Adds a new number to the JSON array.
 		 *
 		 * @param value the number to add to the JSON array
 		 */
 		public void addNumber(Number value) {
-			_arrayNode.addPOJO(value);
+			_arrayNode.add(_toNumberNode(value));
 		}
 
 		/**
@@ -377,6 +578,8 @@ public class JSONObjectBuilder {
 		public ArrayValueStep arrayValue() {
 			ArrayNode arrayNode = Optional.ofNullable(
 				_objectNode.get(_name)
+			).map(
+				FieldStep::_toMutableJsonNode
 			).filter(
 				JsonNode::isArray
 			).map(
@@ -422,6 +625,16 @@ public class JSONObjectBuilder {
 			_objectNode.put(_name, value);
 		}
 
+		/**
+		 * Adds a new primitive {@code double} to the JSON object.
+		 *
+		 * @param value the {@code double} to add to the JSON object
+		 * @review
+		 */
+		public void doubleValue(double value) {
+			_objectNode.put(_name, value);
+		}
+
 		/**
 		 * Begins creating a new JSON object field.
 		 *
@@ -429,19 +642,7 @@ public class JSONObjectBuilder {
 		 * @return the builder's field step
 		 */
 		public FieldStep field(String name) {
-			ObjectNode objectNode = Optional.ofNullable(
-				_objectNode.get(_name)
-			).filter(
-				JsonNode::isObject
-			).map(
-				ObjectNode.class::cast
-			).orElseGet(
-				_OBJECT_MAPPER::createObjectNode
-			);
-
-			_objectNode.set(_name, objectNode);
-
-			return new FieldStep(name, objectNode);
+			return new FieldStep(name, _getOrCreateObjectNode());
 		}
 
 		/**
@@ -463,6 +664,44 @@ public class JSONObjectBuilder {
 			}
 		}
 
+		/**
+		 * Adds a constant JSON fragment to the JSON object. The fragment is
+		 * written as it was serialized when it was created.
+		 *
+		 * <p>
+		 * If the field already contains a JSON array and the fragment is also
+		 * a JSON array, the fragment's elements are added to the existing JSON
+		 * array.
+		 * </p>
+		 *
+		 * @param jsonFragment the JSON fragment to add to the JSON object
+		 * @review
+		 */
+		public void fragmentValue(JSONFragment jsonFragment) {
+			JsonNode jsonNode = _objectNode.get(_name);
+			JsonNode fragmentJsonNode = jsonFragment.getJsonNode();
+
+			if ((jsonNode == null) || !fragmentJsonNode.isArray()) {
+				_objectNode.putPOJO(_name, jsonFragment);
+
+				return;
+			}
+
+			jsonNode = _toMutableJsonNode(jsonNode);
+
+			if (!jsonNode.isArray()) {
+				_objectNode.putPOJO(_name, jsonFragment);
+
+				return;
+			}
+
+			ArrayNode arrayNode = (ArrayNode)jsonNode;
+
+			arrayNode.addAll((ArrayNode)fragmentJsonNode.deepCopy());
+
+			_objectNode.set(_name, arrayNode);
+		}
+
 		/**
 		 * Begins creating a new JSON object field, only if a condition is met.
 		 * If the condition is met, this method returns the field step created
@@ -509,6 +748,16 @@ public class JSONObjectBuilder {
 			}
 		}
 
+		/**
+		 * Adds a new primitive {@code long} to the JSON object.
+		 *
+		 * @param value the {@code long} to add to the JSON object
+		 * @review
+		 */
+		public void longValue(long value) {
+			_objectNode.put(_name, value);
+		}
+
 		/**
 		 * Begins creating a new nested JSON object field.
 		 *
@@ -576,7 +825,7 @@ public class JSONObjectBuilder {
 		 * @param value the number to add to the JSON object
 		 */
 		public void numberValue(Number value) {
-			_objectNode.putPOJO(_name, value);
+			_objectNode.set(_name, _toNumberNode(value));
 		}
 
 		/**
@@ -585,11 +834,34 @@ public class JSONObjectBuilder {
 		 * @param jsonObjectBuilder the {@link JSONObjectBuilder}
 		 */
 		public void objectValue(JSONObjectBuilder jsonObjectBuilder) {
+			if (jsonObjectBuilder._jsonFragment != null) {
+				_objectNode.putPOJO(_name, jsonObjectBuilder._jsonFragment);
+
+				return;
+			}
+
 			ObjectNode objectNode = jsonObjectBuilder._objectNode;
 
 			_objectNode.set(_name, objectNode);
 		}
 
+		/**
+		 * Returns a JSON object builder that writes directly inside the JSON
+		 * object of this field, creating it if it doesn't exist.
+		 *
+		 * <p>
+		 * The returned builder is a stable handle to the field's JSON object,
+		 * so callers that write several fields in the same nested object can
+		 * navigate to it once instead of once per field.
+		 * </p>
+		 *
+		 * @return the JSON object builder of the field's JSON object
+		 * @review
+		 */
+		public JSONObjectBuilder objectBuilder() {
+			return new JSONObjectBuilder(_getOrCreateObjectNode());
+		}
+
 		/**
 		 * Adds a new string to the JSON object.
 		 *
@@ -599,6 +871,44 @@ public class JSONObjectBuilder {
 			_objectNode.put(_name, value);
 		}
 
+		private static JsonNode _toMutableJsonNode(JsonNode jsonNode) {
+			if (!jsonNode.isPojo()) {
+				return jsonNode;
+			}
+
+			Object pojo = ((POJONode)jsonNode).getPojo();
+
+			if (!(pojo instanceof JSONFragment)) {
+				return jsonNode;
+			}
+
+			JSONFragment jsonFragment = (JSONFragment)pojo;
+
+			JsonNode fragmentJsonNode = jsonFragment.getJsonNode();
+
+			return fragmentJsonNode.deepCopy();
+		}
+
+		private ObjectNode _getOrCreateObjectNode() {
+			JsonNode jsonNode = _objectNode.get(_name);
+
+			if (jsonNode != null) {
+				jsonNode = _toMutableJsonNode(jsonNode);
+			}
+
+			if ((jsonNode != null) && jsonNode.isObject()) {
+				_objectNode.set(_name, jsonNode);
+
+				return (ObjectNode)jsonNode;
+			}
+
+			ObjectNode objectNode = _OBJECT_MAPPER.createObjectNode();
+
+			_objectNode.set(_name, objectNode);
+
+			return objectNode;
+		}
+
 		private final String _name;
 		private final ObjectNode _objectNode;
 
@@ -611,6 +921,7 @@ public class JSONObjectBuilder {
 		}
 	};
 
-	private final ObjectNode _objectNode;
+	private JSONFragment _jsonFragment;
+	private ObjectNode _objectNode;
 
 }
\ No newline at end of file
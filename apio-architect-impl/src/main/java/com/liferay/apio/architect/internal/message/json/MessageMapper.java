@@ -14,6 +14,10 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.util.Optional;
+
 /**
  * Maps message data to its representation in a JSON object. Instances of this
  * interface work like events. The message's {@code
@@ -27,6 +31,20 @@ package com.liferay.apio.architect.internal.message.json;
  */
 public interface MessageMapper<T> {
 
+	/**
+	 * Returns the Jackson factory of the binary format the mapper writes, if
+	 * the mapper doesn't write JSON text. The writers encode the JSON object
+	 * built by the mapper with this factory, directly to the response's
+	 * output stream.
+	 *
+	 * @return the binary format's factory, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<JsonFactory> getBinaryJsonFactoryOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the media type the mapper represents.
 	 *
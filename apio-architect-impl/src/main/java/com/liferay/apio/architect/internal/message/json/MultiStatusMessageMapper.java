@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json;
+
+import com.liferay.apio.architect.internal.response.MultiStatus;
+
+/**
+ * Maps {@link MultiStatus} data to its representation in a JSON object.
+ * Instances of this interface work like events. The {@code
+ * javax.ws.rs.ext.MessageBodyWriter} of the {@code MultiStatus} calls the
+ * {@code MultiStatusMessageMapper} methods. In each method, developers should
+ * only map the provided part of the multi-status response to its
+ * representation in a JSON object. To enable this, each method receives a
+ * {@link JSONObjectBuilder}.
+ *
+ * <p>
+ * The method {@link #onFinishOperation} is called when the writer finishes
+ * writing an operation, and the method {@link #onFinish} is called when the
+ * writer finishes writing the multi-status response. Otherwise, the
+ * multi-status message mapper's methods aren't called in a particular order.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public interface MultiStatusMessageMapper extends MessageMapper<MultiStatus> {
+
+	/**
+	 * Maps the body of an operation to its JSON object representation. The
+	 * body is the representation of the entity returned by the operation, or
+	 * of the error thrown by it.
+	 *
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param bodyJSONObjectBuilder the JSON object builder for the body
+	 * @review
+	 */
+	public default void mapOperationBody(
+		JSONObjectBuilder operationJSONObjectBuilder,
+		JSONObjectBuilder bodyJSONObjectBuilder) {
+	}
+
+	/**
+	 * Maps the HTTP method of an operation to its JSON object representation.
+	 *
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param method the operation's HTTP method
+	 * @review
+	 */
+	public default void mapOperationMethod(
+		JSONObjectBuilder operationJSONObjectBuilder, String method) {
+	}
+
+	/**
+	 * Maps the path of an operation to its JSON object representation.
+	 *
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param path the operation's path
+	 * @review
+	 */
+	public default void mapOperationPath(
+		JSONObjectBuilder operationJSONObjectBuilder, String path) {
+	}
+
+	/**
+	 * Maps the status of an operation to its JSON object representation.
+	 *
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @param status the operation's status
+	 * @review
+	 */
+	public default void mapOperationStatus(
+		JSONObjectBuilder operationJSONObjectBuilder, int status) {
+	}
+
+	/**
+	 * Finishes the operation. This is the final multi-status message mapper
+	 * method the writer calls for the operation.
+	 *
+	 * @param multiStatusJSONObjectBuilder the JSON object builder for the
+	 *        multi-status response
+	 * @param operationJSONObjectBuilder the JSON object builder for the
+	 *        operation
+	 * @review
+	 */
+	public default void onFinishOperation(
+		JSONObjectBuilder multiStatusJSONObjectBuilder,
+		JSONObjectBuilder operationJSONObjectBuilder) {
+	}
+
+}
\ No newline at end of file
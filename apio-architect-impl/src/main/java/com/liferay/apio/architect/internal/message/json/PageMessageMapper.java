@@ -15,7 +15,7 @@
 package com.liferay.apio.architect.internal.message.json;
 
 import com.liferay.apio.architect.internal.action.ActionSemantics;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
@@ -51,6 +51,38 @@ import java.util.Optional;
 public interface PageMessageMapper<T>
 	extends MessageMapper<Page<T>>, ActionMapper {
 
+	/**
+	 * Returns the JSON object builder of the item's embedded resource placed
+	 * in the provided path. If the returned builder is present, the writer
+	 * maps the embedded resource's basic fields with the item methods (e.g.,
+	 * {@link #mapItemBooleanField}) on that builder, instead of using the
+	 * {@code mapItemEmbeddedResource} methods. See {@link
+	 * SingleModelMessageMapper#getEmbeddedResourceJSONObjectBuilderOptional}.
+	 *
+	 * @param  pageJSONObjectBuilder the JSON object builder for the page
+	 * @param  itemJSONObjectBuilder the JSON object builder for the item
+	 * @param  embeddedPathElements the current resource's embedded path
+	 *         elements
+	 * @return the JSON object builder for the embedded resource, if present;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<JSONObjectBuilder>
+		getItemEmbeddedResourceJSONObjectBuilderOptional(
+			JSONObjectBuilder pageJSONObjectBuilder,
+			JSONObjectBuilder itemJSONObjectBuilder,
+			EmbeddedPath embeddedPathElements) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		return optional.flatMap(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.
+					getEmbeddedResourceJSONObjectBuilderOptional(
+						itemJSONObjectBuilder, embeddedPathElements));
+	}
+
 	/**
 	 * Returns the {@link SingleModelMessageMapper} used by the item methods.
 	 *
@@ -62,6 +94,20 @@ public interface PageMessageMapper<T>
 		return Optional.empty();
 	}
 
+	/**
+	 * Returns {@code true} if pages must be written as a stream of JSON
+	 * objects, one for each item followed by one with the rest of the page,
+	 * instead of a single JSON object. In that case, the writer doesn't call
+	 * {@link #onFinishItem}.
+	 *
+	 * @return {@code true} if pages must be written as a stream of JSON
+	 *         objects; {@code false} otherwise
+	 * @review
+	 */
+	public default boolean isItemStreaming() {
+		return false;
+	}
+
 	@Override
 	public default void mapActionSemanticsExpectedResourceURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -181,6 +227,53 @@ public interface PageMessageMapper<T>
 					itemJSONObjectBuilder, fieldName, value));
 	}
 
+	/**
+	 * Maps a resource's primitive {@code double} field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemDoubleField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		double value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper -> singleModelMessageMapper.mapDoubleField(
+				itemJSONObjectBuilder, fieldName, value));
+	}
+
+	/**
+	 * Maps a resource's {@code double} array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemDoubleListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		double[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapDoubleListField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps an embedded resource's boolean field to its JSON object
 	 * representation.
@@ -194,8 +287,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceBooleanField(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Boolean value) {
+		EmbeddedPath embeddedPathElements, String fieldName, Boolean value) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -220,7 +312,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceBooleanListField(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
+		EmbeddedPath embeddedPathElements, String fieldName,
 		List<Boolean> value) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
@@ -233,6 +325,58 @@ public interface PageMessageMapper<T>
 					value));
 	}
 
+	/**
+	 * Maps an embedded resource's primitive {@code double} field to its JSON
+	 * object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceDoubleField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		EmbeddedPath embeddedPathElements, String fieldName, double value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceDoubleField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
+	/**
+	 * Maps an embedded resource's {@code double} array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceDoubleListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		EmbeddedPath embeddedPathElements, String fieldName, double[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceDoubleListField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource link to its JSON object representation.
 	 *
@@ -245,8 +389,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceLink(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
+		EmbeddedPath embeddedPathElements, String fieldName, String url) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -258,6 +401,58 @@ public interface PageMessageMapper<T>
 					url));
 	}
 
+	/**
+	 * Maps an embedded resource's primitive {@code long} field to its JSON
+	 * object representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceLongField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		EmbeddedPath embeddedPathElements, String fieldName, long value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceLongField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
+	/**
+	 * Maps an embedded resource's {@code long} array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemEmbeddedResourceLongListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder,
+		EmbeddedPath embeddedPathElements, String fieldName, long[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapEmbeddedResourceLongListField(
+					itemJSONObjectBuilder, embeddedPathElements, fieldName,
+					value));
+	}
+
 	/**
 	 * Maps an embedded resource number field to its JSON object representation.
 	 *
@@ -270,8 +465,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceNumberField(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Number number) {
+		EmbeddedPath embeddedPathElements, String fieldName, Number number) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -296,7 +490,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceNumberListField(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
+		EmbeddedPath embeddedPathElements, String fieldName,
 		List<Number> value) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
@@ -321,8 +515,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceStringField(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String string) {
+		EmbeddedPath embeddedPathElements, String fieldName, String string) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -347,7 +540,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceStringListField(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
+		EmbeddedPath embeddedPathElements, String fieldName,
 		List<String> value) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
@@ -371,7 +564,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceTypes(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, List<String> types) {
+		EmbeddedPath embeddedPathElements, List<String> types) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -393,7 +586,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemEmbeddedResourceURL(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		EmbeddedPath embeddedPathElements, String url) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -435,7 +628,7 @@ public interface PageMessageMapper<T>
 	public default void mapItemLinkedResourceURL(
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		EmbeddedPath embeddedPathElements, String url) {
 
 		Optional<SingleModelMessageMapper<T>> optional =
 			getSingleModelMessageMapperOptional();
@@ -446,6 +639,52 @@ public interface PageMessageMapper<T>
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps a resource's primitive {@code long} field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemLongField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName, long value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper -> singleModelMessageMapper.mapLongField(
+				itemJSONObjectBuilder, fieldName, value));
+	}
+
+	/**
+	 * Maps a resource's {@code long} array field to its JSON object
+	 * representation.
+	 *
+	 * @param pageJSONObjectBuilder the JSON object builder for the page
+	 * @param itemJSONObjectBuilder the JSON object builder for the item
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapItemLongListField(
+		JSONObjectBuilder pageJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, String fieldName,
+		long[] value) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getSingleModelMessageMapperOptional();
+
+		optional.ifPresent(
+			singleModelMessageMapper ->
+				singleModelMessageMapper.mapLongListField(
+					itemJSONObjectBuilder, fieldName, value));
+	}
+
 	/**
 	 * Maps a resource number field to its JSON object representation.
 	 *
@@ -683,7 +922,7 @@ public interface PageMessageMapper<T>
 	public default void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 	}
 
 	/**
@@ -15,10 +15,14 @@
 package com.liferay.apio.architect.internal.message.json;
 
 import com.liferay.apio.architect.internal.action.ActionSemantics;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 /**
  * Maps {@link SingleModel} data to its representation in a JSON object.
@@ -42,6 +46,37 @@ import java.util.List;
 public interface SingleModelMessageMapper<T>
 	extends MessageMapper<SingleModel<T>>, ActionMapper {
 
+	/**
+	 * Returns the JSON object builder of the embedded resource placed in the
+	 * provided path, if the mapper represents the embedded resource's basic
+	 * fields, links, and types inside that builder exactly as it represents a
+	 * resource's ones in the model's builder.
+	 *
+	 * <p>
+	 * The writer calls this method once per embedded resource. If the returned
+	 * builder is present, the writer maps the embedded resource's basic fields
+	 * with the non-embedded methods (e.g., {@link #mapBooleanField}) on that
+	 * builder, instead of navigating to the embedded resource from the model's
+	 * builder for every field. Otherwise, the writer uses the {@code
+	 * mapEmbeddedResource} methods. The default implementation returns {@code
+	 * Optional#empty()}.
+	 * </p>
+	 *
+	 * @param  jsonObjectBuilder the JSON object builder for the model
+	 * @param  embeddedPathElements the current resource's embedded path
+	 *         elements
+	 * @return the JSON object builder for the embedded resource, if present;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<JSONObjectBuilder>
+		getEmbeddedResourceJSONObjectBuilderOptional(
+			JSONObjectBuilder jsonObjectBuilder,
+			EmbeddedPath embeddedPathElements) {
+
+		return Optional.empty();
+	}
+
 	/**
 	 * Maps a resource's boolean field to its JSON object representation.
 	 *
@@ -65,6 +100,44 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps a resource's primitive {@code double} field to its JSON object
+	 * representation. By default, the value is mapped as a number field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		mapNumberField(jsonObjectBuilder, fieldName, value);
+	}
+
+	/**
+	 * Maps a resource's {@code double} array field to its JSON object
+	 * representation. By default, the value is mapped as a number list field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		List<Number> numbers = DoubleStream.of(
+			value
+		).<Number>mapToObj(
+			Double::valueOf
+		).collect(
+			Collectors.toList()
+		);
+
+		mapNumberListField(jsonObjectBuilder, fieldName, numbers);
+	}
+
 	/**
 	 * Maps an embedded resource action's method to its JSON object
 	 * representation.
@@ -80,7 +153,7 @@ public interface SingleModelMessageMapper<T>
 	public default void mapEmbeddedActionMethod(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder actionJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String httpMethod) {
+		EmbeddedPath embeddedPathElements, String httpMethod) {
 	}
 
 	/**
@@ -93,9 +166,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param value the field's value
 	 */
 	public default void mapEmbeddedResourceBooleanField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Boolean value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Boolean value) {
 	}
 
 	/**
@@ -108,9 +180,53 @@ public interface SingleModelMessageMapper<T>
 	 * @param value the field's value
 	 */
 	public default void mapEmbeddedResourceBooleanListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Boolean> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Boolean> value) {
+	}
+
+	/**
+	 * Maps an embedded resource's primitive {@code double} field to its JSON
+	 * object representation. By default, the value is mapped as a number
+	 * field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double value) {
+
+		mapEmbeddedResourceNumberField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, value);
+	}
+
+	/**
+	 * Maps an embedded resource's {@code double} array field to its JSON object
+	 * representation. By default, the value is mapped as a number list field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double[] value) {
+
+		List<Number> numbers = DoubleStream.of(
+			value
+		).<Number>mapToObj(
+			Double::valueOf
+		).collect(
+			Collectors.toList()
+		);
+
+		mapEmbeddedResourceNumberListField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, numbers);
 	}
 
 	/**
@@ -122,9 +238,53 @@ public interface SingleModelMessageMapper<T>
 	 * @param url the field's value
 	 */
 	public default void mapEmbeddedResourceLink(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String url) {
+	}
+
+	/**
+	 * Maps an embedded resource's primitive {@code long} field to its JSON
+	 * object representation. By default, the value is mapped as a number
+	 * field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long value) {
+
+		mapEmbeddedResourceNumberField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, value);
+	}
+
+	/**
+	 * Maps an embedded resource's {@code long} array field to its JSON object
+	 * representation. By default, the value is mapped as a number list field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param embeddedPathElements the current resource's embedded path elements
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long[] value) {
+
+		List<Number> numbers = LongStream.of(
+			value
+		).<Number>mapToObj(
+			Long::valueOf
+		).collect(
+			Collectors.toList()
+		);
+
+		mapEmbeddedResourceNumberListField(
+			jsonObjectBuilder, embeddedPathElements, fieldName, numbers);
 	}
 
 	/**
@@ -137,9 +297,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param value the field's value
 	 */
 	public default void mapEmbeddedResourceNumberField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Number value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Number value) {
 	}
 
 	/**
@@ -152,9 +311,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param value the field's value
 	 */
 	public default void mapEmbeddedResourceNumberListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Number> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Number> value) {
 	}
 
 	/**
@@ -167,9 +325,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param value the field's value
 	 */
 	public default void mapEmbeddedResourceStringField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String value) {
 	}
 
 	/**
@@ -182,9 +339,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param value the field's value
 	 */
 	public default void mapEmbeddedResourceStringListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<String> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<String> value) {
 	}
 
 	/**
@@ -195,8 +351,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param types the resource's types
 	 */
 	public default void mapEmbeddedResourceTypes(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, List<String> types) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		List<String> types) {
 	}
 
 	/**
@@ -207,8 +363,8 @@ public interface SingleModelMessageMapper<T>
 	 * @param url the resource's URL
 	 */
 	public default void mapEmbeddedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 	}
 
 	/**
@@ -230,8 +386,46 @@ public interface SingleModelMessageMapper<T>
 	 * @param url the resource's URL
 	 */
 	public default void mapLinkedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
+	}
+
+	/**
+	 * Maps a resource's primitive {@code long} field to its JSON object
+	 * representation. By default, the value is mapped as a number field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		mapNumberField(jsonObjectBuilder, fieldName, value);
+	}
+
+	/**
+	 * Maps a resource's {@code long} array field to its JSON object
+	 * representation. By default, the value is mapped as a number list field.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param fieldName the field's name
+	 * @param value the field's value
+	 * @review
+	 */
+	public default void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		List<Number> numbers = LongStream.of(
+			value
+		).<Number>mapToObj(
+			Long::valueOf
+		).collect(
+			Collectors.toList()
+		);
+
+		mapNumberListField(jsonObjectBuilder, fieldName, numbers);
 	}
 
 	/**
@@ -337,8 +531,7 @@ public interface SingleModelMessageMapper<T>
 	public default void onFinishEmbeddedAction(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder actionJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements,
-		ActionSemantics actionSemantics) {
+		EmbeddedPath embeddedPathElements, ActionSemantics actionSemantics) {
 	}
 
 	/**
@@ -356,7 +549,7 @@ public interface SingleModelMessageMapper<T>
 	public default void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 	}
 
 	/**
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.base;
+
+import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.util.Optional;
+
+/**
+ * Defines the base {@code BatchResultMessageMapper} for binary JSON formats
+ * that represent batch results with the same structure as plain JSON
+ * collection pages. Subclasses only provide the media type and the binary
+ * {@code JsonFactory}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public abstract class BaseBinaryBatchResultMessageMapper<T>
+	implements BatchResultMessageMapper<T> {
+
+	@Override
+	public abstract Optional<JsonFactory> getBinaryJsonFactoryOptional();
+
+	@Override
+	public Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional() {
+
+		return Optional.of(_singleModelMessageMapper);
+	}
+
+	@Override
+	public void mapItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
+
+		jsonObjectBuilder.field(
+			"totalNumberOfItems"
+		).numberValue(
+			totalCount
+		);
+	}
+
+	@Override
+	public void onFinishItem(
+		JSONObjectBuilder batchResultJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder) {
+
+		batchResultJSONObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			itemJSONObjectBuilder
+		);
+	}
+
+	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
+		new PlainJSONSingleModelMessageMapper<>();
+
+}
\ No newline at end of file
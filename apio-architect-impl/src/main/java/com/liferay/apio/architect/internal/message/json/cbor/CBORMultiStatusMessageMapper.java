@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.cbor;
+
+import com.liferay.apio.architect.internal.message.json.MultiStatusMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONMultiStatusMessageMapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents the multi-status responses of batch requests in
+ * <a href="https://tools.ietf.org/html/rfc7049">CBOR</a>, with the same
+ * structure as plain JSON.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = MultiStatusMessageMapper.class)
+public class CBORMultiStatusMessageMapper
+	extends PlainJSONMultiStatusMessageMapper {
+
+	@Override
+	public Optional<JsonFactory> getBinaryJsonFactoryOptional() {
+		return Optional.of(_CBOR_FACTORY);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/cbor";
+	}
+
+	private static final JsonFactory _CBOR_FACTORY = new CBORFactory();
+
+}
\ No newline at end of file
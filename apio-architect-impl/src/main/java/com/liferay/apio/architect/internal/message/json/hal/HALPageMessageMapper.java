@@ -14,7 +14,7 @@
 
 package com.liferay.apio.architect.internal.message.json.hal;
 
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
@@ -162,7 +162,7 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.field(
 			"_embedded"
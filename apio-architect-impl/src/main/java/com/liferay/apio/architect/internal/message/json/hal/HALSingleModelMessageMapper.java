@@ -14,7 +14,7 @@
 
 package com.liferay.apio.architect.internal.message.json.hal;
 
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -22,8 +22,6 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -39,6 +37,17 @@ import org.osgi.service.component.annotations.Component;
 public class HALSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	@Override
+	public Optional<JSONObjectBuilder>
+		getEmbeddedResourceJSONObjectBuilderOptional(
+			JSONObjectBuilder jsonObjectBuilder,
+			EmbeddedPath embeddedPathElements) {
+
+		return Optional.of(
+			_getEmbeddedResourceJSONObjectBuilder(
+				jsonObjectBuilder, embeddedPathElements));
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/hal+json";
@@ -68,11 +77,33 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceBooleanField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Boolean value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Boolean value) {
 
 		_mapEmbeddedResourceField(
 			jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -81,9 +112,8 @@ public class HALSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceBooleanListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Boolean> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Boolean> value) {
 
 		_mapEmbeddedResourceField(
 			jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -93,19 +123,39 @@ public class HALSingleModelMessageMapper<T>
 			));
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.doubleValue(value));
+	}
+
+	@Override
+	public void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllDoubles(
+				value
+			));
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String url) {
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
+		String[] middle = embeddedPathElements.middle();
 
 		jsonObjectBuilder.field(
 			"_embedded"
@@ -124,11 +174,33 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.longValue(value));
+	}
+
+	@Override
+	public void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long[] value) {
+
+		_mapEmbeddedResourceField(
+			jsonObjectBuilder, embeddedPathElements, fieldName,
+			builder -> builder.arrayValue(
+			).addAllLongs(
+				value
+			));
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Number value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Number value) {
 
 		_mapEmbeddedResourceField(
 			jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -137,9 +209,8 @@ public class HALSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceNumberListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Number> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Number> value) {
 
 		_mapEmbeddedResourceField(
 			jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -151,9 +222,8 @@ public class HALSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceStringField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String value) {
 
 		_mapEmbeddedResourceField(
 			jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -162,9 +232,8 @@ public class HALSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceStringListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<String> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<String> value) {
 
 		_mapEmbeddedResourceField(
 			jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -176,8 +245,8 @@ public class HALSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 
 		mapEmbeddedResourceLink(
 			jsonObjectBuilder, embeddedPathElements, "self", url);
@@ -196,8 +265,8 @@ public class HALSingleModelMessageMapper<T>
 
 	@Override
 	public void mapLinkedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
@@ -211,20 +280,20 @@ public class HALSingleModelMessageMapper<T>
 			);
 		}
 		else {
-			Stream<String> middleStream = embeddedPathElements.middleStream();
+			String[] middle = embeddedPathElements.middle();
 
-			List<String> middleList = middleStream.collect(Collectors.toList());
+			if (middle.length > 0) {
+				String prelast = middle[middle.length - 1];
 
-			if (!middleList.isEmpty()) {
-				String prelast = middleList.remove(middleList.size() - 1);
+				Optional<EmbeddedPath> parentOptional =
+					embeddedPathElements.getParentOptional();
 
-				String[] middle = middleList.toArray(
-					new String[middleList.size()]);
+				EmbeddedPath parentEmbeddedPathElements = parentOptional.get();
 
 				jsonObjectBuilder.field(
 					"_embedded"
 				).nestedSuffixedField(
-					"_embedded", head, middle
+					"_embedded", head, parentEmbeddedPathElements.middle()
 				).nestedField(
 					prelast, "_links", optional.get(), "href"
 				).stringValue(
@@ -243,6 +312,29 @@ public class HALSingleModelMessageMapper<T>
 		}
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapNestedPageItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
@@ -311,7 +403,7 @@ public class HALSingleModelMessageMapper<T>
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.field(
 			"_embedded"
@@ -335,20 +427,17 @@ public class HALSingleModelMessageMapper<T>
 		);
 	}
 
-	private void _mapEmbeddedResourceField(
+	private JSONObjectBuilder _getEmbeddedResourceJSONObjectBuilder(
 		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Consumer<JSONObjectBuilder.FieldStep> consumer) {
+		EmbeddedPath embeddedPathElements) {
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
+		String[] middle = embeddedPathElements.middle();
 
-		String[] middle = middleStream.toArray(String[]::new);
-
-		JSONObjectBuilder.FieldStep builderStep = jsonObjectBuilder.field(
+		return jsonObjectBuilder.field(
 			"_embedded"
 		).ifElseCondition(
 			optional.isPresent(),
@@ -358,11 +447,18 @@ public class HALSingleModelMessageMapper<T>
 				optional.get()
 			),
 			builder -> builder.field(head)
-		).field(
-			fieldName
-		);
+		).objectBuilder();
+	}
+
+	private void _mapEmbeddedResourceField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Consumer<JSONObjectBuilder.FieldStep> consumer) {
+
+		JSONObjectBuilder embeddedJSONObjectBuilder =
+			_getEmbeddedResourceJSONObjectBuilder(
+				jsonObjectBuilder, embeddedPathElements);
 
-		consumer.accept(builderStep);
+		consumer.accept(embeddedJSONObjectBuilder.field(fieldName));
 	}
 
 }
\ No newline at end of file
@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getCollectionTypesJSONFragment;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getContextJSONFragment;
+
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
@@ -72,22 +75,14 @@ public class JSONLDBatchResultMessageMapper<T>
 
 		jsonObjectBuilder.field(
 			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
+		).fragmentValue(
+			getContextJSONFragment()
 		);
 
 		jsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			getCollectionTypesJSONFragment()
 		);
 	}
 
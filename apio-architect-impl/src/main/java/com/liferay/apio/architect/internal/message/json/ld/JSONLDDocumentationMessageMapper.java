@@ -14,7 +14,7 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
-import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypesJSONFragment;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.BOOLEAN;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.BOOLEAN_LIST;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.DATE;
@@ -77,9 +77,8 @@ public class JSONLDDocumentationMessageMapper
 
 		jsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			getActionTypes(actionSemantics.getActionName())
+		).fragmentValue(
+			getActionTypesJSONFragment(actionSemantics.getActionName())
 		);
 
 		jsonObjectBuilder.field(
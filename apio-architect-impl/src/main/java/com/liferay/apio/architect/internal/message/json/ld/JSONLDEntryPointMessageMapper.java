@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getCollectionTypesJSONFragment;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getContextJSONFragment;
+
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
@@ -84,15 +87,8 @@ public class JSONLDEntryPointMessageMapper implements EntryPointMessageMapper {
 
 		jsonObjectBuilder.field(
 			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
+		).fragmentValue(
+			getContextJSONFragment()
 		);
 	}
 
@@ -103,9 +99,8 @@ public class JSONLDEntryPointMessageMapper implements EntryPointMessageMapper {
 
 		itemJSONObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			getCollectionTypesJSONFragment()
 		);
 
 		entryPointJSONObjectBuilder.field(
@@ -19,12 +19,15 @@ import static java.lang.String.join;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
+import com.liferay.apio.architect.internal.message.json.JSONFragment;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.GenericParent;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.resource.Resource.Nested;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides utility functions for JSON-LD message mappers.
@@ -89,8 +92,77 @@ public class JSONLDMessageMapperUtil {
 		}
 	}
 
+	/**
+	 * Returns the JSON array fragment with the types of a certain action based
+	 * on its name. The fragment is created once per action name.
+	 *
+	 * @param  actionName the action's name
+	 * @return the JSON array fragment with the action's types
+	 * @review
+	 */
+	public static JSONFragment getActionTypesJSONFragment(String actionName) {
+		return _actionTypesJSONFragments.computeIfAbsent(
+			actionName,
+			name -> JSONFragment.stringsFragment(getActionTypes(name)));
+	}
+
+	/**
+	 * Returns the JSON array fragment with the types of a collection.
+	 *
+	 * @return the JSON array fragment with the types of a collection
+	 * @review
+	 */
+	public static JSONFragment getCollectionTypesJSONFragment() {
+		return _COLLECTION_TYPES_JSON_FRAGMENT;
+	}
+
+	/**
+	 * Returns the JSON array fragment with the context shared by the JSON-LD
+	 * documents: the Schema.org vocabulary and the Hydra core vocabulary.
+	 *
+	 * @return the JSON array fragment with the context
+	 * @review
+	 */
+	public static JSONFragment getContextJSONFragment() {
+		return _CONTEXT_JSON_FRAGMENT;
+	}
+
+	/**
+	 * Returns the JSON array fragment with the provided types. The fragment is
+	 * created once per list of types, so this method should only be called
+	 * with the types of representors, which don't change.
+	 *
+	 * @param  types the types
+	 * @return the JSON array fragment with the types
+	 * @review
+	 */
+	public static JSONFragment getTypesJSONFragment(List<String> types) {
+		return _typesJSONFragments.computeIfAbsent(
+			types, JSONFragment::stringsFragment);
+	}
+
 	private JSONLDMessageMapperUtil() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final JSONFragment _COLLECTION_TYPES_JSON_FRAGMENT =
+		JSONFragment.stringsFragment(singletonList("Collection"));
+
+	private static final JSONFragment _CONTEXT_JSON_FRAGMENT =
+		JSONFragment.arrayFragment(
+			arrayValueStep -> {
+				arrayValueStep.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					));
+				arrayValueStep.addString("https://www.w3.org/ns/hydra/core#");
+			});
+
+	private static final Map<String, JSONFragment> _actionTypesJSONFragments =
+		new ConcurrentHashMap<>();
+	private static final Map<List<String>, JSONFragment> _typesJSONFragments =
+		new ConcurrentHashMap<>();
+
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ld;
+
+import com.liferay.apio.architect.internal.message.json.MultiStatusMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONMultiStatusMessageMapper;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents the multi-status responses of batch requests in JSON-LD, with the
+ * same structure as plain JSON.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = MultiStatusMessageMapper.class)
+public class JSONLDMultiStatusMessageMapper
+	extends PlainJSONMultiStatusMessageMapper {
+
+	@Override
+	public String getMediaType() {
+		return "application/ld+json";
+	}
+
+}
\ No newline at end of file
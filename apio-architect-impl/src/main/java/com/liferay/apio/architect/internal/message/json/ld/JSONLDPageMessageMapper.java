@@ -14,7 +14,13 @@
 
 package com.liferay.apio.architect.internal.message.json.ld;
 
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getCollectionTypesJSONFragment;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getContextJSONFragment;
+
+import static java.util.Collections.singletonList;
+
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
+import com.liferay.apio.architect.internal.message.json.JSONFragment;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
@@ -23,7 +29,6 @@ import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -156,29 +161,20 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinish(JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
 		jsonObjectBuilder.field(
 			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
+		).fragmentValue(
+			getContextJSONFragment()
 		);
 
 		jsonObjectBuilder.nestedField(
 			"view", "@type"
-		).arrayValue(
-		).addString(
-			"PartialCollectionView"
+		).fragmentValue(
+			_VIEW_TYPES_JSON_FRAGMENT
 		);
 
 		jsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			getCollectionTypesJSONFragment()
 		);
 	}
 
@@ -199,17 +195,16 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 
 		collectionJsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			getCollectionTypesJSONFragment()
 		);
 
 		singleModelJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).objectValue(
 			collectionJsonObjectBuilder
 		);
@@ -228,11 +223,8 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
-	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
-		Stream<String> stream = embeddedPathElements.tailStream();
-
-		return stream.toArray(String[]::new);
-	}
+	private static final JSONFragment _VIEW_TYPES_JSON_FRAGMENT =
+		JSONFragment.stringsFragment(singletonList("PartialCollectionView"));
 
 	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
 		new JSONLDSingleModelMessageMapper<>();
@@ -15,17 +15,19 @@
 package com.liferay.apio.architect.internal.message.json.ld;
 
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionId;
-import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypesJSONFragment;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getCollectionTypesJSONFragment;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getContextJSONFragment;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getTypesJSONFragment;
 
 import com.liferay.apio.architect.internal.action.ActionSemantics;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -45,6 +47,18 @@ import org.osgi.service.component.annotations.Component;
 public class JSONLDSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	@Override
+	public Optional<JSONObjectBuilder>
+		getEmbeddedResourceJSONObjectBuilderOptional(
+			JSONObjectBuilder jsonObjectBuilder,
+			EmbeddedPath embeddedPathElements) {
+
+		JSONObjectBuilder.FieldStep fieldStep = jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail());
+
+		return Optional.of(fieldStep.objectBuilder());
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/ld+json";
@@ -96,11 +110,34 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedActionMethod(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder actionJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String httpMethod) {
+		EmbeddedPath embeddedPathElements, String httpMethod) {
 
 		actionJSONObjectBuilder.field(
 			"method"
@@ -111,12 +148,11 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceBooleanField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Boolean value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Boolean value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).booleanValue(
@@ -126,12 +162,11 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceBooleanListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Boolean> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Boolean> value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).arrayValue(
@@ -140,14 +175,42 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceLink(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String url) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).stringValue(
@@ -155,14 +218,42 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapEmbeddedResourceNumberField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Number value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Number value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).numberValue(
@@ -172,12 +263,11 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceNumberListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Number> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Number> value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).arrayValue(
@@ -188,12 +278,11 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceStringField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).stringValue(
@@ -203,12 +292,11 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceStringListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<String> value) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<String> value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).arrayValue(
@@ -219,26 +307,25 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceTypes(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, List<String> types) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		List<String> types) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			types
+		).fragmentValue(
+			getTypesJSONFragment(types)
 		);
 	}
 
 	@Override
 	public void mapEmbeddedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			"@id"
 		).stringValue(
@@ -270,13 +357,13 @@ public class JSONLDSingleModelMessageMapper<T>
 
 	@Override
 	public void mapLinkedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 
 		String head = embeddedPathElements.head();
 
 		jsonObjectBuilder.nestedField(
-			head, _getTail(embeddedPathElements)
+			head, embeddedPathElements.tail()
 		).stringValue(
 			url
 		);
@@ -286,7 +373,7 @@ public class JSONLDSingleModelMessageMapper<T>
 		jsonObjectBuilder.ifElseCondition(
 			optional.isPresent(),
 			builder -> builder.nestedField(
-				head, _getMiddle(embeddedPathElements)
+				head, embeddedPathElements.middle()
 			).field(
 				"@context"
 			),
@@ -303,6 +390,29 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapNestedPageItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
@@ -393,9 +503,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		jsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			types
+		).fragmentValue(
+			getTypesJSONFragment(types)
 		);
 	}
 
@@ -414,9 +523,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		actionJSONObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			getActionTypes(actionSemantics.getActionName())
+		).fragmentValue(
+			getActionTypesJSONFragment(actionSemantics.getActionName())
 		);
 
 		resourceJSONObjectBuilder.field(
@@ -433,15 +541,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		jsonObjectBuilder.field(
 			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
+		).fragmentValue(
+			getContextJSONFragment()
 		);
 	}
 
@@ -449,11 +550,10 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinishEmbeddedAction(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder actionJSONObjectBuilder,
-		FunctionalList<String> embeddedPathElements,
-		ActionSemantics actionSemantics) {
+		EmbeddedPath embeddedPathElements, ActionSemantics actionSemantics) {
 
 		String head = embeddedPathElements.head();
-		String[] tail = _getTail(embeddedPathElements);
+		String[] tail = embeddedPathElements.tail();
 
 		actionJSONObjectBuilder.field(
 			"@id"
@@ -464,9 +564,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		actionJSONObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			getActionTypes(actionSemantics.getActionName())
+		).fragmentValue(
+			getActionTypesJSONFragment(actionSemantics.getActionName())
 		);
 
 		singleModelJSONObjectBuilder.nestedField(
@@ -483,17 +582,16 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 
 		collectionJsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			getCollectionTypesJSONFragment()
 		);
 
 		singleModelJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).objectValue(
 			collectionJsonObjectBuilder
 		);
@@ -512,16 +610,4 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
-	private String[] _getMiddle(FunctionalList<String> embeddedPathElements) {
-		Stream<String> stream = embeddedPathElements.middleStream();
-
-		return stream.toArray(String[]::new);
-	}
-
-	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
-		Stream<String> stream = embeddedPathElements.tailStream();
-
-		return stream.toArray(String[]::new);
-	}
-
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ndjson;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents batch results in <a href="http://ndjson.org/">newline delimited
+ * JSON</a>. Each item is written in its own line as soon as its chunk has been
+ * created, with the same structure as plain JSON, or with an {@code error}
+ * field if it couldn't be created. The last line is a trailer with the number
+ * of created and failed items, which has a {@code trailer} field set to {@code
+ * true}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = BatchResultMessageMapper.class)
+public class NDJSONBatchResultMessageMapper<T>
+	implements BatchResultMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return "application/x-ndjson";
+	}
+
+	@Override
+	public Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional() {
+
+		return Optional.of(_singleModelMessageMapper);
+	}
+
+	@Override
+	public boolean isItemStreaming() {
+		return true;
+	}
+
+	@Override
+	public void mapItemError(
+		JSONObjectBuilder batchResultJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, APIError apiError) {
+
+		itemJSONObjectBuilder.nestedField(
+			"error", "statusCode"
+		).numberValue(
+			apiError.getStatusCode()
+		);
+
+		itemJSONObjectBuilder.nestedField(
+			"error", "title"
+		).stringValue(
+			apiError.getTitle()
+		);
+
+		itemJSONObjectBuilder.nestedField(
+			"error", "type"
+		).stringValue(
+			apiError.getType()
+		);
+
+		Optional<String> optional = apiError.getDescription();
+
+		optional.ifPresent(
+			description -> itemJSONObjectBuilder.nestedField(
+				"error", "description"
+			).stringValue(
+				description
+			));
+	}
+
+	@Override
+	public void mapItemFailedCount(
+		JSONObjectBuilder jsonObjectBuilder, int failedCount) {
+
+		jsonObjectBuilder.field(
+			"numberOfFailedItems"
+		).numberValue(
+			failedCount
+		);
+	}
+
+	@Override
+	public void mapItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
+
+		jsonObjectBuilder.field(
+			"totalNumberOfItems"
+		).numberValue(
+			totalCount
+		);
+	}
+
+	@Override
+	public void onFinish(
+		JSONObjectBuilder jsonObjectBuilder, BatchResult<T> batchResult) {
+
+		jsonObjectBuilder.field(
+			"trailer"
+		).booleanValue(
+			true
+		);
+	}
+
+	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
+		new PlainJSONSingleModelMessageMapper<>();
+
+}
\ No newline at end of file
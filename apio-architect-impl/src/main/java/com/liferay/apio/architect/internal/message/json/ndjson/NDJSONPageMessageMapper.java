@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ndjson;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.pagination.Page;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents collection pages in <a href="http://ndjson.org/">newline
+ * delimited JSON</a>. Each item of the page is written in its own line, with
+ * the same structure as plain JSON. The last line is a trailer with the rest of
+ * the page's information (total count, page URLs, etc.), which has a {@code
+ * trailer} field set to {@code true}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = PageMessageMapper.class)
+public class NDJSONPageMessageMapper<T> extends PlainJSONPageMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return "application/x-ndjson";
+	}
+
+	@Override
+	public boolean isItemStreaming() {
+		return true;
+	}
+
+	@Override
+	public void onFinish(JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
+		jsonObjectBuilder.field(
+			"trailer"
+		).booleanValue(
+			true
+		);
+	}
+
+}
\ No newline at end of file
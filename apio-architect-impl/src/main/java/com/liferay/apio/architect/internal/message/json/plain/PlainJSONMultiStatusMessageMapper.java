@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.plain;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.MultiStatusMessageMapper;
+import com.liferay.apio.architect.internal.response.MultiStatus;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents the multi-status responses of batch requests in plain JSON.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = MultiStatusMessageMapper.class)
+public class PlainJSONMultiStatusMessageMapper
+	implements MultiStatusMessageMapper {
+
+	@Override
+	public String getMediaType() {
+		return "application/json";
+	}
+
+	@Override
+	public void mapOperationBody(
+		JSONObjectBuilder operationJSONObjectBuilder,
+		JSONObjectBuilder bodyJSONObjectBuilder) {
+
+		operationJSONObjectBuilder.field(
+			"body"
+		).objectValue(
+			bodyJSONObjectBuilder
+		);
+	}
+
+	@Override
+	public void mapOperationMethod(
+		JSONObjectBuilder operationJSONObjectBuilder, String method) {
+
+		operationJSONObjectBuilder.field(
+			"method"
+		).stringValue(
+			method
+		);
+	}
+
+	@Override
+	public void mapOperationPath(
+		JSONObjectBuilder operationJSONObjectBuilder, String path) {
+
+		operationJSONObjectBuilder.field(
+			"path"
+		).stringValue(
+			path
+		);
+	}
+
+	@Override
+	public void mapOperationStatus(
+		JSONObjectBuilder operationJSONObjectBuilder, int status) {
+
+		operationJSONObjectBuilder.field(
+			"status"
+		).numberValue(
+			status
+		);
+	}
+
+	@Override
+	public void onFinish(
+		JSONObjectBuilder jsonObjectBuilder, MultiStatus multiStatus) {
+
+		jsonObjectBuilder.field(
+			"responses"
+		).arrayValue();
+	}
+
+	@Override
+	public void onFinishOperation(
+		JSONObjectBuilder multiStatusJSONObjectBuilder,
+		JSONObjectBuilder operationJSONObjectBuilder) {
+
+		multiStatusJSONObjectBuilder.field(
+			"responses"
+		).arrayValue(
+		).add(
+			operationJSONObjectBuilder
+		);
+	}
+
+}
\ No newline at end of file
@@ -14,7 +14,7 @@
 
 package com.liferay.apio.architect.internal.message.json.plain;
 
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
@@ -22,7 +22,6 @@ import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -147,10 +146,10 @@ public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).objectValue(
 			collectionJsonObjectBuilder
 		);
@@ -168,12 +167,6 @@ public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
-	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
-		Stream<String> stream = embeddedPathElements.tailStream();
-
-		return stream.toArray(String[]::new);
-	}
-
 	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
 		new PlainJSONSingleModelMessageMapper<>();
 
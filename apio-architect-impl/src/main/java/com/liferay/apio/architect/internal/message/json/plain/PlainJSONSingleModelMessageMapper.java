@@ -14,13 +14,13 @@
 
 package com.liferay.apio.architect.internal.message.json.plain;
 
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -35,6 +35,18 @@ import org.osgi.service.component.annotations.Component;
 public class PlainJSONSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	@Override
+	public Optional<JSONObjectBuilder>
+		getEmbeddedResourceJSONObjectBuilderOptional(
+			JSONObjectBuilder jsonObjectBuilder,
+			EmbeddedPath embeddedPathElements) {
+
+		JSONObjectBuilder.FieldStep fieldStep = jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail());
+
+		return Optional.of(fieldStep.objectBuilder());
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/json";
@@ -65,15 +77,35 @@ public class PlainJSONSingleModelMessageMapper<T>
 	}
 
 	@Override
-	public void mapEmbeddedResourceBooleanField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Boolean value) {
+	public void mapDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+	@Override
+	public void mapDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, double[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceBooleanField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Boolean value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).booleanValue(
@@ -83,14 +115,11 @@ public class PlainJSONSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceBooleanListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Boolean> value) {
-
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Boolean> value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).arrayValue(
@@ -100,15 +129,41 @@ public class PlainJSONSingleModelMessageMapper<T>
 	}
 
 	@Override
-	public void mapEmbeddedResourceLink(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String url) {
+	public void mapEmbeddedResourceDoubleField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).doubleValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceDoubleListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, double[] value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllDoubles(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceLink(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String url) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).stringValue(
@@ -117,15 +172,41 @@ public class PlainJSONSingleModelMessageMapper<T>
 	}
 
 	@Override
-	public void mapEmbeddedResourceNumberField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		Number value) {
+	public void mapEmbeddedResourceLongField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceLongListField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, long[] value) {
+
+		jsonObjectBuilder.nestedField(
+			embeddedPathElements.head(), embeddedPathElements.tail()
+		).field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
+	@Override
+	public void mapEmbeddedResourceNumberField(
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, Number value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).numberValue(
@@ -135,14 +216,11 @@ public class PlainJSONSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceNumberListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<Number> value) {
-
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<Number> value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).arrayValue(
@@ -153,14 +231,11 @@ public class PlainJSONSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceStringField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		String value) {
-
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, String value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).stringValue(
@@ -170,14 +245,11 @@ public class PlainJSONSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceStringListField(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String fieldName,
-		List<String> value) {
-
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String fieldName, List<String> value) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			fieldName
 		).arrayValue(
@@ -188,13 +260,11 @@ public class PlainJSONSingleModelMessageMapper<T>
 
 	@Override
 	public void mapEmbeddedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
-
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).field(
 			"self"
 		).stringValue(
@@ -215,18 +285,39 @@ public class PlainJSONSingleModelMessageMapper<T>
 
 	@Override
 	public void mapLinkedResourceURL(
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements, String url) {
-
-		Stream<String> tailStream = embeddedPathElements.tailStream();
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
+		String url) {
 
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).stringValue(
 			url
 		);
 	}
 
+	@Override
+	public void mapLongField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).longValue(
+			value
+		);
+	}
+
+	@Override
+	public void mapLongListField(
+		JSONObjectBuilder jsonObjectBuilder, String fieldName, long[] value) {
+
+		jsonObjectBuilder.field(
+			fieldName
+		).arrayValue(
+		).addAllLongs(
+			value
+		);
+	}
+
 	@Override
 	public void mapNestedPageItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int count) {
@@ -298,10 +389,10 @@ public class PlainJSONSingleModelMessageMapper<T>
 	public void onFinishNestedCollection(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
 		JSONObjectBuilder collectionJsonObjectBuilder, String fieldName,
-		List<?> list, FunctionalList<String> embeddedPathElements) {
+		List<?> list, EmbeddedPath embeddedPathElements) {
 
 		singleModelJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
+			embeddedPathElements.head(), embeddedPathElements.tail()
 		).objectValue(
 			collectionJsonObjectBuilder
 		);
@@ -319,10 +410,4 @@ public class PlainJSONSingleModelMessageMapper<T>
 		);
 	}
 
-	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
-		Stream<String> stream = embeddedPathElements.tailStream();
-
-		return stream.toArray(String[]::new);
-	}
-
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.liferay.apio.architect.uri.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -42,15 +43,20 @@ public class PageImpl<T> implements Page<T> {
 		Resource resource, PageItems<T> pageItems, Pagination pagination) {
 
 		_resource = resource;
-		_items = pageItems.getItems();
+		_pageItems = pageItems;
 		_itemsPerPage = pagination.getItemsPerPage();
 		_pageNumber = pagination.getPageNumber();
 		_totalCount = pageItems.getTotalCount();
 	}
 
+	@Override
+	public Optional<Integer> getItemCountOptional() {
+		return _pageItems.getItemCountOptional();
+	}
+
 	@Override
 	public Collection<T> getItems() {
-		return _items;
+		return _pageItems.getItems();
 	}
 
 	@Override
@@ -58,6 +64,11 @@ public class PageImpl<T> implements Page<T> {
 		return _itemsPerPage;
 	}
 
+	@Override
+	public Stream<T> getItemsStream() {
+		return _pageItems.getItemsStream();
+	}
+
 	@Override
 	public int getLastPageNumber() {
 		if (_totalCount == 0) {
@@ -115,8 +126,8 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
-	private final Collection<T> _items;
 	private final int _itemsPerPage;
+	private final PageItems<T> _pageItems;
 	private final int _pageNumber;
 	private final Resource _resource;
 	private final int _totalCount;
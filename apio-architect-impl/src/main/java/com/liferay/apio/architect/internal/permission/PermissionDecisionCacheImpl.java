@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.permission;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import com.liferay.apio.architect.annotation.Permissions.CachedDecisions;
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.cache.ExpiringCache;
+import com.liferay.apio.architect.permission.PermissionDecisionCache;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.GenericParent;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+
+import io.vavr.CheckedFunction0;
+
+import java.lang.annotation.Annotation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Caches the decisions of the permission methods of actions annotated with
+ * {@link CachedDecisions} across requests.
+ *
+ * <p>
+ * Decisions are keyed by the credentials' value, the action's name and HTTP
+ * method, and the resource's name and identifier, and they're stored in an
+ * {@link ExpiringCache}. The {@code max.size} property bounds the number of
+ * cached decisions, and the {@code max.time.to.live} property, in seconds,
+ * caps the time to live of every action.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {"max.size:Integer=10000", "max.time.to.live:Long=300"},
+	service = {PermissionDecisionCache.class, PermissionDecisionCacheImpl.class}
+)
+public class PermissionDecisionCacheImpl implements PermissionDecisionCache {
+
+	/**
+	 * Returns the decision of the permission function for the action and
+	 * resource. If the action is annotated with {@link CachedDecisions}, a
+	 * cached decision is returned if present; otherwise, the permission
+	 * function is executed and its decision is cached.
+	 *
+	 * @param  actionSemantics the action's semantics
+	 * @param  resource the resource whose permission is checked
+	 * @param  credentialsSupplier the supplier of the request's credentials.
+	 *         It's only invoked if the action's decisions can be cached.
+	 * @param  permissionCheckedFunction0 the permission function
+	 * @return the decision
+	 * @review
+	 */
+	public Boolean decide(
+			ActionSemantics actionSemantics, Resource resource,
+			Supplier<Credentials> credentialsSupplier,
+			CheckedFunction0<Boolean> permissionCheckedFunction0)
+		throws Throwable {
+
+		CachedDecisions cachedDecisions = _getCachedDecisions(actionSemantics);
+
+		if ((cachedDecisions == null) || (_maxSize <= 0)) {
+			return permissionCheckedFunction0.apply();
+		}
+
+		long timeToLive = Math.min(
+			cachedDecisions.timeToLive(), _maxTimeToLive);
+
+		if (timeToLive <= 0) {
+			return permissionCheckedFunction0.apply();
+		}
+
+		Credentials credentials = credentialsSupplier.get();
+
+		DecisionKey decisionKey = new DecisionKey(
+			credentials.get(), actionSemantics.getActionName(),
+			actionSemantics.getHTTPMethod(), resource.getName(),
+			_getId(resource));
+
+		Boolean cachedAllowed = _decisions.get(decisionKey);
+
+		if (cachedAllowed != null) {
+			return cachedAllowed;
+		}
+
+		long version = _decisions.getVersion();
+
+		Boolean allowed = permissionCheckedFunction0.apply();
+
+		if (Boolean.TRUE.equals(allowed) || cachedDecisions.negative()) {
+			_decisions.put(
+				decisionKey, Boolean.TRUE.equals(allowed), timeToLive, version);
+		}
+
+		return allowed;
+	}
+
+	@Override
+	public void invalidate() {
+		_decisions.invalidate();
+	}
+
+	@Override
+	public void invalidate(Credentials credentials) {
+		Object value = credentials.get();
+
+		_decisions.invalidate(
+			decisionKey -> Objects.equals(decisionKey._credentials, value));
+	}
+
+	@Override
+	public void invalidate(String resourceName) {
+		_decisions.invalidate(
+			decisionKey -> Objects.equals(
+				decisionKey._resourceName, resourceName));
+	}
+
+	@Override
+	public void invalidate(String resourceName, Object id) {
+		_decisions.invalidate(
+			decisionKey ->
+				Objects.equals(decisionKey._resourceName, resourceName) &&
+				Objects.equals(decisionKey._id, id));
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_maxSize = getInt(properties, "max.size", 10000);
+		_maxTimeToLive = getLong(properties, "max.time.to.live", 300);
+
+		_decisions.setMaxSize(_maxSize);
+
+		invalidate();
+	}
+
+	private static CachedDecisions _getCachedDecisions(
+		ActionSemantics actionSemantics) {
+
+		for (Annotation annotation : actionSemantics.getAnnotations()) {
+			if (annotation instanceof CachedDecisions) {
+				return (CachedDecisions)annotation;
+			}
+		}
+
+		return null;
+	}
+
+	private static Object _getId(Resource resource) {
+		Optional<Id> optional = Optional.empty();
+
+		if (resource instanceof Item) {
+			Item item = (Item)resource;
+
+			optional = item.getIdOptional();
+		}
+		else if (resource instanceof Nested) {
+			Nested nested = (Nested)resource;
+
+			Item item = nested.getParentItem();
+
+			optional = item.getIdOptional();
+		}
+		else if (resource instanceof GenericParent) {
+			GenericParent genericParent = (GenericParent)resource;
+
+			optional = genericParent.getParentIdOptional();
+		}
+
+		return optional.map(
+			Id::asObject
+		).orElse(
+			null
+		);
+	}
+
+	private final ExpiringCache<DecisionKey, Boolean> _decisions =
+		new ExpiringCache<>();
+	private volatile int _maxSize = 10000;
+	private volatile long _maxTimeToLive = 300;
+
+	private static class DecisionKey {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof DecisionKey)) {
+				return false;
+			}
+
+			DecisionKey decisionKey = (DecisionKey)object;
+
+			if (Objects.equals(_actionName, decisionKey._actionName) &&
+				Objects.equals(_credentials, decisionKey._credentials) &&
+				Objects.equals(_httpMethod, decisionKey._httpMethod) &&
+				Objects.equals(_id, decisionKey._id) &&
+				Objects.equals(_resourceName, decisionKey._resourceName)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return _hashCode;
+		}
+
+		private DecisionKey(
+			Object credentials, String actionName, String httpMethod,
+			String resourceName, Object id) {
+
+			_credentials = credentials;
+			_actionName = actionName;
+			_httpMethod = httpMethod;
+			_resourceName = resourceName;
+			_id = id;
+
+			_hashCode = Objects.hash(
+				actionName, credentials, httpMethod, id, resourceName);
+		}
+
+		private final String _actionName;
+		private final Object _credentials;
+		private final int _hashCode;
+		private final String _httpMethod;
+		private final Object _id;
+		private final String _resourceName;
+
+	}
+
+}
\ No newline at end of file
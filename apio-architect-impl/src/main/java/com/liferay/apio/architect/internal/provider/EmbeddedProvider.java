@@ -15,14 +15,9 @@
 package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.QueryControls;
 import com.liferay.apio.architect.provider.Provider;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.regex.Pattern;
-
 import javax.servlet.http.HttpServletRequest;
 
 import org.osgi.service.component.annotations.Component;
@@ -39,35 +34,9 @@ import org.osgi.service.component.annotations.Component;
 public class EmbeddedProvider implements Provider<Embedded> {
 
 	public Embedded createContext(HttpServletRequest httpServletRequest) {
-		return Optional.ofNullable(
-			httpServletRequest.getParameter("embedded")
-		).map(
-			_pattern::split
-		).map(
-			Arrays::asList
-		).map(
-			EmbeddedProvider::_isEmbedded
-		).orElse(
-			__ -> false
-		);
-	}
-
-	private static Embedded _isEmbedded(List<String> strings) {
-		return field -> {
-			for (String string : strings) {
-				if (Objects.equals(string, field)) {
-					return true;
-				}
+		QueryControls queryControls = QueryControls.of(httpServletRequest);
 
-				if (string.startsWith(field + ".")) {
-					return true;
-				}
-			}
-
-			return false;
-		};
+		return queryControls.getEmbedded();
 	}
 
-	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
-
 }
\ No newline at end of file
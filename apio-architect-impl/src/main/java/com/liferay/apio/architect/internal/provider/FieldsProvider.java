@@ -15,17 +15,9 @@
 package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.response.control.QueryControls;
 import com.liferay.apio.architect.provider.Provider;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 import javax.servlet.http.HttpServletRequest;
 
 import org.osgi.service.component.annotations.Component;
@@ -42,57 +34,9 @@ import org.osgi.service.component.annotations.Component;
 public class FieldsProvider implements Provider<Fields> {
 
 	public Fields createContext(HttpServletRequest httpServletRequest) {
-		Map<String, String[]> parameterMap =
-			httpServletRequest.getParameterMap();
-
-		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
-
-		Stream<Map.Entry<String, String[]>> stream = set.stream();
-
-		Map<String, List<String>> fieldsMap = stream.filter(
-			entry -> {
-				String key = entry.getKey();
-
-				return key.matches(_REGEXP);
-			}
-		).filter(
-			entry -> {
-				String[] value = entry.getValue();
-
-				if (value.length == 1) {
-					return true;
-				}
+		QueryControls queryControls = QueryControls.of(httpServletRequest);
 
-				return false;
-			}
-		).filter(
-			entry -> !entry.getValue()[0].isEmpty()
-		).collect(
-			Collectors.toMap(
-				entry -> _getTypeFunction.apply(entry.getKey()),
-				entry -> Arrays.asList(entry.getValue()[0].split(",")))
-		);
-
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
-			).filter(
-				Objects::nonNull
-			).flatMap(
-				List::stream
-			).collect(
-				Collectors.toList()
-			);
-
-			return fields.isEmpty() || fields.contains(field);
-		};
+		return queryControls.getFields();
 	}
 
-	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
-
-	private static final Function<String, String> _getTypeFunction =
-		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
-
 }
\ No newline at end of file
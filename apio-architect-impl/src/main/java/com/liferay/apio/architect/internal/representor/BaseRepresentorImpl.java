@@ -17,7 +17,9 @@ package com.liferay.apio.architect.internal.representor;
 import static com.liferay.apio.architect.internal.date.DateTransformer.asString;
 
 import com.liferay.apio.architect.alias.BinaryFunction;
+import com.liferay.apio.architect.alias.representor.DoubleFieldFunction;
 import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.alias.representor.LongFieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedFieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.file.BinaryFile;
@@ -44,6 +46,9 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -100,6 +105,22 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	@Override
+	public List<DoubleFieldFunction<T>> getDoubleFunctions() {
+		return doubleFieldFunctions;
+	}
+
+	@Override
+	public List<FieldFunction<T, double[]>> getDoubleListFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("DOUBLE_LIST")
+		).<List<FieldFunction<T, double[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	@Override
 	public List<FieldFunction<T, String>> getLinkFunctions() {
 		return Optional.ofNullable(
@@ -124,6 +145,22 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	@Override
+	public List<LongFieldFunction<T>> getLongFunctions() {
+		return longFieldFunctions;
+	}
+
+	@Override
+	public List<FieldFunction<T, long[]>> getLongListFunctions() {
+		return Optional.ofNullable(
+			fieldFunctions.get("LONG_LIST")
+		).<List<FieldFunction<T, long[]>>>map(
+			Unsafe::unsafeCast
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	@Override
 	public List<NestedFieldFunction<T, ?>> getNestedFieldFunctions() {
 		return nestedFieldFunctions;
@@ -279,6 +316,45 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		_addFieldFunction(key, function, "BOOLEAN_LIST");
 	}
 
+	/**
+	 * Adds a primitive {@code double} function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the {@code double}
+	 */
+	protected void addDoubleFunction(
+		String key, ToDoubleFunction<T> function) {
+
+		doubleFieldFunctions.add(
+			new DoubleFieldFunction<T>() {
+
+				@Override
+				public double applyAsDouble(T t) {
+					return function.applyAsDouble(t);
+				}
+
+				@Override
+				public String getKey() {
+					return key;
+				}
+
+			});
+	}
+
+	/**
+	 * Adds a {@code double} array function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the {@code double} array
+	 */
+	protected void addDoubleListFunction(
+		String key, Function<T, double[]> function) {
+
+		_addFieldFunction(key, function, "DOUBLE_LIST");
+	}
+
 	/**
 	 * Adds a language function to the {@link
 	 * com.liferay.apio.architect.representor.Representor}.
@@ -303,6 +379,43 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		_addFieldFunction(key, function, "LINK");
 	}
 
+	/**
+	 * Adds a primitive {@code long} function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the {@code long}
+	 */
+	protected void addLongFunction(String key, ToLongFunction<T> function) {
+		longFieldFunctions.add(
+			new LongFieldFunction<T>() {
+
+				@Override
+				public long applyAsLong(T t) {
+					return function.applyAsLong(t);
+				}
+
+				@Override
+				public String getKey() {
+					return key;
+				}
+
+			});
+	}
+
+	/**
+	 * Adds a {@code long} array function to the {@link
+	 * com.liferay.apio.architect.representor.Representor}.
+	 *
+	 * @param key the field's name
+	 * @param function the function used to get the {@code long} array
+	 */
+	protected void addLongListFunction(
+		String key, Function<T, long[]> function) {
+
+		_addFieldFunction(key, function, "LONG_LIST");
+	}
+
 	/**
 	 * Adds a nested field to the {@link
 	 * com.liferay.apio.architect.representor.Representor}.
@@ -488,8 +601,12 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	protected final Map<String, BinaryFunction<T>> binaryFunctions =
 		new LinkedHashMap<>();
+	protected final List<DoubleFieldFunction<T>> doubleFieldFunctions =
+		new ArrayList<>();
 	protected final Map<String, List<FieldFunction<T, ?>>> fieldFunctions =
 		new LinkedHashMap<>();
+	protected final List<LongFieldFunction<T>> longFieldFunctions =
+		new ArrayList<>();
 	protected final List<NestedFieldFunction<T, ?>> nestedFieldFunctions =
 		new ArrayList<>();
 	protected final List<NestedListFieldFunction<T, ?>>
@@ -557,6 +674,27 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 				return _this;
 			}
 
+			@Override
+			public V addDouble(String key, ToDoubleFunction<T> function) {
+				baseRepresentor.addDoubleFunction(key, function);
+
+				return _this;
+			}
+
+			@Override
+			public V addDoubleList(String key, Function<T, double[]> function) {
+				baseRepresentor.addDoubleListFunction(key, function);
+
+				return _this;
+			}
+
+			@Override
+			public V addInt(String key, ToIntFunction<T> function) {
+				baseRepresentor.addLongFunction(key, function::applyAsInt);
+
+				return _this;
+			}
+
 			@Override
 			public V addLink(String key, String url) {
 				baseRepresentor.addLinkFunction(key, __ -> url);
@@ -598,6 +736,20 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 						t, acceptLanguage.getPreferredLocale()));
 			}
 
+			@Override
+			public V addLong(String key, ToLongFunction<T> function) {
+				baseRepresentor.addLongFunction(key, function);
+
+				return _this;
+			}
+
+			@Override
+			public V addLongList(String key, Function<T, long[]> function) {
+				baseRepresentor.addLongListFunction(key, function);
+
+				return _this;
+			}
+
 			@Override
 			public <W> V addNested(
 				String key, Function<T, W> transformFunction,
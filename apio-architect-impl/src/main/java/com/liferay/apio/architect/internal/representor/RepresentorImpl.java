@@ -21,6 +21,7 @@ import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +37,15 @@ public class RepresentorImpl<T>
 		return _modelToIdentifierFunction.apply(model);
 	}
 
+	@Override
+	public Optional<Object> getVersionOptional(T model) {
+		if (_modelToVersionFunction == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(_modelToVersionFunction.apply(model));
+	}
+
 	@Override
 	public boolean isNested() {
 		return false;
@@ -111,6 +121,15 @@ public class RepresentorImpl<T>
 				return this;
 			}
 
+			@Override
+			public FirstStep<T> version(
+				Function<T, ?> modelToVersionFunction) {
+
+				baseRepresentor._setVersionFunction(modelToVersionFunction);
+
+				return this;
+			}
+
 		}
 
 		public class IdentifierStepImpl implements IdentifierStep<T, S> {
@@ -148,6 +167,11 @@ public class RepresentorImpl<T>
 		_modelToIdentifierFunction = modelToIdentifierFunction;
 	}
 
+	private void _setVersionFunction(Function<T, ?> modelToVersionFunction) {
+		_modelToVersionFunction = modelToVersionFunction;
+	}
+
 	private Function<T, ?> _modelToIdentifierFunction;
+	private Function<T, ?> _modelToVersionFunction;
 
 }
\ No newline at end of file
@@ -0,0 +1,385 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.list;
+
+import java.security.Principal;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Copies the information of a request that the providers and actions usually
+ * read, so it can be used from threads other than the one handling the
+ * request.
+ *
+ * <p>
+ * JAX-RS injects the current {@code HttpServletRequest} as a proxy bound to
+ * the request's thread. Instances of this class read the attributes, headers,
+ * parameters, locales, URL parts, cookies, session, and authentication
+ * information of the request when they're created, and return that copy
+ * afterwards. Methods whose result can't be copied in advance, like {@link
+ * #isUserInRole(String)} or creating a new session, are delegated to the
+ * original request when they're called from the request's thread. From other
+ * threads, {@code isUserInRole} returns {@code false} and {@code getSession}
+ * returns the copied session, or {@code null} if the request didn't have one.
+ * Any other method is delegated to the original request, so it must only be
+ * called from the request's thread.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class DetachedHttpServletRequest extends HttpServletRequestWrapper {
+
+	public DetachedHttpServletRequest(HttpServletRequest httpServletRequest) {
+		super(httpServletRequest);
+
+		Enumeration<String> attributeNames =
+			httpServletRequest.getAttributeNames();
+
+		while (attributeNames.hasMoreElements()) {
+			String name = attributeNames.nextElement();
+
+			setAttribute(name, httpServletRequest.getAttribute(name));
+		}
+
+		Enumeration<String> headerNames = httpServletRequest.getHeaderNames();
+
+		while (headerNames.hasMoreElements()) {
+			String name = headerNames.nextElement();
+
+			_headers.put(name, list(httpServletRequest.getHeaders(name)));
+		}
+
+		_authType = httpServletRequest.getAuthType();
+		_characterEncoding = httpServletRequest.getCharacterEncoding();
+		_contentType = httpServletRequest.getContentType();
+		_contextPath = httpServletRequest.getContextPath();
+
+		Cookie[] cookies = httpServletRequest.getCookies();
+
+		if (cookies == null) {
+			_cookies = null;
+		}
+		else {
+			_cookies = cookies.clone();
+		}
+
+		_locales = list(httpServletRequest.getLocales());
+		_method = httpServletRequest.getMethod();
+		_parameterMap = new HashMap<>(httpServletRequest.getParameterMap());
+		_pathInfo = httpServletRequest.getPathInfo();
+		_queryString = httpServletRequest.getQueryString();
+		_remoteAddr = httpServletRequest.getRemoteAddr();
+		_remoteUser = httpServletRequest.getRemoteUser();
+		_requestURI = httpServletRequest.getRequestURI();
+		_requestURL = String.valueOf(httpServletRequest.getRequestURL());
+		_scheme = httpServletRequest.getScheme();
+		_secure = httpServletRequest.isSecure();
+		_serverName = httpServletRequest.getServerName();
+		_serverPort = httpServletRequest.getServerPort();
+		_servletPath = httpServletRequest.getServletPath();
+		_session = httpServletRequest.getSession(false);
+		_thread = Thread.currentThread();
+		_userPrincipal = httpServletRequest.getUserPrincipal();
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return _attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return enumeration(new ArrayList<>(_attributes.keySet()));
+	}
+
+	@Override
+	public String getAuthType() {
+		return _authType;
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return _characterEncoding;
+	}
+
+	@Override
+	public String getContentType() {
+		return _contentType;
+	}
+
+	@Override
+	public String getContextPath() {
+		return _contextPath;
+	}
+
+	@Override
+	public Cookie[] getCookies() {
+		if (_cookies == null) {
+			return null;
+		}
+
+		return _cookies.clone();
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		String value = getHeader(name);
+
+		if (value == null) {
+			return -1;
+		}
+
+		try {
+			ZonedDateTime zonedDateTime = ZonedDateTime.parse(
+				value, DateTimeFormatter.RFC_1123_DATE_TIME);
+
+			Instant instant = zonedDateTime.toInstant();
+
+			return instant.toEpochMilli();
+		}
+		catch (DateTimeParseException dtpe) {
+			throw new IllegalArgumentException(
+				"Unable to parse date header " + name + ": " + value, dtpe);
+		}
+	}
+
+	@Override
+	public String getHeader(String name) {
+		List<String> values = _headers.getOrDefault(name, emptyList());
+
+		if (values.isEmpty()) {
+			return null;
+		}
+
+		return values.get(0);
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return enumeration(_headers.keySet());
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		return enumeration(_headers.getOrDefault(name, emptyList()));
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		String value = getHeader(name);
+
+		if (value == null) {
+			return -1;
+		}
+
+		return Integer.parseInt(value);
+	}
+
+	@Override
+	public Locale getLocale() {
+		if (_locales.isEmpty()) {
+			return Locale.getDefault();
+		}
+
+		return _locales.get(0);
+	}
+
+	@Override
+	public Enumeration<Locale> getLocales() {
+		return enumeration(_locales);
+	}
+
+	@Override
+	public String getMethod() {
+		return _method;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = _parameterMap.get(name);
+
+		if ((values == null) || (values.length == 0)) {
+			return null;
+		}
+
+		return values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return _parameterMap;
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return enumeration(_parameterMap.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return _parameterMap.get(name);
+	}
+
+	@Override
+	public String getPathInfo() {
+		return _pathInfo;
+	}
+
+	@Override
+	public String getQueryString() {
+		return _queryString;
+	}
+
+	@Override
+	public String getRemoteAddr() {
+		return _remoteAddr;
+	}
+
+	@Override
+	public String getRemoteUser() {
+		return _remoteUser;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return _requestURI;
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		return new StringBuffer(_requestURL);
+	}
+
+	@Override
+	public String getScheme() {
+		return _scheme;
+	}
+
+	@Override
+	public String getServerName() {
+		return _serverName;
+	}
+
+	@Override
+	public int getServerPort() {
+		return _serverPort;
+	}
+
+	@Override
+	public String getServletPath() {
+		return _servletPath;
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		if (_isRequestThread()) {
+			return super.getSession(create);
+		}
+
+		return _session;
+	}
+
+	@Override
+	public Principal getUserPrincipal() {
+		return _userPrincipal;
+	}
+
+	@Override
+	public boolean isSecure() {
+		return _secure;
+	}
+
+	@Override
+	public boolean isUserInRole(String role) {
+		if (_isRequestThread()) {
+			return super.isUserInRole(role);
+		}
+
+		return false;
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		_attributes.remove(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			_attributes.remove(name);
+		}
+		else {
+			_attributes.put(name, value);
+		}
+	}
+
+	private boolean _isRequestThread() {
+		return Thread.currentThread() == _thread;
+	}
+
+	private final Map<String, Object> _attributes = new ConcurrentHashMap<>();
+	private final String _authType;
+	private final String _characterEncoding;
+	private final String _contentType;
+	private final String _contextPath;
+	private final Cookie[] _cookies;
+	private final Map<String, List<String>> _headers = new TreeMap<>(
+		String.CASE_INSENSITIVE_ORDER);
+	private final List<Locale> _locales;
+	private final String _method;
+	private final Map<String, String[]> _parameterMap;
+	private final String _pathInfo;
+	private final String _queryString;
+	private final String _remoteAddr;
+	private final String _remoteUser;
+	private final String _requestURI;
+	private final String _requestURL;
+	private final String _scheme;
+	private final boolean _secure;
+	private final String _serverName;
+	private final int _serverPort;
+	private final String _servletPath;
+	private final HttpSession _session;
+	private final Thread _thread;
+	private final Principal _userPrincipal;
+
+}
\ No newline at end of file
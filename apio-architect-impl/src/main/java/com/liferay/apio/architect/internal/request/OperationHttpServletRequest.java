@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static java.util.Collections.enumeration;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Enumeration;
+import java.util.Map;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Represents one of the operations of a batch request, as an {@code
+ * HttpServletRequest} that can be handled by the actions like any other
+ * request.
+ *
+ * <p>
+ * The operation has its own method and body. If the operation has a query
+ * string, it also has its own parameters and a new {@link ProviderContext},
+ * since the values provided for the batch request, like the pagination, could
+ * be different for the operation. Otherwise, it uses the parameters of the
+ * batch request and shares its provider context. Everything else is copied
+ * from the batch request, like in any {@link DetachedHttpServletRequest}, so
+ * the operation can be handled from any thread.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class OperationHttpServletRequest extends DetachedHttpServletRequest {
+
+	/**
+	 * Creates the request of an operation.
+	 *
+	 * @param  httpServletRequest the batch request
+	 * @param  method the HTTP method of the operation
+	 * @param  queryString the query string of the operation, or {@code null}
+	 *         if it doesn't have one
+	 * @param  parameterMap the parameters of the query string
+	 * @param  body the body of the operation
+	 * @param  contentType the content type of the body, or {@code null} if the
+	 *         operation doesn't have a body
+	 * @review
+	 */
+	public OperationHttpServletRequest(
+		HttpServletRequest httpServletRequest, String method,
+		String queryString, Map<String, String[]> parameterMap, byte[] body,
+		String contentType) {
+
+		super(httpServletRequest);
+
+		_method = method;
+		_queryString = queryString;
+		_body = body;
+		_contentType = contentType;
+
+		if (queryString == null) {
+			_parameterMap = super.getParameterMap();
+		}
+		else {
+			_parameterMap = parameterMap;
+
+			ProviderContext.removeProviderContext(this);
+		}
+	}
+
+	@Override
+	public int getContentLength() {
+		return _body.length;
+	}
+
+	@Override
+	public String getContentType() {
+		return _contentType;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		return new ByteArrayServletInputStream(_body);
+	}
+
+	@Override
+	public String getMethod() {
+		return _method;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		String[] values = _parameterMap.get(name);
+
+		if ((values == null) || (values.length == 0)) {
+			return null;
+		}
+
+		return values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return _parameterMap;
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return enumeration(_parameterMap.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return _parameterMap.get(name);
+	}
+
+	@Override
+	public String getQueryString() {
+		return _queryString;
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		return new BufferedReader(
+			new InputStreamReader(
+				new ByteArrayInputStream(_body), StandardCharsets.UTF_8));
+	}
+
+	private final byte[] _body;
+	private final String _contentType;
+	private final String _method;
+	private final Map<String, String[]> _parameterMap;
+	private final String _queryString;
+
+	private static class ByteArrayServletInputStream
+		extends ServletInputStream {
+
+		@Override
+		public int available() {
+			return _bytes.length - _position;
+		}
+
+		@Override
+		public int read() {
+			if (_position >= _bytes.length) {
+				return -1;
+			}
+
+			return _bytes[_position++] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (_position >= _bytes.length) {
+				return -1;
+			}
+
+			int count = Math.min(length, _bytes.length - _position);
+
+			System.arraycopy(_bytes, _position, bytes, offset, count);
+
+			_position += count;
+
+			return count;
+		}
+
+		private ByteArrayServletInputStream(byte[] bytes) {
+			_bytes = bytes;
+		}
+
+		private final byte[] _bytes;
+		private int _position;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import io.vavr.Lazy;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Holds the values the providers create for a single request, so every
+ * provider is invoked at most once per request, and only when its value is
+ * first needed.
+ *
+ * <p>
+ * The context is stored as an attribute of the request, so it's shared by
+ * everyone that handles the request: the actions that receive the provided
+ * values as parameters, the permission checks, and the message body writers.
+ * Since {@link DetachedHttpServletRequest} copies the attributes of the
+ * original request, a detached request shares the context of its original
+ * request too.
+ * </p>
+ *
+ * <p>
+ * Providers are invoked outside of the context's map, so a provider can ask
+ * the context for the values of other providers. If several threads ask for
+ * a value that hasn't been created yet at the same time, one of them invokes
+ * the provider and the rest wait for its value.
+ * </p>
+ *
+ * <p>
+ * The context also counts how many times each provider has been invoked and
+ * how many values have been requested to it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class ProviderContext {
+
+	/**
+	 * Returns the provider context of the request, creating it if the request
+	 * doesn't have one yet.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the provider context of the request
+	 * @review
+	 */
+	public static ProviderContext getProviderContext(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (attribute instanceof ProviderContext) {
+			return (ProviderContext)attribute;
+		}
+
+		ProviderContext providerContext = new ProviderContext();
+
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, providerContext);
+
+		return providerContext;
+	}
+
+	/**
+	 * Removes the provider context from the request, so the next call to
+	 * {@link #getProviderContext(HttpServletRequest)} creates a new one. This
+	 * is used by requests that copy the attributes of another request, but
+	 * whose provided values can differ from the ones of the original request.
+	 *
+	 * @param  httpServletRequest the request
+	 * @review
+	 */
+	public static void removeProviderContext(
+		HttpServletRequest httpServletRequest) {
+
+		httpServletRequest.removeAttribute(_ATTRIBUTE_NAME);
+	}
+
+	/**
+	 * Returns the number of times a provider has been invoked in this context.
+	 *
+	 * @return the number of provider invocations
+	 * @review
+	 */
+	public int getInvocationCount() {
+		int invocationCount = 0;
+
+		for (AtomicInteger atomicInteger : _invocationCounts.values()) {
+			invocationCount += atomicInteger.get();
+		}
+
+		return invocationCount;
+	}
+
+	/**
+	 * Returns the number of times the provider of the class has been invoked
+	 * in this context.
+	 *
+	 * @param  clazz the class provided by the provider
+	 * @return the number of invocations of the provider
+	 * @review
+	 */
+	public int getInvocationCount(Class<?> clazz) {
+		AtomicInteger atomicInteger = _invocationCounts.get(clazz);
+
+		if (atomicInteger == null) {
+			return 0;
+		}
+
+		return atomicInteger.get();
+	}
+
+	/**
+	 * Returns the number of values requested to this context, including the
+	 * ones that were already memoized.
+	 *
+	 * @return the number of requested values
+	 * @review
+	 */
+	public int getLookupCount() {
+		return _lookupCount.get();
+	}
+
+	/**
+	 * Returns the value of the class memoized in this context. If the value
+	 * hasn't been created yet, the supplier is invoked to create it, and its
+	 * result is memoized for the rest of the request.
+	 *
+	 * <p>
+	 * If the supplier throws an exception, nothing is memoized, so the next
+	 * call invokes the supplier again.
+	 * </p>
+	 *
+	 * @param  clazz the class of the value
+	 * @param  supplier the supplier that invokes the provider
+	 * @return the value, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T> Optional<T> provide(Class<T> clazz, Supplier<T> supplier) {
+		_lookupCount.incrementAndGet();
+
+		Lazy<Optional<?>> lazy = _values.computeIfAbsent(
+			clazz, __ -> Lazy.of(() -> _invoke(clazz, supplier)));
+
+		try {
+			return unsafeCast(lazy.get());
+		}
+		catch (RuntimeException re) {
+			_values.remove(clazz, lazy);
+
+			throw re;
+		}
+	}
+
+	private ProviderContext() {
+	}
+
+	private <T> Optional<?> _invoke(Class<T> clazz, Supplier<T> supplier) {
+		AtomicInteger atomicInteger = _invocationCounts.computeIfAbsent(
+			clazz, __ -> new AtomicInteger());
+
+		atomicInteger.incrementAndGet();
+
+		return Optional.ofNullable(supplier.get());
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		ProviderContext.class.getName();
+
+	private final Map<Class<?>, AtomicInteger> _invocationCounts =
+		new ConcurrentHashMap<>();
+	private final AtomicInteger _lookupCount = new AtomicInteger();
+	private final Map<Class<?>, Lazy<Optional<?>>> _values =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
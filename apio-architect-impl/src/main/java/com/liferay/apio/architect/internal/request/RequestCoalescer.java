@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import io.vavr.CheckedFunction0;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+import org.slf4j.Logger;
+
+/**
+ * Coalesces identical computations that run concurrently, so only one of them
+ * is executed and its result is shared with the rest.
+ *
+ * <p>
+ * The first computation for a key is the leader, and the computations for the
+ * same key that start before the leader finishes wait for its result. If the
+ * leader fails, or doesn't finish within the {@code timeout} property, in
+ * milliseconds, the waiting computations are executed on their own, so a
+ * failure is never shared. A waiting computation whose thread is interrupted
+ * is also executed on its own, with the thread's interrupt status restored.
+ * Coalescing is disabled unless the {@code enabled} property is {@code true}.
+ * </p>
+ *
+ * <p>
+ * The number of executed, coalesced, and timed out computations is kept since
+ * the component was activated, and isn't reset when its configuration is
+ * modified. These metrics are published as the {@code
+ * com.liferay.apio.architect:type=RequestCoalescer} MBean, so they can be read
+ * by monitoring tools.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {"enabled:Boolean=false", "timeout:Long=5000"},
+	service = RequestCoalescer.class
+)
+public class RequestCoalescer implements RequestCoalescerMBean {
+
+	/**
+	 * Returns the result of the computation for the key. If a computation for
+	 * the same key is already running, this method waits for its result
+	 * instead of executing the provided one.
+	 *
+	 * @param  key the key that identifies identical computations
+	 * @param  checkedFunction0 the computation
+	 * @return the result of the computation
+	 * @review
+	 */
+	public <T> T coalesce(Object key, CheckedFunction0<T> checkedFunction0)
+		throws Throwable {
+
+		if (!_enabled) {
+			return checkedFunction0.apply();
+		}
+
+		CompletableFuture<T> completableFuture = new CompletableFuture<>();
+
+		CompletableFuture<?> leaderCompletableFuture = _inFlight.putIfAbsent(
+			key, completableFuture);
+
+		if (leaderCompletableFuture == null) {
+			return _lead(key, completableFuture, checkedFunction0);
+		}
+
+		try {
+			T t = unsafeCast(
+				leaderCompletableFuture.get(_timeout, TimeUnit.MILLISECONDS));
+
+			_coalescedCount.increment();
+
+			return t;
+		}
+		catch (ExecutionException ee) {
+
+			// The leader's failure isn't shared, so it's executed again
+
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+		catch (TimeoutException te) {
+			_timedOutCount.increment();
+		}
+
+		_executedCount.increment();
+
+		return checkedFunction0.apply();
+	}
+
+	@Override
+	public double getCoalesceRatio() {
+		long coalescedCount = getCoalescedCount();
+
+		long count = coalescedCount + getExecutedCount();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return (double)coalescedCount / count;
+	}
+
+	@Override
+	public long getCoalescedCount() {
+		return _coalescedCount.sum();
+	}
+
+	@Override
+	public long getExecutedCount() {
+		return _executedCount.sum();
+	}
+
+	@Override
+	public long getTimedOutCount() {
+		return _timedOutCount.sum();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	@Activate
+	protected void activate(Map<String, Object> properties) {
+		modified(properties);
+
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			mBeanServer.registerMBean(this, new ObjectName(_OBJECT_NAME));
+		}
+		catch (JMException jme) {
+			_logger.warn("Unable to register {}", _OBJECT_NAME, jme);
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			mBeanServer.unregisterMBean(new ObjectName(_OBJECT_NAME));
+		}
+		catch (JMException jme) {
+			_logger.warn("Unable to unregister {}", _OBJECT_NAME, jme);
+		}
+	}
+
+	@Modified
+	protected void modified(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, "enabled", false);
+		_timeout = getLong(properties, "timeout", 5000);
+	}
+
+	private <T> T _lead(
+			Object key, CompletableFuture<T> completableFuture,
+			CheckedFunction0<T> checkedFunction0)
+		throws Throwable {
+
+		_executedCount.increment();
+
+		try {
+			T t = checkedFunction0.apply();
+
+			completableFuture.complete(t);
+
+			return t;
+		}
+		catch (Throwable t) {
+			completableFuture.completeExceptionally(t);
+
+			throw t;
+		}
+		finally {
+			_inFlight.remove(key, completableFuture);
+		}
+	}
+
+	private static final String _OBJECT_NAME =
+		"com.liferay.apio.architect:type=RequestCoalescer";
+
+	private final LongAdder _coalescedCount = new LongAdder();
+	private volatile boolean _enabled;
+	private final LongAdder _executedCount = new LongAdder();
+	private final Map<Object, CompletableFuture<?>> _inFlight =
+		new ConcurrentHashMap<>();
+	private final Logger _logger = getLogger(getClass());
+	private final LongAdder _timedOutCount = new LongAdder();
+	private volatile long _timeout = 5000;
+
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+/**
+ * Exposes the metrics of the {@link RequestCoalescer} to JMX clients.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public interface RequestCoalescerMBean {
+
+	/**
+	 * Returns the ratio of computations that reused the result of another
+	 * computation, from {@code 0} to {@code 1}.
+	 *
+	 * @return the ratio of coalesced computations
+	 * @review
+	 */
+	public double getCoalesceRatio();
+
+	/**
+	 * Returns the number of computations that reused the result of another
+	 * computation.
+	 *
+	 * @return the number of coalesced computations
+	 * @review
+	 */
+	public long getCoalescedCount();
+
+	/**
+	 * Returns the number of computations that were executed while coalescing
+	 * was enabled, either because they were leaders or because their leader
+	 * failed or timed out.
+	 *
+	 * @return the number of executed computations
+	 * @review
+	 */
+	public long getExecutedCount();
+
+	/**
+	 * Returns the number of computations that stopped waiting for their
+	 * leader because it didn't finish in time.
+	 *
+	 * @return the number of timed out computations
+	 * @review
+	 */
+	public long getTimedOutCount();
+
+	/**
+	 * Returns {@code true} if identical computations are coalesced.
+	 *
+	 * @return {@code true} if identical computations are coalesced; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public boolean isEnabled();
+
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Represents the result of a batch request: the ordered list of the results of
+ * its operations, written as a single multi-status response.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class MultiStatus {
+
+	public MultiStatus(List<Operation> operations) {
+		_operations = unmodifiableList(new ArrayList<>(operations));
+	}
+
+	/**
+	 * Returns the results of the operations, in the order they were sent.
+	 *
+	 * @return the results of the operations
+	 * @review
+	 */
+	public List<Operation> getOperations() {
+		return _operations;
+	}
+
+	/**
+	 * Represents the result of one of the operations of a batch request.
+	 *
+	 * @review
+	 */
+	public static final class Operation {
+
+		/**
+		 * Creates the result of an operation that failed. The status of the
+		 * operation is obtained from the exception when it's written.
+		 *
+		 * @param  method the HTTP method of the operation
+		 * @param  path the path of the operation
+		 * @param  httpServletRequest the request of the operation
+		 * @param  exception the exception thrown by the operation
+		 * @return the result of the operation
+		 * @review
+		 */
+		public static Operation failure(
+			String method, String path, HttpServletRequest httpServletRequest,
+			Exception exception) {
+
+			return new Operation(
+				method, path, httpServletRequest, 0, null, exception);
+		}
+
+		/**
+		 * Creates the result of an operation that succeeded.
+		 *
+		 * @param  method the HTTP method of the operation
+		 * @param  path the path of the operation
+		 * @param  httpServletRequest the request of the operation
+		 * @param  status the status of the operation
+		 * @param  entity the entity returned by the operation, or {@code
+		 *         null} if it doesn't return anything
+		 * @return the result of the operation
+		 * @review
+		 */
+		public static Operation success(
+			String method, String path, HttpServletRequest httpServletRequest,
+			int status, Object entity) {
+
+			return new Operation(
+				method, path, httpServletRequest, status, entity, null);
+		}
+
+		/**
+		 * Returns the entity returned by the operation, if present; returns
+		 * {@code Optional#empty()} otherwise.
+		 *
+		 * @return the entity, if present; {@code Optional#empty()} otherwise
+		 * @review
+		 */
+		public Optional<Object> getEntityOptional() {
+			return Optional.ofNullable(_entity);
+		}
+
+		/**
+		 * Returns the exception thrown by the operation, if it failed; returns
+		 * {@code Optional#empty()} otherwise.
+		 *
+		 * @return the exception, if present; {@code Optional#empty()}
+		 *         otherwise
+		 * @review
+		 */
+		public Optional<Exception> getExceptionOptional() {
+			return Optional.ofNullable(_exception);
+		}
+
+		/**
+		 * Returns the request of the operation, used to write its entity.
+		 *
+		 * @return the request of the operation
+		 * @review
+		 */
+		public HttpServletRequest getHttpServletRequest() {
+			return _httpServletRequest;
+		}
+
+		/**
+		 * Returns the HTTP method of the operation.
+		 *
+		 * @return the HTTP method of the operation
+		 * @review
+		 */
+		public String getMethod() {
+			return _method;
+		}
+
+		/**
+		 * Returns the path of the operation, as it was sent.
+		 *
+		 * @return the path of the operation
+		 * @review
+		 */
+		public String getPath() {
+			return _path;
+		}
+
+		/**
+		 * Returns the status of the operation, if it succeeded; returns
+		 * {@code 0} otherwise.
+		 *
+		 * @return the status of the operation
+		 * @review
+		 */
+		public int getStatus() {
+			return _status;
+		}
+
+		private Operation(
+			String method, String path, HttpServletRequest httpServletRequest,
+			int status, Object entity, Exception exception) {
+
+			_method = method;
+			_path = path;
+			_httpServletRequest = httpServletRequest;
+			_status = status;
+			_entity = entity;
+			_exception = exception;
+		}
+
+		private final Object _entity;
+		private final Exception _exception;
+		private final HttpServletRequest _httpServletRequest;
+		private final String _method;
+		private final String _path;
+		private final int _status;
+
+	}
+
+	private final List<Operation> _operations;
+
+}
\ No newline at end of file
@@ -0,0 +1,340 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.control;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Represents the {@code embedded} and {@code fields} query controls of a
+ * request, compiled into structures that can be tested without parsing or
+ * allocating anything.
+ *
+ * <p>
+ * The embedded paths are compiled into an immutable trie of path segments, and
+ * the selected fields into an immutable set per type. Since clients usually
+ * repeat the same requests, the compiled controls are cached by the request's
+ * raw query string in a small bounded cache, so a repeated request doesn't
+ * parse anything.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class QueryControls {
+
+	/**
+	 * Returns the compiled query controls of the request, reusing the cached
+	 * ones if a request with the same query string has already been compiled.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the compiled query controls of the request
+	 * @review
+	 */
+	public static QueryControls of(HttpServletRequest httpServletRequest) {
+		String queryString = httpServletRequest.getQueryString();
+
+		if ((queryString == null) ||
+			(queryString.length() > _CACHE_MAX_QUERY_STRING_LENGTH) ||
+			_hasBodyParameters(httpServletRequest)) {
+
+			return new QueryControls(httpServletRequest);
+		}
+
+		QueryControls queryControls = _queryControlsCache.get(queryString);
+
+		if (queryControls == null) {
+			queryControls = new QueryControls(httpServletRequest);
+
+			_queryControlsCache.put(queryString, queryControls);
+		}
+
+		return queryControls;
+	}
+
+	/**
+	 * Returns the compiled {@code embedded} query control.
+	 *
+	 * @return the compiled {@code embedded} query control
+	 * @review
+	 */
+	public Embedded getEmbedded() {
+		return _embedded;
+	}
+
+	/**
+	 * Returns the compiled {@code fields} query control.
+	 *
+	 * @return the compiled {@code fields} query control
+	 * @review
+	 */
+	public Fields getFields() {
+		return _fields;
+	}
+
+	/**
+	 * Returns the fields selected for each type with the {@code fields} query
+	 * control. The returned map is immutable and can be compared with the
+	 * maps of other requests.
+	 *
+	 * @return the fields selected for each type
+	 * @review
+	 */
+	public Map<String, Set<String>> getFieldsMap() {
+		return _fieldsMap;
+	}
+
+	/**
+	 * Returns {@code true} if the {@code embedded} query control requests any
+	 * path.
+	 *
+	 * @return {@code true} if any path is embedded; {@code false} otherwise
+	 * @review
+	 */
+	public boolean hasEmbedded() {
+		return !_embedded._children.isEmpty();
+	}
+
+	private static EmbeddedTrie _compileEmbedded(String embedded) {
+		EmbeddedTrie embeddedTrie = new EmbeddedTrie();
+
+		if ((embedded == null) || embedded.isEmpty()) {
+			return embeddedTrie;
+		}
+
+		for (String path : _embeddedPattern.split(embedded)) {
+			EmbeddedTrie node = embeddedTrie;
+
+			for (String segment : path.split("\\.")) {
+				node = node._children.computeIfAbsent(
+					segment, __ -> new EmbeddedTrie());
+			}
+		}
+
+		return embeddedTrie;
+	}
+
+	private static Map<String, Set<String>> _compileFieldsMap(
+		Map<String, String[]> parameterMap) {
+
+		if ((parameterMap == null) || parameterMap.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
+
+		for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+			String type = _getType(entry.getKey());
+			String[] value = entry.getValue();
+
+			if ((type == null) || (value == null) || (value.length != 1) ||
+				value[0].isEmpty()) {
+
+				continue;
+			}
+
+			Set<String> fields = new HashSet<>();
+
+			Collections.addAll(fields, value[0].split(","));
+
+			fieldsMap.put(type, Collections.unmodifiableSet(fields));
+		}
+
+		return fieldsMap;
+	}
+
+	private static String _getType(String key) {
+		int length = key.length();
+
+		if ((length <= _FIELDS_PREFIX.length() + 1) ||
+			!key.startsWith(_FIELDS_PREFIX) ||
+			(key.charAt(length - 1) != ']')) {
+
+			return null;
+		}
+
+		for (int i = _FIELDS_PREFIX.length(); i < (length - 1); i++) {
+			char c = key.charAt(i);
+
+			if (((c < 'A') || (c > 'Z')) && ((c < 'a') || (c > 'z')) &&
+				(c != '|')) {
+
+				return null;
+			}
+		}
+
+		return key.substring(_FIELDS_PREFIX.length(), length - 1);
+	}
+
+	private static boolean _hasBodyParameters(
+		HttpServletRequest httpServletRequest) {
+
+		String contentType = httpServletRequest.getContentType();
+
+		if (contentType == null) {
+			return false;
+		}
+
+		String lowerCaseContentType = contentType.toLowerCase();
+
+		if (lowerCaseContentType.startsWith(
+				"application/x-www-form-urlencoded") ||
+			lowerCaseContentType.startsWith("multipart/form-data")) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private QueryControls(HttpServletRequest httpServletRequest) {
+		_embedded = _compileEmbedded(
+			httpServletRequest.getParameter("embedded"));
+		_fieldsMap = Collections.unmodifiableMap(
+			_compileFieldsMap(httpServletRequest.getParameterMap()));
+
+		_fields = new CompiledFields(_fieldsMap);
+	}
+
+	private static final int _CACHE_MAX_QUERY_STRING_LENGTH = 2048;
+
+	private static final int _CACHE_MAX_SIZE = 256;
+
+	private static final String _FIELDS_PREFIX = "fields[";
+
+	private static final Predicate<String> _alwaysTruePredicate =
+		__ -> true;
+	private static final Pattern _embeddedPattern = Pattern.compile(
+		"\\s*,\\s*");
+	private static final Map<String, QueryControls> _queryControlsCache =
+		Collections.synchronizedMap(
+			new LinkedHashMap<String, QueryControls>(16, 0.75F, true) {
+
+				@Override
+				protected boolean removeEldestEntry(
+					Map.Entry<String, QueryControls> entry) {
+
+					if (size() > _CACHE_MAX_SIZE) {
+						return true;
+					}
+
+					return false;
+				}
+
+			});
+
+	private final EmbeddedTrie _embedded;
+	private final Fields _fields;
+	private final Map<String, Set<String>> _fieldsMap;
+
+	/**
+	 * Tests the selected fields of a list of types against the immutable set
+	 * of fields selected for each type. The predicate of each list of types is
+	 * computed once and reused.
+	 */
+	private static class CompiledFields implements Fields {
+
+		@Override
+		public Predicate<String> apply(List<String> types) {
+			if (_fieldsMap.isEmpty()) {
+				return _alwaysTruePredicate;
+			}
+
+			Predicate<String> predicate = _predicates.get(types);
+
+			if (predicate == null) {
+				predicate = _predicates.computeIfAbsent(
+					types, this::_createPredicate);
+			}
+
+			return predicate;
+		}
+
+		private CompiledFields(Map<String, Set<String>> fieldsMap) {
+			_fieldsMap = fieldsMap;
+		}
+
+		private Predicate<String> _createPredicate(List<String> types) {
+			Set<String> fields = new HashSet<>();
+
+			for (String type : types) {
+				Set<String> typeFields = _fieldsMap.get(type);
+
+				if (typeFields != null) {
+					fields.addAll(typeFields);
+				}
+			}
+
+			if (fields.isEmpty()) {
+				return _alwaysTruePredicate;
+			}
+
+			return fields::contains;
+		}
+
+		private final Map<String, Set<String>> _fieldsMap;
+		private final Map<List<String>, Predicate<String>> _predicates =
+			new ConcurrentHashMap<>();
+
+	}
+
+	/**
+	 * Stores the segments of the embedded paths as an immutable trie. A path
+	 * is embedded if every segment of it can be followed from the root of the
+	 * trie, that is, if it's one of the requested paths or any of their
+	 * prefixes.
+	 */
+	private static class EmbeddedTrie implements Embedded {
+
+		@Override
+		public boolean test(String path) {
+			if (_children.isEmpty()) {
+				return false;
+			}
+
+			EmbeddedTrie node = this;
+
+			int start = 0;
+
+			while (node != null) {
+				int end = path.indexOf('.', start);
+
+				if (end == -1) {
+					return node._children.containsKey(path.substring(start));
+				}
+
+				node = node._children.get(path.substring(start, end));
+
+				start = end + 1;
+			}
+
+			return false;
+		}
+
+		private final Map<String, EmbeddedTrie> _children = new HashMap<>();
+
+	}
+
+}
\ No newline at end of file
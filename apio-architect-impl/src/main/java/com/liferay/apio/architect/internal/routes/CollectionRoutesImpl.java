@@ -35,6 +35,7 @@ import com.liferay.apio.architect.function.throwable.ThrowableHexaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowablePentaFunction;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.batch.ChunkedBatchResult;
 import com.liferay.apio.architect.internal.form.FormImpl;
 import com.liferay.apio.architect.internal.jaxrs.resource.FormResource;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
@@ -181,15 +182,17 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 				).permissionProvidedClasses(
 					Credentials.class
 				).executeFunction(
-					params -> batchCreatorThrowablePentaFunction.andThen(
-						t -> new BatchResult<>(t, _paged.getName())
-					).apply(
-						unsafeCast(params.get(0)), unsafeCast(params.get(1)),
-						unsafeCast(params.get(2)), unsafeCast(params.get(3)),
-						unsafeCast(params.get(4))
-					)
+					params -> new ChunkedBatchResult<>(
+						unsafeCast(params.get(0)), unsafeCast(form),
+						(List<R> list) ->
+							batchCreatorThrowablePentaFunction.apply(
+								list, unsafeCast(params.get(1)),
+								unsafeCast(params.get(2)),
+								unsafeCast(params.get(3)),
+								unsafeCast(params.get(4))),
+						_paged.getName())
 				).form(
-					form, Form::getList
+					form, (unused, body) -> body
 				).receivesParams(
 					Body.class, aClass, bClass, cClass, dClass
 				).build();
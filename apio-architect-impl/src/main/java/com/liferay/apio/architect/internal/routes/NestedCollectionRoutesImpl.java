@@ -30,6 +30,7 @@ import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableHexaFunction;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.batch.ChunkedBatchResult;
 import com.liferay.apio.architect.internal.form.FormImpl;
 import com.liferay.apio.architect.internal.jaxrs.resource.FormResource;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
@@ -192,15 +193,18 @@ public class NestedCollectionRoutesImpl<T, S, U>
 				).permissionProvidedClasses(
 					Credentials.class, _getIdClass()
 				).executeFunction(
-					params -> batchCreatorThrowableHexaFunction.andThen(
-						t -> new BatchResult<>(t, _resource.getName())
-					).apply(
-						_getId(params.get(0)), unsafeCast(params.get(1)),
-						unsafeCast(params.get(2)), unsafeCast(params.get(3)),
-						unsafeCast(params.get(4)), unsafeCast(params.get(5))
-					)
+					params -> new ChunkedBatchResult<>(
+						unsafeCast(params.get(1)), unsafeCast(form),
+						(List<R> list) ->
+							batchCreatorThrowableHexaFunction.apply(
+								_getId(params.get(0)), list,
+								unsafeCast(params.get(2)),
+								unsafeCast(params.get(3)),
+								unsafeCast(params.get(4)),
+								unsafeCast(params.get(5))),
+						_resource.getName())
 				).form(
-					form, Form::getList
+					form, (unused, body) -> body
 				).receivesParams(
 					_getIdClass(), Body.class, aClass, bClass, cClass, dClass
 				).build();
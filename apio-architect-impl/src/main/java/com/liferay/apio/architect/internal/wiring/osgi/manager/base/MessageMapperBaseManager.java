@@ -48,7 +48,7 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 	 * Computes the list of managed message mappers and uses the provided
 	 * consumer to store them.
 	 */
-	protected void computeMessageMappers() {
+	public void computeMessageMappers() {
 		forEachService(
 			(key, messageMapper) -> {
 				try {
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.body;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.BodyConverter;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.base.BaseManager;
+import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.core.MediaType;
+
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Manages the {@link BodyConverter} services, keyed by the media type they
+ * read.
+ *
+ * <p>
+ * The media types of the requests' {@code Content-Type} headers are parsed
+ * once and cached, without their parameters, so requests with the same media
+ * type don't parse it again.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = BodyConverterManager.class)
+public class BodyConverterManager extends BaseManager<BodyConverter, String> {
+
+	public BodyConverterManager() {
+		super(BodyConverter.class);
+	}
+
+	/**
+	 * Reads the request's body with the {@link BodyConverter} of its media
+	 * type. Fails with a {@code BadRequestException} if the request's {@code
+	 * Content-Type} header isn't valid, and with a {@code
+	 * NotSupportedException} if there's no body converter for its media type.
+	 *
+	 * @param  request the current request
+	 * @return the body
+	 * @review
+	 */
+	public Body getBody(HttpServletRequest request) {
+		MediaType mediaType = getMediaType(request.getContentType());
+
+		Optional<BodyConverter> optional = getBodyConverterOptional(mediaType);
+
+		BodyConverter bodyConverter = optional.orElseThrow(
+			NotSupportedException::new);
+
+		return bodyConverter.convert(request);
+	}
+
+	/**
+	 * Returns the {@link BodyConverter} of the media type, if present. The
+	 * converter registered for the media type is preferred; otherwise, the
+	 * first converter whose media type is compatible is returned.
+	 *
+	 * @param  mediaType the media type
+	 * @return the body converter, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<BodyConverter> getBodyConverterOptional(
+		MediaType mediaType) {
+
+		String key = mediaType.getType() + "/" + mediaType.getSubtype();
+
+		BodyConverter bodyConverter = serviceTrackerMap.getService(key);
+
+		if (bodyConverter != null) {
+			return Optional.of(bodyConverter);
+		}
+
+		for (String mediaTypeString : serviceTrackerMap.keySet()) {
+			MediaType converterMediaType = _parse(mediaTypeString);
+
+			if ((converterMediaType != null) &&
+				converterMediaType.isCompatible(mediaType)) {
+
+				return Optional.ofNullable(
+					serviceTrackerMap.getService(mediaTypeString));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the media type of the {@code Content-Type} header, without its
+	 * parameters. Fails with a {@code BadRequestException} if the header is
+	 * missing or isn't valid.
+	 *
+	 * @param  contentType the {@code Content-Type} header
+	 * @return the media type
+	 * @review
+	 */
+	public MediaType getMediaType(String contentType) {
+		if (contentType == null) {
+			throw new BadRequestException("Invalid Content-Type header");
+		}
+
+		int index = contentType.indexOf(';');
+
+		String key = contentType;
+
+		if (index != -1) {
+			key = contentType.substring(0, index);
+		}
+
+		key = key.trim();
+
+		key = key.toLowerCase(Locale.ENGLISH);
+
+		MediaType mediaType = _mediaTypes.get(key);
+
+		if (mediaType != null) {
+			return mediaType;
+		}
+
+		mediaType = _parse(key);
+
+		if (mediaType == null) {
+			throw new BadRequestException("Invalid Content-Type header");
+		}
+
+		if (_mediaTypes.size() >= _MAX_CACHED_MEDIA_TYPES) {
+			_mediaTypes.clear();
+		}
+
+		_mediaTypes.put(key, mediaType);
+
+		return mediaType;
+	}
+
+	@Override
+	protected void emit(
+		ServiceReference<BodyConverter> serviceReference,
+		Emitter<String> emitter) {
+
+		BodyConverter bodyConverter = bundleContext.getService(
+			serviceReference);
+
+		if (bodyConverter == null) {
+			return;
+		}
+
+		String mediaType = bodyConverter.getMediaType();
+
+		emitter.emit(mediaType.toLowerCase(Locale.ENGLISH));
+	}
+
+	private static MediaType _parse(String mediaType) {
+		try {
+			return MediaType.valueOf(mediaType);
+		}
+		catch (IllegalArgumentException iae) {
+			return null;
+		}
+	}
+
+	private static final int _MAX_CACHED_MEDIA_TYPES = 256;
+
+	private final Map<String, MediaType> _mediaTypes =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
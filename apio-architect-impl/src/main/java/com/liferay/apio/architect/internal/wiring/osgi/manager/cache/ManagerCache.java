@@ -24,6 +24,7 @@ import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.message.json.MultiStatusMessageMapper;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
@@ -40,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -77,7 +79,28 @@ public class ManagerCache {
 	}
 
 	/**
-	 * Clears the cache.
+	 * Adds a listener that is called every time the cache is cleared, after
+	 * its content has been removed.
+	 *
+	 * @param clearListener the listener
+	 * @review
+	 */
+	public void addClearListener(Runnable clearListener) {
+		_clearListeners.add(clearListener);
+	}
+
+	/**
+	 * Removes a listener added with {@link #addClearListener(Runnable)}.
+	 *
+	 * @param clearListener the listener
+	 * @review
+	 */
+	public void removeClearListener(Runnable clearListener) {
+		_clearListeners.remove(clearListener);
+	}
+
+	/**
+	 * Clears the cache and notifies its clear listeners.
 	 */
 	public void clear() {
 		_actionSemantics = null;
@@ -88,6 +111,7 @@ public class ManagerCache {
 		_identifierClasses = null;
 		_reusableIdentifierClasses = null;
 		_itemRoutes = null;
+		_multiStatusMessageMappers = null;
 		_names = null;
 		_nestedCollectionRoutes = null;
 		_pageMessageMappers = null;
@@ -97,6 +121,8 @@ public class ManagerCache {
 		_reusableNestedCollectionRoutes = null;
 		_rootResourceNameSdks = null;
 		_singleModelMessageMappers = null;
+
+		_clearListeners.forEach(Runnable::run);
 	}
 
 	public List<ActionSemantics> getActionSemantics(
@@ -257,6 +283,28 @@ public class ManagerCache {
 		return _itemRoutes;
 	}
 
+	/**
+	 * Returns the multi-status message mapper, if present, for the current
+	 * request; {@code Optional#empty()} otherwise.
+	 *
+	 * @param  request the current request
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the multi-status message mapper, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<MultiStatusMessageMapper>
+		getMultiStatusMessageMapperOptional(
+			Request request, EmptyFunction computeEmptyFunction) {
+
+		if (_multiStatusMessageMappers == null) {
+			computeEmptyFunction.invoke();
+		}
+
+		return _getMessageMapperOptional(request, _multiStatusMessageMappers);
+	}
+
 	/**
 	 * Returns the name of a collection resource that matches the specified
 	 * class name.
@@ -539,6 +587,24 @@ public class ManagerCache {
 		_itemRoutes.put(key, itemRoutes);
 	}
 
+	/**
+	 * Adds a multi-status message mapper.
+	 *
+	 * @param mediaType the media type
+	 * @param multiStatusMessageMapper the multi-status message mapper
+	 * @review
+	 */
+	public void putMultiStatusMessageMapper(
+		MediaType mediaType,
+		MultiStatusMessageMapper multiStatusMessageMapper) {
+
+		if (_multiStatusMessageMappers == null) {
+			_multiStatusMessageMappers = new HashMap<>();
+		}
+
+		_multiStatusMessageMappers.put(mediaType, multiStatusMessageMapper);
+	}
+
 	/**
 	 * Adds a resource name.
 	 *
@@ -726,6 +792,7 @@ public class ManagerCache {
 
 	private List<ActionSemantics> _actionSemantics;
 	private Map<MediaType, BatchResultMessageMapper> _batchResultMessageMappers;
+	private final List<Runnable> _clearListeners = new CopyOnWriteArrayList<>();
 	private Map<String, CollectionRoutes> _collectionRoutes;
 	private CustomDocumentation _customDocumentation;
 	private Map<MediaType, DocumentationMessageMapper>
@@ -734,6 +801,7 @@ public class ManagerCache {
 	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
 	private Map<String, Class<Identifier>> _identifierClasses;
 	private Map<String, ItemRoutes> _itemRoutes;
+	private Map<MediaType, MultiStatusMessageMapper> _multiStatusMessageMappers;
 	private Map<String, String> _names;
 	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
 	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
@@ -0,0 +1,431 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.documentation.Documentation;
+import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.EntryPointMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.MultiStatusMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.PageMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.writer.DocumentationWriter;
+import com.liferay.apio.architect.internal.writer.EntryPointWriter;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Builds the content of the {@link ManagerCache} in a background thread, so
+ * the first requests don't have to compute it.
+ *
+ * <p>
+ * The registry (action semantics, routes, parsed types, representors, names,
+ * custom documentation, and message mappers) is built when the component is
+ * activated, and again every time the cache is cleared because a service
+ * changed. Consecutive clears are coalesced: the warm-up only starts after the
+ * cache hasn't been cleared for {@code delay} milliseconds. If the {@code
+ * render} property is {@code true}, the warm-up also writes the entry point
+ * and the documentation with every message mapper, which renders the fields
+ * of every representor and warms up the writers. If a warm-up fails, it's
+ * retried, waiting twice as long after every failure, up to a minute.
+ * </p>
+ *
+ * <p>
+ * This component registers itself as a service with the {@link
+ * #READY_PROPERTY} property, which is {@code true} only when the last warm-up
+ * has completed successfully and the cache hasn't been cleared since. If the
+ * {@code enabled} property is {@code false}, the registry is built lazily, as
+ * requests need it, and the service is always ready.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	immediate = true,
+	property = {
+		"delay:Long=500", "enabled:Boolean=true", "render:Boolean=false"
+	},
+	service = {}
+)
+public class ManagerCacheWarmer {
+
+	/**
+	 * The name of the service property that indicates if the registry has
+	 * been built.
+	 *
+	 * @review
+	 */
+	public static final String READY_PROPERTY = "apio.architect.ready";
+
+	/**
+	 * Returns the number of warm-ups that completed since the component was
+	 * activated.
+	 *
+	 * @return the number of completed warm-ups
+	 * @review
+	 */
+	public long getWarmUpCount() {
+		return _warmUpCount.sum();
+	}
+
+	/**
+	 * Returns {@code true} if the registry has been built and the cache hasn't
+	 * been cleared since.
+	 *
+	 * @return {@code true} if the registry is ready; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isReady() {
+		return _ready;
+	}
+
+	@Activate
+	@Modified
+	protected synchronized void activate(
+		BundleContext bundleContext, Map<String, Object> properties) {
+
+		deactivate();
+
+		_delay = getLong(properties, "delay", 500);
+		_enabled = getBoolean(properties, "enabled", true);
+		_render = getBoolean(properties, "render", false);
+
+		_serviceRegistration = bundleContext.registerService(
+			ManagerCacheWarmer.class, this, _getServiceProperties(!_enabled));
+
+		_ready = !_enabled;
+
+		if (!_enabled) {
+			return;
+		}
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(runnable, "Apio Architect Warm-Up");
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		INSTANCE.addClearListener(_clearListener);
+
+		_schedule();
+	}
+
+	@Deactivate
+	protected synchronized void deactivate() {
+		INSTANCE.removeClearListener(_clearListener);
+
+		_generation.incrementAndGet();
+
+		if (_scheduledExecutorService != null) {
+			_scheduledExecutorService.shutdownNow();
+
+			_scheduledExecutorService = null;
+		}
+
+		if (_serviceRegistration != null) {
+			_serviceRegistration.unregister();
+
+			_serviceRegistration = null;
+		}
+
+		_ready = false;
+		_scheduledFuture = null;
+
+		_warmUpCount.reset();
+	}
+
+	private static Dictionary<String, Object> _getServiceProperties(
+		boolean ready) {
+
+		Dictionary<String, Object> properties = new Hashtable<>();
+
+		properties.put(READY_PROPERTY, ready);
+
+		return properties;
+	}
+
+	private void _computeRegistry() {
+		_actionManager.getEntryPoint();
+
+		_representableManager.getRepresentors();
+
+		_customDocumentationManager.getCustomDocumentation();
+
+		_batchResultMessageMapperManager.computeMessageMappers();
+		_documentationMessageMapperManager.computeMessageMappers();
+		_entryPointMessageMapperManager.computeMessageMappers();
+		_errorMessageMapperManager.computeMessageMappers();
+		_multiStatusMessageMapperManager.computeMessageMappers();
+		_pageMessageMapperManager.computeMessageMappers();
+		_singleModelMessageMapperManager.computeMessageMappers();
+	}
+
+	private Optional<String> _getPrimaryTypeOptional(String name) {
+		Optional<Representor<Object>> optional =
+			_representableManager.getRepresentorOptional(name);
+
+		return optional.map(BaseRepresentor::getPrimaryType);
+	}
+
+	private void _render() {
+		RequestInfo requestInfo = RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "/"
+			).applicationURL(
+				() -> "/"
+			).embedded(
+				__ -> false
+			).fields(
+				__ -> string -> true
+			).language(
+				Locale::getDefault
+			).build());
+
+		EntryPoint entryPoint = _actionManager.getEntryPoint();
+
+		_entryPointMessageMapperManager.forEachService(
+			(key, entryPointMessageMapper) -> {
+				EntryPointWriter entryPointWriter =
+					EntryPointWriter.Builder.entryPoint(
+						entryPoint
+					).entryPointMessageMapper(
+						entryPointMessageMapper
+					).requestInfo(
+						requestInfo
+					).typeFunction(
+						this::_getPrimaryTypeOptional
+					).build();
+
+				entryPointWriter.write();
+			});
+
+		_documentationMessageMapperManager.forEachService(
+			(key, documentationMessageMapper) -> {
+				Stream<ActionSemantics> stream =
+					_actionManager.getActionSemanticsStream();
+
+				Stream<Resource> resourceStream = stream.map(
+					ActionSemantics::getResource
+				).distinct();
+
+				Documentation documentation = new Documentation(
+					Optional::empty, Optional::empty, Optional::empty,
+					() -> _representableManager.getRepresentors(),
+					resourceStream,
+					resource -> _actionManager.getActionSemantics(
+						resource, null, null),
+					() -> _customDocumentationManager.getCustomDocumentation());
+
+				DocumentationWriter documentationWriter =
+					DocumentationWriter.create(
+						builder -> builder.documentation(
+							documentation
+						).documentationMessageMapper(
+							documentationMessageMapper
+						).requestInfo(
+							requestInfo
+						).typeFunction(
+							identifierClass -> _nameManager.getNameOptional(
+								identifierClass.getName()
+							).flatMap(
+								this::_getPrimaryTypeOptional
+							)
+						).build());
+
+				documentationWriter.write();
+			});
+	}
+
+	private synchronized void _schedule() {
+		long generation = _generation.incrementAndGet();
+
+		_setReady(false);
+
+		if (_scheduledExecutorService == null) {
+			return;
+		}
+
+		if (_scheduledFuture != null) {
+			_scheduledFuture.cancel(false);
+		}
+
+		_scheduledFuture = _scheduledExecutorService.schedule(
+			() -> _warmUp(generation, 0), _delay, TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void _scheduleRetry(
+		long generation, int attempt, Exception e) {
+
+		if ((generation != _generation.get()) ||
+			(_scheduledExecutorService == null)) {
+
+			return;
+		}
+
+		long delay = Math.min(
+			Math.max(_delay, 1) << Math.min(attempt, 16), _MAX_RETRY_DELAY);
+
+		_logger.warn(
+			"Unable to warm up the registry, retrying in {} ms", delay, e);
+
+		_scheduledFuture = _scheduledExecutorService.schedule(
+			() -> _warmUp(generation, attempt + 1), delay,
+			TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void _setReady(boolean ready) {
+		if (_ready == ready) {
+			return;
+		}
+
+		_ready = ready;
+
+		if (_serviceRegistration != null) {
+			_serviceRegistration.setProperties(_getServiceProperties(ready));
+		}
+	}
+
+	private void _warmUp(long generation, int attempt) {
+		long start = System.nanoTime();
+
+		try {
+			_computeRegistry();
+
+			if (_render) {
+				_render();
+			}
+		}
+		catch (Exception e) {
+			_scheduleRetry(generation, attempt, e);
+
+			return;
+		}
+
+		synchronized (this) {
+			if (generation != _generation.get()) {
+				return;
+			}
+
+			_warmUpCount.increment();
+
+			_setReady(true);
+		}
+
+		if (_logger.isDebugEnabled()) {
+			_logger.debug(
+				"Registry warmed up in {} ms",
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
+	private static final long _MAX_RETRY_DELAY = 60000;
+
+	@Reference
+	private ActionManager _actionManager;
+
+	@Reference
+	private BatchResultMessageMapperManager _batchResultMessageMapperManager;
+
+	private final Runnable _clearListener = this::_schedule;
+
+	@Reference
+	private CustomDocumentationManager _customDocumentationManager;
+
+	private volatile long _delay = 500;
+
+	@Reference
+	private DocumentationMessageMapperManager
+		_documentationMessageMapperManager;
+
+	private volatile boolean _enabled = true;
+
+	@Reference
+	private EntryPointMessageMapperManager _entryPointMessageMapperManager;
+
+	@Reference
+	private ErrorMessageMapperManager _errorMessageMapperManager;
+
+	private final AtomicLong _generation = new AtomicLong();
+	private final Logger _logger = getLogger(getClass());
+
+	@Reference
+	private MultiStatusMessageMapperManager _multiStatusMessageMapperManager;
+
+	@Reference
+	private NameManager _nameManager;
+
+	@Reference
+	private PageMessageMapperManager _pageMessageMapperManager;
+
+	private volatile boolean _ready;
+	private volatile boolean _render;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	private ScheduledExecutorService _scheduledExecutorService;
+	private ScheduledFuture<?> _scheduledFuture;
+	private ServiceRegistration<ManagerCacheWarmer> _serviceRegistration;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+	private final LongAdder _warmUpCount = new LongAdder();
+
+}
\ No newline at end of file
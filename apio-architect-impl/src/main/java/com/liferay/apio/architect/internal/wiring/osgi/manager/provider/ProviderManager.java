@@ -19,6 +19,7 @@ import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.request.ProviderContext;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.provider.Provider;
 
@@ -80,15 +81,18 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 	public <T> T provideMandatory(
 		HttpServletRequest httpServletRequest, Class<T> clazz) {
 
-		Optional<Provider> providerOptional = getServiceOptional(clazz);
+		Optional<Provider<T>> providerOptional = unsafeCast(
+			getServiceOptional(clazz));
 
-		if (!providerOptional.isPresent()) {
-			_logger.warn("Missing provider for mandatory class: {}", clazz);
+		Provider<T> provider = providerOptional.orElseThrow(
+			() -> {
+				_logger.warn(
+					"Missing provider for mandatory class: {}", clazz);
 
-			throw new NotFoundException();
-		}
+				return new NotFoundException();
+			});
 
-		Optional<T> optional = provideOptional(httpServletRequest, clazz);
+		Optional<T> optional = _provide(httpServletRequest, clazz, provider);
 
 		if (clazz.equals(Credentials.class) && !optional.isPresent()) {
 			return unsafeCast((Credentials)() -> "");
@@ -107,6 +111,12 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 	 * Returns the instance of type {@code T} if a valid {@code Provider} can be
 	 * found. Returns {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * Providers are invoked at most once per request, even if several threads
+	 * ask for the same instance. The instances they create are memoized in the
+	 * request's {@link ProviderContext}, which also counts the invocations.
+	 * </p>
+	 *
 	 * @param  httpServletRequest the current request
 	 * @param  clazz the class type {@code T}
 	 * @return the instance of {@code T}, if a valid {@code Provider} is
@@ -117,8 +127,23 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
-		return optional.map(
-			provider -> provider.createContext(httpServletRequest));
+		return optional.flatMap(
+			provider -> _provide(httpServletRequest, clazz, provider));
+	}
+
+	private <T> Optional<T> _provide(
+		HttpServletRequest httpServletRequest, Class<T> clazz,
+		Provider<T> provider) {
+
+		if (httpServletRequest == null) {
+			return Optional.ofNullable(provider.createContext(null));
+		}
+
+		ProviderContext providerContext = ProviderContext.getProviderContext(
+			httpServletRequest);
+
+		return providerContext.provide(
+			clazz, () -> provider.createContext(httpServletRequest));
 	}
 
 	private Logger _logger = getLogger(getClass());
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.util;
+
+import java.util.Map;
+
+/**
+ * Provides methods to read the configuration properties of components. A
+ * missing property returns the default value, and a present one is parsed
+ * from its string value, so properties set as strings by configuration admin
+ * are read the same way as typed ones.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class PropertiesUtil {
+
+	/**
+	 * Returns the property's value as a {@code boolean}.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value returned if the property is missing
+	 * @return the property's value
+	 * @review
+	 */
+	public static boolean getBoolean(
+		Map<String, Object> properties, String key, boolean defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		return Boolean.parseBoolean(String.valueOf(value));
+	}
+
+	/**
+	 * Returns the property's value as an {@code int}.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value returned if the property is missing
+	 * @return the property's value
+	 * @review
+	 */
+	public static int getInt(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		return Integer.parseInt(String.valueOf(value));
+	}
+
+	/**
+	 * Returns the property's value as a {@code long}.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value returned if the property is missing
+	 * @return the property's value
+	 * @review
+	 */
+	public static long getLong(
+		Map<String, Object> properties, String key, long defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		return Long.parseLong(String.valueOf(value));
+	}
+
+	private PropertiesUtil() {
+	}
+
+}
\ No newline at end of file
@@ -17,7 +17,9 @@ package com.liferay.apio.architect.internal.writer;
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
 
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.internal.alias.PathFunction;
+import com.liferay.apio.architect.internal.batch.ChunkedBatchResult;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.request.RequestInfo;
@@ -26,9 +28,13 @@ import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.resource.Resource.Id;
 import com.liferay.apio.architect.resource.Resource.Item;
 
+import io.vavr.control.Try;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -40,6 +46,99 @@ import java.util.function.Function;
  */
 public class BatchResultWriter<T> {
 
+	/**
+	 * Writes the handled batch result as a stream of JSON objects. Each item
+	 * is written to its own JSON object, which is passed to the consumer as
+	 * soon as its chunk has been created, instead of being added to the batch
+	 * result. Once every item has been written, the consumer receives the
+	 * batch result's JSON object, which holds the number of created and failed
+	 * items.
+	 *
+	 * <p>
+	 * If the batch result is a {@link ChunkedBatchResult}, its items are
+	 * created in chunks of the provided size, and the items that can't be
+	 * created are written with {@link BatchResultMessageMapper#mapItemError}.
+	 * In this mode, the {@link BatchResultMessageMapper#onFinishItem} method
+	 * isn't called.
+	 * </p>
+	 *
+	 * @param  chunkSize the maximum number of items created at once
+	 * @param  errorFunction the function that converts the exception of an
+	 *         item into an {@code APIError}
+	 * @param  consumer the consumer that receives the items' JSON objects and,
+	 *         finally, the batch result's JSON object
+	 * @return {@code true} if the {@code Representor} exists for the resource;
+	 *         {@code false} otherwise, in which case nothing is written
+	 * @review
+	 */
+	public boolean stream(
+		int chunkSize, Function<Throwable, APIError> errorFunction,
+		Consumer<JSONObjectBuilder> consumer) {
+
+		Optional<Representor<Object>> optional = _representorFunction.apply(
+			_batchResult.resourceName);
+
+		if (!optional.isPresent()) {
+			return false;
+		}
+
+		Representor<Object> representor = optional.get();
+
+		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
+
+		List<String> types = representor.getTypes();
+
+		AtomicInteger failedCount = new AtomicInteger();
+		AtomicInteger totalCount = new AtomicInteger();
+
+		Consumer<Try<T>> itemConsumer = identifierTry -> {
+			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+			if (identifierTry.isSuccess()) {
+				totalCount.incrementAndGet();
+
+				_writeItem(
+					itemJsonObjectBuilder, identifierTry.get(), applicationURL,
+					types);
+			}
+			else {
+				failedCount.incrementAndGet();
+
+				_batchResultMessageMapper.mapItemError(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					errorFunction.apply(identifierTry.getCause()));
+			}
+
+			consumer.accept(itemJsonObjectBuilder);
+		};
+
+		if (_batchResult instanceof ChunkedBatchResult) {
+			ChunkedBatchResult<T> chunkedBatchResult =
+				(ChunkedBatchResult<T>)_batchResult;
+
+			chunkedBatchResult.forEachChunk(
+				chunkSize, chunk -> chunk.forEach(itemConsumer));
+		}
+		else {
+			Collection<T> identifiers = _batchResult.getIdentifiers();
+
+			identifiers.forEach(
+				identifier -> itemConsumer.accept(Try.success(identifier)));
+		}
+
+		_batchResultMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, totalCount.get());
+
+		_batchResultMessageMapper.mapItemFailedCount(
+			_jsonObjectBuilder, failedCount.get());
+
+		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+
+		consumer.accept(_jsonObjectBuilder);
+
+		return true;
+	}
+
 	/**
 	 * Writes the handled batch result to a string. If no {@code Representor}
 	 * exists for the resource, this method returns {@code Optional#empty()}.
@@ -49,6 +148,21 @@ public class BatchResultWriter<T> {
 	 *         otherwise
 	 */
 	public Optional<String> write() {
+		Optional<JSONObjectBuilder> optional = writeJSONObject();
+
+		return optional.map(JSONObjectBuilder::build);
+	}
+
+	/**
+	 * Writes the handled batch result to a JSON object builder, so it can be
+	 * encoded in any format. This method behaves like {@link #write()}.
+	 *
+	 * @return the JSON object builder of the batch result, if the {@code
+	 *         Representor} exists for the resource; returns {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<JSONObjectBuilder> writeJSONObject() {
 		Optional<Representor<Object>> optional = _representorFunction.apply(
 			_batchResult.resourceName);
 
@@ -70,31 +184,18 @@ public class BatchResultWriter<T> {
 		for (T identifier : identifiers) {
 			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
 
-			_pathFunction.apply(
-				_batchResult.resourceName, identifier
-			).map(
-				path -> Item.of(path.getName(), Id.of("", path.getId()))
-			).ifPresent(
-				item -> {
-					Optional<String> optionalURL = createItemResourceURL(
-						applicationURL, item);
-
-					optionalURL.ifPresent(
-						url -> _batchResultMessageMapper.mapItemSelfURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder, url));
-
-					_batchResultMessageMapper.mapItemTypes(
-						_jsonObjectBuilder, itemJsonObjectBuilder, types);
-
-					_batchResultMessageMapper.onFinishItem(
-						_jsonObjectBuilder, itemJsonObjectBuilder);
-				}
-			);
+			boolean written = _writeItem(
+				itemJsonObjectBuilder, identifier, applicationURL, types);
+
+			if (written) {
+				_batchResultMessageMapper.onFinishItem(
+					_jsonObjectBuilder, itemJsonObjectBuilder);
+			}
 		}
 
 		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return Optional.of(_jsonObjectBuilder);
 	}
 
 	/**
@@ -207,6 +308,32 @@ public class BatchResultWriter<T> {
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
+	private boolean _writeItem(
+		JSONObjectBuilder itemJsonObjectBuilder, T identifier,
+		ApplicationURL applicationURL, List<String> types) {
+
+		Optional<Item> itemOptional = _pathFunction.apply(
+			_batchResult.resourceName, identifier
+		).map(
+			path -> Item.of(path.getName(), Id.of("", path.getId()))
+		);
+
+		itemOptional.ifPresent(
+			item -> {
+				Optional<String> optionalURL = createItemResourceURL(
+					applicationURL, item);
+
+				optionalURL.ifPresent(
+					url -> _batchResultMessageMapper.mapItemSelfURL(
+						_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+				_batchResultMessageMapper.mapItemTypes(
+					_jsonObjectBuilder, itemJsonObjectBuilder, types);
+			});
+
+		return itemOptional.isPresent();
+	}
+
 	private final BatchResult<T> _batchResult;
 	private final BatchResultMessageMapper<T> _batchResultMessageMapper;
 	private final JSONObjectBuilder _jsonObjectBuilder;
@@ -27,7 +27,9 @@ import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.js
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.STRING;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.STRING_LIST;
 
+import com.liferay.apio.architect.alias.representor.DoubleFieldFunction;
 import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.alias.representor.LongFieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedFieldFunction;
 import com.liferay.apio.architect.consumer.TriConsumer;
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
@@ -239,10 +241,14 @@ public class DocumentationWriter {
 				representor.getBooleanFunctions(), BOOLEAN),
 			_getDocumentationFieldStream(
 				representor.getBooleanListFunctions(), BOOLEAN_LIST),
+			_getDocumentationFieldStream(
+				representor.getDoubleListFunctions(), NUMBER_LIST),
 			_getDocumentationFieldStream(
 				representor.getLinkFunctions(), STRING),
 			_getDocumentationFieldStream(
 				representor.getLocalizedStringFunctions(), STRING),
+			_getDocumentationFieldStream(
+				representor.getLongListFunctions(), NUMBER_LIST),
 			_getDocumentationFieldStream(
 				representor.getNestedFieldFunctions(), NESTED_MODEL),
 			_getDocumentationFieldStream(
@@ -251,6 +257,7 @@ public class DocumentationWriter {
 				representor.getNumberFunctions(), NUMBER),
 			_getDocumentationFieldStream(
 				representor.getNumberListFunctions(), NUMBER_LIST),
+			_getPrimitiveNumberDocumentationFieldStream(representor),
 			_getDocumentationFieldStream(
 				representor.getRelativeURLFunctions(), STRING),
 			_getDocumentationFieldStream(
@@ -337,6 +344,30 @@ public class DocumentationWriter {
 				fieldFunction.getKey(), fieldType));
 	}
 
+	private Stream<DocumentationField>
+		_getPrimitiveNumberDocumentationFieldStream(
+			BaseRepresentor<?> representor) {
+
+		List<? extends DoubleFieldFunction<?>> doubleFieldFunctions =
+			representor.getDoubleFunctions();
+
+		Stream<? extends DoubleFieldFunction<?>> doubleStream =
+			doubleFieldFunctions.stream();
+
+		List<? extends LongFieldFunction<?>> longFieldFunctions =
+			representor.getLongFunctions();
+
+		Stream<? extends LongFieldFunction<?>> longStream =
+			longFieldFunctions.stream();
+
+		return Stream.concat(
+			doubleStream.map(DoubleFieldFunction::getKey),
+			longStream.map(LongFieldFunction::getKey)
+		).map(
+			key -> DocumentationField.of(key, NUMBER)
+		);
+	}
+
 	private TriConsumer<JSONObjectBuilder, String, String>
 		_getResourceMapperTriConsumer(Resource resource) {
 
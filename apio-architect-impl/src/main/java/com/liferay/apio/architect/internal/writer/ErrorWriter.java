@@ -41,6 +41,24 @@ public final class ErrorWriter {
 	public static String writeError(
 		ErrorMessageMapper errorMessageMapper, APIError apiError) {
 
+		JSONObjectBuilder jsonObjectBuilder = writeErrorJSONObject(
+			errorMessageMapper, apiError);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes an {@link APIError} to a JSON object builder, so it can be
+	 * encoded in any format.
+	 *
+	 * @param  errorMessageMapper the {@link ErrorMessageMapper}
+	 * @param  apiError the API error
+	 * @return the JSON object builder of the API error
+	 * @review
+	 */
+	public static JSONObjectBuilder writeErrorJSONObject(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
 		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
 
 		Optional<String> optional = apiError.getDescription();
@@ -55,7 +73,7 @@ public final class ErrorWriter {
 		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
 		errorMessageMapper.onFinish(jsonObjectBuilder, apiError);
 
-		return jsonObjectBuilder.build();
+		return jsonObjectBuilder;
 	}
 
 	private ErrorWriter() {
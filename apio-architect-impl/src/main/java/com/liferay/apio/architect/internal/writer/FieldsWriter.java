@@ -23,14 +23,16 @@ import static com.liferay.apio.architect.internal.url.URLCreator.createNestedRes
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.liferay.apio.architect.alias.representor.DoubleFieldFunction;
 import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.alias.representor.LongFieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.consumer.TriConsumer;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
@@ -54,8 +56,9 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -94,7 +97,7 @@ public class FieldsWriter<T> {
 	public FieldsWriter(
 		SingleModel<T> singleModel, RequestInfo requestInfo,
 		BaseRepresentor<T> baseRepresentor, Path path,
-		FunctionalList<String> embeddedPathElements,
+		EmbeddedPath embeddedPathElements,
 		SingleModelFunction singleModelFunction) {
 
 		_singleModel = singleModel;
@@ -202,6 +205,50 @@ public class FieldsWriter<T> {
 			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
 	}
 
+	/**
+	 * Writes a model's primitive {@code double} fields. This method uses an
+	 * {@code ObjDoubleConsumer} so each {@code
+	 * javax.ws.rs.ext.MessageBodyWriter} can write each field differently
+	 * without boxing its value.
+	 *
+	 * @param objDoubleConsumer the {@code ObjDoubleConsumer} called to write
+	 *        each field
+	 * @review
+	 */
+	public void writeDoubleFields(ObjDoubleConsumer<String> objDoubleConsumer) {
+		List<DoubleFieldFunction<T>> list =
+			_baseRepresentor.getDoubleFunctions();
+
+		Stream<DoubleFieldFunction<T>> stream = list.stream();
+
+		stream.filter(
+			doubleFieldFunction -> {
+				Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+				return fieldsPredicate.test(doubleFieldFunction.getKey());
+			}
+		).forEach(
+			doubleFieldFunction -> _tryToWriteField(
+				doubleFieldFunction.getKey(),
+				key -> objDoubleConsumer.accept(
+					key,
+					doubleFieldFunction.applyAsDouble(_singleModel.getModel())))
+		);
+	}
+
+	/**
+	 * Writes the model's {@code double} array fields. This method uses a
+	 * {@code BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can
+	 * write each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
+	public void writeDoubleListFields(BiConsumer<String, double[]> biConsumer) {
+		writeFields(
+			BaseRepresentor::getDoubleListFunctions, writeField(biConsumer));
+	}
+
 	/**
 	 * Returns a consumer for entries of a {@code Map<String, Function<T, S>}.
 	 * The consumer uses a value function to get the final value, then uses the
@@ -313,6 +360,48 @@ public class FieldsWriter<T> {
 				biConsumer));
 	}
 
+	/**
+	 * Writes a model's primitive {@code long} fields. This method uses an
+	 * {@code ObjLongConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter}
+	 * can write each field differently without boxing its value.
+	 *
+	 * @param objLongConsumer the {@code ObjLongConsumer} called to write each
+	 *        field
+	 * @review
+	 */
+	public void writeLongFields(ObjLongConsumer<String> objLongConsumer) {
+		List<LongFieldFunction<T>> list = _baseRepresentor.getLongFunctions();
+
+		Stream<LongFieldFunction<T>> stream = list.stream();
+
+		stream.filter(
+			longFieldFunction -> {
+				Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+				return fieldsPredicate.test(longFieldFunction.getKey());
+			}
+		).forEach(
+			longFieldFunction -> _tryToWriteField(
+				longFieldFunction.getKey(),
+				key -> objLongConsumer.accept(
+					key,
+					longFieldFunction.applyAsLong(_singleModel.getModel())))
+		);
+	}
+
+	/**
+	 * Writes the model's {@code long} array fields. This method uses a {@code
+	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
+	 * each field differently.
+	 *
+	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @review
+	 */
+	public void writeLongListFields(BiConsumer<String, long[]> biConsumer) {
+		writeFields(
+			BaseRepresentor::getLongListFunctions, writeField(biConsumer));
+	}
+
 	public <S> void writeNestedLists(
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<S> singleModel,
@@ -352,10 +441,9 @@ public class FieldsWriter<T> {
 
 	public <S, U> void writeNestedResources(
 		BaseRepresentorFunction baseRepresentorFunction,
-		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
-		TriConsumer
-			<SingleModel<S>, FunctionalList<String>, BaseRepresentorFunction>
-				triConsumer) {
+		SingleModel<U> singleModel, EmbeddedPath embeddedPathElements,
+		TriConsumer<SingleModel<S>, EmbeddedPath, BaseRepresentorFunction>
+			triConsumer) {
 
 		baseRepresentorFunction.apply(
 			singleModel.getResourceName()
@@ -384,9 +472,8 @@ public class FieldsWriter<T> {
 					return;
 				}
 
-				FunctionalList<String> embeddedNestedPathElements =
-					new FunctionalList<>(
-						embeddedPathElements, nestedFieldFunction.getKey());
+				EmbeddedPath embeddedNestedPathElements = new EmbeddedPath(
+					embeddedPathElements, nestedFieldFunction.getKey());
 
 				SingleModelImpl nestedSingleModel = new SingleModelImpl<>(
 					mappedModel, "");
@@ -439,8 +526,8 @@ public class FieldsWriter<T> {
 	 */
 	public <U extends Identifier> void writeRelatedCollection(
 		PathFunction pathFunction, RelatedCollection<T, U> relatedCollection,
-		String resourceName, FunctionalList<String> parentEmbeddedPathElements,
-		BiConsumer<String, FunctionalList<String>> biConsumer) {
+		String resourceName, EmbeddedPath parentEmbeddedPathElements,
+		BiConsumer<String, EmbeddedPath> biConsumer) {
 
 		Predicate<String> fieldsPredicate = getFieldsPredicate();
 
@@ -506,7 +593,7 @@ public class FieldsWriter<T> {
 	public void writeRelatedCollections(
 		PathFunction pathFunction,
 		Function<String, Optional<String>> nameFunction,
-		BiConsumer<String, FunctionalList<String>> biConsumer) {
+		BiConsumer<String, EmbeddedPath> biConsumer) {
 
 		Stream<RelatedCollection<T, ?>> stream =
 			_baseRepresentor.getRelatedCollections();
@@ -544,23 +631,16 @@ public class FieldsWriter<T> {
 	 */
 	public <U> void writeRelatedModel(
 		RelatedModel<T, U> relatedModel, PathFunction pathFunction,
-		BiConsumer<SingleModel<?>, FunctionalList<String>> modelBiConsumer,
-		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer,
-		BiConsumer<String, FunctionalList<String>> embeddedURLBiConsumer) {
+		BiConsumer<SingleModel<?>, EmbeddedPath> modelBiConsumer,
+		BiConsumer<String, EmbeddedPath> linkedURLBiConsumer,
+		BiConsumer<String, EmbeddedPath> embeddedURLBiConsumer) {
 
 		writeRelatedModel(
 			relatedModel, pathFunction,
 			(url, embeddedPathElements) -> {
 				Predicate<String> embedded = _requestInfo.getEmbedded();
 
-				Stream<String> stream = Stream.concat(
-					Stream.of(embeddedPathElements.head()),
-					embeddedPathElements.tailStream());
-
-				String embeddedPath = String.join(
-					".", stream.collect(Collectors.toList()));
-
-				if (embedded.test(embeddedPath)) {
+				if (embedded.test(embeddedPathElements.toString())) {
 					Optional<SingleModel<U>> singleModelOptional =
 						getSingleModel(
 							relatedModel, _singleModel,
@@ -594,7 +674,7 @@ public class FieldsWriter<T> {
 	 */
 	public <U> void writeRelatedModel(
 		RelatedModel<T, U> relatedModel, PathFunction pathFunction,
-		BiConsumer<String, FunctionalList<String>> biConsumer) {
+		BiConsumer<String, EmbeddedPath> biConsumer) {
 
 		Predicate<String> fieldsPredicate = getFieldsPredicate();
 
@@ -614,7 +694,7 @@ public class FieldsWriter<T> {
 			return;
 		}
 
-		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+		EmbeddedPath embeddedPathElements = new EmbeddedPath(
 			_embeddedPathElements, key);
 
 		pathFunction.apply(
@@ -647,9 +727,9 @@ public class FieldsWriter<T> {
 	 */
 	public void writeRelatedModels(
 		PathFunction pathFunction,
-		BiConsumer<SingleModel<?>, FunctionalList<String>> modelBiConsumer,
-		BiConsumer<String, FunctionalList<String>> linkedURLBiConsumer,
-		BiConsumer<String, FunctionalList<String>> embeddedURLBiConsumer) {
+		BiConsumer<SingleModel<?>, EmbeddedPath> modelBiConsumer,
+		BiConsumer<String, EmbeddedPath> linkedURLBiConsumer,
+		BiConsumer<String, EmbeddedPath> embeddedURLBiConsumer) {
 
 		List<RelatedModel<T, ?>> embeddedRelatedModels =
 			_baseRepresentor.getRelatedModels();
@@ -740,10 +820,10 @@ public class FieldsWriter<T> {
 	}
 
 	private void _writeResourceURL(
-		String url, FunctionalList<String> parentEmbeddedPathElements,
-		BiConsumer<String, FunctionalList<String>> biConsumer, String key) {
+		String url, EmbeddedPath parentEmbeddedPathElements,
+		BiConsumer<String, EmbeddedPath> biConsumer, String key) {
 
-		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+		EmbeddedPath embeddedPathElements = new EmbeddedPath(
 			parentEmbeddedPathElements, key);
 
 		_tryToWriteField(
@@ -751,7 +831,7 @@ public class FieldsWriter<T> {
 	}
 
 	private final BaseRepresentor<T> _baseRepresentor;
-	private final FunctionalList<String> _embeddedPathElements;
+	private final EmbeddedPath _embeddedPathElements;
 	private final Logger _logger = getLogger(getClass());
 	private final Path _path;
 	private final RequestInfo _requestInfo;
@@ -19,6 +19,8 @@ import static com.liferay.apio.architect.internal.url.URLCreator.createResourceU
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getPathOptional;
 
+import static java.util.stream.Collectors.toList;
+
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.internal.alias.ActionSemanticsFunction;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
@@ -26,7 +28,8 @@ import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.ResourceNameFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.cache.ItemFragmentCache;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageType;
@@ -37,15 +40,47 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Writes a page.
  *
+ * <p>
+ * By default, the page's items are read from {@link Page#getItemsStream()} and
+ * written one after another, so lazily read items are never held in memory
+ * together. If the number of items isn't known before reading them, it's mapped
+ * once all of them have been written. The stream is closed after writing the
+ * items, even if writing them fails.
+ * </p>
+ *
+ * <p>
+ * If a {@code ForkJoinPool} is provided with {@link
+ * Builder.BuildStep#parallelItemRendering(ForkJoinPool, int)}, all the items
+ * are read first, and the items of pages with enough items are written
+ * concurrently into independent JSON objects, which are then added to the page
+ * in their original order. In that mode, the item methods of the {@link
+ * PageMessageMapper} (except {@code onFinishItem}) must only write into the
+ * item's JSON object builder, and all the functions provided to the builder
+ * must be safe to call from the pool's threads.
+ * </p>
+ *
+ * <p>
+ * If an {@link ItemFragmentCache} is provided with {@link
+ * Builder.BuildStep#itemFragmentCache(ItemFragmentCache)}, the JSON objects of
+ * the items are cached once written, and the items that haven't changed are
+ * added to the page as the cached fragments. The same restriction about the
+ * item methods of the {@code PageMessageMapper} applies to cached items.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @param  <T> the model's type
  */
@@ -73,10 +108,39 @@ public class PageWriter<T> {
 		_requestInfo = builder._requestInfo;
 		_resourceNameFunction = builder._resourceNameFunction;
 		_singleModelFunction = builder._singleModelFunction;
+		_forkJoinPool = builder._forkJoinPool;
+		_itemFragmentCache = builder._itemFragmentCache;
+		_parallelItemRenderingThreshold =
+			builder._parallelItemRenderingThreshold;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
+	/**
+	 * Writes the handled {@link Page} as a stream of JSON objects. Each item is
+	 * written to its own JSON object, which is passed to the consumer as soon
+	 * as it's complete, instead of being added to the page. Once every item has
+	 * been written, the consumer receives the page's JSON object, which holds
+	 * the rest of the page's information (total count, page URLs, etc.).
+	 *
+	 * <p>
+	 * In this mode, the {@link PageMessageMapper#onFinishItem} method isn't
+	 * called, and the item methods of the {@code PageMessageMapper} must only
+	 * write into the item's JSON object builder.
+	 * </p>
+	 *
+	 * @param  consumer the consumer that receives the items' JSON objects and,
+	 *         finally, the page's JSON object
+	 * @review
+	 */
+	public void stream(Consumer<JSONObjectBuilder> consumer) {
+		JSONObjectBuilder jsonObjectBuilder = _writePage(
+			(items, resourceName) -> _streamItems(
+				items, resourceName, consumer));
+
+		consumer.accept(jsonObjectBuilder);
+	}
+
 	/**
 	 * Writes the handled {@link Page} to a string. This method uses a {@link
 	 * FieldsWriter} to write the different fields of its items' {@link
@@ -89,45 +153,20 @@ public class PageWriter<T> {
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
-
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		Optional<String> optionalURL = createResourceURL(
-			_requestInfo.getApplicationURL(), _page.getResource());
-
-		optionalURL.ifPresent(
-			url -> _pageMessageMapper.mapCollectionURL(
-				_jsonObjectBuilder, url));
-
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(new SingleModelImpl<>(model, resourceName)));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		_actionSemanticsFunction.apply(
-			_page.getResource()
-		).forEach(
-			actionWriter::write
-		);
+		JSONObjectBuilder jsonObjectBuilder = writeJSONObject();
 
-		_representorFunction.apply(
-			resourceName
-		).ifPresent(
-			_mapPageSemantics(_jsonObjectBuilder)
-		);
-
-		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+		return jsonObjectBuilder.build();
+	}
 
-		return _jsonObjectBuilder.build();
+	/**
+	 * Writes the handled {@link Page} to a JSON object builder, so it can be
+	 * encoded in any format. This method behaves like {@link #write()}.
+	 *
+	 * @return the JSON object builder of the {@code Page}
+	 * @review
+	 */
+	public JSONObjectBuilder writeJSONObject() {
+		return _writePage(this::_writeItems);
 	}
 
 	/**
@@ -181,6 +220,44 @@ public class PageWriter<T> {
 				return new PageWriter<>(Builder.this);
 			}
 
+			/**
+			 * Adds information to the builder about the cache of the items'
+			 * serialized JSON objects. The items that haven't changed since
+			 * they were cached aren't written again.
+			 *
+			 * @param  itemFragmentCache the cache of the items' JSON objects
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep itemFragmentCache(
+				ItemFragmentCache itemFragmentCache) {
+
+				_itemFragmentCache = itemFragmentCache;
+
+				return this;
+			}
+
+			/**
+			 * Adds information to the builder about the {@code ForkJoinPool}
+			 * used to write the items of pages with at least {@code
+			 * itemThreshold} items concurrently. The output is the same as
+			 * the one written sequentially.
+			 *
+			 * @param  forkJoinPool the pool in which the items are written
+			 * @param  itemThreshold the minimum number of items a page must
+			 *         have to write its items concurrently
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep parallelItemRendering(
+				ForkJoinPool forkJoinPool, int itemThreshold) {
+
+				_forkJoinPool = forkJoinPool;
+				_parallelItemRenderingThreshold = itemThreshold;
+
+				return this;
+			}
+
 		}
 
 		public class PageMessageMapperStep {
@@ -305,8 +382,11 @@ public class PageWriter<T> {
 		}
 
 		private ActionSemanticsFunction _actionSemanticsFunction;
+		private ForkJoinPool _forkJoinPool;
+		private ItemFragmentCache _itemFragmentCache;
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
+		private int _parallelItemRenderingThreshold;
 		private PathFunction _pathFunction;
 		private RepresentorFunction _representorFunction;
 		private RequestInfo _requestInfo;
@@ -315,6 +395,19 @@ public class PageWriter<T> {
 
 	}
 
+	private Optional<JSONObjectBuilder> _getItemJSONObjectBuilder(
+		SingleModel<T> singleModel) {
+
+		if (_itemFragmentCache == null) {
+			return _writeItemFields(singleModel);
+		}
+
+		return _itemFragmentCache.get(
+			singleModel, _representorFunction,
+			_pageMessageMapper.getMediaType(), _requestInfo,
+			() -> _writeItemFields(singleModel));
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -325,6 +418,28 @@ public class PageWriter<T> {
 		};
 	}
 
+	private int _streamItems(
+		Stream<T> stream, String resourceName,
+		Consumer<JSONObjectBuilder> consumer) {
+
+		Iterator<T> iterator = stream.iterator();
+
+		int count = 0;
+
+		while (iterator.hasNext()) {
+			T model = iterator.next();
+
+			Optional<JSONObjectBuilder> optional = _getItemJSONObjectBuilder(
+				new SingleModelImpl<>(model, resourceName));
+
+			optional.ifPresent(consumer);
+
+			count++;
+		}
+
+		return count;
+	}
+
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
@@ -340,10 +455,26 @@ public class PageWriter<T> {
 			(field, value) -> _pageMessageMapper.mapItemBooleanListField(
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) -> _pageMessageMapper.mapItemDoubleField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) -> _pageMessageMapper.mapItemDoubleListField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) -> _pageMessageMapper.mapItemStringField(
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 
+		fieldsWriter.writeLongFields(
+			(field, value) -> _pageMessageMapper.mapItemLongField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) -> _pageMessageMapper.mapItemLongListField(
+				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) -> _pageMessageMapper.mapItemNumberField(
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
@@ -379,7 +510,7 @@ public class PageWriter<T> {
 
 	private <U> void _writeItem(
 		JSONObjectBuilder collectionJSONObjectBuilder,
-		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
+		SingleModel<U> singleModel, EmbeddedPath embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<?> rootSingleModel) {
 
@@ -454,103 +585,29 @@ public class PageWriter<T> {
 	}
 
 	private void _writeItem(SingleModel<T> singleModel) {
-		Optional<Path> pathOptional = getPathOptional(
-			singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _getItemJSONObjectBuilder(
+			singleModel);
 
-		if (!pathOptional.isPresent()) {
-			return;
-		}
-
-		Optional<FieldsWriter<T>> optional = getFieldsWriter(
-			singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
-
-		if (!optional.isPresent()) {
-			return;
-		}
-
-		FieldsWriter<T> fieldsWriter = optional.get();
-
-		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
-
-		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _pageMessageMapper.mapItemSelfURL(
-				_jsonObjectBuilder, itemJsonObjectBuilder, url));
-
-		fieldsWriter.writeRelatedModels(
-			_pathFunction,
-			(embeddedSingleModel, embeddedPathElements1) ->
-				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedPathElements1,
-					itemJsonObjectBuilder),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_pathFunction, _resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> _writeItemEmbeddedModelFields(
-				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
-				nestedRepresentorFunction, singleModel));
-
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
-				singleModel, null));
-
-		_pageMessageMapper.onFinishItem(
-			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel);
+		optional.ifPresent(
+			itemJsonObjectBuilder -> _pageMessageMapper.onFinishItem(
+				_jsonObjectBuilder, itemJsonObjectBuilder, singleModel));
 	}
 
-	private <S> void _writeItemEmbeddedModelFields(
-		SingleModel<S> singleModel, FunctionalList<String> embeddedPathElements,
-		JSONObjectBuilder itemJsonObjectBuilder) {
+	private void _writeItemEmbeddedBasicFields(
+		FieldsWriter<?> fieldsWriter, JSONObjectBuilder itemJsonObjectBuilder,
+		EmbeddedPath embeddedPathElements) {
 
-		_writeItemEmbeddedModelFields(
-			singleModel, embeddedPathElements, itemJsonObjectBuilder,
-			_representorFunction::apply, singleModel);
-	}
+		Optional<JSONObjectBuilder> optional =
+			_pageMessageMapper.getItemEmbeddedResourceJSONObjectBuilderOptional(
+				_jsonObjectBuilder, itemJsonObjectBuilder,
+				embeddedPathElements);
 
-	private <S, U> void _writeItemEmbeddedModelFields(
-		SingleModel<S> singleModel, FunctionalList<String> embeddedPathElements,
-		JSONObjectBuilder itemJsonObjectBuilder,
-		BaseRepresentorFunction baseRepresentorFunction,
-		SingleModel<U> rootSingleModel) {
-
-		Optional<Path> pathOptional = getPathOptional(
-			singleModel, _pathFunction, baseRepresentorFunction,
-			_representorFunction, rootSingleModel);
+		if (optional.isPresent()) {
+			_writeBasicFields(fieldsWriter, optional.get());
 
-		if (!pathOptional.isPresent()) {
 			return;
 		}
 
-		Optional<FieldsWriter<S>> fieldsWriterOptional = getFieldsWriter(
-			singleModel, embeddedPathElements, _requestInfo,
-			baseRepresentorFunction, _singleModelFunction, pathOptional.get());
-
-		if (!fieldsWriterOptional.isPresent()) {
-			return;
-		}
-
-		FieldsWriter<S> fieldsWriter = fieldsWriterOptional.get();
-
 		fieldsWriter.writeApplicationRelativeURLFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
@@ -569,12 +626,36 @@ public class PageWriter<T> {
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceDoubleField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceDoubleListField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
+		fieldsWriter.writeLongFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceLongField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) ->
+				_pageMessageMapper.mapItemEmbeddedResourceLongListField(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceNumberField(
@@ -593,12 +674,6 @@ public class PageWriter<T> {
 					_jsonObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
-		fieldsWriter.writeApplicationRelativeURLFields(
-			(field, value) ->
-				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, field, value));
-
 		fieldsWriter.writeStringFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
@@ -625,6 +700,43 @@ public class PageWriter<T> {
 			(field, value) -> _pageMessageMapper.mapItemEmbeddedResourceLink(
 				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
 				field, value));
+	}
+
+	private <S> void _writeItemEmbeddedModelFields(
+		SingleModel<S> singleModel, EmbeddedPath embeddedPathElements,
+		JSONObjectBuilder itemJsonObjectBuilder) {
+
+		_writeItemEmbeddedModelFields(
+			singleModel, embeddedPathElements, itemJsonObjectBuilder,
+			_representorFunction::apply, singleModel);
+	}
+
+	private <S, U> void _writeItemEmbeddedModelFields(
+		SingleModel<S> singleModel, EmbeddedPath embeddedPathElements,
+		JSONObjectBuilder itemJsonObjectBuilder,
+		BaseRepresentorFunction baseRepresentorFunction,
+		SingleModel<U> rootSingleModel) {
+
+		Optional<Path> pathOptional = getPathOptional(
+			singleModel, _pathFunction, baseRepresentorFunction,
+			_representorFunction, rootSingleModel);
+
+		if (!pathOptional.isPresent()) {
+			return;
+		}
+
+		Optional<FieldsWriter<S>> fieldsWriterOptional = getFieldsWriter(
+			singleModel, embeddedPathElements, _requestInfo,
+			baseRepresentorFunction, _singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return;
+		}
+
+		FieldsWriter<S> fieldsWriter = fieldsWriterOptional.get();
+
+		_writeItemEmbeddedBasicFields(
+			fieldsWriter, itemJsonObjectBuilder, embeddedPathElements);
 
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
@@ -662,10 +774,132 @@ public class PageWriter<T> {
 				rootSingleModel, embeddedPathElements));
 	}
 
+	private Optional<JSONObjectBuilder> _writeItemFields(
+		SingleModel<T> singleModel) {
+
+		Optional<Path> pathOptional = getPathOptional(
+			singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> optional = getFieldsWriter(
+			singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = optional.get();
+
+		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _pageMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+		fieldsWriter.writeRelatedModels(
+			_pathFunction,
+			(embeddedSingleModel, embeddedPathElements1) ->
+				_writeItemEmbeddedModelFields(
+					embeddedSingleModel, embeddedPathElements1,
+					itemJsonObjectBuilder),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemEmbeddedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> _writeItemEmbeddedModelFields(
+				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
+				nestedRepresentorFunction, singleModel));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, singleModel,
+			(nestedListFieldFunction, list) -> _writeNestedLists(
+				nestedListFieldFunction, list, itemJsonObjectBuilder,
+				singleModel, null));
+
+		return Optional.of(itemJsonObjectBuilder);
+	}
+
+	private int _writeItems(Stream<T> stream, String resourceName) {
+		Iterator<T> iterator = stream.iterator();
+
+		if (_forkJoinPool == null) {
+			int count = 0;
+
+			while (iterator.hasNext()) {
+				T model = iterator.next();
+
+				_writeItem(new SingleModelImpl<>(model, resourceName));
+
+				count++;
+			}
+
+			return count;
+		}
+
+		List<SingleModel<T>> singleModels = new ArrayList<>();
+
+		while (iterator.hasNext()) {
+			T model = iterator.next();
+
+			singleModels.add(new SingleModelImpl<>(model, resourceName));
+		}
+
+		if (singleModels.size() < _parallelItemRenderingThreshold) {
+			singleModels.forEach(this::_writeItem);
+
+			return singleModels.size();
+		}
+
+		ForkJoinTask<List<Optional<JSONObjectBuilder>>> forkJoinTask =
+			_forkJoinPool.submit(
+				() -> singleModels.parallelStream(
+				).map(
+					this::_getItemJSONObjectBuilder
+				).collect(
+					toList()
+				));
+
+		List<Optional<JSONObjectBuilder>> itemJsonObjectBuilders =
+			forkJoinTask.join();
+
+		for (int i = 0; i < singleModels.size(); i++) {
+			SingleModel<T> singleModel = singleModels.get(i);
+
+			Optional<JSONObjectBuilder> optional = itemJsonObjectBuilders.get(
+				i);
+
+			optional.ifPresent(
+				itemJsonObjectBuilder -> _pageMessageMapper.onFinishItem(
+					_jsonObjectBuilder, itemJsonObjectBuilder, singleModel));
+		}
+
+		return singleModels.size();
+	}
+
 	private <U> void _writeNestedList(
 		String fieldName, List<U> nestedList,
-		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements,
+		JSONObjectBuilder jsonObjectBuilder, EmbeddedPath embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel singleModel) {
 
@@ -693,12 +927,12 @@ public class PageWriter<T> {
 	private <S> void _writeNestedLists(
 		NestedListFieldFunction nestedListFieldFunction, List<S> list,
 		JSONObjectBuilder jsonObjectBuilder, SingleModel rootSingleModel,
-		FunctionalList<String> embeddedPathElements) {
+		EmbeddedPath embeddedPathElements) {
 
 		String key = nestedListFieldFunction.getKey();
 
-		FunctionalList<String> embeddedNestedPathElements =
-			new FunctionalList<>(embeddedPathElements, key);
+		EmbeddedPath embeddedNestedPathElements = new EmbeddedPath(
+			embeddedPathElements, key);
 
 		BaseRepresentorFunction baseRepresentorFunction =
 			__ -> (Optional)Optional.of(
@@ -709,6 +943,59 @@ public class PageWriter<T> {
 			baseRepresentorFunction, rootSingleModel);
 	}
 
+	private JSONObjectBuilder _writePage(
+		BiFunction<Stream<T>, String, Integer> itemsWriter) {
+
+		_pageMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, _page.getTotalCount());
+
+		Optional<Integer> itemCountOptional = _page.getItemCountOptional();
+
+		itemCountOptional.ifPresent(
+			itemCount -> _pageMessageMapper.mapPageCount(
+				_jsonObjectBuilder, itemCount));
+
+		_writePageURLs();
+
+		Optional<String> optionalURL = createResourceURL(
+			_requestInfo.getApplicationURL(), _page.getResource());
+
+		optionalURL.ifPresent(
+			url -> _pageMessageMapper.mapCollectionURL(
+				_jsonObjectBuilder, url));
+
+		String resourceName = _page.getResourceName();
+
+		int count;
+
+		try (Stream<T> stream = _page.getItemsStream()) {
+			count = itemsWriter.apply(stream, resourceName);
+		}
+
+		if (!itemCountOptional.isPresent()) {
+			_pageMessageMapper.mapPageCount(_jsonObjectBuilder, count);
+		}
+
+		ActionWriter actionWriter = new ActionWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		_actionSemanticsFunction.apply(
+			_page.getResource()
+		).forEach(
+			actionWriter::write
+		);
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(_jsonObjectBuilder)
+		);
+
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+
+		return _jsonObjectBuilder;
+	}
+
 	private void _writePageURLs() {
 		Optional<String> optionalURL = createResourceURL(
 			_requestInfo.getApplicationURL(), _page.getResource());
@@ -742,9 +1029,12 @@ public class PageWriter<T> {
 	}
 
 	private final ActionSemanticsFunction _actionSemanticsFunction;
+	private final ForkJoinPool _forkJoinPool;
+	private final ItemFragmentCache _itemFragmentCache;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
+	private final int _parallelItemRenderingThreshold;
 	private final PathFunction _pathFunction;
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
@@ -24,7 +24,7 @@ import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.ResourceNameFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
@@ -87,76 +87,14 @@ public class SingleModelWriter<T> {
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
-
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
-
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
-		}
-
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		fieldsWriter.withItem(
-			item -> _actionSemanticsFunction.apply(
-				item
-			).forEach(
-				actionWriter::write
-			));
-
-		fieldsWriter.writeRelatedModels(
-			_pathFunction,
-			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
-				singleModel, _jsonObjectBuilder, embeddedPathElements),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_pathFunction, _resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, _singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> writeEmbeddedModelFields(
-				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
-				nestedRepresentorFunction));
-
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, _singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, _jsonObjectBuilder, null));
-
-		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+		Optional<JSONObjectBuilder> optional = writeJSONObject();
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return optional.map(JSONObjectBuilder::build);
 	}
 
 	public <S> void writeEmbeddedModelFields(
 		SingleModel<S> singleModel, JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements) {
+		EmbeddedPath embeddedPathElements) {
 
 		writeEmbeddedModelFields(
 			singleModel, jsonObjectBuilder, embeddedPathElements,
@@ -176,7 +114,7 @@ public class SingleModelWriter<T> {
 	 */
 	public <S> void writeEmbeddedModelFields(
 		SingleModel<S> singleModel, JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements,
+		EmbeddedPath embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction) {
 
 		Optional<Path> pathOptional = getPathOptional(
@@ -220,8 +158,10 @@ public class SingleModelWriter<T> {
 
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
-			(singleModel1, stringFunctionalList) -> writeEmbeddedModelFields(
-				singleModel1, jsonObjectBuilder, stringFunctionalList),
+			(singleModel1, nestedEmbeddedPathElements) ->
+				writeEmbeddedModelFields(
+					singleModel1, jsonObjectBuilder,
+					nestedEmbeddedPathElements),
 			(resourceURL, resourceEmbeddedPathElements) ->
 				_singleModelMessageMapper.mapLinkedResourceURL(
 					jsonObjectBuilder, resourceEmbeddedPathElements,
@@ -251,6 +191,83 @@ public class SingleModelWriter<T> {
 				embeddedPathElements));
 	}
 
+	/**
+	 * Writes the handled {@link SingleModel} to a JSON object builder, so it
+	 * can be encoded in any format. This method behaves like {@link #write()}.
+	 *
+	 * @return the JSON object builder of the {@code SingleModel}, if the
+	 *         model's {@code Representor} and {@code Path} exist; returns
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<JSONObjectBuilder> writeJSONObject() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		ActionWriter actionWriter = new ActionWriter(
+			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		fieldsWriter.withItem(
+			item -> _actionSemanticsFunction.apply(
+				item
+			).forEach(
+				actionWriter::write
+			));
+
+		fieldsWriter.writeRelatedModels(
+			_pathFunction,
+			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
+				singleModel, _jsonObjectBuilder, embeddedPathElements),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, _singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> writeEmbeddedModelFields(
+				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
+				nestedRepresentorFunction));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, _singleModel,
+			(nestedListFieldFunction, list) -> _writeNestedList(
+				nestedListFieldFunction, list, _jsonObjectBuilder, null));
+
+		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	/**
 	 * Creates {@code SingleModelWriter} instances.
 	 *
@@ -464,10 +481,26 @@ public class SingleModelWriter<T> {
 			(field, value) -> _singleModelMessageMapper.mapBooleanListField(
 				jsonObjectBuilder, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) -> _singleModelMessageMapper.mapDoubleField(
+				jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) -> _singleModelMessageMapper.mapDoubleListField(
+				jsonObjectBuilder, field, value));
+
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) -> _singleModelMessageMapper.mapStringField(
 				jsonObjectBuilder, field, value));
 
+		fieldsWriter.writeLongFields(
+			(field, value) -> _singleModelMessageMapper.mapLongField(
+				jsonObjectBuilder, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) -> _singleModelMessageMapper.mapLongListField(
+				jsonObjectBuilder, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) -> _singleModelMessageMapper.mapNumberField(
 				jsonObjectBuilder, field, value));
@@ -503,7 +536,18 @@ public class SingleModelWriter<T> {
 
 	private void _writeEmbeddedBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedPathElements) {
+		EmbeddedPath embeddedPathElements) {
+
+		Optional<JSONObjectBuilder> optional =
+			_singleModelMessageMapper.
+				getEmbeddedResourceJSONObjectBuilderOptional(
+					jsonObjectBuilder, embeddedPathElements);
+
+		if (optional.isPresent()) {
+			_writeBasicFields(fieldsWriter, optional.get());
+
+			return;
+		}
 
 		fieldsWriter.writeApplicationRelativeURLFields(
 			(field, value) ->
@@ -520,11 +564,31 @@ public class SingleModelWriter<T> {
 				_singleModelMessageMapper.mapEmbeddedResourceBooleanListField(
 					jsonObjectBuilder, embeddedPathElements, field, value));
 
+		fieldsWriter.writeDoubleFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceDoubleField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeDoubleListFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceDoubleListField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceStringField(
 					jsonObjectBuilder, embeddedPathElements, field, value));
 
+		fieldsWriter.writeLongFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceLongField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
+		fieldsWriter.writeLongListFields(
+			(field, value) ->
+				_singleModelMessageMapper.mapEmbeddedResourceLongListField(
+					jsonObjectBuilder, embeddedPathElements, field, value));
+
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceNumberField(
@@ -538,7 +602,7 @@ public class SingleModelWriter<T> {
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) ->
 				_singleModelMessageMapper.mapEmbeddedResourceStringField(
-					_jsonObjectBuilder, embeddedPathElements, field, value));
+					jsonObjectBuilder, embeddedPathElements, field, value));
 
 		fieldsWriter.writeStringFields(
 			(field, value) ->
@@ -566,7 +630,7 @@ public class SingleModelWriter<T> {
 
 	private <U> void _writeItem(
 		JSONObjectBuilder collectionJSONObjectBuilder,
-		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
+		SingleModel<U> singleModel, EmbeddedPath embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction) {
 
 		Optional<Path> pathOptional = getPathOptional(
@@ -632,7 +696,7 @@ public class SingleModelWriter<T> {
 	}
 
 	private <S> void _writeItemEmbeddedModelFields(
-		SingleModel<S> singleModel, FunctionalList<String> embeddedPathElements,
+		SingleModel<S> singleModel, EmbeddedPath embeddedPathElements,
 		JSONObjectBuilder itemJsonObjectBuilder,
 		BaseRepresentorFunction baseRepresentorFunction) {
 
@@ -695,11 +759,11 @@ public class SingleModelWriter<T> {
 	private <U> void _writeNestedList(
 		NestedListFieldFunction nestedListFieldFunction, List<U> list,
 		JSONObjectBuilder jsonObjectBuilder,
-		FunctionalList<String> embeddedNestedPathElements) {
+		EmbeddedPath embeddedNestedPathElements) {
 
 		String key = nestedListFieldFunction.getKey();
 
-		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+		EmbeddedPath embeddedPathElements = new EmbeddedPath(
 			embeddedNestedPathElements, key);
 
 		BaseRepresentorFunction baseRepresentorFunction =
@@ -750,8 +814,8 @@ public class SingleModelWriter<T> {
 					return;
 				}
 
-				FunctionalList<String> embeddedNestedPathElements =
-					new FunctionalList<>(null, nestedFieldFunction.getKey());
+				EmbeddedPath embeddedNestedPathElements = new EmbeddedPath(
+					null, nestedFieldFunction.getKey());
 
 				_writeItemEmbeddedModelFields(
 					new SingleModelImpl<>(mappedModel, ""),
@@ -18,7 +18,7 @@ import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.internal.writer.FieldsWriter;
@@ -56,7 +56,7 @@ public class WriterUtil {
 	 *         Representor} exists; returns {@code Optional#empty()} otherwise
 	 */
 	public static <T> Optional<FieldsWriter<T>> getFieldsWriter(
-		SingleModel<T> singleModel, FunctionalList<String> embeddedPathElements,
+		SingleModel<T> singleModel, EmbeddedPath embeddedPathElements,
 		RequestInfo requestInfo,
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModelFunction singleModelFunction, Path path) {
@@ -24,7 +24,9 @@ import static org.hamcrest.core.Is.is;
 
 import static org.junit.Assert.assertThat;
 
+import com.liferay.apio.architect.alias.representor.DoubleFieldFunction;
 import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.alias.representor.LongFieldFunction;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
 import com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor;
 import com.liferay.apio.architect.internal.annotation.representor.types.Dummy;
@@ -132,6 +134,51 @@ public class RepresentorTransformerTest {
 			asList("numberField1", "numberField2"), asList(10, 20L));
 	}
 
+	@Test
+	public void testPrimitiveNumberFields() {
+		List<DoubleFieldFunction<Dummy>> doubleFieldFunctions =
+			_representor.getDoubleFunctions();
+
+		assertThat(doubleFieldFunctions, hasSize(1));
+
+		DoubleFieldFunction<Dummy> doubleFieldFunction =
+			doubleFieldFunctions.get(0);
+
+		assertThat(doubleFieldFunction.getKey(), is("primitiveDoubleField"));
+		assertThat(doubleFieldFunction.applyAsDouble(_dummy), is(1.5));
+
+		List<LongFieldFunction<Dummy>> longFieldFunctions =
+			_representor.getLongFunctions();
+
+		longFieldFunctions.sort(
+			Comparator.comparing(LongFieldFunction::getKey));
+
+		assertThat(longFieldFunctions, hasSize(2));
+
+		LongFieldFunction<Dummy> intFieldFunction = longFieldFunctions.get(0);
+
+		assertThat(intFieldFunction.getKey(), is("primitiveIntField"));
+		assertThat(intFieldFunction.applyAsLong(_dummy), is(30L));
+
+		LongFieldFunction<Dummy> longFieldFunction = longFieldFunctions.get(1);
+
+		assertThat(longFieldFunction.getKey(), is("primitiveLongField"));
+		assertThat(longFieldFunction.applyAsLong(_dummy), is(40L));
+	}
+
+	@Test
+	public void testPrimitiveNumberListFields() {
+		_testFields(
+			_representor.getDoubleListFunctions(),
+			singletonList("primitiveDoubleListField"),
+			singletonList(new double[] {0.5, 1.5}));
+
+		_testFields(
+			_representor.getLongListFunctions(),
+			singletonList("primitiveLongListField"),
+			singletonList(new long[] {7L, 8L}));
+	}
+
 	@Test
 	public void testRelatedCollection() {
 		Stream<RelatedCollection<Dummy, ?>> relatedCollections =
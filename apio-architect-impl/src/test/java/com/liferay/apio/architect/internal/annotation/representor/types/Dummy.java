@@ -144,6 +144,31 @@ public interface Dummy extends Identifier<Long> {
 		return asList(4L, 5L, 6L);
 	}
 
+	@Field("primitiveDoubleField")
+	public default double getPrimitiveDoubleField() {
+		return 1.5;
+	}
+
+	@Field("primitiveDoubleListField")
+	public default double[] getPrimitiveDoubleListField() {
+		return new double[] {0.5, 1.5};
+	}
+
+	@Field("primitiveIntField")
+	public default int getPrimitiveIntField() {
+		return 30;
+	}
+
+	@Field("primitiveLongField")
+	public default long getPrimitiveLongField() {
+		return 40L;
+	}
+
+	@Field("primitiveLongListField")
+	public default long[] getPrimitiveLongListField() {
+		return new long[] {7L, 8L};
+	}
+
 	@Field(mode = READ_ONLY, value = "relativeUrl1")
 	@RelativeURL
 	public default String getRelativeUrl1() {
@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.batch;
+
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ChunkedBatchResultTest {
+
+	@Before
+	public void setUp() {
+		_form = mock(Form.class);
+
+		when(
+			_form.get(any(Body.class))
+		).thenAnswer(
+			invocation -> {
+				Body body = (Body)invocation.getArguments()[0];
+
+				Optional<String> optional = body.getValueOptional("value");
+
+				return optional.filter(
+					value -> !value.equals("invalid")
+				).orElseThrow(
+					BadRequestException::new
+				);
+			}
+		);
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testBodyWithoutMembersFails() {
+		new ChunkedBatchResult<>(
+			__ -> Optional.empty(), _form, this::_create, "resource");
+	}
+
+	@Test
+	public void testCloseClosesTheBodyMembers() {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Body body = new Body() {
+
+			@Override
+			public Optional<Stream<Body>> getBodyMembersStreamOptional() {
+				Stream<Body> stream = Stream.of(_createBody("1"));
+
+				return Optional.of(stream.onClose(() -> closed.set(true)));
+			}
+
+			@Override
+			public Optional<String> getValueOptional(String key) {
+				return Optional.empty();
+			}
+
+		};
+
+		ChunkedBatchResult<Long> chunkedBatchResult = new ChunkedBatchResult<>(
+			body, _form, this::_create, "resource");
+
+		chunkedBatchResult.close();
+
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void testForEachChunkCreatesEachChunkWithOneCall() {
+		ChunkedBatchResult<Long> chunkedBatchResult = _createChunkedBatchResult(
+			"1", "2", "3", "4", "5");
+
+		List<List<Long>> chunks = new ArrayList<>();
+
+		chunkedBatchResult.forEachChunk(
+			2, chunk -> chunks.add(_getIdentifiers(chunk)));
+
+		assertThat(
+			chunks, contains(asList(1L, 2L), asList(3L, 4L), asList(5L)));
+		assertThat(
+			_calls,
+			contains(asList("1", "2"), asList("3", "4"), asList("5")));
+	}
+
+	@Test
+	public void testForEachChunkFailsEveryItemOfAFailedChunk() {
+		ChunkedBatchResult<Long> chunkedBatchResult = _createChunkedBatchResult(
+			"1", "2", "0", "4");
+
+		List<Try<Long>> results = new ArrayList<>();
+
+		chunkedBatchResult.forEachChunk(2, results::addAll);
+
+		assertThat(results.get(0), is(Try.success(1L)));
+		assertThat(results.get(1), is(Try.success(2L)));
+		assertThat(results.get(2).getCause(), is(_exception));
+		assertThat(results.get(3).getCause(), is(_exception));
+	}
+
+	@Test
+	public void testForEachChunkReportsItemsThatCannotBeExtracted() {
+		ChunkedBatchResult<Long> chunkedBatchResult = _createChunkedBatchResult(
+			"1", "invalid", "3");
+
+		List<Try<Long>> results = new ArrayList<>();
+
+		chunkedBatchResult.forEachChunk(10, results::addAll);
+
+		assertThat(results.get(0), is(Try.success(1L)));
+		assertThat(results.get(2), is(Try.success(3L)));
+		assertThat(_calls, contains(asList("1", "3")));
+
+		Try<Long> result = results.get(1);
+
+		assertThat(
+			result.getCause(), is(instanceOf(BadRequestException.class)));
+	}
+
+	@Test
+	public void testGetIdentifiersCreatesEveryItemWithOneCall() {
+		ChunkedBatchResult<Long> chunkedBatchResult = _createChunkedBatchResult(
+			"1", "2", "3");
+
+		assertThat(chunkedBatchResult.getIdentifiers(), contains(1L, 2L, 3L));
+		assertThat(chunkedBatchResult.getIdentifiers(), contains(1L, 2L, 3L));
+		assertThat(_calls, contains(asList("1", "2", "3")));
+	}
+
+	@Test
+	public void testItemsCanOnlyBeCreatedOnce() {
+		ChunkedBatchResult<Long> chunkedBatchResult = _createChunkedBatchResult(
+			"1", "2");
+
+		chunkedBatchResult.forEachChunk(1, chunk -> {
+		});
+
+		assertThat(
+			chunkedBatchResult::getIdentifiers,
+			failsWith(IllegalStateException.class));
+	}
+
+	@Test
+	public void testToBatchResultCreatesEveryItemWithOneCall() {
+		ChunkedBatchResult<Long> chunkedBatchResult = _createChunkedBatchResult(
+			"1", "2", "3");
+
+		BatchResult<Long> batchResult = chunkedBatchResult.toBatchResult();
+
+		assertThat(batchResult.getIdentifiers(), contains(1L, 2L, 3L));
+		assertThat(batchResult.resourceName, is("resource"));
+		assertThat(_calls, contains(asList("1", "2", "3")));
+	}
+
+	private static Body _createBody(String value) {
+		return key -> Optional.of(value);
+	}
+
+	private static List<Long> _getIdentifiers(List<Try<Long>> chunk) {
+		Stream<Try<Long>> stream = chunk.stream();
+
+		return stream.map(
+			Try::get
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	private List<Long> _create(List<String> values) throws Exception {
+		_calls.add(values);
+
+		if (values.contains("0")) {
+			throw _exception;
+		}
+
+		Stream<String> stream = values.stream();
+
+		return stream.map(
+			Long::valueOf
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	private ChunkedBatchResult<Long> _createChunkedBatchResult(
+		String... values) {
+
+		Stream<String> stream = Stream.of(values);
+
+		Body body = Body.create(
+			stream.map(
+				ChunkedBatchResultTest::_createBody
+			).collect(
+				Collectors.toList()
+			));
+
+		return new ChunkedBatchResult<>(
+			body, _form, this::_create, "resource");
+	}
+
+	private final List<List<String>> _calls = new ArrayList<>();
+	private final Exception _exception = new Exception();
+	private Form<String> _form;
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.core.Is.is;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.form.Body;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CBORToBodyConverterTest {
+
+	@Test
+	public void testConvertFailsIfBodyIsNotCBOR() throws IOException {
+		HttpServletRequest request = _createRequest(new byte[] {(byte)0xff});
+
+		BodyConverter bodyConverter = new CBORToBodyConverter();
+
+		assertThat(
+			() -> bodyConverter.convert(request),
+			failsWith(BadRequestException.class));
+	}
+
+	@Test
+	public void testConvertReadsCBORObject() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper(new CBORFactory());
+
+		ObjectNode objectNode = objectMapper.createObjectNode();
+
+		objectNode.put("genus", "Apium");
+		objectNode.putArray(
+			"variants"
+		).add(
+			"graveolens"
+		).add(
+			"rapaceum"
+		);
+		objectNode.putObject(
+			"name"
+		).put(
+			"english", "Celery"
+		);
+
+		HttpServletRequest request = _createRequest(
+			objectMapper.writeValueAsBytes(objectNode));
+
+		BodyConverter bodyConverter = new CBORToBodyConverter();
+
+		Body body = bodyConverter.convert(request);
+
+		assertThat(
+			body.getValueOptional("genus"),
+			is(optionalWithValue(equalTo("Apium"))));
+		assertThat(
+			body.getValueListOptional("variants"),
+			is(optionalWithValue(contains("graveolens", "rapaceum"))));
+
+		Optional<Body> optional = body.getNestedBodyOptional("name");
+
+		assertThat(
+			optional.flatMap(nameBody -> nameBody.getValueOptional("english")),
+			is(optionalWithValue(equalTo("Celery"))));
+	}
+
+	private static HttpServletRequest _createRequest(byte[] bytes)
+		throws IOException {
+
+		HttpServletRequest request = mock(HttpServletRequest.class);
+
+		when(
+			request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(new ByteArrayInputStream(bytes))
+		);
+
+		return request;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.form.Body;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class NDJSONToBodyConverterTest {
+
+	@Test
+	public void testConvertReadsEveryLineAsMember() throws IOException {
+		Body body = _convert("{\"name\":\"Apio\"}\n\n{\"name\":\"Celery\"}\n");
+
+		Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+		assertThat(optional, is(optionalWithValue(hasSize(2))));
+
+		List<Body> bodies = optional.get();
+
+		_assertValue(bodies.get(0), "name", "Apio");
+		_assertValue(bodies.get(1), "name", "Celery");
+
+		Optional<Stream<Body>> streamOptional =
+			body.getBodyMembersStreamOptional();
+
+		assertThat(
+			streamOptional.map(Stream::count),
+			is(optionalWithValue(equalTo(2L))));
+	}
+
+	@Test
+	public void testConvertReadsMembersLazily() throws IOException {
+		Body body = _convert("{\"name\":\"Apio\"}\n{\"name\":");
+
+		Optional<Stream<Body>> optional = body.getBodyMembersStreamOptional();
+
+		Iterator<Body> iterator = optional.map(
+			Stream::iterator
+		).get();
+
+		_assertValue(iterator.next(), "name", "Apio");
+
+		assertThat(iterator::next, failsWith(BadRequestException.class));
+	}
+
+	@Test
+	public void testConvertRejectsLinesThatAreNotObjects() throws IOException {
+		Body body = _convert("{\"name\":\"Apio\"}\n[1, 2]\n");
+
+		assertThat(
+			body::getBodyMembersOptional,
+			failsWith(BadRequestException.class));
+	}
+
+	@Test
+	public void testStreamCanOnlyBeReadOnce() throws IOException {
+		Body body = _convert("{\"name\":\"Apio\"}\n");
+
+		body.getBodyMembersStreamOptional();
+
+		assertThat(
+			body::getBodyMembersStreamOptional,
+			failsWith(IllegalStateException.class));
+	}
+
+	private static void _assertValue(Body body, String key, String value) {
+		Optional<String> optional = body.getValueOptional(key);
+
+		assertThat(optional, is(optionalWithValue(equalTo(value))));
+	}
+
+	private static Body _convert(String ndjson) throws IOException {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+
+		byte[] bytes = ndjson.getBytes(StandardCharsets.UTF_8);
+
+		when(
+			request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(new ByteArrayInputStream(bytes))
+		);
+
+		BodyConverter bodyConverter = new NDJSONToBodyConverter();
+
+		return bodyConverter.convert(request);
+	}
+
+}
\ No newline at end of file
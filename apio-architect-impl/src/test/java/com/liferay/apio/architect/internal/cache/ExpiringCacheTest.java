@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ExpiringCacheTest {
+
+	@Before
+	public void setUp() {
+		_expiringCache = new ExpiringCache<>(String::length);
+
+		_expiringCache.setMaxSize(2);
+		_expiringCache.setMaxWeight(10);
+	}
+
+	@Test
+	public void testInvalidateByPredicateRemovesMatchingValues() {
+		_put("a", "1");
+		_put("b", "22");
+
+		_expiringCache.invalidate(key -> key.equals("a"));
+
+		assertThat(_expiringCache.get("a"), is(nullValue()));
+		assertThat(_expiringCache.get("b"), is("22"));
+		assertThat(_expiringCache.getWeight(), is(2L));
+	}
+
+	@Test
+	public void testInvalidateIncreasesTheVersion() {
+		long version = _expiringCache.getVersion();
+
+		_expiringCache.invalidate("a");
+
+		assertThat(_expiringCache.getVersion(), is(version + 1));
+
+		_expiringCache.invalidate();
+
+		assertThat(_expiringCache.getVersion(), is(version + 2));
+	}
+
+	@Test
+	public void testPutClearsTheCacheIfItIsStillFullAfterPurging() {
+		_put("a", "1");
+		_put("b", "2");
+		_put("c", "3");
+
+		assertThat(_expiringCache.get("a"), is(nullValue()));
+		assertThat(_expiringCache.get("b"), is(nullValue()));
+		assertThat(_expiringCache.get("c"), is("3"));
+		assertThat(_expiringCache.size(), is(1));
+	}
+
+	@Test
+	public void testPutDoesNotCacheValuesAfterAnInvalidation() {
+		long version = _expiringCache.getVersion();
+
+		_expiringCache.invalidate("a");
+
+		_expiringCache.put("a", "1", 60, version);
+
+		assertThat(_expiringCache.get("a"), is(nullValue()));
+	}
+
+	@Test
+	public void testPutDoesNotCacheValuesHeavierThanTheMaximumWeight() {
+		_put("a", "12345678901");
+
+		assertThat(_expiringCache.get("a"), is(nullValue()));
+		assertThat(_expiringCache.getWeight(), is(0L));
+	}
+
+	@Test
+	public void testPutDoesNotCacheValuesWithoutTimeToLive() {
+		_expiringCache.put("a", "1", 0, _expiringCache.getVersion());
+
+		assertThat(_expiringCache.get("a"), is(nullValue()));
+	}
+
+	@Test
+	public void testPutKeepsTheWeightOfReplacedValues() {
+		_put("a", "1");
+		_put("a", "1234");
+
+		assertThat(_expiringCache.get("a"), is("1234"));
+		assertThat(_expiringCache.getWeight(), is(4L));
+	}
+
+	@Test
+	public void testPutPurgesTheCacheIfItIsTooHeavy() {
+		_put("a", "12345");
+		_put("b", "123456");
+
+		assertThat(_expiringCache.get("a"), is(nullValue()));
+		assertThat(_expiringCache.get("b"), is("123456"));
+		assertThat(_expiringCache.getWeight(), is(6L));
+	}
+
+	private void _put(String key, String value) {
+		_expiringCache.put(key, value, 60, _expiringCache.getVersion());
+	}
+
+	private ExpiringCache<String, String> _expiringCache;
+
+}
\ No newline at end of file
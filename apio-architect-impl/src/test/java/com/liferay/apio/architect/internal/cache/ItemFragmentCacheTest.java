@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.alias.RepresentorFunction;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ItemFragmentCacheTest {
+
+	@Before
+	public void setUp() {
+		_itemFragmentCache = new ItemFragmentCache();
+
+		_itemFragmentCache.activate(Collections.emptyMap());
+	}
+
+	@Test
+	public void testGetDoesNotCacheIfEmbeddedIsRequested() {
+		Representor<Model> representor = _createRepresentor(
+			model -> model._version);
+
+		_get(representor, new Model(1L, 1L), "en", "creator");
+		_get(representor, new Model(1L, 1L), "en", "creator");
+
+		assertThat(_writes.get(), is(2));
+		assertThat(_itemFragmentCache.getMissCount(), is(0L));
+	}
+
+	@Test
+	public void testGetDoesNotCacheWithoutVersionFunction() {
+		Representor<Model> representor = _createRepresentor(null);
+
+		_get(representor, new Model(1L, 1L), "en", null);
+		_get(representor, new Model(1L, 1L), "en", null);
+
+		assertThat(_writes.get(), is(2));
+	}
+
+	@Test
+	public void testGetDoesNotCacheWithZeroMaxWeight() {
+		_itemFragmentCache.activate(Collections.singletonMap("max.weight", 0L));
+
+		Representor<Model> representor = _createRepresentor(
+			model -> model._version);
+
+		_get(representor, new Model(1L, 1L), "en", null);
+		_get(representor, new Model(1L, 1L), "en", null);
+
+		assertThat(_writes.get(), is(2));
+	}
+
+	@Test
+	public void testGetKeysFragmentsByIdVersionAndLanguage() {
+		Representor<Model> representor = _createRepresentor(
+			model -> model._version);
+
+		_get(representor, new Model(1L, 1L), "en", null);
+		_get(representor, new Model(2L, 1L), "en", null);
+		_get(representor, new Model(1L, 2L), "en", null);
+		_get(representor, new Model(1L, 1L), "es", null);
+
+		assertThat(_writes.get(), is(4));
+		assertThat(_itemFragmentCache.getHitCount(), is(0L));
+	}
+
+	@Test
+	public void testGetReusesTheFragmentOfUnchangedItems() {
+		Representor<Model> representor = _createRepresentor(
+			model -> model._version);
+
+		String first = _get(representor, new Model(1L, 1L), "en", null);
+		String second = _get(representor, new Model(1L, 1L), "en", null);
+
+		assertThat(first, is(second));
+		assertThat(_writes.get(), is(1));
+		assertThat(_itemFragmentCache.getHitCount(), is(1L));
+		assertThat(_itemFragmentCache.getHitRatio(), is(0.5));
+	}
+
+	@Test
+	public void testInvalidateRemovesAllFragments() {
+		Representor<Model> representor = _createRepresentor(
+			model -> model._version);
+
+		_get(representor, new Model(1L, 1L), "en", null);
+
+		_itemFragmentCache.invalidate();
+
+		_get(representor, new Model(1L, 1L), "en", null);
+
+		assertThat(_writes.get(), is(2));
+		assertThat(_itemFragmentCache.getWeight(), is(8L));
+	}
+
+	private static Representor<Model> _createRepresentor(
+		Function<Model, ?> versionFunction) {
+
+		Representor.Builder<Model, Long> builder =
+			new RepresentorImpl.BuilderImpl<>(ModelId.class, __ -> "model");
+
+		Representor.FirstStep<Model> firstStep = builder.types(
+			"Model"
+		).identifier(
+			model -> model._id
+		);
+
+		if (versionFunction != null) {
+			firstStep.version(versionFunction);
+		}
+
+		return firstStep.build();
+	}
+
+	private static RequestInfo _createRequestInfo(
+		String language, String embedded) {
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getHeader("Accept-Language")
+		).thenReturn(
+			language
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("embedded")
+		).thenReturn(
+			embedded
+		);
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				httpServletRequest
+			).serverURL(
+				() -> "/"
+			).applicationURL(
+				() -> "/"
+			).embedded(
+				__ -> false
+			).fields(
+				__ -> string -> true
+			).language(
+				() -> Locale.forLanguageTag(language)
+			).build());
+	}
+
+	private String _get(
+		Representor<Model> representor, Model model, String language,
+		String embedded) {
+
+		RepresentorFunction representorFunction = __ -> Optional.of(
+			representor);
+
+		Optional<JSONObjectBuilder> optional = _itemFragmentCache.get(
+			new SingleModelImpl<>(model, "model"), representorFunction,
+			"application/json", _createRequestInfo(language, embedded),
+			() -> {
+				_writes.incrementAndGet();
+
+				JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+				jsonObjectBuilder.field(
+					"id"
+				).numberValue(
+					model._id
+				);
+
+				return Optional.of(jsonObjectBuilder);
+			});
+
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
+
+		return jsonObjectBuilder.build();
+	}
+
+	private ItemFragmentCache _itemFragmentCache;
+	private final AtomicInteger _writes = new AtomicInteger();
+
+	private static class Model {
+
+		private Model(long id, long version) {
+			_id = id;
+			_version = version;
+		}
+
+		private final long _id;
+		private final long _version;
+
+	}
+
+	private interface ModelId extends Identifier<Long> {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.cache;
+
+import static com.liferay.apio.architect.operation.HTTPMethod.GET;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
+
+import static java.util.Collections.emptyList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.liferay.apio.architect.annotation.Actions.CachedModel;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.operation.HTTPMethod;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.lang.annotation.Annotation;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ModelCacheTest {
+
+	@Before
+	public void setUp() {
+		_modelCache = new ModelCache();
+
+		_modelCache.activate(Collections.emptyMap());
+	}
+
+	@Test
+	public void testGetCachesModelsById() throws Throwable {
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+		_modelCache.get("name", 2L, 60, this::_retrieve);
+		_modelCache.get("other", 1L, 60, this::_retrieve);
+
+		assertThat(_invocations.get(), is(3));
+	}
+
+	@Test
+	public void testGetDoesNotCacheModelRetrievedBeforeInvalidation()
+		throws Throwable {
+
+		_modelCache.get(
+			"name", 1L, 60,
+			() -> {
+				_modelCache.invalidate("name", 1L);
+
+				return _retrieve();
+			});
+
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testGetDoesNotCacheNullModels() throws Throwable {
+		_modelCache.get(
+			"name", 1L, 60,
+			() -> {
+				_invocations.incrementAndGet();
+
+				return null;
+			});
+
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testGetDoesNotCacheWithZeroMaxTimeToLive() throws Throwable {
+		_modelCache.activate(Collections.singletonMap("max.time.to.live", 0L));
+
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testInvalidateRemovesAllModels() throws Throwable {
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+		_modelCache.get("name", 2L, 60, this::_retrieve);
+
+		_modelCache.invalidate();
+
+		_modelCache.get("name", 1L, 60, this::_retrieve);
+		_modelCache.get("name", 2L, 60, this::_retrieve);
+
+		assertThat(_invocations.get(), is(4));
+	}
+
+	@Test
+	public void testWithModelCacheCachesAnnotatedRetrieveActions()
+		throws Throwable {
+
+		ActionSemantics actionSemantics = _modelCache.withModelCache(
+			_createActionSemantics("retrieve", GET, _cachedModel(60)));
+
+		Object first = actionSemantics.execute(emptyList());
+		Object second = actionSemantics.execute(emptyList());
+
+		assertThat(first, is(1));
+		assertThat(second, is(1));
+		assertThat(_invocations.get(), is(1));
+	}
+
+	@Test
+	public void testWithModelCacheDoesNotCacheWithoutAnnotation()
+		throws Throwable {
+
+		ActionSemantics actionSemantics = _modelCache.withModelCache(
+			_createActionSemantics("retrieve", GET));
+
+		actionSemantics.execute(emptyList());
+		actionSemantics.execute(emptyList());
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testWithModelCacheInvalidatesOnReplaceActions()
+		throws Throwable {
+
+		ActionSemantics retrieveActionSemantics = _modelCache.withModelCache(
+			_createActionSemantics("retrieve", GET, _cachedModel(60)));
+		ActionSemantics replaceActionSemantics = _modelCache.withModelCache(
+			_createActionSemantics("replace", PUT));
+
+		retrieveActionSemantics.execute(emptyList());
+
+		replaceActionSemantics.execute(emptyList());
+
+		Object model = retrieveActionSemantics.execute(emptyList());
+
+		assertThat(model, is(3));
+		assertThat(_invocations.get(), is(3));
+	}
+
+	private static CachedModel _cachedModel(long timeToLive) {
+		return new CachedModel() {
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return CachedModel.class;
+			}
+
+			@Override
+			public long timeToLive() {
+				return timeToLive;
+			}
+
+		};
+	}
+
+	private ActionSemantics _createActionSemantics(
+		String name, HTTPMethod httpMethod, Annotation... annotations) {
+
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Item.of("name")
+		).name(
+			name
+		).method(
+			httpMethod
+		).returns(
+			Object.class
+		).permissionFunction(
+		).executeFunction(
+			params -> _retrieve()
+		).annotatedWith(
+			annotations
+		).build();
+
+		return actionSemantics.withResource(Item.of("name", Id.of(1L, "1")));
+	}
+
+	private Object _retrieve() {
+		return _invocations.incrementAndGet();
+	}
+
+	private final AtomicInteger _invocations = new AtomicInteger();
+	private ModelCache _modelCache;
+
+}
\ No newline at end of file
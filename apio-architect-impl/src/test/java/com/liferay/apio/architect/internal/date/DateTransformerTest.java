@@ -42,6 +42,31 @@ public class DateTransformerTest {
 		assertTrue(dateTry.isFailure());
 	}
 
+	@Test
+	public void testAsDateWithNonexistentDayReturnsFailure() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-02-30T09:00Z");
+
+		assertTrue(dateTry.isFailure());
+	}
+
+	@Test
+	public void testAsDateWithOffsetReturnsSuccess() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-06-15T11:00:00+02:00");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(date, is(sameInstant(1465981200000L)));
+	}
+
+	@Test
+	public void testAsDateWithSecondsAndFractionReturnsSuccess() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-06-15t09:00:30.5z");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(date, is(sameInstant(1465981230500L)));
+	}
+
 	@Test
 	public void testAsDateWithValidDateReturnsSuccess() {
 		Try<Date> dateTry = DateTransformer.asDate("2016-06-15T09:00Z");
@@ -58,6 +83,20 @@ public class DateTransformerTest {
 		assertThat(date, is("2016-06-15T09:00Z"));
 	}
 
+	@Test
+	public void testAsStringWithDateBeforeEpochReturnsDateInISO8061Format() {
+		String date = DateTransformer.asString(new Date(-1L));
+
+		assertThat(date, is("1969-12-31T23:59Z"));
+	}
+
+	@Test
+	public void testAsStringWithFiveDigitYearReturnsDateInISO8061Format() {
+		String date = DateTransformer.asString(253402300800000L);
+
+		assertThat(date, is("+10000-01-01T00:00Z"));
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testConstructorThrowsException() throws Throwable {
 		Constructor<?> constructor =
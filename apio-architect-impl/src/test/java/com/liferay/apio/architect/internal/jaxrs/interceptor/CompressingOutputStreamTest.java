@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.CompressingOutputStream.DEFLATE;
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.CompressingOutputStream.GZIP;
+
+import static java.util.Collections.singletonList;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompressingOutputStreamTest {
+
+	@Before
+	public void setUp() {
+		_httpHeaders.putSingle(CONTENT_TYPE, "application/hal+json");
+	}
+
+	@After
+	public void tearDown() {
+		_deflaterPool.close();
+	}
+
+	@Test
+	public void testDeflateEntityIsCompressed() throws IOException {
+		byte[] bytes = _createEntity(4096);
+
+		try (CompressingOutputStream compressingOutputStream =
+				_createCompressingOutputStream(DEFLATE, 1024, 6)) {
+
+			compressingOutputStream.write(bytes);
+
+			assertTrue(compressingOutputStream.isCompressing());
+		}
+
+		assertThat(_httpHeaders.getFirst(CONTENT_ENCODING), is(DEFLATE));
+		assertThat(_outputStream.size(), is(lessThan(bytes.length)));
+		assertThat(
+			_read(new InflaterInputStream(_getInputStream())), is(bytes));
+	}
+
+	@Test
+	public void testEntityOfDisabledMediaTypeIsNotCompressed()
+		throws IOException {
+
+		byte[] bytes = _createEntity(4096);
+
+		try (CompressingOutputStream compressingOutputStream =
+				_createCompressingOutputStream(GZIP, 1024, 0)) {
+
+			compressingOutputStream.write(bytes);
+
+			assertFalse(compressingOutputStream.isCompressing());
+		}
+
+		assertThat(_httpHeaders.get(CONTENT_ENCODING), is(nullValue()));
+		assertThat(_outputStream.toByteArray(), is(bytes));
+	}
+
+	@Test
+	public void testGzipEntityIsCompressedWithoutContentLength()
+		throws IOException {
+
+		byte[] bytes = _createEntity(100000);
+
+		_httpHeaders.putSingle(CONTENT_LENGTH, bytes.length);
+
+		try (CompressingOutputStream compressingOutputStream =
+				_createCompressingOutputStream(GZIP, 1024, 6)) {
+
+			compressingOutputStream.write(bytes, 0, 500);
+
+			assertFalse(compressingOutputStream.isCompressing());
+
+			compressingOutputStream.write(bytes, 500, bytes.length - 500);
+
+			assertTrue(compressingOutputStream.isCompressing());
+		}
+
+		assertThat(_httpHeaders.getFirst(CONTENT_ENCODING), is(GZIP));
+		assertThat(_httpHeaders.get(CONTENT_LENGTH), is(nullValue()));
+		assertThat(_read(new GZIPInputStream(_getInputStream())), is(bytes));
+	}
+
+	@Test
+	public void testGzipEntityIsReadableAfterFlushes() throws IOException {
+		byte[] bytes = _createEntity(10000);
+
+		try (CompressingOutputStream compressingOutputStream =
+				_createCompressingOutputStream(GZIP, 1024, 6)) {
+
+			for (byte b : bytes) {
+				compressingOutputStream.write(b);
+
+				if (b == '\n') {
+					compressingOutputStream.flush();
+				}
+			}
+		}
+
+		assertThat(_read(new GZIPInputStream(_getInputStream())), is(bytes));
+	}
+
+	@Test
+	public void testSmallEntityIsNotCompressed() throws IOException {
+		byte[] bytes = _createEntity(200);
+
+		_httpHeaders.put(CONTENT_LENGTH, singletonList(bytes.length));
+
+		try (CompressingOutputStream compressingOutputStream =
+				_createCompressingOutputStream(GZIP, 1024, 6)) {
+
+			compressingOutputStream.write(bytes);
+
+			compressingOutputStream.flush();
+
+			assertThat(_outputStream.size(), is(0));
+		}
+
+		assertThat(_httpHeaders.get(CONTENT_ENCODING), is(nullValue()));
+		assertThat(
+			_httpHeaders.get(CONTENT_LENGTH),
+			is(singletonList(bytes.length)));
+		assertThat(_outputStream.toByteArray(), is(bytes));
+	}
+
+	private static byte[] _createEntity(int length) {
+		StringBuilder sb = new StringBuilder();
+
+		int i = 0;
+
+		while (sb.length() < length) {
+			sb.append("{\"@id\":\"http://localhost/p/people/");
+			sb.append(i++);
+			sb.append("\"}\n");
+		}
+
+		sb.setLength(length);
+
+		String string = sb.toString();
+
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] bytes = new byte[1024];
+
+		int count = inputStream.read(bytes);
+
+		while (count != -1) {
+			byteArrayOutputStream.write(bytes, 0, count);
+
+			count = inputStream.read(bytes);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private CompressingOutputStream _createCompressingOutputStream(
+		String encoding, int minSize, int level) {
+
+		return new CompressingOutputStream(
+			_outputStream, _httpHeaders, encoding, minSize,
+			mediaType -> level, _deflaterPool);
+	}
+
+	private InputStream _getInputStream() {
+		return new ByteArrayInputStream(_outputStream.toByteArray());
+	}
+
+	private final DeflaterPool _deflaterPool = new DeflaterPool(1);
+	private final MultivaluedMap<String, Object> _httpHeaders =
+		new MultivaluedHashMap<>();
+	private final ByteArrayOutputStream _outputStream =
+		new ByteArrayOutputStream();
+
+}
\ No newline at end of file
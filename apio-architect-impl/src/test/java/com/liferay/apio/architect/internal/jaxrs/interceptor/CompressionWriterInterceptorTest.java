@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.CompressionWriterInterceptor.getEncoding;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompressionWriterInterceptorTest {
+
+	@Test
+	public void testGetEncodingPrefersGzip() {
+		assertThat(getEncoding("deflate, gzip"), is("gzip"));
+		assertThat(getEncoding("gzip;q=0.5, deflate;q=0.5"), is("gzip"));
+	}
+
+	@Test
+	public void testGetEncodingRespectsQualities() {
+		assertThat(getEncoding("gzip;q=0.2, deflate;q=0.8"), is("deflate"));
+		assertThat(getEncoding("gzip;q=0, deflate"), is("deflate"));
+		assertThat(getEncoding("*;q=0.5, gzip;q=0"), is("deflate"));
+	}
+
+	@Test
+	public void testGetEncodingReturnsNullIfNoEncodingIsAccepted() {
+		assertThat(getEncoding(null), is(nullValue()));
+		assertThat(getEncoding("identity"), is(nullValue()));
+		assertThat(getEncoding("br, gzip;q=0"), is(nullValue()));
+		assertThat(getEncoding("*;q=0"), is(nullValue()));
+	}
+
+	@Test
+	public void testGetEncodingSupportsWildcard() {
+		assertThat(getEncoding("*"), is("gzip"));
+		assertThat(getEncoding("x-gzip"), is("gzip"));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,733 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.resource;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.util.component.ComponentUtil.setReference;
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyEnumeration;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNot.not;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
+import com.liferay.apio.architect.internal.annotation.Action.Error.NotFound;
+import com.liferay.apio.architect.internal.annotation.Action.NoContent;
+import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.batch.ChunkedBatchResult;
+import com.liferay.apio.architect.internal.body.MockServletInputStream;
+import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDBatchResultMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ndjson.NDJSONBatchResultMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestCoalescer;
+import com.liferay.apio.architect.internal.response.MultiStatus;
+import com.liferay.apio.architect.internal.response.MultiStatus.Operation;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCacheWarmer;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.PageMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RootResourceTest {
+
+	@Before
+	public void setUp() {
+		_actionManager = mock(ActionManager.class);
+
+		when(
+			_actionManager.getAction(anyString(), any())
+		).thenReturn(
+			Either.left(mock(NotFound.class))
+		);
+
+		_httpServletRequest = mock(HttpServletRequest.class);
+
+		when(
+			_httpServletRequest.getAttributeNames()
+		).thenReturn(
+			emptyEnumeration()
+		);
+
+		when(
+			_httpServletRequest.getHeaderNames()
+		).thenReturn(
+			emptyEnumeration()
+		);
+
+		when(
+			_httpServletRequest.getLocales()
+		).thenReturn(
+			emptyEnumeration()
+		);
+
+		when(
+			_httpServletRequest.getMethod()
+		).thenReturn(
+			"POST"
+		);
+
+		when(
+			_httpServletRequest.getParameterMap()
+		).thenReturn(
+			emptyMap()
+		);
+
+		_batchResultMessageMapperManager = mock(
+			BatchResultMessageMapperManager.class);
+
+		_setBatchResultMessageMapper(new JSONLDBatchResultMessageMapper<>());
+
+		_managerCacheWarmer = mock(ManagerCacheWarmer.class);
+
+		_rootResource = new RootResource();
+
+		setReference(_rootResource, "_actionManager", _actionManager);
+		setReference(
+			_rootResource, "_batchResultMessageMapperManager",
+			_batchResultMessageMapperManager);
+		setReference(_rootResource, "_jaxrsRequest", mock(Request.class));
+		setReference(_rootResource, "_managerCacheWarmer", _managerCacheWarmer);
+		setReference(_rootResource, "_request", _httpServletRequest);
+
+		_rootResource.activate(emptyMap());
+	}
+
+	@After
+	public void tearDown() {
+		_rootResource.deactivate();
+	}
+
+	@Test
+	public void testBatchCreatesItemsOfChunkedBatchResults() {
+		ChunkedBatchResult chunkedBatchResult = _mockChunkedBatchResult();
+
+		_addAction("POST", request -> chunkedBatchResult, "people");
+
+		List<Operation> operations = _batch(
+			"[{\"method\": \"POST\", \"path\": \"people\"}]");
+
+		Operation operation = operations.get(0);
+
+		assertThat(operation.getStatus(), is(200));
+
+		_assertBatchResult(operation.getEntityOptional());
+
+		verify(chunkedBatchResult).close();
+	}
+
+	@Test
+	public void testBatchExecutesGetOperationsConcurrently() {
+		CountDownLatch countDownLatch = new CountDownLatch(2);
+
+		Action action = request -> {
+			countDownLatch.countDown();
+
+			return Try.of(
+				() -> countDownLatch.await(5, TimeUnit.SECONDS)
+			).get();
+		};
+
+		_addAction("GET", action, "first", "1");
+		_addAction("GET", action, "second", "1");
+
+		List<Operation> operations = _batch(
+			"[{\"path\": \"first/1\"}, {\"path\": \"second/1\"}]");
+
+		assertThat(operations.size(), is(2));
+
+		for (Operation operation : operations) {
+			assertThat(operation.getStatus(), is(200));
+			assertThat(
+				operation.getEntityOptional(), is(optionalWithValue(is(true))));
+		}
+	}
+
+	@Test
+	public void testBatchDelegatesSessionAndRolesOfSequentialOperations() {
+		HttpSession httpSession = mock(HttpSession.class);
+
+		when(
+			_httpServletRequest.getSession(true)
+		).thenReturn(
+			httpSession
+		);
+
+		when(
+			_httpServletRequest.isUserInRole("Administrator")
+		).thenReturn(
+			true
+		);
+
+		_addAction("POST", RootResourceTest::_getSessionAndRole, "people");
+
+		List<Operation> operations = _batch(
+			"[{\"method\": \"POST\", \"path\": \"people\"}]");
+
+		_assertOperation(
+			operations.get(0), "POST", "people", 200,
+			asList(httpSession, true));
+	}
+
+	@Test
+	public void testBatchDoesNotShareSessionOrRolesWithConcurrentOperations() {
+		when(
+			_httpServletRequest.getSession(true)
+		).thenReturn(
+			mock(HttpSession.class)
+		);
+
+		when(
+			_httpServletRequest.isUserInRole("Administrator")
+		).thenReturn(
+			true
+		);
+
+		_addAction("GET", RootResourceTest::_getSessionAndRole, "first", "1");
+		_addAction("GET", RootResourceTest::_getSessionAndRole, "second", "1");
+
+		List<Operation> operations = _batch(
+			"[{\"path\": \"first/1\"}, {\"path\": \"second/1\"}]");
+
+		_assertOperation(
+			operations.get(0), "GET", "first/1", 200, asList(null, false));
+		_assertOperation(
+			operations.get(1), "GET", "second/1", 200, asList(null, false));
+	}
+
+	@Test
+	public void testBatchExecutesOperationsInOrder() {
+		_addAction("GET", request -> "first", "first");
+		_addAction("POST", request -> "second", "second");
+		_addAction("GET", request -> "third", "third", "1");
+
+		List<Operation> operations = _batch(
+			"[{\"path\": \"first\"}, {\"method\": \"post\", \"path\": " +
+				"\"second\"}, {\"path\": \"/third/1\"}]");
+
+		assertThat(operations.size(), is(3));
+
+		_assertOperation(operations.get(0), "GET", "first", 200, "first");
+		_assertOperation(operations.get(1), "POST", "second", 200, "second");
+		_assertOperation(operations.get(2), "GET", "/third/1", 200, "third");
+	}
+
+	@Test
+	public void testBatchExecutesOperationsWithTheirRequest() {
+		_addAction(
+			"POST",
+			request -> String.join(
+				",", request.getMethod(), request.getParameter("page"),
+				request.getContentType(), _readBody(request)),
+			"people");
+
+		List<Operation> operations = _batch(
+			"[{\"method\": \"POST\", \"path\": \"people?page=2&a=b%20c\", " +
+				"\"body\": {\"name\": \"Hernández\"}}]");
+
+		_assertOperation(
+			operations.get(0), "POST", "people?page=2&a=b%20c", 200,
+			"POST,2,application/json,{\"name\":\"Hernández\"}");
+	}
+
+	@Test
+	public void testBatchFailsIfBodyIsNotAnArray() {
+		_setBody("{\"path\": \"people\"}");
+
+		assertThat(_rootResource::batch, failsWith(BadRequestException.class));
+	}
+
+	@Test
+	public void testBatchFailsIfItHasTooManyOperations() {
+		_rootResource.activate(singletonMap("batch.max.operations", 1));
+
+		_setBody("[{\"path\": \"first\"}, {\"path\": \"second\"}]");
+
+		assertThat(_rootResource::batch, failsWith(BadRequestException.class));
+	}
+
+	@Test
+	public void testBatchFailsIfItHasTooManyOperationsWithoutReadingTheRest() {
+		_rootResource.activate(singletonMap("batch.max.operations", 1));
+
+		_setBody("[{\"path\": \"first\"}, {\"path\": \"second\"}, {");
+
+		Try<Response> responseTry = Try.of(_rootResource::batch);
+
+		Throwable throwable = responseTry.getCause();
+
+		assertThat(throwable, is(instanceOf(BadRequestException.class)));
+		assertThat(
+			throwable.getMessage(),
+			is("A batch request can't have more than 1 operations"));
+	}
+
+	@Test
+	public void testBatchFailsOperationsIfChunkedBatchResultsCantBeCreated() {
+		ChunkedBatchResult chunkedBatchResult = mock(ChunkedBatchResult.class);
+
+		when(
+			chunkedBatchResult.getIdentifiers()
+		).thenThrow(
+			new BadRequestException()
+		);
+
+		when(
+			chunkedBatchResult.toBatchResult()
+		).thenCallRealMethod();
+
+		_addAction("POST", request -> chunkedBatchResult, "people");
+
+		List<Operation> operations = _batch(
+			"[{\"method\": \"POST\", \"path\": \"people\"}]");
+
+		_assertFailure(operations.get(0), BadRequestException.class);
+
+		verify(chunkedBatchResult).close();
+	}
+
+	@Test
+	public void testBatchReturnsFailedOperations() {
+		_addAction("DELETE", (NoContent)request -> null, "people", "1");
+		_addAction(
+			"GET",
+			request -> {
+				throw new IllegalStateException();
+			},
+			"people", "2");
+
+		when(
+			_actionManager.getAction("PUT", asList("people", "1"))
+		).thenReturn(
+			Either.left((NotAllowed)() -> singleton("DELETE"))
+		);
+
+		List<Operation> operations = _batch(
+			"[{\"method\": \"DELETE\", \"path\": \"people/1\"}, {\"path\": " +
+				"\"people/2\"}, {\"method\": \"PUT\", \"path\": " +
+					"\"people/1\"}, {\"path\": \"unknown\"}, {\"path\": " +
+						"\"http://liferay.com/people\"}]");
+
+		assertThat(operations.size(), is(5));
+
+		Operation operation = operations.get(0);
+
+		assertThat(operation.getStatus(), is(204));
+		assertThat(operation.getEntityOptional(), is(emptyOptional()));
+		assertThat(operation.getExceptionOptional(), is(emptyOptional()));
+
+		_assertFailure(operations.get(1), IllegalStateException.class);
+		_assertFailure(operations.get(2), NotAllowedException.class);
+		_assertFailure(operations.get(3), NotFoundException.class);
+		_assertFailure(operations.get(4), BadRequestException.class);
+	}
+
+	@Test
+	public void testBatchReturnsMultiStatusResponse() {
+		_setBody("[]");
+
+		Response response = _rootResource.batch();
+
+		assertThat(response.getStatus(), is(207));
+		assertThat(response.getEntity(), is(instanceOf(MultiStatus.class)));
+	}
+
+	@Test
+	public void testBatchUnwrapsTheResultsOfOperations() {
+		_addAction("GET", request -> Try.success("first"), "first");
+		_addAction(
+			"POST", request -> Try.failure(new IllegalStateException()),
+			"second");
+
+		List<Operation> operations = _batch(
+			"[{\"path\": \"first\"}, {\"method\": \"POST\", \"path\": " +
+				"\"second\"}]");
+
+		_assertOperation(operations.get(0), "GET", "first", 200, "first");
+		_assertFailure(operations.get(1), IllegalStateException.class);
+	}
+
+	@Test
+	public void testGetCoalescesRequestsByTheirNegotiatedMediaTypes()
+		throws Throwable {
+
+		PageMessageMapperManager pageMessageMapperManager = mock(
+			PageMessageMapperManager.class);
+
+		PageMessageMapper<?> pageMessageMapper = _mockMessageMapper(
+			PageMessageMapper.class, "application/hal+json");
+
+		when(
+			pageMessageMapperManager.getPageMessageMapperOptional(any())
+		).thenReturn(
+			Optional.of(unsafeCast(pageMessageMapper))
+		);
+
+		ProviderManager providerManager = mock(ProviderManager.class);
+
+		when(
+			providerManager.provideMandatory(any(), any())
+		).thenAnswer(
+			invocation -> {
+				Class<?> clazz = (Class<?>)invocation.getArguments()[1];
+
+				if (clazz.equals(ApplicationURL.class)) {
+					return (ApplicationURL)() -> "localhost";
+				}
+
+				return (Credentials)() -> "credentials";
+			}
+		);
+
+		RequestCoalescer requestCoalescer = mock(RequestCoalescer.class);
+
+		when(
+			requestCoalescer.isEnabled()
+		).thenReturn(
+			true
+		);
+
+		when(
+			requestCoalescer.coalesce(any(), any())
+		).thenThrow(
+			new IllegalStateException()
+		);
+
+		SingleModelMessageMapperManager singleModelMessageMapperManager = mock(
+			SingleModelMessageMapperManager.class);
+
+		SingleModelMessageMapper<?> singleModelMessageMapper =
+			_mockMessageMapper(
+				SingleModelMessageMapper.class, "application/ld+json");
+
+		when(
+			singleModelMessageMapperManager.getSingleModelMessageMapperOptional(
+				any())
+		).thenReturn(
+			Optional.of(unsafeCast(singleModelMessageMapper))
+		);
+
+		setReference(
+			_rootResource, "_pageMessageMapperManager",
+			pageMessageMapperManager);
+		setReference(_rootResource, "_providerManager", providerManager);
+		setReference(_rootResource, "_requestCoalescer", requestCoalescer);
+		setReference(
+			_rootResource, "_singleModelMessageMapperManager",
+			singleModelMessageMapperManager);
+
+		_addAction("GET", request -> "people", "people");
+
+		when(
+			_httpServletRequest.getHeader("Accept")
+		).thenReturn(
+			"application/ld+json", "application/ld+json;q=0.9, */*;q=0.1"
+		);
+
+		NestedResource nestedResource = _rootResource.nestedResource("people");
+
+		nestedResource.get();
+		nestedResource.get();
+
+		ArgumentCaptor<Object> argumentCaptor = ArgumentCaptor.forClass(
+			Object.class);
+
+		verify(
+			requestCoalescer, times(2)
+		).coalesce(
+			argumentCaptor.capture(), any()
+		);
+
+		List<Object> keys = argumentCaptor.getAllValues();
+
+		assertThat(keys.get(0), is(keys.get(1)));
+		assertThat(
+			keys.get(0),
+			is(
+				asList(
+					"localhost", asList("people"), null,
+					"application/hal+json", "application/ld+json", null,
+					"credentials")));
+	}
+
+	@Test
+	public void testPostCreatesBatchItemsIfMapperDoesNotStreamThem() {
+		ChunkedBatchResult chunkedBatchResult = _mockChunkedBatchResult();
+
+		_addAction(
+			"POST", request -> Try.success(chunkedBatchResult), "people");
+
+		Response response = _post("people");
+
+		assertThat(response.getEntity(), is(instanceOf(Try.class)));
+
+		Try<?> entityTry = (Try<?>)response.getEntity();
+
+		_assertBatchResult(entityTry.toJavaOptional());
+
+		verify(chunkedBatchResult).close();
+	}
+
+	@Test
+	public void testPostFailsBatchCreationIfJSONLDMapperDoesNotStreamIt() {
+		ChunkedBatchResult chunkedBatchResult = _mockChunkedBatchResult();
+
+		when(
+			chunkedBatchResult.getIdentifiers()
+		).thenThrow(
+			new BadRequestException()
+		);
+
+		_addAction(
+			"POST", request -> Try.success(chunkedBatchResult), "people");
+
+		Response response = _post("people");
+
+		Try<?> entityTry = (Try<?>)response.getEntity();
+
+		assertThat(entityTry.isFailure(), is(true));
+		assertThat(
+			entityTry.getCause(), is(instanceOf(BadRequestException.class)));
+
+		verify(chunkedBatchResult).close();
+	}
+
+	@Test
+	public void testPostReturnsChunkedBatchResultsIfMapperStreamsItems() {
+		_setBatchResultMessageMapper(new NDJSONBatchResultMessageMapper<>());
+
+		ChunkedBatchResult chunkedBatchResult = _mockChunkedBatchResult();
+
+		_addAction(
+			"POST", request -> Try.success(chunkedBatchResult), "people");
+
+		Response response = _post("people");
+
+		Try<?> entityTry = (Try<?>)response.getEntity();
+
+		assertThat(entityTry.get(), is(chunkedBatchResult));
+
+		verify(chunkedBatchResult, never()).getIdentifiers();
+		verify(chunkedBatchResult, never()).close();
+	}
+
+	@Test
+	public void testReadyReturnsOkIfRegistryIsReady() {
+		when(
+			_managerCacheWarmer.isReady()
+		).thenReturn(
+			true
+		);
+
+		Response response = _rootResource.ready();
+
+		assertThat(response.getStatus(), is(200));
+	}
+
+	@Test
+	public void testReadyReturnsServiceUnavailableIfRegistryIsNotReady() {
+		Response response = _rootResource.ready();
+
+		assertThat(response.getStatus(), is(503));
+	}
+
+	private static List<Object> _getSessionAndRole(
+		HttpServletRequest httpServletRequest) {
+
+		return asList(
+			httpServletRequest.getSession(),
+			httpServletRequest.isUserInRole("Administrator"));
+	}
+
+	private static String _readBody(HttpServletRequest httpServletRequest) {
+		return Try.of(
+			httpServletRequest::getReader
+		).mapTry(
+			BufferedReader::readLine
+		).get();
+	}
+
+	private void _addAction(String method, Action action, String... params) {
+		when(
+			_actionManager.getAction(method, asList(params))
+		).thenReturn(
+			Either.right(action)
+		);
+	}
+
+	private void _assertBatchResult(Optional<?> entityOptional) {
+		assertThat(entityOptional.isPresent(), is(true));
+
+		Object entity = entityOptional.get();
+
+		assertThat(entity, is(instanceOf(BatchResult.class)));
+		assertThat(entity, is(not(instanceOf(ChunkedBatchResult.class))));
+
+		BatchResult<?> batchResult = (BatchResult<?>)entity;
+
+		assertThat(batchResult.getIdentifiers(), is(asList(1L, 2L)));
+	}
+
+	private void _assertFailure(
+		Operation operation, Class<? extends Exception> exceptionClass) {
+
+		assertThat(operation.getEntityOptional(), is(emptyOptional()));
+		assertThat(
+			operation.getExceptionOptional(),
+			is(optionalWithValue(instanceOf(exceptionClass))));
+	}
+
+	private void _assertOperation(
+		Operation operation, String method, String path, int status,
+		Object entity) {
+
+		assertThat(operation.getMethod(), is(method));
+		assertThat(operation.getPath(), is(path));
+		assertThat(operation.getStatus(), is(status));
+		assertThat(
+			operation.getEntityOptional(), is(optionalWithValue(is(entity))));
+	}
+
+	private List<Operation> _batch(String body) {
+		_setBody(body);
+
+		Response response = _rootResource.batch();
+
+		MultiStatus multiStatus = (MultiStatus)response.getEntity();
+
+		return multiStatus.getOperations();
+	}
+
+	private ChunkedBatchResult _mockChunkedBatchResult() {
+		ChunkedBatchResult chunkedBatchResult = mock(ChunkedBatchResult.class);
+
+		when(
+			chunkedBatchResult.getIdentifiers()
+		).thenReturn(
+			asList(1L, 2L)
+		);
+
+		when(
+			chunkedBatchResult.toBatchResult()
+		).thenCallRealMethod();
+
+		return chunkedBatchResult;
+	}
+
+	private <T extends MessageMapper> T _mockMessageMapper(
+		Class<T> clazz, String mediaType) {
+
+		T messageMapper = mock(clazz);
+
+		when(
+			messageMapper.getMediaType()
+		).thenReturn(
+			mediaType
+		);
+
+		return messageMapper;
+	}
+
+	private Response _post(String name) {
+		NestedResource nestedResource = _rootResource.nestedResource(name);
+
+		return nestedResource.post();
+	}
+
+	private void _setBatchResultMessageMapper(
+		BatchResultMessageMapper<?> batchResultMessageMapper) {
+
+		when(
+			_batchResultMessageMapperManager.
+				getBatchResultMessageMapperOptional(any())
+		).thenReturn(
+			Optional.of(unsafeCast(batchResultMessageMapper))
+		);
+	}
+
+	private void _setBody(String body) {
+		InputStream inputStream = new ByteArrayInputStream(
+			body.getBytes(StandardCharsets.UTF_8));
+
+		Try.run(
+			() -> when(
+				_httpServletRequest.getInputStream()
+			).thenReturn(
+				new MockServletInputStream(inputStream)
+			));
+	}
+
+	private ActionManager _actionManager;
+	private BatchResultMessageMapperManager _batchResultMessageMapperManager;
+	private HttpServletRequest _httpServletRequest;
+	private ManagerCacheWarmer _managerCacheWarmer;
+	private RootResource _rootResource;
+
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.util.component.ComponentUtil.setReference;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import static uk.co.datumedge.hamcrest.json.SameJSONAs.sameJSONObjectAs;
+
+import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.MultiStatusMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONMultiStatusMessageMapper;
+import com.liferay.apio.architect.internal.message.json.problem.ProblemJSONErrorMessageMapper;
+import com.liferay.apio.architect.internal.response.MultiStatus;
+import com.liferay.apio.architect.internal.response.MultiStatus.Operation;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.MultiStatusMessageMapperManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+import javax.ws.rs.ext.Providers;
+
+import org.json.JSONObject;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MultiStatusMessageBodyWriterTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.putErrorMessageMapper(
+			MediaType.valueOf("application/problem+json"),
+			new ProblemJSONErrorMessageMapper());
+		INSTANCE.putMultiStatusMessageMapper(
+			APPLICATION_JSON_TYPE, new PlainJSONMultiStatusMessageMapper());
+
+		ExceptionMapperManager exceptionMapperManager = mock(
+			ExceptionMapperManager.class);
+
+		when(
+			exceptionMapperManager.map(any())
+		).thenReturn(
+			Optional.empty()
+		);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"name"
+		).stringValue(
+			"Apio"
+		);
+
+		BaseMessageBodyWriter baseMessageBodyWriter = mock(
+			BaseMessageBodyWriter.class);
+
+		when(
+			baseMessageBodyWriter.writeJSONObjectOptional(any(), any())
+		).thenReturn(
+			Optional.of(jsonObjectBuilder)
+		);
+
+		Providers providers = mock(Providers.class);
+
+		when(
+			providers.getMessageBodyWriter(any(), any(), any(), any())
+		).thenReturn(
+			baseMessageBodyWriter
+		);
+
+		_request = mock(Request.class);
+
+		when(
+			_request.selectVariant(any())
+		).thenAnswer(
+			invocation -> {
+				List<Variant> variants = unsafeCast(
+					invocation.getArguments()[0]);
+
+				Stream<Variant> stream = variants.stream();
+
+				return stream.filter(
+					variant -> APPLICATION_JSON_TYPE.isCompatible(
+						variant.getMediaType())
+				).findFirst(
+				).orElse(
+					null
+				);
+			}
+		);
+
+		_multiStatusMessageBodyWriter = new MultiStatusMessageBodyWriter();
+
+		setReference(
+			_multiStatusMessageBodyWriter, "_errorMessageMapperManager",
+			new ErrorMessageMapperManager());
+		setReference(
+			_multiStatusMessageBodyWriter, "_exceptionMapperManager",
+			exceptionMapperManager);
+		setReference(
+			_multiStatusMessageBodyWriter, "_multiStatusMessageMapperManager",
+			new MultiStatusMessageMapperManager());
+		setReference(_multiStatusMessageBodyWriter, "_providers", providers);
+		setReference(_multiStatusMessageBodyWriter, "_request", _request);
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testWriteWithJSONWritesEmptyBatches() {
+		String result = _write(new MultiStatus(Collections.emptyList()));
+
+		JSONObject jsonObject = new JSONObject("{\"responses\": []}");
+
+		assertThat(new JSONObject(result), is(sameJSONObjectAs(jsonObject)));
+	}
+
+	@Test
+	public void testWriteWithJSONWritesEveryOperation() {
+		HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+
+		MultiStatus multiStatus = new MultiStatus(
+			Arrays.asList(
+				Operation.success(
+					"GET", "/people/1", httpServletRequest, 200, new Object()),
+				Operation.failure(
+					"DELETE", "/people/2", httpServletRequest,
+					new NotFoundException())));
+
+		String result = _write(multiStatus);
+
+		JSONObject jsonObject = new JSONObject(
+			"{\"responses\": [{\"method\": \"GET\", \"path\": \"/people/1\", " +
+				"\"status\": 200, \"body\": {\"name\": \"Apio\"}}, " +
+				"{\"method\": \"DELETE\", \"path\": \"/people/2\", " +
+				"\"status\": 404}]}");
+
+		assertThat(new JSONObject(result), is(sameJSONObjectAs(jsonObject)));
+	}
+
+	private String _write(MultiStatus multiStatus) {
+		Optional<MultiStatusMessageMapper> optional =
+			_multiStatusMessageBodyWriter.getMessageMapperOptional(_request);
+
+		MultiStatusMessageMapper multiStatusMessageMapper = optional.get();
+
+		assertThat(
+			multiStatusMessageMapper.getMediaType(), is("application/json"));
+
+		return _multiStatusMessageBodyWriter.write(
+			multiStatus, multiStatusMessageMapper, null);
+	}
+
+	private MultiStatusMessageBodyWriter _multiStatusMessageBodyWriter;
+	private Request _request;
+
+}
\ No newline at end of file
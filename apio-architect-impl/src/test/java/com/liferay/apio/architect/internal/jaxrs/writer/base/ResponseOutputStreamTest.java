@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer.base;
+
+import static java.util.Collections.singletonList;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseOutputStreamTest {
+
+	@Test
+	public void testCloseWithoutCommitDiscardsEntity() throws IOException {
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(_outputStream, _httpHeaders)) {
+
+			responseOutputStream.writeUTF8("Apio");
+		}
+
+		assertThat(_outputStream.size(), is(0));
+		assertThat(_httpHeaders.get(CONTENT_LENGTH), is(nullValue()));
+	}
+
+	@Test
+	public void testCommitWritesEntityWithContentLength() throws IOException {
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(_outputStream, _httpHeaders)) {
+
+			responseOutputStream.writeUTF8("{\"name\":\"Apio\"}");
+
+			assertThat(_outputStream.size(), is(0));
+
+			responseOutputStream.commit();
+
+			assertFalse(responseOutputStream.isBuffering());
+		}
+
+		assertThat(_outputStream.toString("UTF-8"), is("{\"name\":\"Apio\"}"));
+		assertThat(_httpHeaders.get(CONTENT_LENGTH), is(singletonList(15)));
+	}
+
+	@Test
+	public void testFlushStreamsEntityWithoutContentLength()
+		throws IOException {
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(_outputStream, _httpHeaders)) {
+
+			responseOutputStream.writeUTF8("first");
+
+			responseOutputStream.flush();
+
+			assertFalse(responseOutputStream.isBuffering());
+			assertThat(_outputStream.toString("UTF-8"), is("first"));
+
+			responseOutputStream.writeUTF8("second");
+
+			responseOutputStream.commit();
+		}
+
+		assertThat(_outputStream.toString("UTF-8"), is("firstsecond"));
+		assertThat(_httpHeaders.get(CONTENT_LENGTH), is(nullValue()));
+	}
+
+	@Test
+	public void testLargeEntityIsStreamedWithoutContentLength()
+		throws IOException {
+
+		char[] chars = new char[ByteArrayPool.MAX_SIZE];
+
+		Arrays.fill(chars, '€');
+
+		String string = new String(chars);
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(_outputStream, _httpHeaders)) {
+
+			responseOutputStream.write('[');
+
+			assertTrue(responseOutputStream.isBuffering());
+
+			responseOutputStream.writeUTF8(string);
+
+			assertFalse(responseOutputStream.isBuffering());
+
+			responseOutputStream.write(']');
+
+			responseOutputStream.commit();
+		}
+
+		assertThat(
+			_outputStream.toByteArray(),
+			is(("[" + string + "]").getBytes(StandardCharsets.UTF_8)));
+		assertThat(_httpHeaders.get(CONTENT_LENGTH), is(nullValue()));
+	}
+
+	@Test
+	public void testWriteUTF8EncodesLikeStringGetBytes() throws IOException {
+		String string = "aé€😀\uD800b\uDC00";
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(_outputStream, _httpHeaders)) {
+
+			responseOutputStream.writeUTF8(string);
+
+			responseOutputStream.commit();
+		}
+
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+		assertThat(_outputStream.toByteArray(), is(bytes));
+		assertThat(
+			_httpHeaders.get(CONTENT_LENGTH),
+			is(singletonList(bytes.length)));
+	}
+
+	@Test
+	public void testWriteUTF8KeepsSurrogatePairsWhenStreaming()
+		throws IOException {
+
+		StringBuilder sb = new StringBuilder();
+
+		while (sb.length() < ByteArrayPool.MAX_SIZE) {
+			sb.append("a😀");
+		}
+
+		String string = sb.toString();
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(_outputStream, _httpHeaders)) {
+
+			responseOutputStream.writeUTF8(string);
+
+			responseOutputStream.commit();
+		}
+
+		assertThat(
+			_outputStream.toByteArray(),
+			is(string.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testWriteUTF8StreamsLargeEntitiesInLargeChunks()
+		throws IOException {
+
+		AtomicInteger writes = new AtomicInteger();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream() {
+
+				@Override
+				public synchronized void write(
+					byte[] bytes, int offset, int length) {
+
+					writes.incrementAndGet();
+
+					super.write(bytes, offset, length);
+				}
+
+			};
+
+		char[] chars = new char[ByteArrayPool.MAX_SIZE + 1];
+
+		Arrays.fill(chars, 'a');
+
+		String string = new String(chars);
+
+		try (ResponseOutputStream responseOutputStream =
+				new ResponseOutputStream(
+					byteArrayOutputStream, _httpHeaders)) {
+
+			responseOutputStream.writeUTF8(string);
+
+			responseOutputStream.commit();
+		}
+
+		assertThat(
+			byteArrayOutputStream.toByteArray(),
+			is(string.getBytes(StandardCharsets.UTF_8)));
+		assertThat(writes.get(), is(9));
+	}
+
+	private final MultivaluedMap<String, Object> _httpHeaders =
+		new MultivaluedHashMap<>();
+	private final ByteArrayOutputStream _outputStream =
+		new ByteArrayOutputStream();
+
+}
\ No newline at end of file
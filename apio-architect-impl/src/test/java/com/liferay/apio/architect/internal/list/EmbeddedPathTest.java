@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.list;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddedPathTest {
+
+	@Test
+	public void testMiddleIsParentTail() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		Optional<EmbeddedPath> optional = embeddedPath.getParentOptional();
+
+		EmbeddedPath parentEmbeddedPath = optional.get();
+
+		assertThat(
+			embeddedPath.middle(), is(sameInstance(parentEmbeddedPath.tail())));
+	}
+
+	@Test
+	public void testRetrievingArrayFromMultiElementPathReturnsAllElements() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(
+			embeddedPath.toArray(),
+			arrayContaining("element1", "element2", "element3", "element4"));
+	}
+
+	@Test
+	public void testRetrievingArrayTwiceReturnsSameInstance() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(
+			embeddedPath.toArray(), is(sameInstance(embeddedPath.toArray())));
+		assertThat(embeddedPath.tail(), is(sameInstance(embeddedPath.tail())));
+	}
+
+	@Test
+	public void testRetrievingDepthFromMultiElementPathReturnsSize() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(embeddedPath.getDepth(), is(4));
+	}
+
+	@Test
+	public void testRetrievingDepthFromOneElementPathReturnsOne() {
+		EmbeddedPath embeddedPath = new EmbeddedPath(null, "test");
+
+		assertThat(embeddedPath.getDepth(), is(1));
+	}
+
+	@Test
+	public void testRetrievingHeadFromMultiElementPathReturnsFirstElement() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(embeddedPath.head(), is("element1"));
+	}
+
+	@Test
+	public void testRetrievingHeadFromOneElementPathReturnsElement() {
+		EmbeddedPath embeddedPath = new EmbeddedPath(null, "test");
+
+		assertThat(embeddedPath.head(), is("test"));
+	}
+
+	@Test
+	public void testRetrievingLastFromMultiElementPathReturnsLastElement() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		Optional<String> optional = embeddedPath.lastOptional();
+
+		assertThat(optional, optionalWithValue(equalTo("element4")));
+	}
+
+	@Test
+	public void testRetrievingLastFromOneElementPathReturnsEmpty() {
+		EmbeddedPath embeddedPath = new EmbeddedPath(null, "test");
+
+		Optional<String> optional = embeddedPath.lastOptional();
+
+		assertThat(optional, emptyOptional());
+	}
+
+	@Test
+	public void testRetrievingMiddleFromMultiElementPathReturnsMiddleArray() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(
+			embeddedPath.middle(), arrayContaining("element2", "element3"));
+	}
+
+	@Test
+	public void testRetrievingMiddleFromOneElementPathReturnsEmptyArray() {
+		EmbeddedPath embeddedPath = new EmbeddedPath(null, "test");
+
+		assertThat(embeddedPath.middle(), is(emptyArray()));
+	}
+
+	@Test
+	public void testRetrievingParentFromOneElementPathReturnsEmpty() {
+		EmbeddedPath embeddedPath = new EmbeddedPath(null, "test");
+
+		assertThat(embeddedPath.getParentOptional(), emptyOptional());
+	}
+
+	@Test
+	public void testRetrievingTailFromMultiElementPathReturnsTailArray() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(
+			embeddedPath.tail(),
+			arrayContaining("element2", "element3", "element4"));
+	}
+
+	@Test
+	public void testRetrievingTailFromOneElementPathReturnsEmptyArray() {
+		EmbeddedPath embeddedPath = new EmbeddedPath(null, "test");
+
+		assertThat(embeddedPath.tail(), is(emptyArray()));
+	}
+
+	@Test
+	public void testToStringIsComputedOnce() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(
+			embeddedPath.toString(), is(sameInstance(embeddedPath.toString())));
+	}
+
+	@Test
+	public void testToStringJoinsElementsWithDots() {
+		EmbeddedPath embeddedPath = _getEmbeddedPath();
+
+		assertThat(
+			embeddedPath.toString(), is("element1.element2.element3.element4"));
+	}
+
+	private EmbeddedPath _getEmbeddedPath() {
+		EmbeddedPath embeddedPath1 = new EmbeddedPath(null, "element1");
+
+		EmbeddedPath embeddedPath2 = new EmbeddedPath(
+			embeddedPath1, "element2");
+
+		EmbeddedPath embeddedPath3 = new EmbeddedPath(
+			embeddedPath2, "element3");
+
+		return new EmbeddedPath(embeddedPath3, "element4");
+	}
+
+}
\ No newline at end of file
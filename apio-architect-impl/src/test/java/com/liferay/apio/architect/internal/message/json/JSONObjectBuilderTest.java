@@ -14,8 +14,20 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import static org.hamcrest.CoreMatchers.containsString;
+
+import static org.junit.Assert.assertThat;
+
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.math.BigDecimal;
+
 import java.util.Arrays;
 
 import org.json.JSONException;
@@ -45,6 +57,25 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingAddAllPrimitivesOnAnArrayValueCreatesAJsonArray()
+		throws JSONException {
+
+		JSONObjectBuilder.ArrayValueStep arrayValueStep =
+			_jsonObjectBuilder.field(
+				"array"
+			).arrayValue();
+
+		arrayValueStep.addAllLongs(new long[] {21L, 42L});
+		arrayValueStep.addAllDoubles(new double[] {0.5, 1.5});
+		arrayValueStep.addLong(7L);
+		arrayValueStep.addDouble(2.5);
+
+		String expected = "{'array': [21, 42, 0.5, 1.5, 7, 2.5]}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingAddConsumerCreatesAValidJsonArray()
 		throws JSONException {
@@ -132,6 +163,32 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingArrayValueAfterFragmentValueDoesNotModifyIt()
+		throws JSONException {
+
+		JSONFragment jsonFragment = JSONFragment.stringsFragment(
+			Arrays.asList("first", "second"));
+
+		_jsonObjectBuilder.field(
+			"array"
+		).fragmentValue(
+			jsonFragment
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).addString(
+			"third"
+		);
+
+		String expected = "{'array': ['first', 'second', 'third']}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+		assertEquals("['first', 'second']", jsonFragment.toString(), true);
+	}
+
 	@Test
 	public void testInvokingArrayValueCreatesAJsonArray() throws JSONException {
 		_jsonObjectBuilder.field(
@@ -172,6 +229,33 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingBuildWithCBORFactoryEncodesTheSameObject()
+		throws Exception {
+
+		_assertBinaryEncoding(new CBORFactory());
+	}
+
+	@Test
+	public void testInvokingBuildWithSmileFactoryEncodesTheSameObject()
+		throws Exception {
+
+		_assertBinaryEncoding(new SmileFactory());
+	}
+
+	@Test
+	public void testInvokingDoubleValueCreatesANumber() throws JSONException {
+		_jsonObjectBuilder.field(
+			"solution"
+		).doubleValue(
+			42.5
+		);
+
+		String expected = "{'solution': 42.5}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingFalseIfElseConditionCreatesACorrectField()
 		throws JSONException {
@@ -309,6 +393,33 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingFieldOnAFragmentBuilderKeepsTheFragment()
+		throws JSONException {
+
+		_jsonObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		JSONFragment jsonFragment = _jsonObjectBuilder.toJSONFragment();
+
+		JSONObjectBuilder jsonObjectBuilder = JSONObjectBuilder.of(
+			jsonFragment);
+
+		jsonObjectBuilder.field(
+			"other"
+		).stringValue(
+			"value"
+		);
+
+		assertEquals(
+			"{'other': 'value', 'solution': 42}", jsonObjectBuilder.build(),
+			true);
+		assertEquals("{'solution': 42}", jsonFragment.toString(), true);
+	}
+
 	@Test
 	public void testInvokingFieldsWithConsumersCreatesAValidJsonObject()
 		throws JSONException {
@@ -333,6 +444,67 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingFragmentValueCreatesTheFragment()
+		throws JSONException {
+
+		JSONFragment jsonFragment = JSONFragment.arrayFragment(
+			arrayValueStep -> {
+				arrayValueStep.add(
+					builder -> builder.field(
+						"solution"
+					).numberValue(
+						42
+					));
+				arrayValueStep.addString("apio");
+			});
+
+		_jsonObjectBuilder.nestedField(
+			"first", "array"
+		).fragmentValue(
+			jsonFragment
+		);
+
+		String expected = "{'first': {'array': [{'solution': 42}, 'apio']}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingFragmentValueOnAnArrayAddsTheFragmentElements()
+		throws JSONException {
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).addString(
+			"first"
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).fragmentValue(
+			JSONFragment.stringsFragment(Arrays.asList("second", "third"))
+		);
+
+		String expected = "{'array': ['first', 'second', 'third']}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingLongValueCreatesANumber() throws JSONException {
+		_jsonObjectBuilder.field(
+			"solution"
+		).longValue(
+			4242424242L
+		);
+
+		String expected = "{'solution': 4242424242}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingNestedFieldCreatesACorrectNestedField()
 		throws JSONException {
@@ -395,6 +567,53 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingNumberValueWithABigDecimalKeepsItsScale() {
+		_jsonObjectBuilder.field(
+			"price"
+		).numberValue(
+			new BigDecimal("1.50")
+		);
+
+		assertThat(_jsonObjectBuilder.build(), containsString("1.50"));
+	}
+
+	@Test
+	public void testInvokingObjectBuilderWritesInsideTheFieldObject()
+		throws JSONException {
+
+		_jsonObjectBuilder.nestedField(
+			"first", "second"
+		).field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		JSONObjectBuilder.FieldStep fieldStep = _jsonObjectBuilder.nestedField(
+			"first", "second");
+
+		JSONObjectBuilder jsonObjectBuilder = fieldStep.objectBuilder();
+
+		jsonObjectBuilder.field(
+			"other"
+		).stringValue(
+			"forty-two"
+		);
+
+		jsonObjectBuilder.nestedField(
+			"third", "fourth"
+		).booleanValue(
+			true
+		);
+
+		String expected =
+			"{'first': {'second': {'other': 'forty-two', 'solution': 42, " +
+				"'third': {'fourth': true}}}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingStringValueCreatesAString() throws JSONException {
 		_jsonObjectBuilder.field(
@@ -408,6 +627,36 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingToJSONFragmentSplicesTheObjectInArrays()
+		throws JSONException {
+
+		_jsonObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			JSONObjectBuilder.of(_jsonObjectBuilder.toJSONFragment())
+		);
+
+		_jsonObjectBuilder.field(
+			"other"
+		).stringValue(
+			"value"
+		);
+
+		String expected = "{'elements': [{'solution': 42}]}";
+
+		assertEquals(expected, jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingTrueIfElseConditionCreatesACorrectField()
 		throws JSONException {
@@ -424,6 +673,45 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	private void _assertBinaryEncoding(JsonFactory jsonFactory)
+		throws Exception {
+
+		_jsonObjectBuilder.nestedField(
+			"first", "second"
+		).field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"list"
+		).arrayValue(
+		).addAllStrings(
+			Arrays.asList("one", "two")
+		);
+
+		_jsonObjectBuilder.field(
+			"types"
+		).fragmentValue(
+			JSONFragment.stringsFragment(Arrays.asList("Thing", "Action"))
+		);
+
+		_jsonObjectBuilder.field(
+			"valid"
+		).booleanValue(
+			true
+		);
+
+		byte[] bytes = _jsonObjectBuilder.build(jsonFactory);
+
+		ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+
+		JsonNode jsonNode = objectMapper.readTree(bytes);
+
+		assertEquals(_jsonObjectBuilder.build(), jsonNode.toString(), true);
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder =
 		new JSONObjectBuilder();
 
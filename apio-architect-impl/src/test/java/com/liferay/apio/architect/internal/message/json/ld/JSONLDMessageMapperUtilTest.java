@@ -16,11 +16,16 @@ package com.liferay.apio.architect.internal.message.json.ld;
 
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionId;
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypesJSONFragment;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.message.json.JSONFragment;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.resource.Resource.Nested;
 import com.liferay.apio.architect.resource.Resource.Paged;
@@ -30,6 +35,8 @@ import java.lang.reflect.InvocationTargetException;
 
 import java.util.List;
 
+import org.json.JSONException;
+
 import org.junit.Test;
 
 /**
@@ -84,4 +91,17 @@ public class JSONLDMessageMapperUtilTest {
 		assertThat(retrieveTypes, contains("Operation"));
 	}
 
+	@Test
+	public void testGetActionTypesJSONFragmentIsCreatedOncePerActionName()
+		throws JSONException {
+
+		JSONFragment jsonFragment = getActionTypesJSONFragment("create");
+
+		assertThat(
+			jsonFragment, is(sameInstance(getActionTypesJSONFragment("create"))));
+
+		assertEquals(
+			"['CreateAction', 'Operation']", jsonFragment.toString(), true);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.permission;
+
+import static com.liferay.apio.architect.operation.HTTPMethod.GET;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.liferay.apio.architect.annotation.Permissions.CachedDecisions;
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import io.vavr.CheckedFunction0;
+
+import java.lang.annotation.Annotation;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PermissionDecisionCacheImplTest {
+
+	@Before
+	public void setUp() {
+		_permissionDecisionCacheImpl = new PermissionDecisionCacheImpl();
+
+		_permissionDecisionCacheImpl.activate(Collections.emptyMap());
+	}
+
+	@Test
+	public void testDecideCachesNegativeDecisionsByDefault() throws Throwable {
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), false);
+		_decide(actionSemantics, _item(1L), _credentials("user"), false);
+
+		assertThat(_invocations.get(), is(1));
+	}
+
+	@Test
+	public void testDecideCachesPositiveDecisions() throws Throwable {
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(false, 60));
+
+		boolean first = _decide(
+			actionSemantics, _item(1L), _credentials("user"), true);
+		boolean second = _decide(
+			actionSemantics, _item(1L), _credentials("user"), false);
+
+		assertThat(first, is(true));
+		assertThat(second, is(true));
+		assertThat(_invocations.get(), is(1));
+	}
+
+	@Test
+	public void testDecideDoesNotCacheNegativeDecisionsIfDisabled()
+		throws Throwable {
+
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(false, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), false);
+
+		boolean allowed = _decide(
+			actionSemantics, _item(1L), _credentials("user"), true);
+
+		assertThat(allowed, is(true));
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testDecideDoesNotCacheWithoutAnnotation() throws Throwable {
+		ActionSemantics actionSemantics = _createActionSemantics();
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testDecideDoesNotCacheWithZeroMaxTimeToLive()
+		throws Throwable {
+
+		_permissionDecisionCacheImpl.activate(
+			Collections.singletonMap("max.time.to.live", 0L));
+
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testDecideKeysDecisionsByCredentialsAndId() throws Throwable {
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(2L), _credentials("user"), true);
+		_decide(actionSemantics, _item(1L), _credentials("other"), true);
+
+		assertThat(_invocations.get(), is(3));
+	}
+
+	@Test
+	public void testInvalidateByCredentialsRemovesTheirDecisions()
+		throws Throwable {
+
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(1L), _credentials("other"), true);
+
+		_permissionDecisionCacheImpl.invalidate(_credentials("user"));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(1L), _credentials("other"), true);
+
+		assertThat(_invocations.get(), is(3));
+	}
+
+	@Test
+	public void testInvalidateByResourceIdRemovesItsDecisions()
+		throws Throwable {
+
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(2L), _credentials("user"), true);
+
+		_permissionDecisionCacheImpl.invalidate("name", 1L);
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+		_decide(actionSemantics, _item(2L), _credentials("user"), true);
+
+		assertThat(_invocations.get(), is(3));
+	}
+
+	@Test
+	public void testInvalidateDuringDecisionPreventsItFromBeingCached()
+		throws Throwable {
+
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		Thread thread = new Thread(
+			() -> _permissionDecisionCacheImpl.invalidate(
+				_credentials("user")));
+
+		boolean allowed = _permissionDecisionCacheImpl.decide(
+			actionSemantics, _item(1L), () -> _credentials("user"),
+			() -> {
+				_invocations.incrementAndGet();
+
+				thread.start();
+
+				thread.join();
+
+				return true;
+			});
+
+		assertThat(allowed, is(true));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), false);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	@Test
+	public void testInvalidateRemovesAllDecisions() throws Throwable {
+		ActionSemantics actionSemantics = _createActionSemantics(
+			_cachedDecisions(true, 60));
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+
+		_permissionDecisionCacheImpl.invalidate();
+
+		_decide(actionSemantics, _item(1L), _credentials("user"), true);
+
+		assertThat(_invocations.get(), is(2));
+	}
+
+	private static CachedDecisions _cachedDecisions(
+		boolean negative, long timeToLive) {
+
+		return new CachedDecisions() {
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return CachedDecisions.class;
+			}
+
+			@Override
+			public boolean negative() {
+				return negative;
+			}
+
+			@Override
+			public long timeToLive() {
+				return timeToLive;
+			}
+
+		};
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Annotation... annotations) {
+
+		return ActionSemantics.ofResource(
+			Item.of("name")
+		).name(
+			"retrieve"
+		).method(
+			GET
+		).returns(
+			Void.class
+		).permissionFunction(
+		).executeFunction(
+			params -> null
+		).annotatedWith(
+			annotations
+		).build();
+	}
+
+	private static Credentials _credentials(String value) {
+		return () -> value;
+	}
+
+	private static Item _item(long id) {
+		return Item.of("name", Id.of(id, String.valueOf(id)));
+	}
+
+	private boolean _decide(
+			ActionSemantics actionSemantics, Resource resource,
+			Credentials credentials, boolean allowed)
+		throws Throwable {
+
+		CheckedFunction0<Boolean> permissionCheckedFunction0 = () -> {
+			_invocations.incrementAndGet();
+
+			return allowed;
+		};
+
+		return _permissionDecisionCacheImpl.decide(
+			actionSemantics, resource, () -> credentials,
+			permissionCheckedFunction0);
+	}
+
+	private final AtomicInteger _invocations = new AtomicInteger();
+	private PermissionDecisionCacheImpl _permissionDecisionCacheImpl;
+
+}
\ No newline at end of file
@@ -24,6 +24,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.representor.DoubleFieldFunction;
+import com.liferay.apio.architect.alias.representor.LongFieldFunction;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.related.RelatedCollectionImpl;
@@ -98,6 +100,12 @@ public class RepresentorTest {
 			"date2", dummy -> dummy.date2
 		).addDate(
 			"nullDate", __ -> null
+		).addDouble(
+			"double1", __ -> 1.5
+		).addDoubleList(
+			"doubleList1", __ -> new double[] {0.5, 1.5}
+		).addInt(
+			"int1", dummy -> dummy.id
 		).addLink(
 			"link1", "Link 1"
 		).addLink(
@@ -110,6 +118,10 @@ public class RepresentorTest {
 			"localized1", Dummy::getLocalizedString1
 		).addLocalizedStringByLocale(
 			"localized2", Dummy::getLocalizedString2
+		).addLong(
+			"long1", __ -> 4242424242L
+		).addLongList(
+			"longList1", __ -> new long[] {1L, 2L}
 		).addNumber(
 			"number1", dummy -> dummy.number1
 		).addNumber(
@@ -223,6 +235,43 @@ public class RepresentorTest {
 			asList(asList("a", "b", "c", "d"), asList("e", "f", "g", "h")));
 	}
 
+	@Test
+	public void testPrimitiveNumberFunctions() {
+		List<DoubleFieldFunction<Dummy>> doubleFieldFunctions =
+			_representor.getDoubleFunctions();
+
+		assertThat(doubleFieldFunctions, hasSize(1));
+
+		DoubleFieldFunction<Dummy> doubleFieldFunction =
+			doubleFieldFunctions.get(0);
+
+		assertThat(doubleFieldFunction.getKey(), is("double1"));
+		assertThat(doubleFieldFunction.applyAsDouble(_dummy), is(1.5));
+
+		List<LongFieldFunction<Dummy>> longFieldFunctions =
+			_representor.getLongFunctions();
+
+		assertThat(longFieldFunctions, hasSize(2));
+
+		LongFieldFunction<Dummy> intFieldFunction = longFieldFunctions.get(0);
+
+		assertThat(intFieldFunction.getKey(), is("int1"));
+		assertThat(intFieldFunction.applyAsLong(_dummy), is(23L));
+
+		LongFieldFunction<Dummy> longFieldFunction = longFieldFunctions.get(1);
+
+		assertThat(longFieldFunction.getKey(), is("long1"));
+		assertThat(longFieldFunction.applyAsLong(_dummy), is(4242424242L));
+
+		testFields(
+			_dummy, _representor.getDoubleListFunctions(),
+			asList("doubleList1"), asList(new double[] {0.5, 1.5}));
+
+		testFields(
+			_dummy, _representor.getLongListFunctions(), asList("longList1"),
+			asList(new long[] {1L, 2L}));
+	}
+
 	@Test
 	public void testRelatedCollections() {
 		Stream<RelatedCollection<Dummy, ?>> relatedCollections =
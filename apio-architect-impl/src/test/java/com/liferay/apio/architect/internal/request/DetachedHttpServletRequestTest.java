@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static java.util.Collections.emptyEnumeration;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import java.security.Principal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class DetachedHttpServletRequestTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = Mockito.mock(HttpServletRequest.class);
+
+		Mockito.when(
+			_httpServletRequest.getAttributeNames()
+		).thenReturn(
+			emptyEnumeration()
+		);
+
+		Mockito.when(
+			_httpServletRequest.getHeaderNames()
+		).thenReturn(
+			enumeration(singletonList("If-Modified-Since"))
+		);
+
+		Mockito.when(
+			_httpServletRequest.getHeaders("If-Modified-Since")
+		).thenReturn(
+			enumeration(singletonList("Sun, 06 Nov 1994 08:49:37 GMT"))
+		);
+
+		Mockito.when(
+			_httpServletRequest.getLocales()
+		).thenReturn(
+			emptyEnumeration()
+		);
+	}
+
+	@Test
+	public void testAuthenticationInformationIsCopied() {
+		Principal principal = () -> "Apio";
+
+		Mockito.when(
+			_httpServletRequest.getAuthType()
+		).thenReturn(
+			HttpServletRequest.BASIC_AUTH
+		);
+
+		Mockito.when(
+			_httpServletRequest.getRemoteAddr()
+		).thenReturn(
+			"127.0.0.1"
+		);
+
+		Mockito.when(
+			_httpServletRequest.getRemoteUser()
+		).thenReturn(
+			"Apio"
+		);
+
+		Mockito.when(
+			_httpServletRequest.getUserPrincipal()
+		).thenReturn(
+			principal
+		);
+
+		HttpServletRequest detachedHttpServletRequest =
+			new DetachedHttpServletRequest(_httpServletRequest);
+
+		Mockito.reset(_httpServletRequest);
+
+		assertThat(
+			detachedHttpServletRequest.getAuthType(),
+			is(HttpServletRequest.BASIC_AUTH));
+		assertThat(detachedHttpServletRequest.getRemoteAddr(), is("127.0.0.1"));
+		assertThat(detachedHttpServletRequest.getRemoteUser(), is("Apio"));
+		assertThat(
+			detachedHttpServletRequest.getUserPrincipal(),
+			is(sameInstance(principal)));
+	}
+
+	@Test
+	public void testCookiesAndSessionAreCopied() {
+		Cookie cookie = new Cookie("name", "value");
+		HttpSession httpSession = Mockito.mock(HttpSession.class);
+
+		Mockito.when(
+			_httpServletRequest.getCookies()
+		).thenReturn(
+			new Cookie[] {cookie}
+		);
+
+		Mockito.when(
+			_httpServletRequest.getSession(false)
+		).thenReturn(
+			httpSession
+		);
+
+		HttpServletRequest detachedHttpServletRequest =
+			new DetachedHttpServletRequest(_httpServletRequest);
+
+		Mockito.reset(_httpServletRequest);
+
+		Cookie[] cookies = detachedHttpServletRequest.getCookies();
+
+		assertThat(cookies.length, is(1));
+		assertThat(cookies[0], is(sameInstance(cookie)));
+		assertThat(
+			_getFromOtherThread(detachedHttpServletRequest::getSession),
+			is(sameInstance(httpSession)));
+	}
+
+	@Test
+	public void testDateHeaderIsReadFromTheCopiedHeaders() {
+		HttpServletRequest detachedHttpServletRequest =
+			new DetachedHttpServletRequest(_httpServletRequest);
+
+		assertThat(
+			detachedHttpServletRequest.getDateHeader("if-modified-since"),
+			is(784111777000L));
+		assertThat(detachedHttpServletRequest.getDateHeader("Date"), is(-1L));
+	}
+
+	@Test
+	public void testSessionAndRolesAreDelegatedOnTheRequestThread() {
+		HttpSession httpSession = Mockito.mock(HttpSession.class);
+
+		Mockito.when(
+			_httpServletRequest.getSession(true)
+		).thenReturn(
+			httpSession
+		);
+
+		Mockito.when(
+			_httpServletRequest.isUserInRole("Administrator")
+		).thenReturn(
+			true
+		);
+
+		HttpServletRequest detachedHttpServletRequest =
+			new DetachedHttpServletRequest(_httpServletRequest);
+
+		assertThat(
+			detachedHttpServletRequest.getSession(),
+			is(sameInstance(httpSession)));
+		assertThat(
+			detachedHttpServletRequest.isUserInRole("Administrator"),
+			is(true));
+	}
+
+	@Test
+	public void testSessionAndRolesAreNotDelegatedFromOtherThreads() {
+		Mockito.when(
+			_httpServletRequest.getSession(true)
+		).thenReturn(
+			Mockito.mock(HttpSession.class)
+		);
+
+		Mockito.when(
+			_httpServletRequest.isUserInRole("Administrator")
+		).thenReturn(
+			true
+		);
+
+		HttpServletRequest detachedHttpServletRequest =
+			new DetachedHttpServletRequest(_httpServletRequest);
+
+		assertThat(
+			_getFromOtherThread(detachedHttpServletRequest::getSession),
+			is(nullValue()));
+		assertThat(
+			_getFromOtherThread(
+				() -> detachedHttpServletRequest.isUserInRole("Administrator")),
+			is(false));
+	}
+
+	private static <T> T _getFromOtherThread(Supplier<T> supplier) {
+		CompletableFuture<T> completableFuture =
+			CompletableFuture.supplyAsync(supplier);
+
+		return completableFuture.join();
+	}
+
+	private HttpServletRequest _httpServletRequest;
+
+}
\ No newline at end of file
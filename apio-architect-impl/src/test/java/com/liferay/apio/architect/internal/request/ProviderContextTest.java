@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import io.vavr.control.Try;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderContextTest {
+
+	@Before
+	public void setUp() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		_providerContext = ProviderContext.getProviderContext(
+			httpServletRequest);
+	}
+
+	@Test
+	public void testGetProviderContextReturnsTheContextOfTheRequest() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(ProviderContext.class.getName())
+		).thenReturn(
+			_providerContext
+		);
+
+		ProviderContext providerContext = ProviderContext.getProviderContext(
+			httpServletRequest);
+
+		assertThat(providerContext, is(sameInstance(_providerContext)));
+	}
+
+	@Test
+	public void testProvideInvokesTheSupplierOnlyOnce() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(
+				_providerContext.provide(
+					String.class,
+					() -> "Apio " + atomicInteger.incrementAndGet()),
+				is(optionalWithValue(is("Apio 1"))));
+		}
+
+		assertThat(atomicInteger.get(), is(1));
+		assertThat(_providerContext.getInvocationCount(), is(1));
+		assertThat(_providerContext.getInvocationCount(String.class), is(1));
+		assertThat(_providerContext.getInvocationCount(Long.class), is(0));
+		assertThat(_providerContext.getLookupCount(), is(3));
+	}
+
+	@Test
+	public void testProvideInvokesTheSupplierOnlyOnceForConcurrentCalls()
+		throws Exception {
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Supplier<Optional<String>> supplier = () -> _providerContext.provide(
+			String.class,
+			() -> Try.of(
+				() -> countDownLatch.await(5, TimeUnit.SECONDS)
+			).map(
+				__ -> "Apio"
+			).get());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Optional<String>> future1 = executorService.submit(
+				supplier::get);
+			Future<Optional<String>> future2 = executorService.submit(
+				supplier::get);
+
+			while (_providerContext.getLookupCount() < 2) {
+				Thread.yield();
+			}
+
+			countDownLatch.countDown();
+
+			assertThat(future1.get(), is(optionalWithValue(is("Apio"))));
+			assertThat(future2.get(), is(optionalWithValue(is("Apio"))));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(_providerContext.getInvocationCount(String.class), is(1));
+		assertThat(_providerContext.getLookupCount(), is(2));
+	}
+
+	@Test
+	public void testProvideInvokesTheSupplierOutsideOfTheContext() {
+		Optional<String> optional = _providerContext.provide(
+			String.class,
+			() -> {
+				Optional<Long> longOptional = _providerContext.provide(
+					Long.class, () -> 42L);
+
+				return "Apio " + longOptional.get();
+			});
+
+		assertThat(optional, is(optionalWithValue(is("Apio 42"))));
+		assertThat(
+			_providerContext.provide(Long.class, () -> 0L),
+			is(optionalWithValue(is(42L))));
+	}
+
+	@Test
+	public void testProvideMemoizesNullValuesAsEmpty() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(
+				_providerContext.provide(
+					String.class,
+					() -> {
+						atomicInteger.incrementAndGet();
+
+						return null;
+					}),
+				is(emptyOptional()));
+		}
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testProvideRetriesTheSupplierIfItFails() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		assertThat(
+			() -> _providerContext.provide(
+				String.class,
+				() -> {
+					atomicInteger.incrementAndGet();
+
+					throw new IllegalStateException();
+				}),
+			failsWith(IllegalStateException.class));
+
+		assertThat(
+			_providerContext.provide(
+				String.class, () -> "Apio " + atomicInteger.incrementAndGet()),
+			is(optionalWithValue(is("Apio 2"))));
+
+		assertThat(atomicInteger.get(), is(2));
+		assertThat(_providerContext.getInvocationCount(String.class), is(2));
+	}
+
+	private ProviderContext _providerContext;
+
+}
\ No newline at end of file
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.request;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import io.vavr.control.Try;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescerTest {
+
+	@Before
+	public void setUp() {
+		_requestCoalescer.activate(_getProperties(true, 5000));
+	}
+
+	@After
+	public void tearDown() {
+		_leaderLatch.countDown();
+
+		_executorService.shutdownNow();
+
+		_requestCoalescer.deactivate();
+	}
+
+	@Test
+	public void testActivatePublishesTheMetricsAsAnMBean() throws Throwable {
+		_requestCoalescer.coalesce("key", this::_compute);
+
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		ObjectName objectName = new ObjectName(
+			"com.liferay.apio.architect:type=RequestCoalescer");
+
+		assertThat(
+			mBeanServer.getAttribute(objectName, "ExecutedCount"), is(1L));
+		assertThat(mBeanServer.getAttribute(objectName, "Enabled"), is(true));
+
+		_requestCoalescer.deactivate();
+
+		assertThat(mBeanServer.isRegistered(objectName), is(false));
+
+		_requestCoalescer.activate(_getProperties(true, 5000));
+	}
+
+	@Test
+	public void testCoalesceExecutesEveryComputationIfDisabled()
+		throws Throwable {
+
+		_modify(false, 5000);
+
+		assertThat(_requestCoalescer.coalesce("key", this::_compute), is(1));
+		assertThat(_requestCoalescer.coalesce("key", this::_compute), is(2));
+		assertThat(_requestCoalescer.getExecutedCount(), is(0L));
+	}
+
+	@Test
+	public void testCoalesceExecutesComputationsOfDifferentKeys()
+		throws Throwable {
+
+		assertThat(_requestCoalescer.coalesce("key1", this::_compute), is(1));
+		assertThat(_requestCoalescer.coalesce("key2", this::_compute), is(2));
+		assertThat(_requestCoalescer.getCoalescedCount(), is(0L));
+		assertThat(_requestCoalescer.getExecutedCount(), is(2L));
+	}
+
+	@Test
+	public void testCoalesceExecutesFollowerIfInterrupted() throws Exception {
+		_submitLeader();
+
+		Thread followerThread = _startFollower();
+
+		_awaitWaiting(followerThread);
+
+		followerThread.interrupt();
+
+		followerThread.join();
+
+		assertThat(_followerInterrupted.get(), is(true));
+		assertThat(_followerResult.get(), is(1));
+		assertThat(_requestCoalescer.getCoalescedCount(), is(0L));
+	}
+
+	@Test
+	public void testCoalesceExecutesFollowerIfLeaderFails() throws Exception {
+		Future<?> leaderFuture = _executorService.submit(
+			() -> Try.of(
+				() -> _requestCoalescer.coalesce(
+					"key",
+					() -> {
+						_awaitLeaderLatch();
+
+						throw new IllegalStateException();
+					})
+			).get());
+
+		Thread followerThread = _startFollower();
+
+		_awaitWaiting(followerThread);
+
+		_leaderLatch.countDown();
+
+		followerThread.join();
+
+		assertThat(_followerResult.get(), is(1));
+		assertThat(_requestCoalescer.getCoalescedCount(), is(0L));
+		assertThat(_requestCoalescer.getExecutedCount(), is(2L));
+
+		_assertFails(leaderFuture);
+	}
+
+	@Test
+	public void testCoalesceExecutesFollowerIfLeaderTimesOut()
+		throws Exception {
+
+		_modify(true, 10);
+
+		_submitLeader();
+
+		Thread followerThread = _startFollower();
+
+		followerThread.join();
+
+		assertThat(_followerResult.get(), is(1));
+		assertThat(_requestCoalescer.getTimedOutCount(), is(1L));
+	}
+
+	@Test
+	public void testCoalesceSharesTheLeaderResult() throws Exception {
+		Future<Integer> leaderFuture = _submitLeader();
+
+		Thread followerThread = _startFollower();
+
+		_awaitWaiting(followerThread);
+
+		_leaderLatch.countDown();
+
+		followerThread.join();
+
+		assertThat(leaderFuture.get(), is(42));
+		assertThat(_followerResult.get(), is(42));
+		assertThat(_counter.get(), is(0));
+		assertThat(_requestCoalescer.getCoalescedCount(), is(1L));
+		assertThat(_requestCoalescer.getCoalesceRatio(), is(0.5));
+		assertThat(_requestCoalescer.getExecutedCount(), is(1L));
+	}
+
+	@Test
+	public void testModifiedKeepsTheMetrics() throws Throwable {
+		_requestCoalescer.coalesce("key", this::_compute);
+
+		_modify(true, 10);
+
+		assertThat(_requestCoalescer.getExecutedCount(), is(1L));
+	}
+
+	private static void _assertFails(Future<?> future) {
+		try {
+			future.get();
+		}
+		catch (Exception e) {
+			return;
+		}
+
+		throw new AssertionError("The leader should have failed");
+	}
+
+	private static void _awaitWaiting(Thread thread)
+		throws InterruptedException {
+
+		while ((thread.getState() != Thread.State.TIMED_WAITING) &&
+			   thread.isAlive()) {
+
+			Thread.sleep(1);
+		}
+	}
+
+	private static Map<String, Object> _getProperties(
+		boolean enabled, long timeout) {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("enabled", enabled);
+		properties.put("timeout", timeout);
+
+		return properties;
+	}
+
+	private void _awaitLeaderLatch() throws InterruptedException {
+		_leaderStartedLatch.countDown();
+
+		_leaderLatch.await();
+	}
+
+	private Integer _compute() {
+		return _counter.incrementAndGet();
+	}
+
+	private void _modify(boolean enabled, long timeout) {
+		_requestCoalescer.modified(_getProperties(enabled, timeout));
+	}
+
+	private Thread _startFollower() throws InterruptedException {
+		_leaderStartedLatch.await();
+
+		Thread thread = new Thread(
+			() -> {
+				try {
+					_followerResult.set(
+						_requestCoalescer.coalesce("key", this::_compute));
+
+					Thread currentThread = Thread.currentThread();
+
+					_followerInterrupted.set(currentThread.isInterrupted());
+				}
+				catch (Throwable t) {
+					throw new AssertionError(t);
+				}
+			});
+
+		thread.start();
+
+		return thread;
+	}
+
+	private Future<Integer> _submitLeader() {
+		return _executorService.submit(
+			() -> Try.of(
+				() -> _requestCoalescer.coalesce(
+					"key",
+					() -> {
+						_awaitLeaderLatch();
+
+						return 42;
+					})
+			).get());
+	}
+
+	private final AtomicInteger _counter = new AtomicInteger();
+	private final ExecutorService _executorService =
+		Executors.newSingleThreadExecutor();
+	private final AtomicBoolean _followerInterrupted = new AtomicBoolean();
+	private final AtomicInteger _followerResult = new AtomicInteger();
+	private final CountDownLatch _leaderLatch = new CountDownLatch(1);
+	private final CountDownLatch _leaderStartedLatch = new CountDownLatch(1);
+	private final RequestCoalescer _requestCoalescer = new RequestCoalescer();
+
+}
\ No newline at end of file
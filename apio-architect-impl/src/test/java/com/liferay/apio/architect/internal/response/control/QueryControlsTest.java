@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.control;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class QueryControlsTest {
+
+	@Test
+	public void testEmbeddedIncludesEveryPrefixOfTheRequestedPaths() {
+		QueryControls queryControls = QueryControls.of(
+			_getHttpServletRequest(
+				null, "first.second.third , other",
+				Collections.emptyMap()));
+
+		Embedded embedded = queryControls.getEmbedded();
+
+		assertThat(embedded.test("first"), is(true));
+		assertThat(embedded.test("first.second"), is(true));
+		assertThat(embedded.test("first.second.third"), is(true));
+		assertThat(embedded.test("first.second.third.fourth"), is(false));
+		assertThat(embedded.test("first.third"), is(false));
+		assertThat(embedded.test("firs"), is(false));
+		assertThat(embedded.test("other"), is(true));
+		assertThat(embedded.test("second"), is(false));
+	}
+
+	@Test
+	public void testFieldsAreMergedForEveryType() {
+		Map<String, String[]> parameterMap = new HashMap<>();
+
+		parameterMap.put("fields[Person]", new String[] {"familyName"});
+		parameterMap.put("fields[Thing]", new String[] {"name,url"});
+		parameterMap.put("fields[1nvalid]", new String[] {"givenName"});
+
+		QueryControls queryControls = QueryControls.of(
+			_getHttpServletRequest(null, null, parameterMap));
+
+		Fields fields = queryControls.getFields();
+
+		Predicate<String> predicate = fields.apply(
+			Arrays.asList("Person", "Thing"));
+
+		assertThat(predicate.test("familyName"), is(true));
+		assertThat(predicate.test("givenName"), is(false));
+		assertThat(predicate.test("name"), is(true));
+		assertThat(predicate.test("url"), is(true));
+
+		Predicate<String> otherPredicate = fields.apply(
+			Collections.singletonList("Organization"));
+
+		assertThat(otherPredicate.test("givenName"), is(true));
+	}
+
+	@Test
+	public void testHasEmbeddedIsFalseWithoutEmbeddedPaths() {
+		QueryControls queryControls = QueryControls.of(
+			_getHttpServletRequest(null, "", Collections.emptyMap()));
+
+		Map<String, Set<String>> fieldsMap = queryControls.getFieldsMap();
+
+		assertThat(fieldsMap.isEmpty(), is(true));
+		assertThat(queryControls.hasEmbedded(), is(false));
+	}
+
+	@Test
+	public void testRequestsWithFormBodiesAreNotCached() {
+		HttpServletRequest httpServletRequest = _getHttpServletRequest(
+			"embedded=form", "form", Collections.emptyMap());
+
+		Mockito.when(
+			httpServletRequest.getContentType()
+		).thenReturn(
+			"application/x-www-form-urlencoded"
+		);
+
+		QueryControls queryControls = QueryControls.of(httpServletRequest);
+
+		assertThat(
+			QueryControls.of(httpServletRequest),
+			is(not(sameInstance(queryControls))));
+	}
+
+	@Test
+	public void testRequestsWithTheSameQueryStringShareTheirControls() {
+		QueryControls queryControls = QueryControls.of(
+			_getHttpServletRequest(
+				"embedded=cached", "cached", Collections.emptyMap()));
+
+		HttpServletRequest httpServletRequest = _getHttpServletRequest(
+			"embedded=cached", "cached", Collections.emptyMap());
+
+		assertThat(
+			QueryControls.of(httpServletRequest),
+			is(sameInstance(queryControls)));
+
+		Mockito.verify(
+			httpServletRequest, Mockito.never()
+		).getParameter(
+			"embedded"
+		);
+	}
+
+	private HttpServletRequest _getHttpServletRequest(
+		String queryString, String embedded,
+		Map<String, String[]> parameterMap) {
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getQueryString()
+		).thenReturn(
+			queryString
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("embedded")
+		).thenReturn(
+			embedded
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameterMap()
+		).thenReturn(
+			parameterMap
+		);
+
+		return httpServletRequest;
+	}
+
+}
\ No newline at end of file
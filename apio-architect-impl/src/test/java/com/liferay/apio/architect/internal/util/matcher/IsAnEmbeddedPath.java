@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.util.matcher;
+
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Provides a {@code Matcher} that checks if an element is an {@link
+ * EmbeddedPath} containing some segments.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class IsAnEmbeddedPath extends TypeSafeDiagnosingMatcher<EmbeddedPath> {
+
+	/**
+	 * Returns a matcher that checks if this is an embedded path whose segments
+	 * conform with the {@code matcher} parameter.
+	 *
+	 * @param  matcher the matcher used to check the segments of this embedded
+	 *         path
+	 * @return the matcher that checks if this is an embedded path whose
+	 *         segments conform with the {@code matcher} parameter
+	 */
+	public static Matcher<EmbeddedPath> anEmbeddedPathThat(
+		Matcher<Iterable<? extends String>> matcher) {
+
+		return new IsAnEmbeddedPath(matcher);
+	}
+
+	public IsAnEmbeddedPath(Matcher<Iterable<? extends String>> matcher) {
+		_matcher = matcher;
+	}
+
+	@Override
+	public void describeTo(final Description description) {
+		description.appendText(
+			"an embedded path that conforms with an "
+		).appendDescriptionOf(
+			_matcher
+		);
+	}
+
+	@Override
+	protected boolean matchesSafely(
+		final EmbeddedPath embeddedPath, final Description description) {
+
+		List<String> list = Arrays.asList(embeddedPath.toArray());
+
+		if (_matcher.matches(list)) {
+			return true;
+		}
+
+		description.appendText("was an embedded path whose ");
+
+		_matcher.describeMismatch(list, description);
+
+		return false;
+	}
+
+	private final Matcher<Iterable<? extends String>> _matcher;
+
+}
\ No newline at end of file
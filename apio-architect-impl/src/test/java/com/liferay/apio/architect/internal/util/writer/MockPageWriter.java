@@ -26,9 +26,12 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Provides methods that test {@code PageMessageMapper} objects.
@@ -41,6 +44,29 @@ import java.util.Optional;
  */
 public class MockPageWriter {
 
+	/**
+	 * Streams a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON objects
+	 * @return the JSON objects of the items, followed by the JSON object of the
+	 *         page
+	 */
+	public static List<String> stream(
+		PageMessageMapper<RootModel> pageMessageMapper) {
+
+		PageWriter<RootModel> pageWriter = _createPageWriter(
+			pageMessageMapper, _createPageItems(), null);
+
+		List<String> jsonObjects = new ArrayList<>();
+
+		pageWriter.stream(
+			jsonObjectBuilder -> jsonObjects.add(jsonObjectBuilder.build()));
+
+		return jsonObjects;
+	}
+
 	/**
 	 * Writes a {@link RootModel} collection with the hierarchy of embedded
 	 * models and multiple fields.
@@ -50,17 +76,65 @@ public class MockPageWriter {
 	 * @return the string containing the JSON object
 	 */
 	public static String write(PageMessageMapper<RootModel> pageMessageMapper) {
+		return write(pageMessageMapper, (ForkJoinPool)null);
+	}
+
+	/**
+	 * Writes a {@link RootModel} page with the provided items, with the
+	 * hierarchy of embedded models and multiple fields.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @param  pageItems the page's items
+	 * @return the string containing the JSON object
+	 */
+	public static String write(
+		PageMessageMapper<RootModel> pageMessageMapper,
+		PageItems<RootModel> pageItems) {
+
+		PageWriter<RootModel> pageWriter = _createPageWriter(
+			pageMessageMapper, pageItems, null);
+
+		return pageWriter.write();
+	}
+
+	/**
+	 * Writes a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields, rendering its items in the provided pool.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @param  forkJoinPool the pool in which the items are rendered, or {@code
+	 *         null} to render them sequentially
+	 * @return the string containing the JSON object
+	 */
+	public static String write(
+		PageMessageMapper<RootModel> pageMessageMapper,
+		ForkJoinPool forkJoinPool) {
+
+		PageWriter<RootModel> pageWriter = _createPageWriter(
+			pageMessageMapper, _createPageItems(), forkJoinPool);
+
+		return pageWriter.write();
+	}
+
+	private static PageItems<RootModel> _createPageItems() {
 		Collection<RootModel> items = Arrays.asList(
 			() -> "1", () -> "2", () -> "3");
 
-		PageItems<RootModel> pageItems = new PageItems<>(items, 9);
+		return new PageItems<>(items, 9);
+	}
+
+	private static PageWriter<RootModel> _createPageWriter(
+		PageMessageMapper<RootModel> pageMessageMapper,
+		PageItems<RootModel> pageItems, ForkJoinPool forkJoinPool) {
 
 		Pagination pagination = new PaginationImpl(3, 2);
 
 		Page<RootModel> page = new PageImpl<>(
 			Paged.of("root"), pageItems, pagination);
 
-		PageWriter<RootModel> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -77,9 +151,9 @@ public class MockPageWriter {
 				MockWriterUtil::getSingleModel
 			).actionSemanticsFunction(
 				MockWriterUtil::getActionSemantics
+			).parallelItemRendering(
+				forkJoinPool, 1
 			).build());
-
-		return pageWriter.write();
 	}
 
 	private MockPageWriter() {
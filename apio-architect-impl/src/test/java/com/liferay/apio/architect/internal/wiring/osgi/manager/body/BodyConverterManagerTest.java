@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.body;
+
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BodyConverterManagerTest {
+
+	@Test
+	public void testGetMediaTypeCachesMediaTypesWithoutParameters() {
+		MediaType mediaType = _bodyConverterManager.getMediaType(
+			"multipart/form-data; boundary=first");
+
+		assertThat(mediaType, is(MediaType.MULTIPART_FORM_DATA_TYPE));
+
+		assertThat(
+			_bodyConverterManager.getMediaType(
+				"Multipart/Form-Data; boundary=second"),
+			is(sameInstance(mediaType)));
+	}
+
+	@Test
+	public void testGetMediaTypeFailsWithInvalidContentType() {
+		assertThat(
+			() -> _bodyConverterManager.getMediaType(null),
+			failsWith(BadRequestException.class));
+		assertThat(
+			() -> _bodyConverterManager.getMediaType("application"),
+			failsWith(BadRequestException.class));
+	}
+
+	private final BodyConverterManager _bodyConverterManager =
+		new BodyConverterManager();
+
+}
\ No newline at end of file
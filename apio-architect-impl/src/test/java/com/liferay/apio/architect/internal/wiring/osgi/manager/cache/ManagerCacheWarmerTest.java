@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.util.component.ComponentUtil.setReference;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.EntryPointMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.MultiStatusMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.PageMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheWarmerTest {
+
+	@Before
+	public void setUp() {
+		_actionManager = mock(ActionManager.class);
+
+		_bundleContext = mock(BundleContext.class);
+
+		when(
+			_bundleContext.registerService(
+				eq(ManagerCacheWarmer.class), any(ManagerCacheWarmer.class),
+				any(Dictionary.class))
+		).thenReturn(
+			mock(ServiceRegistration.class)
+		);
+
+		_managerCacheWarmer = new ManagerCacheWarmer();
+
+		setReference(_managerCacheWarmer, "_actionManager", _actionManager);
+		setReference(
+			_managerCacheWarmer, "_batchResultMessageMapperManager",
+			mock(BatchResultMessageMapperManager.class));
+		setReference(
+			_managerCacheWarmer, "_customDocumentationManager",
+			mock(CustomDocumentationManager.class));
+		setReference(
+			_managerCacheWarmer, "_documentationMessageMapperManager",
+			mock(DocumentationMessageMapperManager.class));
+		setReference(
+			_managerCacheWarmer, "_entryPointMessageMapperManager",
+			mock(EntryPointMessageMapperManager.class));
+		setReference(
+			_managerCacheWarmer, "_errorMessageMapperManager",
+			mock(ErrorMessageMapperManager.class));
+		setReference(
+			_managerCacheWarmer, "_multiStatusMessageMapperManager",
+			mock(MultiStatusMessageMapperManager.class));
+		setReference(
+			_managerCacheWarmer, "_nameManager", mock(NameManager.class));
+		setReference(
+			_managerCacheWarmer, "_pageMessageMapperManager",
+			mock(PageMessageMapperManager.class));
+		setReference(
+			_managerCacheWarmer, "_representableManager",
+			mock(RepresentableManager.class));
+		setReference(
+			_managerCacheWarmer, "_singleModelMessageMapperManager",
+			_singleModelMessageMapperManager);
+	}
+
+	@After
+	public void tearDown() {
+		_releaseLatch.countDown();
+
+		_managerCacheWarmer.deactivate();
+	}
+
+	@Test
+	public void testClearDuringAWarmUpDiscardsItsResult() throws Exception {
+		_blockFirstWarmUp();
+
+		_activate(10);
+
+		_startedLatch.await();
+
+		INSTANCE.clear();
+
+		_releaseLatch.countDown();
+
+		_awaitReady();
+
+		verify(_actionManager, times(2)).getEntryPoint();
+
+		assertThat(_managerCacheWarmer.getWarmUpCount(), is(1L));
+	}
+
+	@Test
+	public void testConsecutiveClearsAreCoalescedIntoOneWarmUp()
+		throws Exception {
+
+		_activate(200);
+
+		_awaitReady();
+
+		for (int i = 0; i < 5; i++) {
+			INSTANCE.clear();
+
+			assertFalse(_managerCacheWarmer.isReady());
+		}
+
+		_awaitReady();
+
+		verify(_actionManager, times(2)).getEntryPoint();
+
+		assertThat(_managerCacheWarmer.getWarmUpCount(), is(2L));
+	}
+
+	@Test
+	public void testDeactivateDiscardsTheWarmUpInProgress() throws Exception {
+		_blockFirstWarmUp();
+
+		_activate(10);
+
+		_startedLatch.await();
+
+		_managerCacheWarmer.deactivate();
+
+		_releaseLatch.countDown();
+
+		verify(
+			_singleModelMessageMapperManager, timeout(5000)
+		).computeMessageMappers();
+
+		Thread.sleep(100);
+
+		assertFalse(_managerCacheWarmer.isReady());
+		assertThat(_managerCacheWarmer.getWarmUpCount(), is(0L));
+	}
+
+	@Test
+	public void testFailedWarmUpIsRetried() throws Exception {
+		when(
+			_actionManager.getEntryPoint()
+		).thenThrow(
+			new IllegalStateException()
+		).thenReturn(
+			null
+		);
+
+		_activate(10);
+
+		_awaitReady();
+
+		verify(_actionManager, times(2)).getEntryPoint();
+
+		assertThat(_managerCacheWarmer.getWarmUpCount(), is(1L));
+	}
+
+	private static void _awaitUninterruptibly(CountDownLatch countDownLatch) {
+		while (true) {
+			try {
+				countDownLatch.await();
+
+				return;
+			}
+			catch (InterruptedException ie) {
+			}
+		}
+	}
+
+	private void _activate(long delay) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("delay", delay);
+
+		_managerCacheWarmer.activate(_bundleContext, properties);
+	}
+
+	private void _awaitReady() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while (!_managerCacheWarmer.isReady()) {
+			assertTrue(
+				"The registry should have been warmed up",
+				System.currentTimeMillis() < deadline);
+
+			Thread.sleep(1);
+		}
+	}
+
+	private void _blockFirstWarmUp() {
+		when(
+			_actionManager.getEntryPoint()
+		).then(
+			invocation -> {
+				_startedLatch.countDown();
+
+				_awaitUninterruptibly(_releaseLatch);
+
+				return null;
+			}
+		).thenReturn(
+			null
+		);
+	}
+
+	private ActionManager _actionManager;
+	private BundleContext _bundleContext;
+	private ManagerCacheWarmer _managerCacheWarmer;
+	private final CountDownLatch _releaseLatch = new CountDownLatch(1);
+	private final SingleModelMessageMapperManager
+		_singleModelMessageMapperManager = mock(
+			SingleModelMessageMapperManager.class);
+	private final CountDownLatch _startedLatch = new CountDownLatch(1);
+
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.util;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getInt;
+import static com.liferay.apio.architect.internal.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PropertiesUtilTest {
+
+	@Test(expected = NumberFormatException.class)
+	public void testInvalidNumbersFail() {
+		_properties.put("int", "invalid");
+
+		getInt(_properties, "int", 0);
+	}
+
+	@Test
+	public void testMissingPropertiesReturnTheDefaultValue() {
+		assertThat(getBoolean(_properties, "missing", true), is(true));
+		assertThat(getInt(_properties, "missing", 42), is(42));
+		assertThat(getLong(_properties, "missing", 42L), is(42L));
+	}
+
+	@Test
+	public void testStringPropertiesAreParsed() {
+		_properties.put("boolean", "true");
+		_properties.put("int", "42");
+		_properties.put("long", "42");
+
+		assertThat(getBoolean(_properties, "boolean", false), is(true));
+		assertThat(getInt(_properties, "int", 0), is(42));
+		assertThat(getLong(_properties, "long", 0), is(42L));
+	}
+
+	@Test
+	public void testTypedPropertiesAreRead() {
+		_properties.put("boolean", Boolean.TRUE);
+		_properties.put("int", 42);
+		_properties.put("long", 42L);
+
+		assertThat(getBoolean(_properties, "boolean", false), is(true));
+		assertThat(getInt(_properties, "int", 0), is(42));
+		assertThat(getLong(_properties, "long", 0), is(42L));
+	}
+
+	private final Map<String, Object> _properties = new HashMap<>();
+
+}
\ No newline at end of file
@@ -14,7 +14,7 @@
 
 package com.liferay.apio.architect.internal.writer;
 
-import static com.liferay.apio.architect.internal.util.matcher.IsAFunctionalList.aFunctionalListThat;
+import static com.liferay.apio.architect.internal.util.matcher.IsAnEmbeddedPath.anEmbeddedPathThat;
 import static com.liferay.apio.architect.internal.util.representor.MockRepresentorCreator.createRootModelRepresentor;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
@@ -33,7 +33,7 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertEquals;
 
 import com.liferay.apio.architect.internal.alias.PathFunction;
-import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
 import com.liferay.apio.architect.internal.related.RelatedModelImpl;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
@@ -103,7 +103,7 @@ public class FieldsWriterTest {
 		_fieldsWriter = new FieldsWriter<>(
 			new SingleModelImpl<>(() -> "first", "root"), _requestInfo,
 			createRootModelRepresentor(true), new Path("name", "id"),
-			new FunctionalList<>(null, "first"),
+			new EmbeddedPath(null, "first"),
 			MockWriterUtil::getSingleModel);
 	}
 
@@ -257,11 +257,11 @@ public class FieldsWriterTest {
 	public void testWriteEmbeddedRelatedModelsWithEmbeddedPredicate() {
 		List<String> linkedRelatedModelURLs = new ArrayList<>();
 		List<String> embeddedRelatedModelURLs = new ArrayList<>();
-		List<FunctionalList<String>> firstEmbeddedPathElementsList =
+		List<EmbeddedPath> firstEmbeddedPathElementsList =
 			new ArrayList<>();
-		List<FunctionalList<String>> secondEmbeddedPathElementsList =
+		List<EmbeddedPath> secondEmbeddedPathElementsList =
 			new ArrayList<>();
-		List<FunctionalList<String>> thirdEmbeddedPathElementsList =
+		List<EmbeddedPath> thirdEmbeddedPathElementsList =
 			new ArrayList<>();
 		List<SingleModel> singleModels = new ArrayList<>();
 
@@ -318,20 +318,20 @@ public class FieldsWriterTest {
 		assertThat(firstEmbeddedPathElementsList, hasSize(equalTo(1)));
 		assertThat(
 			firstEmbeddedPathElementsList,
-			contains(aFunctionalListThat(contains("first", "embedded2"))));
+			contains(anEmbeddedPathThat(contains("first", "embedded2"))));
 
 		assertThat(secondEmbeddedPathElementsList, hasSize(equalTo(3)));
 		assertThat(
 			secondEmbeddedPathElementsList,
 			contains(
-				aFunctionalListThat(contains("first", "embedded1")),
-				aFunctionalListThat(contains("first", "linked1")),
-				aFunctionalListThat(contains("first", "linked2"))));
+				anEmbeddedPathThat(contains("first", "embedded1")),
+				anEmbeddedPathThat(contains("first", "linked1")),
+				anEmbeddedPathThat(contains("first", "linked2"))));
 
 		assertThat(thirdEmbeddedPathElementsList, hasSize(equalTo(1)));
 		assertThat(
 			thirdEmbeddedPathElementsList,
-			contains(aFunctionalListThat(contains("first", "embedded2"))));
+			contains(anEmbeddedPathThat(contains("first", "embedded2"))));
 	}
 
 	@Test
@@ -343,7 +343,7 @@ public class FieldsWriterTest {
 		);
 
 		List<String> linkedRelatedModelURLs = new ArrayList<>();
-		List<FunctionalList<String>> linkedPathElementsList = new ArrayList<>();
+		List<EmbeddedPath> linkedPathElementsList = new ArrayList<>();
 
 		PathFunction pathFunction = Mockito.mock(PathFunction.class);
 
@@ -370,14 +370,14 @@ public class FieldsWriterTest {
 
 		assertThat(
 			linkedPathElementsList,
-			contains(aFunctionalListThat(contains("first", "embedded2"))));
+			contains(anEmbeddedPathThat(contains("first", "embedded2"))));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testWriteEmbeddedRelatedModelsWithoutEmbeddedPredicate() {
 		List<String> linkedRelatedModelURLs = new ArrayList<>();
-		List<FunctionalList<String>> embeddedPathElementsList =
+		List<EmbeddedPath> embeddedPathElementsList =
 			new ArrayList<>();
 
 		PathFunction pathFunction = Mockito.mock(PathFunction.class);
@@ -412,17 +412,17 @@ public class FieldsWriterTest {
 		assertThat(
 			embeddedPathElementsList,
 			contains(
-				aFunctionalListThat(contains("first", "embedded1")),
-				aFunctionalListThat(contains("first", "embedded2")),
-				aFunctionalListThat(contains("first", "linked1")),
-				aFunctionalListThat(contains("first", "linked2"))));
+				anEmbeddedPathThat(contains("first", "embedded1")),
+				anEmbeddedPathThat(contains("first", "embedded2")),
+				anEmbeddedPathThat(contains("first", "linked1")),
+				anEmbeddedPathThat(contains("first", "linked2"))));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testWriteLinkedRelatedModels() {
 		List<String> linkedRelatedModelsURLs = new ArrayList<>();
-		List<FunctionalList<String>> embeddedPathElementsList =
+		List<EmbeddedPath> embeddedPathElementsList =
 			new ArrayList<>();
 
 		PathFunction pathFunction = Mockito.mock(PathFunction.class);
@@ -457,10 +457,10 @@ public class FieldsWriterTest {
 		assertThat(
 			embeddedPathElementsList,
 			contains(
-				aFunctionalListThat(contains("first", "embedded1")),
-				aFunctionalListThat(contains("first", "embedded2")),
-				aFunctionalListThat(contains("first", "linked1")),
-				aFunctionalListThat(contains("first", "linked2"))));
+				anEmbeddedPathThat(contains("first", "embedded1")),
+				anEmbeddedPathThat(contains("first", "embedded2")),
+				anEmbeddedPathThat(contains("first", "linked1")),
+				anEmbeddedPathThat(contains("first", "linked2"))));
 	}
 
 	@Test
@@ -472,7 +472,7 @@ public class FieldsWriterTest {
 		);
 
 		List<String> linkedRelatedModelsURLs = new ArrayList<>();
-		List<FunctionalList<String>> embeddedPathElementsList =
+		List<EmbeddedPath> embeddedPathElementsList =
 			new ArrayList<>();
 
 		PathFunction pathFunction = Mockito.mock(PathFunction.class);
@@ -500,7 +500,7 @@ public class FieldsWriterTest {
 
 		assertThat(
 			embeddedPathElementsList,
-			contains(aFunctionalListThat(contains("first", "linked2"))));
+			contains(anEmbeddedPathThat(contains("first", "linked2"))));
 	}
 
 	@Test
@@ -602,7 +602,7 @@ public class FieldsWriterTest {
 	@Test
 	public void testWriteRelatedCollections() {
 		List<String> relatedCollectionURLs = new ArrayList<>();
-		List<FunctionalList<String>> embeddedPathElementsList =
+		List<EmbeddedPath> embeddedPathElementsList =
 			new ArrayList<>();
 
 		Function<String, Optional<String>> nameFunction = Mockito.mock(
@@ -631,8 +631,8 @@ public class FieldsWriterTest {
 		assertThat(
 			embeddedPathElementsList,
 			contains(
-				aFunctionalListThat(contains("first", "relatedCollection1")),
-				aFunctionalListThat(contains("first", "relatedCollection2"))));
+				anEmbeddedPathThat(contains("first", "relatedCollection1")),
+				anEmbeddedPathThat(contains("first", "relatedCollection2"))));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -645,7 +645,7 @@ public class FieldsWriterTest {
 		);
 
 		List<String> relatedCollectionURLs = new ArrayList<>();
-		List<FunctionalList<String>> embeddedPathElementsList =
+		List<EmbeddedPath> embeddedPathElementsList =
 			new ArrayList<>();
 
 		Function<String, Optional<String>> nameFunction = Mockito.mock(
@@ -672,7 +672,7 @@ public class FieldsWriterTest {
 		assertThat(
 			embeddedPathElementsList,
 			contains(
-				aFunctionalListThat(contains("first", "relatedCollection2"))));
+				anEmbeddedPathThat(contains("first", "relatedCollection2"))));
 	}
 
 	@Test
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ndjson.NDJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.internal.util.writer.MockPageWriter;
+import com.liferay.apio.architect.pagination.PageItems;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageWriterTest {
+
+	@AfterClass
+	public static void tearDownClass() {
+		_forkJoinPool.shutdown();
+	}
+
+	@Test
+	public void testLazyPageIsEqualToCollectionPage() {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		PageItems<RootModel> pageItems = new PageItems<>(
+			_createItemsStream(closed), 3, 9);
+
+		PlainJSONPageMessageMapper<RootModel> pageMessageMapper =
+			new PlainJSONPageMessageMapper<>();
+
+		String lazy = MockPageWriter.write(pageMessageMapper, pageItems);
+
+		assertThat(lazy, is(MockPageWriter.write(pageMessageMapper)));
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test
+	public void testLazyPageWithUnknownItemCountHasTheCollectionPageFields()
+		throws JSONException {
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		PageItems<RootModel> pageItems = new PageItems<>(
+			_createItemsStream(closed), 9);
+
+		PlainJSONPageMessageMapper<RootModel> pageMessageMapper =
+			new PlainJSONPageMessageMapper<>();
+
+		String lazy = MockPageWriter.write(pageMessageMapper, pageItems);
+
+		assertEquals(MockPageWriter.write(pageMessageMapper), lazy, true);
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test
+	public void testParallelJSONLDPageIsEqualToSequentialPage() {
+		_assertParallelPageIsEqualToSequentialPage(
+			new JSONLDPageMessageMapper<>());
+	}
+
+	@Test
+	public void testParallelPlainJSONPageIsEqualToSequentialPage() {
+		_assertParallelPageIsEqualToSequentialPage(
+			new PlainJSONPageMessageMapper<>());
+	}
+
+	@Test
+	public void testStreamedNDJSONPageHasTheItemsAndTrailerOfThePlainJSONPage()
+		throws JSONException {
+
+		List<String> jsonObjects = MockPageWriter.stream(
+			new NDJSONPageMessageMapper<>());
+
+		JSONObject plainJSONObject = new JSONObject(
+			MockPageWriter.write(new PlainJSONPageMessageMapper<>()));
+
+		JSONArray jsonArray = (JSONArray)plainJSONObject.remove("elements");
+
+		assertThat(jsonObjects.size(), is(jsonArray.length() + 1));
+
+		for (int i = 0; i < jsonArray.length(); i++) {
+			assertEquals(
+				jsonArray.getJSONObject(i), new JSONObject(jsonObjects.get(i)),
+				true);
+		}
+
+		plainJSONObject.put("trailer", true);
+
+		String trailer = jsonObjects.get(jsonArray.length());
+
+		assertEquals(plainJSONObject, new JSONObject(trailer), true);
+	}
+
+	private static Stream<RootModel> _createItemsStream(AtomicBoolean closed) {
+		Stream<RootModel> stream = Stream.of(() -> "1", () -> "2", () -> "3");
+
+		return stream.onClose(() -> closed.set(true));
+	}
+
+	private void _assertParallelPageIsEqualToSequentialPage(
+		PageMessageMapper<RootModel> pageMessageMapper) {
+
+		String sequential = MockPageWriter.write(pageMessageMapper);
+
+		String parallel = MockPageWriter.write(
+			pageMessageMapper, _forkJoinPool);
+
+		assertThat(parallel, is(sequential));
+	}
+
+	private static final ForkJoinPool _forkJoinPool = new ForkJoinPool(4);
+
+}
\ No newline at end of file
@@ -14,16 +14,31 @@
 
 package com.liferay.apio.architect.internal.writer;
 
+import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getRequestInfo;
+
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import com.liferay.apio.architect.internal.list.EmbeddedPath;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.internal.util.identifier.RootModelId;
+import com.liferay.apio.architect.internal.util.model.FirstEmbeddedModel;
+import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.json.JSONObject;
+
 import org.junit.Test;
 
 /**
@@ -57,4 +72,88 @@ public class SingleModelWriterTest {
 		assertThat(optional, is(emptyOptional()));
 	}
 
+	@Test
+	public void testWriterWritesEmbeddedRelativeURLsInsideEmbeddedModel() {
+		SingleModel<RootModel> singleModel = new SingleModelImpl<>(
+			() -> "first", "root");
+
+		SingleModelWriter<RootModel> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					singleModel
+				).modelMessageMapper(
+					new PlainJSONSingleModelMessageMapper<RootModel>() {
+
+						@Override
+						public Optional<JSONObjectBuilder>
+							getEmbeddedResourceJSONObjectBuilderOptional(
+								JSONObjectBuilder jsonObjectBuilder,
+								EmbeddedPath embeddedPathElements) {
+
+							return Optional.empty();
+						}
+
+					}
+				).pathFunction(
+					MockWriterUtil::identifierToPath
+				).resourceNameFunction(
+					__ -> Optional.of("models")
+				).representorFunction(
+					SingleModelWriterTest::_getRepresentorOptional
+				).requestInfo(
+					getRequestInfo()
+				).singleModelFunction(
+					MockWriterUtil::getSingleModel
+				).actionSemanticsFunction(
+					__ -> Stream.empty()
+				).build());
+
+		Optional<String> optional = singleModelWriter.write();
+
+		JSONObject jsonObject = new JSONObject(optional.get());
+
+		assertThat(jsonObject.has("relativeURL"), is(false));
+
+		JSONObject embeddedJSONObject = jsonObject.getJSONObject("embedded1");
+
+		assertThat(
+			embeddedJSONObject.getString("relativeURL"), is("/relative"));
+	}
+
+	private static Optional<Representor<?>> _getRepresentorOptional(
+		String resourceName) {
+
+		if ("root".equals(resourceName)) {
+			Representor.Builder<RootModel, String> builder =
+				new RepresentorImpl.BuilderImpl<>(
+					RootModelId.class, MockWriterUtil::getIdentifierName);
+
+			return Optional.of(
+				builder.types(
+					"Root"
+				).identifier(
+					RootModel::getId
+				).addLinkedModel(
+					"embedded1", FirstEmbeddedId.class, __ -> "first"
+				).build());
+		}
+
+		if ("first".equals(resourceName)) {
+			Representor.Builder<FirstEmbeddedModel, String> builder =
+				new RepresentorImpl.BuilderImpl<>(
+					FirstEmbeddedId.class, MockWriterUtil::getIdentifierName);
+
+			return Optional.of(
+				builder.types(
+					"First"
+				).identifier(
+					FirstEmbeddedModel::getId
+				).addRelativeURL(
+					"relativeURL", __ -> "/relative"
+				).build());
+		}
+
+		return Optional.empty();
+	}
+
 }
\ No newline at end of file
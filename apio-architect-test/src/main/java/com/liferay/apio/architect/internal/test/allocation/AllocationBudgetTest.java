@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.allocation;
+
+import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+
+import static org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants.JAX_RS_APPLICATION_SELECT;
+import static org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants.JAX_RS_EXTENSION;
+import static org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants.JAX_RS_NAME;
+
+import com.liferay.apio.architect.internal.test.base.BaseTest;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import io.vavr.control.Try;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.StatusType;
+import javax.ws.rs.ext.WriterInterceptor;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.osgi.framework.Constants;
+
+/**
+ * Checks that the number of bytes the server thread allocates to handle the
+ * requests of the sample's annotated blog postings doesn't exceed the budgets
+ * checked in {@code allocation-budgets.properties} by more than its tolerance.
+ *
+ * <p>
+ * Every scenario must have a budget, so a scenario without one fails. To
+ * record the budgets, run the test with the {@code
+ * apio.architect.allocation.budgets.record} property set to the file the
+ * measured averages should be written to, and copy the values into {@code
+ * allocation-budgets.properties}. Budgets aren't checked while recording.
+ * </p>
+ *
+ * <p>
+ * Write scenarios only touch the blog postings they create, which are removed
+ * after each test, so the sample's store is left as it was found. They need the
+ * {@code LIFERAY_APIO_AUTH} environment variable, which the {@code
+ * test.bndrun} file sets for the test framework.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class AllocationBudgetTest extends BaseTest {
+
+	@BeforeClass
+	public static void setUpClass() {
+		BaseTest.setUpClass();
+
+		_budgets = Try.withResources(
+			() -> AllocationBudgetTest.class.getResourceAsStream(
+				"dependencies/allocation-budgets.properties")
+		).of(
+			AllocationBudgetTest::_load
+		).getOrElseThrow(
+			t -> new AssertionError("Unable to read allocation budgets", t)
+		);
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		if ((_RECORD_FILE_NAME != null) && !_measurements.isEmpty()) {
+			try (OutputStream outputStream = Files.newOutputStream(
+					Paths.get(_RECORD_FILE_NAME))) {
+
+				_measurements.store(outputStream, null);
+			}
+			catch (IOException ioe) {
+				throw new AssertionError("Unable to record allocations", ioe);
+			}
+		}
+
+		BaseTest.tearDownClass();
+	}
+
+	@Before
+	@Override
+	public void setUp() {
+		super.setUp();
+
+		_allocationRecorder = new AllocationRecorder();
+
+		beforeTestRegisterAs(
+			ContainerRequestFilter.class,
+			_allocationRecorder.getRequestFilter(),
+			_getExtensionProperties("Filter.AllocationRecorder"));
+		beforeTestRegisterAs(
+			WriterInterceptor.class, _allocationRecorder.getWriterInterceptor(),
+			_getExtensionProperties("Interceptor.AllocationRecorder"));
+	}
+
+	@After
+	public void tearDownBlogPostings() {
+		for (String url : _blogPostingURLs) {
+			Invocation.Builder invocationBuilder = _request(
+				createClient().target(url));
+
+			invocationBuilder.delete();
+		}
+
+		_blogPostingURLs.clear();
+	}
+
+	@Test
+	public void testCreateIsWithinBudget() {
+		_assertWithinBudget(
+			"blog.posting.create",
+			this::_createBlogPosting,
+			_target("blog-posting-annotated"));
+	}
+
+	@Test
+	public void testPageIsWithinBudget() {
+		_assertWithinBudget(
+			"blog.posting.page", Invocation.Builder::get,
+			_target("blog-posting-annotated"));
+	}
+
+	@Test
+	public void testPageWithEmbeddedIsWithinBudget() {
+		_assertWithinBudget(
+			"blog.posting.page.embedded", Invocation.Builder::get,
+			_target("blog-posting-annotated", "embedded", "creator"));
+	}
+
+	@Test
+	public void testReplaceIsWithinBudget() {
+		String url = _readURL(
+			_createBlogPosting(_request(_target("blog-posting-annotated"))));
+
+		Client client = createClient();
+
+		_assertWithinBudget(
+			"blog.posting.replace",
+			invocationBuilder -> invocationBuilder.put(
+				Entity.json(_createBlogPostingBody())),
+			client.target(url));
+	}
+
+	@Test
+	public void testRetrieveIsWithinBudget() {
+		_assertWithinBudget(
+			"blog.posting.retrieve", Invocation.Builder::get,
+			_target("blog-posting-annotated/1"));
+	}
+
+	private static Properties _load(InputStream inputStream)
+		throws Exception {
+
+		Properties properties = new Properties();
+
+		properties.load(inputStream);
+
+		return properties;
+	}
+
+	private void _assertWithinBudget(
+		String scenario, Function<Invocation.Builder, Response> function,
+		WebTarget webTarget) {
+
+		for (int i = 0; i < _WARM_UP_REQUESTS; i++) {
+			_execute(function, webTarget);
+		}
+
+		_allocationRecorder.clear();
+
+		long allocatedBytes = 0;
+
+		for (int i = 0; i < _MEASURED_REQUESTS; i++) {
+			_execute(function, webTarget);
+
+			allocatedBytes += _allocationRecorder.takeAllocatedBytes();
+		}
+
+		long average = allocatedBytes / _MEASURED_REQUESTS;
+
+		_measurements.setProperty(scenario, String.valueOf(average));
+
+		if (_RECORD_FILE_NAME != null) {
+			return;
+		}
+
+		String budgetString = _budgets.getProperty(scenario);
+
+		if (budgetString == null) {
+			throw new AssertionError(
+				"No budget recorded for scenario " + scenario + ", measured " +
+					average + " bytes per request");
+		}
+
+		long budget = Long.parseLong(budgetString);
+		double tolerance = Double.parseDouble(
+			_budgets.getProperty("tolerance"));
+
+		assertThat(
+			"Average bytes allocated per request in scenario " + scenario,
+			average, is(lessThanOrEqualTo((long)(budget * tolerance))));
+	}
+
+	private Response _createBlogPosting(Invocation.Builder invocationBuilder) {
+		Response response = invocationBuilder.post(
+			Entity.json(_createBlogPostingBody()));
+
+		StatusType statusType = response.getStatusInfo();
+
+		assertThat(statusType.getFamily(), is(SUCCESSFUL));
+
+		response.bufferEntity();
+
+		_blogPostingURLs.add(_readURL(response));
+
+		return response;
+	}
+
+	private String _createBlogPostingBody() {
+		JSONObject jsonObject = new JSONObject();
+
+		jsonObject.put("alternativeHeadline", "Budgets");
+		jsonObject.put("articleBody", "Every byte counts");
+		jsonObject.put(
+			"creator", getJAXRSServiceEndpoint() + "person-annotated/1");
+		jsonObject.put("headline", "Allocation budgets");
+		jsonObject.put("review", new JSONArray());
+
+		return jsonObject.toString();
+	}
+
+	private Map<String, Object> _getExtensionProperties(String name) {
+		return HashMap.of(
+			JAX_RS_APPLICATION_SELECT,
+			"(liferay.apio.architect.application=true)", JAX_RS_EXTENSION,
+			"true", JAX_RS_NAME, name, Constants.SERVICE_RANKING,
+			Integer.MAX_VALUE);
+	}
+
+	private void _execute(
+		Function<Invocation.Builder, Response> function, WebTarget webTarget) {
+
+		Response response = function.apply(_request(webTarget));
+
+		StatusType statusType = response.getStatusInfo();
+
+		assertThat(statusType.getFamily(), is(SUCCESSFUL));
+
+		response.readEntity(String.class);
+	}
+
+	private String _readURL(Response response) {
+		JSONObject jsonObject = asJSONObject(response);
+
+		return jsonObject.getString("@id");
+	}
+
+	private Invocation.Builder _request(WebTarget webTarget) {
+		return webTarget.request(
+		).header(
+			"Accept", "application/ld+json"
+		).header(
+			"Authorization", System.getenv("LIFERAY_APIO_AUTH")
+		);
+	}
+
+	private WebTarget _target(String path, Object... queryParams) {
+		WebTarget webTarget = createDefaultTarget();
+
+		webTarget = webTarget.path(path);
+
+		for (int i = 0; i < queryParams.length; i += 2) {
+			webTarget = webTarget.queryParam(
+				(String)queryParams[i], queryParams[i + 1]);
+		}
+
+		return webTarget;
+	}
+
+	private static final int _MEASURED_REQUESTS = 20;
+
+	private static final String _RECORD_FILE_NAME = System.getProperty(
+		"apio.architect.allocation.budgets.record");
+
+	private static final int _WARM_UP_REQUESTS = 20;
+
+	private static final Properties _measurements = new Properties();
+
+	private static Properties _budgets;
+
+	private AllocationRecorder _allocationRecorder;
+	private final List<String> _blogPostingURLs = new ArrayList<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.allocation;
+
+import com.sun.management.ThreadMXBean;
+
+import io.vavr.control.Try;
+
+import java.io.IOException;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Records the number of bytes the server thread allocates while handling a
+ * request, from the moment the request enters the JAX-RS application until its
+ * entity has been written.
+ *
+ * <p>
+ * The recorder is made of two JAX-RS extensions, {@link #getRequestFilter()}
+ * and {@link #getWriterInterceptor()}, that must be registered in the Apio
+ * application. Only requests whose entity is written in the same thread that
+ * received them are recorded.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class AllocationRecorder {
+
+	public AllocationRecorder() {
+		_threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+		if (!_threadMXBean.isThreadAllocatedMemorySupported()) {
+			throw new UnsupportedOperationException(
+				"The JVM does not support measuring thread allocations");
+		}
+
+		_threadMXBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	/**
+	 * Discards the measurements of the requests that haven't been taken yet.
+	 *
+	 * @review
+	 */
+	public void clear() {
+		_allocatedBytesQueue.clear();
+	}
+
+	/**
+	 * Returns the JAX-RS request filter that starts the measurement of every
+	 * request.
+	 *
+	 * @return the request filter
+	 * @review
+	 */
+	public ContainerRequestFilter getRequestFilter() {
+		return _requestFilter;
+	}
+
+	/**
+	 * Returns the JAX-RS writer interceptor that ends the measurement of every
+	 * request, once its entity has been written.
+	 *
+	 * @return the writer interceptor
+	 * @review
+	 */
+	public WriterInterceptor getWriterInterceptor() {
+		return _writerInterceptor;
+	}
+
+	/**
+	 * Waits for the measurement of the next request and returns the number of
+	 * bytes it allocated.
+	 *
+	 * @return the number of bytes allocated by the next recorded request
+	 * @review
+	 */
+	public long takeAllocatedBytes() {
+		return Try.of(
+			() -> _allocatedBytesQueue.poll(5, TimeUnit.SECONDS)
+		).filter(
+			allocatedBytes -> allocatedBytes != null
+		).getOrElseThrow(
+			t -> new AssertionError("No request allocation was recorded", t)
+		);
+	}
+
+	private long _getCurrentThreadAllocatedBytes() {
+		Thread thread = Thread.currentThread();
+
+		return _threadMXBean.getThreadAllocatedBytes(thread.getId());
+	}
+
+	private final BlockingQueue<Long> _allocatedBytesQueue =
+		new LinkedBlockingQueue<>();
+	private final ContainerRequestFilter _requestFilter =
+		new AllocationRequestFilter();
+	private final ThreadLocal<Long> _startThreadLocal = new ThreadLocal<>();
+	private final ThreadMXBean _threadMXBean;
+	private final WriterInterceptor _writerInterceptor =
+		new AllocationWriterInterceptor();
+
+	@PreMatching
+	private class AllocationRequestFilter implements ContainerRequestFilter {
+
+		@Override
+		public void filter(ContainerRequestContext containerRequestContext) {
+			_startThreadLocal.set(_getCurrentThreadAllocatedBytes());
+		}
+
+	}
+
+	private class AllocationWriterInterceptor implements WriterInterceptor {
+
+		@Override
+		public void aroundWriteTo(
+				WriterInterceptorContext writerInterceptorContext)
+			throws IOException {
+
+			writerInterceptorContext.proceed();
+
+			Long start = _startThreadLocal.get();
+
+			if (start == null) {
+				return;
+			}
+
+			_startThreadLocal.remove();
+
+			long allocatedBytes = _getCurrentThreadAllocatedBytes() - start;
+
+			_allocatedBytesQueue.add(allocatedBytes);
+		}
+
+	}
+
+}
\ No newline at end of file